@@ -20,6 +20,7 @@ import gms.shared.workflow.coi.WorkflowDefinitionId;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -94,13 +95,11 @@ public class DefaultEventAccessor implements EventAccessor {
       Optional<FacetingDefinition> facetingDefinitionOpt) {
 
     return facetingDefinitionOpt
-        .map(
+        .<Set<Event>>map(
             facetingDefinition ->
-                findByTime(startTime, endTime, stageId).stream()
-                    .map(
-                        event ->
-                            eventFacetingUtility.populateFacets(event, stageId, facetingDefinition))
-                    .collect(Collectors.toSet()))
+                new HashSet<>(
+                    eventFacetingUtility.populateFacetsForEvents(
+                        findByTime(startTime, endTime, stageId), stageId, facetingDefinition)))
         .orElseGet(() -> findByTime(startTime, endTime, stageId));
   }
 
@@ -175,13 +174,9 @@ public class DefaultEventAccessor implements EventAccessor {
   }
 
   private Set<Event> populateEventFacets(Set<Event> events, WorkflowDefinitionId stageId) {
-    return events.stream()
-        .parallel()
-        .map(
-            event ->
-                eventFacetingUtility.populateFacets(
-                    event, stageId, EventFacetingDefinitions.defaultEventFacetDefinition))
-        .collect(Collectors.toSet());
+    return new HashSet<>(
+        eventFacetingUtility.populateFacetsForEvents(
+            events, stageId, EventFacetingDefinitions.defaultEventFacetDefinition));
   }
 
   /**
@@ -197,15 +192,7 @@ public class DefaultEventAccessor implements EventAccessor {
     var events =
         eventRepository.findByAssociatedDetectionHypotheses(signalDetectionHypotheses, stageId);
 
-    events =
-        events.stream()
-            .map(
-                event ->
-                    eventFacetingUtility.populateFacets(
-                        event, stageId, EventFacetingDefinitions.defaultEventFacetDefinition))
-            .collect(Collectors.toSet());
-
-    return events;
+    return populateEventFacets(events, stageId);
   }
 
   /** {@inheritDoc} */
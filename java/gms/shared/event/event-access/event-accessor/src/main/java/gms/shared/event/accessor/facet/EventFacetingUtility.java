@@ -20,6 +20,7 @@ import gms.shared.signaldetection.api.facet.SignalDetectionFacetingUtility;
 import gms.shared.signaldetection.coi.detection.FeatureMeasurement;
 import gms.shared.signaldetection.coi.detection.SignalDetection;
 import gms.shared.signaldetection.coi.detection.SignalDetectionHypothesis;
+import gms.shared.signaldetection.coi.detection.SignalDetectionHypothesisId;
 import gms.shared.signaldetection.coi.types.FeatureMeasurementTypes;
 import gms.shared.signaldetection.coi.values.AmplitudeMeasurementValue;
 import gms.shared.signaldetection.coi.values.ArrivalTimeMeasurementValue;
@@ -34,9 +35,13 @@ import gms.shared.workflow.coi.WorkflowDefinitionId;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.UUID;
+import java.util.function.BiFunction;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
@@ -68,6 +73,12 @@ public class EventFacetingUtility {
       TimingLogger.create(LOGGER);
   private static final TimingLogger<Optional<EventHypothesis>> eventHypothesisOptLogger =
       TimingLogger.create(LOGGER);
+  private static final TimingLogger<Map<UUID, SignalDetection>> signalDetectionByIdLogger =
+      TimingLogger.create(LOGGER);
+  private static final TimingLogger<Map<EventHypothesis.Id, List<EventHypothesis>>>
+      eventHypothesisByIdLogger = TimingLogger.create(LOGGER);
+  private static final TimingLogger<Map<SignalDetectionHypothesisId, SignalDetectionHypothesis>>
+      signalDetectionHypothesisByIdLogger = TimingLogger.create(LOGGER);
   private static final String NO_FURTHER_FACET_WARNING =
       "Cannot further facet Event without {} faceting definition. Returning default, faceted Event";
   private static final String EVENT_HYPOTHESIS_VALUE =
@@ -131,21 +142,11 @@ public class EventFacetingUtility {
     var hypothesesDefinition =
         facetingDefinition.getFacetingDefinitionByName(
             FacetingTypes.EVENT_HYPOTHESIS_KEY.toString());
-    var preferredEventHypothesesDefinition =
-        facetingDefinition.getFacetingDefinitionByName(FacetingTypes.PREFERRED_EH_KEY.toString());
-    var overallPreferredDefinition =
-        facetingDefinition.getFacetingDefinitionByName(
-            FacetingTypes.OVERALL_PREFERRED_KEY.toString());
-    var finalEventHypothesisHistoryDefinition =
-        facetingDefinition.getFacetingDefinitionByName(
-            FacetingTypes.FINAL_EH_HISTORY_KEY.toString());
 
     if (!facetingDefinition.isPopulated()) {
       return initial.toEntityReference();
     }
 
-    var populatedEventDataBuilder = initialEventData.toBuilder();
-
     var rejectedSdhAssociations =
         getDataUsingNullableFacetingDefinition(
             rejectedSignalDetectionAssociationsDefinition,
@@ -174,6 +175,275 @@ public class EventFacetingUtility {
             () -> populateFacetsForEventHypothesis(initialEventData, finalHypothesesDefinition),
             environment.getActiveProfiles());
 
+    return buildEvent(
+        initial.getId(),
+        initialEventData,
+        facetingDefinition,
+        rejectedSdhAssociations,
+        facetedEventHypotheses);
+  }
+
+  /**
+   * Returns populated {@link Event}s based on the {@link FacetingDefinition} that is passed into
+   * the method, as {@link #populateFacets(Event, WorkflowDefinitionId, FacetingDefinition)} would
+   * each of them.
+   *
+   * <p>
+   *
+   * <p>Rather than faceting event by event, each facet level is resolved for the whole set of
+   * events at once: the {@link Event}s and {@link EventHypothesis} objects that are only entity
+   * references are each retrieved with a single bulk call, and the rejected {@link
+   * SignalDetection}s and associated {@link SignalDetectionHypothesis} objects across all of the
+   * events are each populated by one bulk call to the {@link SignalDetectionFacetingUtility}. The
+   * faceted objects are then stitched back into their events.
+   *
+   * @param initial The {@link Event}s to populate
+   * @param stageId The {@link WorkflowDefinitionId} representing the current stage
+   * @param facetingDefinition The {@link FacetingDefinition} defining which fields to populate
+   * @return the populated {@link Event}s, in the order of the initial {@link Event}s
+   */
+  public List<Event> populateFacetsForEvents(
+      Collection<Event> initial,
+      WorkflowDefinitionId stageId,
+      FacetingDefinition facetingDefinition) {
+
+    facetingNullCheck(initial, facetingDefinition, Event.class.getSimpleName());
+
+    if (!facetingDefinition.isPopulated()) {
+      return initial.stream().map(Event::toEntityReference).toList();
+    }
+
+    var eventDataById = retrieveEventData(initial, stageId);
+
+    var rejectedSignalDetectionAssociationsDefinition =
+        facetingDefinition.getFacetingDefinitionByName(FacetingTypes.REJECTED_SD_KEY.toString());
+    var hypothesesDefinition =
+        facetingDefinition
+            .getFacetingDefinitionByName(FacetingTypes.EVENT_HYPOTHESIS_KEY.toString())
+            .orElseGet(
+                () -> {
+                  LOGGER.warn(NO_FURTHER_FACET_WARNING, EVENT_HYPOTHESIS_VALUE);
+                  return EventFacetingDefinitions.defaultHypothesesFacetDefinition;
+                });
+
+    // rejected signal detections shared between events are faceted only once
+    var facetedRejectedSignalDetections =
+        rejectedSignalDetectionAssociationsDefinition
+            .map(
+                rejectedDefinition ->
+                    signalDetectionByIdLogger.apply(
+                        this.getClass().getSimpleName() + "::populateFacetsForSignalDetections",
+                        () ->
+                            signalDetectionFacetingUtility.populateFacetsForSignalDetections(
+                                eventDataById.values().stream()
+                                    .map(Event.Data::getRejectedSignalDetectionAssociations)
+                                    .flatMap(Collection::stream)
+                                    .toList(),
+                                rejectedDefinition,
+                                stageId),
+                        environment.getActiveProfiles()))
+            .orElse(Map.of());
+
+    var eventHypothesesById =
+        eventHypothesisByIdLogger.apply(
+            this.getClass().getSimpleName() + "::retrieveEventHypotheses",
+            () ->
+                retrieveEventHypotheses(
+                    eventDataById.values().stream()
+                        .map(Event.Data::getEventHypotheses)
+                        .flatMap(Collection::stream)
+                        .toList()),
+            environment.getActiveProfiles());
+
+    // associated signal detection hypotheses shared between event hypotheses are faceted only once
+    var facetedAssociatedHypotheses =
+        signalDetectionHypothesisByIdLogger.apply(
+            this.getClass().getSimpleName() + "::populateFacetsForHypotheses",
+            () ->
+                populateAssociatedHypotheses(
+                    eventHypothesesById.values().stream().flatMap(List::stream).toList(),
+                    hypothesesDefinition),
+            environment.getActiveProfiles());
+
+    return initial.stream()
+        .parallel()
+        .map(
+            (Event event) -> {
+              var initialEventData = eventDataById.get(event.getId());
+
+              var rejectedSdhAssociations =
+                  getDataUsingNullableFacetingDefinition(
+                      rejectedSignalDetectionAssociationsDefinition,
+                      () ->
+                          initialEventData.getRejectedSignalDetectionAssociations().stream()
+                              .map(
+                                  signalDetection ->
+                                      facetedRejectedSignalDetections.get(signalDetection.getId()))
+                              .filter(Objects::nonNull)
+                              .toList(),
+                      initialEventData::getRejectedSignalDetectionAssociations,
+                      SignalDetection.class.getSimpleName());
+
+              var facetedEventHypotheses =
+                  initialEventData.getEventHypotheses().stream()
+                      .map(eventHypothesis -> eventHypothesesById.get(eventHypothesis.getId()))
+                      .flatMap(List::stream)
+                      .map(
+                          eventHypothesis ->
+                              populateFacet(
+                                  eventHypothesis,
+                                  hypothesesDefinition,
+                                  (signalDetectionHypothesis, definition) ->
+                                      facetedAssociatedHypotheses.get(
+                                          signalDetectionHypothesis.getId())))
+                      .toList();
+
+              return buildEvent(
+                  event.getId(),
+                  initialEventData,
+                  facetingDefinition,
+                  rejectedSdhAssociations,
+                  facetedEventHypotheses);
+            })
+        .toList();
+  }
+
+  /**
+   * Retrieves the data of the provided {@link Event}s, with a single bulk call for those that are
+   * only entity references
+   *
+   * @param events The {@link Event}s of interest
+   * @param stageId The {@link WorkflowDefinitionId} representing the current stage
+   * @return the {@link Event.Data} of each {@link Event} by id
+   */
+  private Map<UUID, Event.Data> retrieveEventData(
+      Collection<Event> events, WorkflowDefinitionId stageId) {
+    var referencedIds =
+        events.stream()
+            .filter(event -> event.getData().isEmpty())
+            .map(Event::getId)
+            .collect(Collectors.toSet());
+    var retrievedEvents =
+        referencedIds.isEmpty()
+            ? Map.<UUID, Event>of()
+            : eventAccessor.findByIds(referencedIds, stageId).stream()
+                .collect(Collectors.toMap(Event::getId, event -> event, (first, second) -> first));
+
+    Map<UUID, Event.Data> eventDataById = new HashMap<>();
+    for (var event : events) {
+      var eventData =
+          event
+              .getData()
+              .or(
+                  () ->
+                      Optional.ofNullable(retrievedEvents.get(event.getId()))
+                          .orElseThrow(
+                              () ->
+                                  new IllegalStateException(
+                                      String.format(
+                                          "Could not find an Event with ID:%s", event.getId())))
+                          .getData())
+              .orElseThrow(
+                  () -> new IllegalStateException("No Event data was found, cannot continue"));
+      eventDataById.putIfAbsent(event.getId(), eventData);
+    }
+    return eventDataById;
+  }
+
+  /**
+   * Resolves the provided {@link EventHypothesis} objects to ones with data, retrieving those that
+   * are only entity references with a single bulk call. A rejected {@link EventHypothesis} may be
+   * retrieved as two objects.
+   *
+   * @param eventHypotheses The {@link EventHypothesis} objects of interest
+   * @return the {@link EventHypothesis} objects with data by id
+   */
+  private Map<EventHypothesis.Id, List<EventHypothesis>> retrieveEventHypotheses(
+      Collection<EventHypothesis> eventHypotheses) {
+    var referencedIds =
+        eventHypotheses.stream()
+            .filter(eventHypothesis -> eventHypothesis.getData().isEmpty())
+            .map(EventHypothesis::getId)
+            .collect(Collectors.toSet());
+    var retrievedEventHypotheses =
+        referencedIds.isEmpty()
+            ? Map.<EventHypothesis.Id, List<EventHypothesis>>of()
+            : eventAccessor.findHypothesesByIds(referencedIds).stream()
+                .collect(Collectors.groupingBy(EventHypothesis::getId));
+
+    Map<EventHypothesis.Id, List<EventHypothesis>> eventHypothesesById = new HashMap<>();
+    for (var eventHypothesis : eventHypotheses) {
+      eventHypothesesById.putIfAbsent(
+          eventHypothesis.getId(),
+          eventHypothesis.getData().isPresent()
+              ? List.of(eventHypothesis)
+              : retrievedEventHypotheses.getOrDefault(eventHypothesis.getId(), List.of()));
+    }
+    return eventHypothesesById;
+  }
+
+  /**
+   * Populates the associated {@link SignalDetectionHypothesis} objects of all the provided {@link
+   * EventHypothesis} objects with a single call to the {@link SignalDetectionFacetingUtility}, if
+   * the {@link FacetingDefinition} calls for them to be populated
+   *
+   * @param eventHypotheses The {@link EventHypothesis} objects with data
+   * @param hypothesesDefinition The {@link FacetingDefinition} for the {@link EventHypothesis}
+   *     objects
+   * @return the faceted {@link SignalDetectionHypothesis} objects by id
+   */
+  private Map<SignalDetectionHypothesisId, SignalDetectionHypothesis> populateAssociatedHypotheses(
+      Collection<EventHypothesis> eventHypotheses, FacetingDefinition hypothesesDefinition) {
+    var associatedSignalDetectionHypothesisDefinition =
+        hypothesesDefinition.getFacetingDefinitionByName(
+            FacetingTypes.ASSOCIATED_SDH_KEY.toString());
+
+    if (!hypothesesDefinition.getClassType().equals(EventHypothesis.class.getSimpleName())
+        || !hypothesesDefinition.isPopulated()
+        || associatedSignalDetectionHypothesisDefinition.isEmpty()) {
+      return Map.of();
+    }
+
+    return signalDetectionFacetingUtility.populateFacetsForHypotheses(
+        eventHypotheses.stream()
+            .map(EventHypothesis::getData)
+            .flatMap(Optional::stream)
+            .map(EventHypothesis.Data::getAssociatedSignalDetectionHypotheses)
+            .flatMap(Collection::stream)
+            .toList(),
+        associatedSignalDetectionHypothesisDefinition.get());
+  }
+
+  /**
+   * Returns a populated {@link Event} from its initial {@link Event.Data} and its already faceted
+   * rejected {@link SignalDetection}s and {@link EventHypothesis} objects, populating the fields
+   * that refer to those hypotheses according to the {@link FacetingDefinition}
+   *
+   * @param eventId The id of the {@link Event}
+   * @param initialEventData The {@link Event.Data} of interest
+   * @param facetingDefinition The {@link FacetingDefinition} defining which fields to populate
+   * @param rejectedSdhAssociations The faceted rejected {@link SignalDetection}s
+   * @param facetedEventHypotheses The faceted {@link EventHypothesis} objects
+   * @return a populated {@link Event}
+   */
+  private Event buildEvent(
+      UUID eventId,
+      Event.Data initialEventData,
+      FacetingDefinition facetingDefinition,
+      List<SignalDetection> rejectedSdhAssociations,
+      List<EventHypothesis> facetedEventHypotheses) {
+
+    var preferredEventHypothesesDefinition =
+        facetingDefinition.getFacetingDefinitionByName(FacetingTypes.PREFERRED_EH_KEY.toString());
+    var overallPreferredDefinition =
+        facetingDefinition.getFacetingDefinitionByName(
+            FacetingTypes.OVERALL_PREFERRED_KEY.toString());
+    var finalEventHypothesisHistoryDefinition =
+        facetingDefinition.getFacetingDefinitionByName(
+            FacetingTypes.FINAL_EH_HISTORY_KEY.toString());
+
+    var populatedEventDataBuilder = initialEventData.toBuilder();
+
     var preferredEventHypotheses =
         getDataUsingNullableFacetingDefinition(
             preferredEventHypothesesDefinition,
@@ -226,10 +496,7 @@ public class EventFacetingUtility {
         .setRejectedSignalDetectionAssociations(rejectedSdhAssociations)
         .setFinalEventHypothesisHistory(finalEventHypothesesHistory);
 
-    return Event.builder()
-        .setId(initial.getId())
-        .setData(populatedEventDataBuilder.build())
-        .autobuild();
+    return Event.builder().setId(eventId).setData(populatedEventDataBuilder.build()).autobuild();
   }
 
   private List<EventHypothesis> populateFacetsForEventHypothesis(
@@ -257,9 +524,16 @@ public class EventFacetingUtility {
       EventHypothesis initial, FacetingDefinition facetingDefinition) {
     return (initial.getData().isEmpty())
         ? eventAccessor.findHypothesesByIds(List.of(initial.getId())).stream()
-            .map(ehResult -> populateFacet(ehResult, facetingDefinition))
+            .map(
+                ehResult ->
+                    populateFacet(
+                        ehResult,
+                        facetingDefinition,
+                        signalDetectionFacetingUtility::populateFacets))
             .collect(Collectors.toList())
-        : List.of(populateFacet(initial, facetingDefinition));
+        : List.of(
+            populateFacet(
+                initial, facetingDefinition, signalDetectionFacetingUtility::populateFacets));
   }
 
   /**
@@ -272,10 +546,15 @@ public class EventFacetingUtility {
    *
    * @param initial The {@link EventHypothesis} to populate
    * @param facetingDefinition The {@link FacetingDefinition} defining which fields to populate
+   * @param associatedHypothesisFaceting The function populating an associated {@link
+   *     SignalDetectionHypothesis} according to its {@link FacetingDefinition}
    * @return a populated {@link EventHypothesis}
    */
   private EventHypothesis populateFacet(
-      EventHypothesis initial, FacetingDefinition facetingDefinition) {
+      EventHypothesis initial,
+      FacetingDefinition facetingDefinition,
+      BiFunction<SignalDetectionHypothesis, FacetingDefinition, SignalDetectionHypothesis>
+          associatedHypothesisFaceting) {
 
     var initialEventHypothesisData =
         initial
@@ -334,7 +613,7 @@ public class EventFacetingUtility {
                 initialEventHypothesisData.getAssociatedSignalDetectionHypotheses().stream()
                     .map(
                         signalDetectionHypothesis ->
-                            signalDetectionFacetingUtility.populateFacets(
+                            associatedHypothesisFaceting.apply(
                                 signalDetectionHypothesis,
                                 associatedSignalDetectionHypothesisDefinition.get()))
                     .collect(Collectors.toList()),
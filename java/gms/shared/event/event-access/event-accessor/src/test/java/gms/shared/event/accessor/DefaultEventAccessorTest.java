@@ -3,6 +3,7 @@ package gms.shared.event.accessor;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.when;
 
@@ -76,8 +77,8 @@ class DefaultEventAccessorTest {
     var events = Set.of(event);
 
     when(eventRepository.findByTime(startTime, endTime, stageId)).thenReturn(events);
-    when(eventFacetingUtility.populateFacets(event, stageId, facetingDefinition.get()))
-        .thenReturn(event);
+    when(eventFacetingUtility.populateFacetsForEvents(events, stageId, facetingDefinition.get()))
+        .thenReturn(List.of(event));
 
     var noFaceting = eventAccessor.findByTime(startTime, endTime, stageId, facetingDefinitionEmpty);
     var faceting = eventAccessor.findByTime(startTime, endTime, stageId, facetingDefinition);
@@ -106,9 +107,9 @@ class DefaultEventAccessorTest {
         List.of(SignalDetectionTestFixtures.SIGNAL_DETECTION_HYPOTHESIS);
     when(eventRepository.findByAssociatedDetectionHypotheses(signalDetectionHypotheses, stageId))
         .thenReturn(events);
-    when(eventFacetingUtility.populateFacets(
-            any(Event.class), any(WorkflowDefinitionId.class), any(FacetingDefinition.class)))
-        .thenReturn(event);
+    when(eventFacetingUtility.populateFacetsForEvents(
+            anyCollection(), any(WorkflowDefinitionId.class), any(FacetingDefinition.class)))
+        .thenReturn(List.of(event));
     var result =
         eventAccessor.findByAssociatedDetectionHypotheses(signalDetectionHypotheses, stageId);
     assertEquals(events, result);
@@ -191,9 +192,9 @@ class DefaultEventAccessorTest {
     doReturn(Set.of(event)).when(eventRepository).findByTime(startTime, endTime, stageId);
     doReturn(new String[] {}).when(environment).getActiveProfiles();
 
-    when(eventFacetingUtility.populateFacets(
-            any(Event.class), any(WorkflowDefinitionId.class), any(FacetingDefinition.class)))
-        .thenReturn(event);
+    when(eventFacetingUtility.populateFacetsForEvents(
+            anyCollection(), any(WorkflowDefinitionId.class), any(FacetingDefinition.class)))
+        .thenReturn(List.of(event));
 
     var eventsWithDetectionsAndSegmentsByTime =
         eventAccessor.findEventsWithDetectionsAndSegmentsByTime(startTime, endTime, stageId);
@@ -35,6 +35,8 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import gms.shared.common.coi.types.PhaseType;
@@ -69,11 +71,13 @@ import gms.shared.waveform.coi.ChannelSegment;
 import gms.shared.waveform.coi.Timeseries;
 import gms.shared.workflow.coi.WorkflowDefinitionId;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -408,6 +412,105 @@ class EventFacetingUtilityTest {
             .isEmpty());
   }
 
+  @Test
+  void testPopulateFacetsForEventsInBulk() {
+
+    var stageId = WorkflowDefinitionId.from("AL1");
+    var uuid = UUID.fromString("10000000-100-0000-1000-100000000091");
+    var signalDetection = SignalDetection.createEntityReference(uuid);
+    var signalDetectionHypothesis =
+        SignalDetectionHypothesis.builder()
+            .setId(SignalDetectionHypothesisId.from(uuid, uuid))
+            .setData(SignalDetectionHypothesis.Data.builder().build())
+            .build();
+
+    var facetingDefinition =
+        FacetingDefinition.builder()
+            .setClassType(EVENT_TYPE.toString())
+            .setPopulated(true)
+            .addFacetingDefinitions(
+                REJECTED_SD_KEY.toString(), rejectedSignalDetectionAssociationsFacetDef)
+            .addFacetingDefinitions(EVENT_HYPOTHESIS_KEY.toString(), hypothesesFacetDefinition)
+            .build();
+
+    // both events and their hypotheses are entity references sharing one rejected detection and
+    // one associated detection hypothesis
+    var eventIds =
+        List.of(
+            UUID.fromString("10000000-100-0000-1000-100000000092"),
+            UUID.fromString("10000000-100-0000-1000-100000000093"));
+    var retrievedEvents = new ArrayList<Event>();
+    var retrievedEventHypotheses = new ArrayList<EventHypothesis>();
+    for (var eventId : eventIds) {
+      var eventData =
+          EventTestFixtures.generateDummyEvent(
+                  eventId, stageId, "Org", "analyst", Instant.EPOCH, 1.0, MagnitudeType.MB)
+              .getData()
+              .orElseThrow();
+      var eventHypothesis = eventData.getEventHypotheses().iterator().next();
+      retrievedEventHypotheses.add(
+          eventHypothesis.toBuilder()
+              .setData(
+                  eventHypothesis.getData().orElseThrow().toBuilder()
+                      .setAssociatedSignalDetectionHypotheses(List.of(signalDetectionHypothesis))
+                      .build())
+              .build());
+      retrievedEvents.add(
+          Event.builder()
+              .setId(eventId)
+              .setData(
+                  eventData.toBuilder()
+                      .setEventHypotheses(List.of(eventHypothesis.toEntityReference()))
+                      .setRejectedSignalDetectionAssociations(List.of(signalDetection))
+                      .build())
+              .build());
+    }
+
+    doReturn(new String[] {}).when(environment).getActiveProfiles();
+    when(mockEventAccessor.findByIds(Set.copyOf(eventIds), stageId))
+        .thenReturn(Set.copyOf(retrievedEvents));
+    when(mockEventAccessor.findHypothesesByIds(
+            retrievedEventHypotheses.stream()
+                .map(EventHypothesis::getId)
+                .collect(Collectors.toSet())))
+        .thenReturn(retrievedEventHypotheses);
+    when(mockSignalDetectionFacetingUtility.populateFacetsForSignalDetections(
+            List.of(signalDetection, signalDetection),
+            rejectedSignalDetectionAssociationsFacetDef,
+            stageId))
+        .thenReturn(Map.of(signalDetection.getId(), signalDetection));
+    when(mockSignalDetectionFacetingUtility.populateFacetsForHypotheses(
+            List.of(signalDetectionHypothesis, signalDetectionHypothesis),
+            associatedSignalDetectionHypothesisFacetDefinition))
+        .thenReturn(Map.of(signalDetectionHypothesis.getId(), signalDetectionHypothesis));
+
+    var facetedEvents =
+        eventFacetingUtility.populateFacetsForEvents(
+            eventIds.stream().map(Event::createEntityReference).toList(),
+            stageId,
+            facetingDefinition);
+
+    assertEquals(eventIds, facetedEvents.stream().map(Event::getId).toList());
+    for (var facetedEvent : facetedEvents) {
+      var facetedEventData = facetedEvent.getData().orElseThrow();
+      assertEquals(
+          Set.of(signalDetection), facetedEventData.getRejectedSignalDetectionAssociations());
+      assertEquals(1, facetedEventData.getEventHypotheses().size());
+      var facetedEventHypothesisData =
+          facetedEventData.getEventHypotheses().iterator().next().getData().orElseThrow();
+      assertEquals(
+          Set.of(signalDetectionHypothesis),
+          facetedEventHypothesisData.getAssociatedSignalDetectionHypotheses());
+    }
+
+    verify(mockEventAccessor).findByIds(Set.copyOf(eventIds), stageId);
+    verify(mockEventAccessor).findHypothesesByIds(any());
+    verify(mockSignalDetectionFacetingUtility, never())
+        .populateFacets(any(SignalDetectionHypothesis.class), any());
+    verify(mockSignalDetectionFacetingUtility, never())
+        .populateFacets(any(SignalDetection.class), any(), any());
+  }
+
   @Test
   void testPopulateFacetsForEventHypotheses() {
 
@@ -3,10 +3,12 @@ package gms.shared.event.connector;
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 
+import com.google.common.collect.Lists;
 import gms.shared.common.connector.AbstractPooledConnector;
 import gms.shared.event.dao.EventDao;
 import jakarta.persistence.EntityManagerFactory;
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.slf4j.Logger;
@@ -17,6 +19,8 @@ public class EventDatabaseConnector extends AbstractPooledConnector<EventDao> {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(EventDatabaseConnector.class);
   private static final double MS_IN_SEC = 1000.0;
+  private static final int PARTITION_SIZE = 500;
+  private static final String EVENT_ID = "eventId";
 
   public EventDatabaseConnector(EntityManagerFactory entityManagerFactory) {
     super(EventDao.class, entityManagerFactory);
@@ -30,7 +34,24 @@ public class EventDatabaseConnector extends AbstractPooledConnector<EventDao> {
    *     EventDao found with the specified id, an empty Optional is returned.
    */
   public Optional<EventDao> findEventById(long eventId) {
-    return queryForSingle((cb, from) -> cb.equal(from.get("eventId"), eventId));
+    return queryForSingle((cb, from) -> cb.equal(from.get(EVENT_ID), eventId));
+  }
+
+  /**
+   * Returns the EventDaos from the database with the specified ids, querying them in batches
+   *
+   * @param eventIds The ids of the EventDaos to query
+   * @return List of the EventDaos found; ids with no EventDao are left out
+   */
+  public List<EventDao> findEventsByIds(Collection<Long> eventIds) {
+    checkNotNull(eventIds, "eventIds must not be null");
+
+    return Lists.partition(List.copyOf(eventIds), PARTITION_SIZE).stream()
+        .map(
+            partitionedEventIds ->
+                queryForAll((cb, from) -> from.get(EVENT_ID).in(partitionedEventIds)))
+        .flatMap(Collection::stream)
+        .toList();
   }
 
   /**
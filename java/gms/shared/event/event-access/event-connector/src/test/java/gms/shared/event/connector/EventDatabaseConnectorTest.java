@@ -44,6 +44,21 @@ class EventDatabaseConnectorTest extends DatabaseConnectorTest<EventDatabaseConn
     assertFalse(databaseConnector.findEventById(99).isPresent());
   }
 
+  @Test
+  void testFindEventsByIds() {
+
+    var queriedEventDaos = databaseConnector.findEventsByIds(List.of(1L, 2L, 99L));
+
+    assertEquals(
+        List.of(1L, 2L), queriedEventDaos.stream().map(EventDao::getEventId).sorted().toList());
+  }
+
+  @Test
+  void testFindEventsByIdsNoIds() {
+
+    assertTrue(databaseConnector.findEventsByIds(List.of()).isEmpty());
+  }
+
   @Test
   void testFindEventsByTime() {
 
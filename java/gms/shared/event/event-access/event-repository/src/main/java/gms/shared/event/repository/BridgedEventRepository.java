@@ -43,6 +43,7 @@ import gms.shared.signaldetection.coi.detection.SignalDetectionHypothesis;
 import gms.shared.signaldetection.dao.css.AridOridKey;
 import gms.shared.signaldetection.dao.css.AssocDao;
 import gms.shared.signaldetection.repository.utils.SignalDetectionHypothesisAssocIdComponents;
+import gms.shared.spring.utilities.framework.LookupExecutor;
 import gms.shared.workflow.coi.WorkflowDefinitionId;
 import java.time.Instant;
 import java.util.ArrayList;
@@ -54,6 +55,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import org.apache.commons.lang3.tuple.Pair;
@@ -80,6 +82,7 @@ public class BridgedEventRepository implements EventRepository {
   private final EventConverter eventConverter;
   private final EventBridgeDefinition eventBridgeDefinition;
   private final EventStages eventStages;
+  private final LookupExecutor lookupExecutor;
 
   @Autowired
   public BridgedEventRepository(
@@ -88,7 +91,8 @@ public class BridgedEventRepository implements EventRepository {
       EventIdUtility eventIdUtility,
       EventConverter eventConverter,
       EventBridgeDefinition eventBridgeDefinition,
-      EventStages eventStages) {
+      EventStages eventStages,
+      LookupExecutor lookupExecutor) {
 
     LOGGER.info(
         "{} loaded EventBridgeDefinition: {}",
@@ -100,6 +104,7 @@ public class BridgedEventRepository implements EventRepository {
     this.eventBridgeDatabaseConnectors = eventBridgeDatabaseConnectors;
     this.signalDetectionLegacyAccessor = signalDetectionLegacyAccessor;
     this.eventStages = eventStages;
+    this.lookupExecutor = lookupExecutor;
   }
 
   /** {@inheritDoc} */
@@ -141,6 +146,17 @@ public class BridgedEventRepository implements EventRepository {
         eventBridgeDatabaseConnectors.connectorExistsForPreviousStage(
             stageName, ORIGIN_CONNECTOR_TYPE);
 
+    // previous stage origins in the time range do not depend on any current stage results, so
+    // query them alongside the current stage
+    CompletableFuture<List<OriginDao>> previousStageOriginDaosByTime =
+        prevOriginDatabaseConnectorExists
+            ? lookupExecutor.submit(
+                () ->
+                    eventBridgeDatabaseConnectors
+                        .getConnectorForPreviousStageOrThrow(stageName, ORIGIN_CONNECTOR_TYPE)
+                        .findByTime(startTime, endTime))
+            : CompletableFuture.completedFuture(List.of());
+
     LOGGER.debug("findByTime:Initiating event queries in current stageId: {}.", stageId);
 
     var currentStageEventIdToEventDaos =
@@ -149,22 +165,26 @@ public class BridgedEventRepository implements EventRepository {
 
     Set<Event> currentStageEvents = new HashSet<>();
     if (!currentStageEventIdToEventDaos.keySet().isEmpty()) {
-      var eventIdToOriginDaos =
-          Multimaps.index(
-              originDatabaseConnector.findByEventIds(
-                  new ArrayList<>(currentStageEventIdToEventDaos.keySet())),
-              OriginDao::getEventId);
+      var evids = new ArrayList<>(currentStageEventIdToEventDaos.keySet());
 
+      // origins and GA tags are both queried by the current stage evids, so run them together
+      var originDaosFuture =
+          lookupExecutor.submit(() -> originDatabaseConnector.findByEventIds(evids));
+      var gaTagDaosFuture =
+          lookupExecutor.submit(
+              () ->
+                  gaTagDatabaseConnector.findGaTagsByObjectTypesProcessStatesAndEvids(
+                      List.of(OBJECT_TYPE_A, OBJECT_TYPE_O), List.of(ANALYST_REJECTED), evids));
+
+      var eventIdToOriginDaos =
+          Multimaps.index(LookupExecutor.join(originDaosFuture), OriginDao::getEventId);
       var eventIdToObjectProcessAndGaTagDaos =
           Multimaps.index(
-              gaTagDatabaseConnector.findGaTagsByObjectTypesProcessStatesAndEvids(
-                  List.of(OBJECT_TYPE_A, OBJECT_TYPE_O),
-                  List.of(ANALYST_REJECTED),
-                  new ArrayList<>(currentStageEventIdToEventDaos.keySet())),
-              GaTagDao::getRejectedArrivalOriginEvid);
+              LookupExecutor.join(gaTagDaosFuture), GaTagDao::getRejectedArrivalOriginEvid);
 
       currentStageEvents =
           currentStageEventIdToEventDaos.keySet().stream()
+              .parallel()
               .map(
                   eventId ->
                       eventConverter.fromLegacyToDefaultFacetedEvent(
@@ -184,7 +204,11 @@ public class BridgedEventRepository implements EventRepository {
     if (prevOriginDatabaseConnectorExists) {
       currentStageEvents =
           addPreviousStageEvents(
-              startTime, endTime, stageId, stageName, gaTagDatabaseConnector, currentStageEvents);
+              stageId,
+              stageName,
+              gaTagDatabaseConnector,
+              currentStageEvents,
+              previousStageOriginDaosByTime);
     }
     return currentStageEvents;
   }
@@ -474,21 +498,20 @@ public class BridgedEventRepository implements EventRepository {
   /**
    * Add previous stage {@link Event}s to the current stage set of {@link Event}s
    *
-   * @param startTime query start time
-   * @param endTime query end time
    * @param stageId current stage {@link WorkflowDefinitionId}
    * @param stageName current stage name string
    * @param gaTagDatabaseConnector {@link GaTagDatabaseConnector}
    * @param currentStageEvents set of current stage {@link Event}s
+   * @param previousStageOriginDaosByTime pending query for previous stage {@link OriginDao}s in
+   *     the requested time range
    * @return set of previous and current stage {@link Event}s
    */
   private Set<Event> addPreviousStageEvents(
-      Instant startTime,
-      Instant endTime,
       WorkflowDefinitionId stageId,
       String stageName,
       GaTagDatabaseConnector gaTagDatabaseConnector,
-      Set<Event> currentStageEvents) {
+      Set<Event> currentStageEvents,
+      CompletableFuture<List<OriginDao>> previousStageOriginDaosByTime) {
 
     var prevOriginDatabaseConnector =
         eventBridgeDatabaseConnectors.getConnectorForPreviousStageOrThrow(
@@ -530,7 +553,7 @@ public class BridgedEventRepository implements EventRepository {
             .collect(toSet());
 
     var previousStageOriginDaos =
-        prevOriginDatabaseConnector.findByTime(startTime, endTime).stream()
+        LookupExecutor.join(previousStageOriginDaosByTime).stream()
             .filter(originDao -> !oridsForCurrentStageEvents.contains(originDao.getOriginId()))
             .collect(toSet());
 
@@ -596,13 +619,11 @@ public class BridgedEventRepository implements EventRepository {
       Collection<OriginDao> previousStageOriginDaos) {
 
     if (!previousStageOriginDaos.isEmpty()) {
+      // look up all previous stage events in one batched query
       var previousStageEventDaos =
-          previousStageOriginDaos.stream()
-              .map(OriginDao::getEventId)
-              .distinct()
-              .map(prevEventDatabaseConnector::findEventById)
-              .flatMap(Optional::stream)
-              .collect(toSet());
+          Set.copyOf(
+              prevEventDatabaseConnector.findEventsByIds(
+                  previousStageOriginDaos.stream().map(OriginDao::getEventId).collect(toSet())));
       var previousStageEvids =
           previousStageEventDaos.stream().map(EventDao::getEventId).collect(toSet());
       var gaTagDaos =
@@ -611,6 +632,7 @@ public class BridgedEventRepository implements EventRepository {
 
       var previousStageEvents =
           previousStageEventDaos.stream()
+              .parallel()
               .map(
                   eventDao ->
                       eventConverter.fromLegacyToDefaultFacetedEvent(
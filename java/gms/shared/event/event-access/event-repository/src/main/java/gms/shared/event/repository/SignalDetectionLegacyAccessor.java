@@ -10,8 +10,8 @@ import gms.shared.signaldetection.repository.utils.SignalDetectionIdUtility;
 import gms.shared.workflow.coi.WorkflowDefinitionId;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
-import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -120,12 +120,15 @@ public class SignalDetectionLegacyAccessor {
   public Set<SignalDetectionHypothesisAssocIdComponents>
       getSignalDetectionHypothesesAssocIdComponents(
           Collection<SignalDetectionHypothesis> sdHypotheses) {
-    return sdHypotheses.stream()
-        .map(SignalDetectionHypothesis::getId)
-        .map(SignalDetectionHypothesisId::getId)
-        .map(signalDetectionIdUtility::getAssocIdComponentsFromSignalDetectionHypothesisId)
-        .filter(Objects::nonNull)
-        .collect(Collectors.toSet());
+    var sdhIds =
+        sdHypotheses.stream()
+            .map(SignalDetectionHypothesis::getId)
+            .map(SignalDetectionHypothesisId::getId)
+            .toList();
+    return new HashSet<>(
+        signalDetectionIdUtility
+            .getAssocIdComponentsFromSignalDetectionHypothesisIds(sdhIds)
+            .values());
   }
 
   private static String stageIdToLegacyDatabaseAccount(WorkflowDefinitionId stageId) {
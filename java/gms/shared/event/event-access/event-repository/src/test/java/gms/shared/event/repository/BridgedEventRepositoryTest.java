@@ -20,6 +20,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
@@ -48,6 +49,7 @@ import gms.shared.event.utility.processing.EventBridgeDefinition;
 import gms.shared.signaldetection.dao.css.AridOridKey;
 import gms.shared.signaldetection.repository.utils.SignalDetectionHypothesisAssocIdComponents;
 import gms.shared.signaldetection.testfixtures.SignalDetectionTestFixtures;
+import gms.shared.spring.utilities.framework.LookupExecutor;
 import gms.shared.workflow.coi.WorkflowDefinitionId;
 import java.nio.charset.StandardCharsets;
 import java.time.Instant;
@@ -58,6 +60,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -98,6 +101,8 @@ class BridgedEventRepositoryTest {
 
   @Mock ArInfoDatabaseConnector arInfoDatabaseConnector;
 
+  LookupExecutor lookupExecutor;
+
   BridgedEventRepository eventRepositoryBridged;
 
   WorkflowDefinitionId stageOneId;
@@ -139,6 +144,7 @@ class BridgedEventRepositoryTest {
 
     initConnectorMocks();
 
+    this.lookupExecutor = new LookupExecutor(4, 16);
     this.eventRepositoryBridged =
         new BridgedEventRepository(
             eventBridgeDatabaseConnectors,
@@ -146,7 +152,13 @@ class BridgedEventRepositoryTest {
             eventIdUtility,
             eventConverter,
             eventBridgeDefiniton,
-            eventStages);
+            eventStages,
+            lookupExecutor);
+  }
+
+  @AfterEach
+  void tearDown() {
+    lookupExecutor.close();
   }
 
   @Test
@@ -456,7 +468,7 @@ class BridgedEventRepositoryTest {
         EventDao.Builder.initializeFromInstance(EventTestFixtures.DEFAULT_EVENT_DAO)
             .withEventId(mockEvid)
             .build();
-    doReturn(Optional.of(prevEventDao)).when(eventDatabaseConnector).findEventById(mockEvid);
+    doReturn(List.of(prevEventDao)).when(eventDatabaseConnector).findEventsByIds(Set.of(mockEvid));
     var event =
         EventTestFixtures.generateDummyEvent(
             EVENT_UUID, currentStage, "UnitTest", "ANALYST1", Instant.EPOCH, 1.1, MagnitudeType.MB);
@@ -517,6 +529,26 @@ class BridgedEventRepositoryTest {
     assertEquals(Set.of(resultEvent, eventPrevStage), actualEventSet);
   }
 
+  @Test
+  void testFindByTimeRethrowsLookupFailure() {
+    var startTime = Instant.EPOCH;
+    var endTime = Instant.ofEpochSecond(1);
+
+    var eventDao =
+        EventDao.Builder.initializeFromInstance(EventTestFixtures.DEFAULT_EVENT_DAO)
+            .withEventId(TRUTH_EVID)
+            .build();
+    doReturn(List.of(eventDao)).when(eventDatabaseConnector).findEventsByTime(startTime, endTime);
+    doThrow(new IllegalStateException("GA tag query failed"))
+        .when(gaTagDatabaseConnector)
+        .findGaTagsByObjectTypesProcessStatesAndEvids(any(), any(), eq(List.of(TRUTH_EVID)));
+
+    // the failed lookup's own exception reaches the caller, not the completion wrapper
+    assertThrows(
+        IllegalStateException.class,
+        () -> eventRepositoryBridged.findByTime(startTime, endTime, stageOneId));
+  }
+
   @Test
   void testFindByTimeInvalidStageId() {
     assertThat(
@@ -16,6 +16,7 @@ import gms.shared.signaldetection.repository.utils.SignalDetectionIdUtility;
 import gms.shared.signaldetection.testfixtures.SignalDetectionTestFixtures;
 import gms.shared.workflow.coi.WorkflowDefinitionId;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
@@ -170,9 +171,9 @@ class SignalDetectionLegacyAccessorTest {
     var components =
         SignalDetectionHypothesisAssocIdComponents.create(legacyDatabaseId, orid, arid);
 
-    doReturn(components)
+    doReturn(Map.of(sdhId, components))
         .when(signalDetectionIdUtility)
-        .getAssocIdComponentsFromSignalDetectionHypothesisId(sdhId);
+        .getAssocIdComponentsFromSignalDetectionHypothesisIds(List.of(sdhId));
 
     var result =
         signalDetectionLegacyAccessor.getSignalDetectionHypothesesAssocIdComponents(List.of(sdh));
@@ -124,6 +124,11 @@ public class GmsInput extends NativeInput {
     // reset the id counter.  We will use the same id counter for all sourceIds, and observationIds.
     this.nextId = new AtomicLong(1L);
 
+    // this input may be reused across relocations, so drop corrections from a prior master event,
+    // and receivers for the stations of prior events.
+    masterEventCorrections = new HashMap<>();
+    receiverByStation.clear();
+
     // if a master event was specified, convert it to a locoo source and store it.
     var masterEventHypothesisOptional =
         Optional.ofNullable(eventRelocationDefinition.masterEventCorrectionDefinition())
@@ -113,6 +113,14 @@ public class GmsOutput extends NativeOutput {
     gmsOutputConverter.clearOutputLocationSolutions();
   }
 
+  /**
+   * Clears the output location solutions and any other state kept from prior relocations, so that
+   * this output can be reused for a new relocation.
+   */
+  public void reset() {
+    gmsOutputConverter.reset();
+  }
+
   @Override
   public void close() {
     // perform any processing necessary after all EventHypotheses have been processed.
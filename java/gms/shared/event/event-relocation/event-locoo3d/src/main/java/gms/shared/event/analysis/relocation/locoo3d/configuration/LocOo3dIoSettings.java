@@ -0,0 +1,43 @@
+package gms.shared.event.analysis.relocation.locoo3d.configuration;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.util.Properties;
+
+/**
+ * Contains the LocOo3d logging settings. Errors are always forwarded to the GMS log, so these only
+ * control LocOo3d's own diagnostic output.
+ *
+ * @param verbosity - LocOo3d io_verbosity, from 0 (silent) to 4 (most verbose).
+ * @param printToScreen - asserts whether or not LocOo3d diagnostic output is written to stdout.
+ * @param logFile - file LocOo3d diagnostic output is written to; blank for none.
+ * @param errorFile - file LocOo3d errors are written to; blank for none.
+ */
+public record LocOo3dIoSettings(
+    int verbosity, boolean printToScreen, String logFile, String errorFile)
+    implements PropertiesSetter {
+
+  private static final int MAX_VERBOSITY = 4;
+
+  public LocOo3dIoSettings {
+    checkArgument(
+        verbosity >= 0 && verbosity <= MAX_VERBOSITY,
+        "LocOo3d io verbosity must be between 0 and %s",
+        MAX_VERBOSITY);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Properties setProperties(Properties properties) {
+    properties.setProperty("io_verbosity", Integer.toString(verbosity));
+    properties.setProperty("io_print_to_screen", Boolean.toString(printToScreen));
+    properties.setProperty("io_print_errors_to_screen", Boolean.toString(true));
+    if (logFile != null && !logFile.isBlank()) {
+      properties.setProperty("io_log_file", logFile);
+    }
+    if (errorFile != null && !errorFile.isBlank()) {
+      properties.setProperty("io_error_file", errorFile);
+    }
+    return properties;
+  }
+}
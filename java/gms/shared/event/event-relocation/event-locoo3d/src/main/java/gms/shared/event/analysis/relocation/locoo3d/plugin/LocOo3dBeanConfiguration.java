@@ -1,13 +1,15 @@
 package gms.shared.event.analysis.relocation.locoo3d.plugin;
 
 import gms.shared.event.analysis.relocation.locoo3d.configuration.LocOo3dConfigurationResolver;
+import gms.shared.event.analysis.relocation.locoo3d.configuration.LocOo3dIoSettings;
 import gov.sandia.gmp.baseobjects.PropertiesPlusGMP;
 import gov.sandia.gmp.locoo3d.LocOO;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
-/** Creates a LocOO bean for use in LocOo3dEventRelocator. */
+/** Creates the LocOO and LocOo3d logging beans for use in LocOo3dEventRelocator. */
 @Configuration
 public class LocOo3dBeanConfiguration {
   @Bean
@@ -20,4 +22,13 @@ public class LocOo3dBeanConfiguration {
 
     return new LocOO(properties);
   }
+
+  @Bean
+  public LocOo3dIoSettings getLocOo3dIoSettings(
+      @Value("${locoo3d.io.verbosity:1}") int verbosity,
+      @Value("${locoo3d.io.print-to-screen:false}") boolean printToScreen,
+      @Value("${locoo3d.io.log-file:}") String logFile,
+      @Value("${locoo3d.io.error-file:}") String errorFile) {
+    return new LocOo3dIoSettings(verbosity, printToScreen, logFile, errorFile);
+  }
 }
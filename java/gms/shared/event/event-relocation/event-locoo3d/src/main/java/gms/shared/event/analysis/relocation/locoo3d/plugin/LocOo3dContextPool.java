@@ -0,0 +1,115 @@
+package gms.shared.event.analysis.relocation.locoo3d.plugin;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import com.google.common.base.Ticker;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import gms.shared.event.analysis.relocation.locoo3d.apibridge.GmsInputOutputFactory;
+import gov.sandia.gmp.baseobjects.PropertiesPlusGMP;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Pool of initialized LocOo3d relocation contexts ({@link GmsInputOutputFactory}s), keyed by the
+ * effective LocOo3d properties they were created with. Creating a context parses the properties and
+ * sets up the LocOo3d input, output and logs they describe, so contexts are reused across
+ * relocations with the same predictor and model settings rather than rebuilt for every one.
+ *
+ * <p>A borrowed context is used by one relocation at a time and released once its output has been
+ * cleared. Contexts whose relocation failed are not released, and are left to be garbage
+ * collected. The idle contexts for settings that are not borrowed or released for the idle expiry
+ * are dropped, so that contexts for settings no longer in use do not stay resident.
+ */
+@Component
+public class LocOo3dContextPool {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(LocOo3dContextPool.class);
+
+  private final int maxIdlePerSettings;
+  private final Cache<Map<String, String>, BlockingQueue<GmsInputOutputFactory>> idleContexts;
+
+  @Autowired
+  public LocOo3dContextPool(
+      @Value("${locoo3d.context-pool.max-idle-per-settings:4}") int maxIdlePerSettings,
+      @Value("${locoo3d.context-pool.max-settings:16}") int maxSettings,
+      @Value("${locoo3d.context-pool.idle-expiry-seconds:600}") long idleExpirySeconds) {
+    this(maxIdlePerSettings, maxSettings, idleExpirySeconds, Ticker.systemTicker());
+  }
+
+  LocOo3dContextPool(
+      int maxIdlePerSettings, int maxSettings, long idleExpirySeconds, Ticker ticker) {
+    checkArgument(maxIdlePerSettings >= 0, "Max idle contexts per settings can't be negative");
+    checkArgument(maxSettings >= 0, "Max settings can't be negative");
+    checkArgument(idleExpirySeconds > 0, "Idle expiry must be positive");
+
+    this.maxIdlePerSettings = maxIdlePerSettings;
+    this.idleContexts =
+        CacheBuilder.newBuilder()
+            .maximumSize(maxSettings)
+            .expireAfterAccess(idleExpirySeconds, TimeUnit.SECONDS)
+            .ticker(ticker)
+            .build();
+  }
+
+  /**
+   * Borrows an idle context created with the same properties, or creates a new one if there isn't
+   * one.
+   *
+   * @param properties the effective LocOo3d properties of the relocation
+   * @param contextFactory creates a context from the properties when none is idle
+   * @return a context for the exclusive use of the caller until it is released
+   */
+  public GmsInputOutputFactory borrow(
+      PropertiesPlusGMP properties,
+      Function<PropertiesPlusGMP, GmsInputOutputFactory> contextFactory) {
+    var idle = idleContexts.getIfPresent(settingsKey(properties));
+    var context = idle == null ? null : idle.poll();
+    if (context == null) {
+      LOGGER.debug("Creating a LocOo3d context, none idle for its settings");
+      context = contextFactory.apply(properties);
+    }
+    return context;
+  }
+
+  /**
+   * Returns a context to the pool so later relocations with the same properties can reuse it. The
+   * context is dropped if the pool already holds the maximum idle contexts for its properties.
+   *
+   * @param properties the properties the context was borrowed with
+   * @param context the context, with its output cleared
+   */
+  public void release(PropertiesPlusGMP properties, GmsInputOutputFactory context) {
+    if (maxIdlePerSettings == 0) {
+      return;
+    }
+
+    try {
+      idleContexts
+          .get(settingsKey(properties), () -> new ArrayBlockingQueue<>(maxIdlePerSettings))
+          .offer(context);
+    } catch (ExecutionException ex) {
+      LOGGER.warn("Could not release LocOo3d context to the pool", ex);
+    }
+  }
+
+  // PropertiesPlusGMP setters may store non-String values, so compare every entry's string form
+  private static Map<String, String> settingsKey(Properties properties) {
+    return properties.entrySet().stream()
+        .collect(
+            Collectors.toUnmodifiableMap(
+                entry -> String.valueOf(entry.getKey()),
+                entry -> String.valueOf(entry.getValue())));
+  }
+}
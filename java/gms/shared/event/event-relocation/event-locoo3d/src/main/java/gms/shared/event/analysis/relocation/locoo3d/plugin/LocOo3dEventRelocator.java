@@ -9,6 +9,7 @@ import gms.shared.event.analysis.relocation.locoo3d.apibridge.GmsInput;
 import gms.shared.event.analysis.relocation.locoo3d.apibridge.GmsInputOutputFactory;
 import gms.shared.event.analysis.relocation.locoo3d.apibridge.GmsOutput;
 import gms.shared.event.analysis.relocation.locoo3d.configuration.EventRelocationProcessingDefinitionSettings;
+import gms.shared.event.analysis.relocation.locoo3d.configuration.LocOo3dIoSettings;
 import gms.shared.event.coi.EventHypothesis;
 import gms.shared.event.coi.LocationSolution;
 import gov.sandia.gmp.baseobjects.PropertiesPlusGMP;
@@ -25,12 +26,16 @@ import org.springframework.stereotype.Component;
 @Component
 public class LocOo3dEventRelocator implements EventRelocatorPlugin {
 
-  private static final int HIGHEST_SALSA3D_VERBOSITY = 4;
   private final LocOO locOO;
+  private final LocOo3dContextPool contextPool;
+  private final LocOo3dIoSettings ioSettings;
 
   @Autowired
-  public LocOo3dEventRelocator(LocOO locoo) {
+  public LocOo3dEventRelocator(
+      LocOO locoo, LocOo3dContextPool contextPool, LocOo3dIoSettings ioSettings) {
     this.locOO = locoo;
+    this.contextPool = contextPool;
+    this.ioSettings = ioSettings;
   }
 
   /** {@inheritDoc} */
@@ -53,14 +58,12 @@ public class LocOo3dEventRelocator implements EventRelocatorPlugin {
 
     setDataLoaderProperties(properties);
 
-    // TODO: more robust solution, like stdout and/or setting these in system config
-    properties.setProperty("io_verbosity", HIGHEST_SALSA3D_VERBOSITY);
-    properties.setProperty("io_log_file", "/tmp/locoo_log.txt");
-    properties.setProperty("io_error_file", "/tmp/locoo_errors.txt");
-    properties.setProperty("io_print_to_screen", Boolean.toString(true));
-    properties.setProperty("io_print_errors_to_screen", Boolean.toString(true));
+    ioSettings.setProperties(properties);
 
-    var factory = createGmsInputOutputFactory(properties);
+    // contexts are only released after a successful relocation, since a failure may leave them
+    // holding partial input or output
+    var factory =
+        contextPool.borrow(properties, LocOo3dEventRelocator::createGmsInputOutputFactory);
 
     setGmsInputAndAcceptCoi(
         factory, eventHypothesis, eventRelocationDefinition, eventRelocationProcessingDefinition);
@@ -68,6 +71,9 @@ public class LocOo3dEventRelocator implements EventRelocatorPlugin {
     var gmsOutput = getGmsOutput(factory, eventRelocationProcessingDefinition);
 
     locationSolutions = gmsOutput.getOutputLocationSolutions().values();
+    gmsOutput.clearOutputLocationSolutions();
+
+    contextPool.release(properties, factory);
 
     return locationSolutions;
   }
@@ -77,6 +83,8 @@ public class LocOo3dEventRelocator implements EventRelocatorPlugin {
       EventRelocationProcessingDefinition eventRelocationProcessingDefinition)
       throws LocOORunException {
     var gmsOutput = (GmsOutput) factory.getDataOutput();
+    // the context may have been borrowed from the pool, so drop state from its prior relocations
+    gmsOutput.reset();
     gmsOutput.setEllipseParameters(
         eventRelocationProcessingDefinition.locationUncertaintyDefinitions());
     try {
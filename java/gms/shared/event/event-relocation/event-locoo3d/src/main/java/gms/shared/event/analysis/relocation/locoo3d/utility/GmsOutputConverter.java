@@ -40,7 +40,8 @@ public final class GmsOutputConverter {
   private final GmsInput dataInput;
 
   /**
-   * Stores the UUIDs used for outputLocationSolutions; stays permanent even after map is cleared
+   * Stores the UUIDs used for outputLocationSolutions; stays permanent even after map is cleared,
+   * until the converter is reset for a new relocation
    */
   private final Collection<UUID> usedUuids;
 
@@ -92,6 +93,15 @@ public final class GmsOutputConverter {
     outputLocationSolutions.clear();
   }
 
+  /**
+   * Clears the output location solutions and the UUIDs used for them, so that the converter can be
+   * reused for a new relocation.
+   */
+  public void reset() {
+    outputLocationSolutions.clear();
+    usedUuids.clear();
+  }
+
   /**
    * Converts a source into an output {@link LocationSolution} and adds it to the solution map
    *
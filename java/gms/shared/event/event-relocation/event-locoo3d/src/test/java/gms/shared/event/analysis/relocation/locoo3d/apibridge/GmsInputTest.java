@@ -238,6 +238,15 @@ class GmsInputTest {
             source
                 .getObservations()
                 .forEach((k, observation) -> assertObservationHasStation(observation, station)));
+
+    // reusing the input for another relocation creates its receivers again
+    var receivers = gmsInput.getStationReceiverMap();
+    Assertions.assertFalse(receivers.isEmpty());
+    gmsInput.acceptCoi(eventHypothesis, eventRelocationDefinition, locationRestraintsMap.keySet());
+    receivers.forEach(
+        (receiverStation, receiver) ->
+            Assertions.assertNotSame(
+                receiver, gmsInput.getStationReceiverMap().get(receiverStation)));
   }
 
   private void assertSourceHasCorrectLocation(
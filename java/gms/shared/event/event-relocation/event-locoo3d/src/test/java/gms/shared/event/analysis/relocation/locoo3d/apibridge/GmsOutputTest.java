@@ -323,6 +323,11 @@ class GmsOutputTest {
 
     gmsOutput.clearOutputLocationSolutions();
     Assertions.assertEquals(0, gmsOutput.getOutputLocationSolutions().size());
+
+    gmsOutput.writeTaskResult(taskResult);
+    Assertions.assertEquals(sourceMap.size(), gmsOutput.getOutputLocationSolutions().size());
+    gmsOutput.reset();
+    Assertions.assertEquals(0, gmsOutput.getOutputLocationSolutions().size());
   }
 
   private GmsInput getGmsInput() throws Exception {
@@ -0,0 +1,37 @@
+package gms.shared.event.analysis.relocation.locoo3d.configuration;
+
+import java.util.Properties;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class LocOo3dIoSettingsTest {
+
+  @Test
+  void testPropertiesPopulation() {
+    Properties properties = new Properties();
+    new LocOo3dIoSettings(1, false, "", null).setProperties(properties);
+
+    Assertions.assertEquals(3, properties.size());
+    Assertions.assertEquals("1", properties.getProperty("io_verbosity"));
+    Assertions.assertFalse(properties.containsKey("io_log_file"));
+    Assertions.assertFalse(properties.containsKey("io_error_file"));
+  }
+
+  @Test
+  void testPropertiesPopulationWithFiles() {
+    Properties properties = new Properties();
+    new LocOo3dIoSettings(4, true, "locoo_log.txt", "locoo_errors.txt").setProperties(properties);
+
+    Assertions.assertEquals(5, properties.size());
+    Assertions.assertEquals("locoo_log.txt", properties.getProperty("io_log_file"));
+    Assertions.assertEquals("locoo_errors.txt", properties.getProperty("io_error_file"));
+  }
+
+  @Test
+  void testVerbosityValidation() {
+    Assertions.assertThrows(
+        IllegalArgumentException.class, () -> new LocOo3dIoSettings(5, false, "", ""));
+    Assertions.assertThrows(
+        IllegalArgumentException.class, () -> new LocOo3dIoSettings(-1, false, "", ""));
+  }
+}
@@ -0,0 +1,116 @@
+package gms.shared.event.analysis.relocation.locoo3d.plugin;
+
+import static org.mockito.Mockito.mock;
+
+import com.google.common.base.Ticker;
+import gms.shared.event.analysis.relocation.locoo3d.apibridge.GmsInputOutputFactory;
+import gov.sandia.gmp.baseobjects.PropertiesPlusGMP;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class LocOo3dContextPoolTest {
+
+  private final List<GmsInputOutputFactory> created = new ArrayList<>();
+
+  @Test
+  void testReleasedContextReusedForSameSettings() {
+    var pool = new LocOo3dContextPool(2, 4, 600);
+
+    var context = pool.borrow(properties("bender"), this::create);
+    pool.release(properties("bender"), context);
+
+    Assertions.assertSame(context, pool.borrow(properties("bender"), this::create));
+    Assertions.assertEquals(1, created.size());
+  }
+
+  @Test
+  void testContextNotSharedAcrossSettings() {
+    var pool = new LocOo3dContextPool(2, 4, 600);
+
+    var context = pool.borrow(properties("bender"), this::create);
+    pool.release(properties("bender"), context);
+
+    Assertions.assertNotSame(context, pool.borrow(properties("rstt"), this::create));
+    Assertions.assertEquals(2, created.size());
+  }
+
+  @Test
+  void testBorrowedContextsAreExclusive() {
+    var pool = new LocOo3dContextPool(2, 4, 600);
+
+    var first = pool.borrow(properties("bender"), this::create);
+    var second = pool.borrow(properties("bender"), this::create);
+
+    Assertions.assertNotSame(first, second);
+    Assertions.assertEquals(2, created.size());
+  }
+
+  @Test
+  void testIdleContextsBounded() {
+    var pool = new LocOo3dContextPool(1, 4, 600);
+
+    var first = pool.borrow(properties("bender"), this::create);
+    var second = pool.borrow(properties("bender"), this::create);
+    pool.release(properties("bender"), first);
+    pool.release(properties("bender"), second);
+
+    // only one context was kept idle, so the third borrow creates a new context
+    pool.borrow(properties("bender"), this::create);
+    pool.borrow(properties("bender"), this::create);
+    Assertions.assertEquals(3, created.size());
+  }
+
+  @Test
+  void testIdleContextsExpire() {
+    var nanos = new AtomicLong();
+    var pool =
+        new LocOo3dContextPool(
+            2,
+            4,
+            600,
+            new Ticker() {
+              @Override
+              public long read() {
+                return nanos.get();
+              }
+            });
+
+    var context = pool.borrow(properties("bender"), this::create);
+    pool.release(properties("bender"), context);
+    nanos.addAndGet(TimeUnit.SECONDS.toNanos(599));
+    Assertions.assertSame(context, pool.borrow(properties("bender"), this::create));
+
+    pool.release(properties("bender"), context);
+    nanos.addAndGet(TimeUnit.SECONDS.toNanos(600));
+
+    // the context sat idle for the idle expiry, so a new one is created
+    Assertions.assertNotSame(context, pool.borrow(properties("bender"), this::create));
+    Assertions.assertEquals(2, created.size());
+  }
+
+  @Test
+  void testValidation() {
+    Assertions.assertThrows(
+        IllegalArgumentException.class, () -> new LocOo3dContextPool(-1, 4, 600));
+    Assertions.assertThrows(
+        IllegalArgumentException.class, () -> new LocOo3dContextPool(1, -1, 600));
+    Assertions.assertThrows(IllegalArgumentException.class, () -> new LocOo3dContextPool(1, 4, 0));
+  }
+
+  private GmsInputOutputFactory create(PropertiesPlusGMP properties) {
+    var context = mock(GmsInputOutputFactory.class);
+    created.add(context);
+    return context;
+  }
+
+  private static PropertiesPlusGMP properties(String predictor) {
+    var properties = new PropertiesPlusGMP();
+    properties.setProperty("loc_predictor_type", predictor);
+    properties.setProperty("io_verbosity", 1);
+    return properties;
+  }
+}
@@ -20,6 +20,7 @@ import gms.shared.event.analysis.ResidualDefinition;
 import gms.shared.event.analysis.relocation.locoo3d.apibridge.GmsInput;
 import gms.shared.event.analysis.relocation.locoo3d.apibridge.GmsInputOutputFactory;
 import gms.shared.event.analysis.relocation.locoo3d.apibridge.GmsOutput;
+import gms.shared.event.analysis.relocation.locoo3d.configuration.LocOo3dIoSettings;
 import gms.shared.event.analysis.relocation.locoo3d.plugin.LocOo3dEventRelocator.GmsInputAcceptCoiException;
 import gms.shared.event.api.DefiningFeatureByFeatureMeasurementType;
 import gms.shared.event.api.DefiningFeatureDefinition;
@@ -75,6 +76,11 @@ class LocOo3dEventRelocatorTest {
   @Mock private GmsOutput gmsOutputMock;
   @Mock private GmsInput gmsInputMock;
 
+  private LocOo3dEventRelocator newLocOo3dEventRelocator() {
+    return new LocOo3dEventRelocator(
+        locOO, new LocOo3dContextPool(4, 16, 600), new LocOo3dIoSettings(1, false, "", ""));
+  }
+
   @Test
   void testValidGmsRelocation() throws Exception {
     var uuid = UUID.fromString("00000000-000-0000-0000-000000000001");
@@ -93,7 +99,7 @@ class LocOo3dEventRelocatorTest {
 
       when(gmsOutputMock.getOutputLocationSolutions()).thenReturn(locationSolutionsMap);
       doNothing().when(locOO).run(any());
-      LocOo3dEventRelocator locOo3dEventRelocator = new LocOo3dEventRelocator(locOO);
+      LocOo3dEventRelocator locOo3dEventRelocator = newLocOo3dEventRelocator();
 
       var assoicatedSdhEnitityReferences =
           getSdhSet().stream().map(sdh -> sdh.toEntityReference()).toList();
@@ -120,6 +126,47 @@ class LocOo3dEventRelocatorTest {
     }
   }
 
+  @Test
+  void testRelocationContextReused() throws Exception {
+    var uuid = UUID.fromString("00000000-000-0000-0000-000000000001");
+    Map<UUID, LocationSolution> locationSolutionsMap =
+        Map.of(
+            uuid, LocationSolution.builder().setData(LOCATION_SOLUTION_DATA).setId(uuid).build());
+    try (MockedConstruction<GmsInputOutputFactory> mocked =
+        Mockito.mockConstruction(
+            GmsInputOutputFactory.class,
+            (mock, context) -> {
+              when(mock.getDataInput()).thenReturn(gmsInputMock);
+              when(mock.getDataOutput()).thenReturn(gmsOutputMock);
+            })) {
+
+      when(gmsOutputMock.getOutputLocationSolutions()).thenReturn(locationSolutionsMap);
+      LocOo3dEventRelocator locOo3dEventRelocator = newLocOo3dEventRelocator();
+
+      var assoicatedSdhEnitityReferences =
+          getSdhSet().stream().map(sdh -> sdh.toEntityReference()).toList();
+      var eventRelocationDefinition = getEventRelocationDefinition(getSdhDefiningMap());
+      EventHypothesis eventHypothesis = getEventHypothesis(assoicatedSdhEnitityReferences);
+      for (var i = 0; i < 2; i++) {
+        Assertions.assertEquals(
+            1,
+            locOo3dEventRelocator
+                .relocate(
+                    eventHypothesis,
+                    eventRelocationDefinition,
+                    getEventRelocationDefinitionByPhaseType(),
+                    getEventRelocationProcessingDefinition())
+                .size());
+      }
+
+      // the second relocation has the same settings, so reuses the first's context
+      Assertions.assertEquals(1, mocked.constructed().size());
+      verify(locOO, times(2)).run(mocked.constructed().get(0));
+      verify(gmsOutputMock, times(2)).reset();
+      verify(gmsOutputMock, times(2)).clearOutputLocationSolutions();
+    }
+  }
+
   @Test
   void testFactoryCreationException() throws Exception {
     try (MockedConstruction<GmsInputOutputFactory> mocked =
@@ -128,7 +175,7 @@ class LocOo3dEventRelocatorTest {
             (mock, context) -> {
               throw new LocOo3dEventRelocator.FactoryCreationException(new Exception());
             })) {
-      LocOo3dEventRelocator locOo3dEventRelocator = new LocOo3dEventRelocator(locOO);
+      LocOo3dEventRelocator locOo3dEventRelocator = newLocOo3dEventRelocator();
 
       var eventRelocationDefinition = getEventRelocationDefinition(getSdhDefiningMap());
 
@@ -158,7 +205,7 @@ class LocOo3dEventRelocatorTest {
             (mock, context) -> {
               when(mock.getDataInput()).thenReturn(gmsInputMock);
             })) {
-      LocOo3dEventRelocator locOo3dEventRelocator = new LocOo3dEventRelocator(locOO);
+      LocOo3dEventRelocator locOo3dEventRelocator = newLocOo3dEventRelocator();
 
       var eventRelocationDefinition = getEventRelocationDefinition(getSdhDefiningMap());
 
@@ -201,7 +248,7 @@ class LocOo3dEventRelocatorTest {
               when(mock.getDataInput()).thenReturn(gmsInputMock);
               when(mock.getDataOutput()).thenReturn(gmsOutputMock);
             })) {
-      LocOo3dEventRelocator locOo3dEventRelocator = new LocOo3dEventRelocator(locOO);
+      LocOo3dEventRelocator locOo3dEventRelocator = newLocOo3dEventRelocator();
 
       var eventRelocationDefinition = getEventRelocationDefinition(getSdhDefiningMap());
 
@@ -7,6 +7,7 @@ import gms.shared.event.coi.featureprediction.FeaturePredictionCorrectionDefinit
 import gms.shared.event.coi.featureprediction.type.FeaturePredictionType;
 import gms.shared.event.coi.featureprediction.value.FeaturePredictionValue;
 import gms.shared.stationdefinition.coi.channel.Location;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -34,4 +35,48 @@ public interface FeaturePredictorPlugin extends InitializablePlugin {
       PhaseType phase,
       String earthModel,
       List<FeaturePredictionCorrectionDefinition> featurePredictionCorrectionDefinitions);
+
+  /**
+   * Get the Optional FeaturePrediction values for one source and every combination of the given
+   * receivers and phases. The default implementation calls {@link #predict(FeaturePredictionType,
+   * EventLocation, Location, PhaseType, String, List)} once per combination; plugins that can share
+   * work across receivers and phases should override it.
+   *
+   * @param featurePredictionType Type of the FeaturePredictions to retrieve
+   * @param <T> Class that extend FeaturePredictionValue, which is tightly matched to
+   *     FeaturePredictionType
+   * @param sourceLocation location of source
+   * @param receiverLocations locations of the receivers
+   * @param phases phases to calculate for
+   * @param earthModel earth model to use
+   * @param featurePredictionCorrectionDefinitions a list of corrections to apply to the basemodel
+   *     predictions
+   * @return one FeaturePrediction Optional per receiver and phase, in receiver-major order: the
+   *     prediction for receiverLocations[r] and phases[p] is at index r * phases.size() + p
+   */
+  default <T extends FeaturePredictionValue<?, ?, ?>>
+      List<Optional<FeaturePrediction<T>>> predictBatch(
+          FeaturePredictionType<T> featurePredictionType,
+          EventLocation sourceLocation,
+          List<Location> receiverLocations,
+          List<PhaseType> phases,
+          String earthModel,
+          List<FeaturePredictionCorrectionDefinition> featurePredictionCorrectionDefinitions) {
+
+    List<Optional<FeaturePrediction<T>>> predictions =
+        new ArrayList<>(receiverLocations.size() * phases.size());
+    for (Location receiverLocation : receiverLocations) {
+      for (PhaseType phase : phases) {
+        predictions.add(
+            predict(
+                featurePredictionType,
+                sourceLocation,
+                receiverLocation,
+                phase,
+                earthModel,
+                featurePredictionCorrectionDefinitions));
+      }
+    }
+    return predictions;
+  }
 }
@@ -8,7 +8,6 @@ import gms.shared.event.coi.featureprediction.FeaturePrediction;
 import gms.shared.event.coi.featureprediction.FeaturePredictionContainer;
 import gms.shared.event.coi.featureprediction.FeaturePredictionCorrectionDefinition;
 import gms.shared.event.coi.featureprediction.type.FeaturePredictionType;
-import gms.shared.event.coi.featureprediction.value.FeaturePredictionValue;
 import gms.shared.featureprediction.configuration.FeaturePredictorDefinition;
 import gms.shared.featureprediction.plugin.api.FeaturePredictorPlugin;
 import gms.shared.featureprediction.plugin.api.InitializablePlugin;
@@ -16,11 +15,13 @@ import gms.shared.stationdefinition.coi.channel.Channel;
 import gms.shared.stationdefinition.coi.channel.Location;
 import jakarta.annotation.PostConstruct;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import org.apache.commons.lang3.tuple.Pair;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -40,8 +41,6 @@ import org.springframework.stereotype.Component;
     })
 public class FeaturePredictor {
 
-  private static final Consumer<Object> NOOP = (Object any) -> {};
-
   private static final Logger LOGGER = LoggerFactory.getLogger(FeaturePredictor.class);
 
   private static final String LOG_PREFIX = "FeaturePredictor predict endpoint for ";
@@ -95,28 +94,30 @@ public class FeaturePredictor {
     // FeturePedictorContainer.create
     List<FeaturePrediction<?>> featurePredictionList = new ArrayList<>();
 
-    // Collect list of Feature Predictor Plugins
-    var optionalFeaturePredictionList =
-        receiverLocations.stream()
+    // Predict every receiver and phase in one batch per prediction type
+    List<List<Optional<FeaturePrediction<?>>>> predictionsByType =
+        predictionTypes.stream()
             .map(
-                receiverLocation ->
-                    predictionTypes.stream()
-                        .map(
-                            predictionType ->
-                                phaseTypes.stream()
-                                    .map(
-                                        phaseType ->
-                                            getFeaturePredictionOptional(
-                                                predictionType,
-                                                sourceLocation,
-                                                receiverLocation,
-                                                phaseType,
-                                                earthModel,
-                                                featurePredictionCorrectionDefinitions))))
-            .flatMap(Functions.identity())
-            .flatMap(Functions.identity())
+                predictionType ->
+                    getFeaturePredictionOptionals(
+                        predictionType,
+                        sourceLocation,
+                        receiverLocations,
+                        phaseTypes,
+                        earthModel,
+                        featurePredictionCorrectionDefinitions))
             .toList();
 
+    // Each batch is receiver-major; keep the receiver, prediction type, phase ordering
+    List<Optional<FeaturePrediction<?>>> optionalFeaturePredictionList = new ArrayList<>();
+    for (var receiver = 0; receiver < receiverLocations.size(); receiver++) {
+      for (List<Optional<FeaturePrediction<?>>> predictions : predictionsByType) {
+        optionalFeaturePredictionList.addAll(
+            predictions.subList(
+                receiver * phaseTypes.size(), (receiver + 1) * phaseTypes.size()));
+      }
+    }
+
     // Determine if it is a partial response
     var isPartialResponse = optionalFeaturePredictionList.stream().anyMatch(Optional::isEmpty);
 
@@ -204,38 +205,45 @@ public class FeaturePredictor {
     if (mapTypeEntryList.isEmpty()) {
       featurePredictionList = List.of();
     } else {
-      featurePredictionList =
+      //
+      // The entries are ordered by prediction type, so grouping the channels by type and
+      // predicting each group in one batch keeps the type, channel, phase ordering.
+      //
+      Map<FeaturePredictionType<?>, List<Channel>> channelsByType =
           mapTypeEntryList.stream()
-              .map(
-                  entry ->
-                      phaseTypes.stream()
-                          .map(
-                              (PhaseType pt) -> {
-                                //
-                                // For each phasetype, perform the actual feature prediction
-                                // calculation.
-                                //
-                                var fp =
-                                    getFeaturePredictionOptional(
-                                            entry.getKey(),
-                                            sourceLocationSolution.getData().get().getLocation(),
-                                            entry.getValue().getLocation(),
-                                            pt,
-                                            model,
-                                            featurePredictionCorrectionDefinitions)
-                                        .map(
-                                            featurePrediction ->
-                                                featurePrediction.toBuilder()
-                                                    .setChannel(entry.getValue())
-                                                    .build());
-                                fp.ifPresentOrElse(NOOP, () -> logEmpty(pt, model, partial));
-                                return fp;
-                              }))
-              // Flatmap one more time, because by now we have combined three
-              // seperate streams: predictionTypes, channels, phasetypes.
-              .flatMap(Functions.identity())
-              .flatMap(Optional::stream)
-              .toList();
+              .collect(
+                  Collectors.groupingBy(
+                      Map.Entry::getKey,
+                      LinkedHashMap::new,
+                      Collectors.mapping(Map.Entry::getValue, Collectors.toList())));
+
+      List<FeaturePrediction<?>> newFeaturePredictions = new ArrayList<>();
+      channelsByType.forEach(
+          (predictionType, channels) -> {
+            var predictions =
+                getFeaturePredictionOptionals(
+                    predictionType,
+                    data.getLocation(),
+                    channels.stream().map(Channel::getLocation).toList(),
+                    phaseTypes,
+                    model,
+                    featurePredictionCorrectionDefinitions);
+
+            for (var channel = 0; channel < channels.size(); channel++) {
+              for (var phase = 0; phase < phaseTypes.size(); phase++) {
+                var receivingChannel = channels.get(channel);
+                var phaseType = phaseTypes.get(phase);
+                predictions
+                    .get(channel * phaseTypes.size() + phase)
+                    .map(
+                        featurePrediction ->
+                            featurePrediction.toBuilder().setChannel(receivingChannel).build())
+                    .ifPresentOrElse(
+                        newFeaturePredictions::add, () -> logEmpty(phaseType, model, partial));
+              }
+            }
+          });
+      featurePredictionList = newFeaturePredictions;
     }
 
     var newFeaturePredictionContainer =
@@ -271,25 +279,33 @@ public class FeaturePredictor {
     partialResponse.set(true);
   }
 
-  private <T extends FeaturePredictionValue<?, ?, ?>>
-      Optional<FeaturePrediction<T>> getFeaturePredictionOptional(
-          FeaturePredictionType<T> predictionType,
-          EventLocation sourceLocation,
-          Location receiverLocation,
-          PhaseType phaseType,
-          String earthModel,
-          List<FeaturePredictionCorrectionDefinition> featurePredictionCorrectionDefinitions) {
+  /**
+   * Predicts one prediction type for every receiver and phase with the plugin configured for the
+   * type.
+   *
+   * @return one prediction per receiver and phase, in receiver-major order
+   */
+  private List<Optional<FeaturePrediction<?>>> getFeaturePredictionOptionals(
+      FeaturePredictionType<?> predictionType,
+      EventLocation sourceLocation,
+      List<Location> receiverLocations,
+      List<PhaseType> phaseTypes,
+      String earthModel,
+      List<FeaturePredictionCorrectionDefinition> featurePredictionCorrectionDefinitions) {
 
     return Optional.ofNullable(
             featurePredictorMap.get(definition.getPluginNameByType(predictionType)))
         .orElseThrow(
             () -> new IllegalArgumentException("No plugin configured for " + predictionType))
-        .predict(
+        .predictBatch(
             predictionType,
             sourceLocation,
-            receiverLocation,
-            phaseType,
+            receiverLocations,
+            phaseTypes,
             earthModel,
-            featurePredictionCorrectionDefinitions);
+            featurePredictionCorrectionDefinitions)
+        .stream()
+        .<Optional<FeaturePrediction<?>>>map(prediction -> prediction.map(Function.identity()))
+        .toList();
   }
 }
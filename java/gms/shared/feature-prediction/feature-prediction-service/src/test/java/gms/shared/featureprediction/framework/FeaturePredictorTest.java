@@ -35,6 +35,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.mockito.Answers;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -46,7 +47,9 @@ class FeaturePredictorTest {
 
   private FeaturePredictor featurePredictor;
 
-  @Mock private FeaturePredictorPlugin mockFeaturePredictorPlugin;
+  // Calls the real default predictBatch, so tests can stub the single predict it delegates to
+  @Mock(answer = Answers.CALLS_REAL_METHODS)
+  private FeaturePredictorPlugin mockFeaturePredictorPlugin;
 
   @Mock private FeaturePredictorDefinition mockFeaturePredictorDefinition;
 
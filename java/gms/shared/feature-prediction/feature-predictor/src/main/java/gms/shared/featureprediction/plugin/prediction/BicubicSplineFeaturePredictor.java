@@ -28,14 +28,15 @@ import gms.shared.stationdefinition.coi.channel.Location;
 import gms.shared.stationdefinition.coi.utils.DoubleValue;
 import gms.shared.stationdefinition.coi.utils.Units;
 import java.time.Duration;
-import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 import org.apache.commons.lang3.NotImplementedException;
 import org.apache.commons.lang3.tuple.Pair;
@@ -71,6 +72,10 @@ public class BicubicSplineFeaturePredictor implements FeaturePredictorPlugin {
 
   private final Map<String, TravelTimeDepthDistanceLookupTablePlugin> travelTimeTableMap;
 
+  // primitive travel time tables by earth model and phase, compiled at initialization
+  private final Map<String, Map<PhaseType, TravelTimeTable>> travelTimeTablesByEarthModel =
+      new ConcurrentHashMap<>();
+
   @Autowired
   public BicubicSplineFeaturePredictor(
       BicubicSplineFeaturePredictorDefinition bicubicSplineFeaturePredictorDefinition,
@@ -83,19 +88,31 @@ public class BicubicSplineFeaturePredictor implements FeaturePredictorPlugin {
     this.travelTimeTableMap = Map.copyOf(travelTimeTableMap);
   }
 
-  /** Initialize our travel time lookup tables. */
+  /**
+   * Initialize our travel time lookup tables, and convert the table for every phase they define to
+   * primitive arrays ready for interpolation.
+   */
   @Override
   public void initialize() {
     LOGGER.info("Initializing the BicubicSplineFeaturePredictor plugin");
 
-    bicubicSplineFeaturePredictorDefinition
-        .getTravelTimeDepthDistanceLookupTablePluginNameByEarthModel()
+    var pluginNameByEarthModel =
+        bicubicSplineFeaturePredictorDefinition
+            .getTravelTimeDepthDistanceLookupTablePluginNameByEarthModel();
+
+    pluginNameByEarthModel
         .values()
         .forEach(
             pluginName ->
                 Optional.ofNullable(travelTimeTableMap.get(pluginName))
                     .ifPresent(TravelTimeDepthDistanceLookupTablePlugin::initialize));
 
+    travelTimeTablesByEarthModel.clear();
+    pluginNameByEarthModel.forEach(
+        (earthModel, pluginName) ->
+            Optional.ofNullable(travelTimeTableMap.get(pluginName))
+                .ifPresent(plugin -> compileTravelTimeTables(earthModel, plugin)));
+
     bicubicSplineFeaturePredictorDefinition
         .getEllipticityCorrectorPluginNameByEllipticityCorrectionPluginType()
         .values()
@@ -128,38 +145,105 @@ public class BicubicSplineFeaturePredictor implements FeaturePredictorPlugin {
       String earthModel,
       List<FeaturePredictionCorrectionDefinition> correctionDefinitions) {
 
-    LOGGER.info("BicubicSplineFeaturePredictor predict starting");
+    LOGGER.debug("BicubicSplineFeaturePredictor predict starting");
+
+    var travelTimePlugin = getTravelTimePlugin(earthModel);
+
+    return findTravelTimeTable(earthModel, travelTimePlugin, phaseType)
+        .flatMap(
+            travelTimeTable ->
+                predictWithTable(
+                    predictionType,
+                    Pair.of(sourceLocation, receiverLocation),
+                    getDistanceDegrees(sourceLocation, receiverLocation),
+                    phaseType,
+                    earthModel,
+                    correctionDefinitions,
+                    travelTimeTable));
+  }
 
-    var pluginName = getPluginName(earthModel);
+  /**
+   * Calculate feature predictions for one source and every combination of the given receivers and
+   * phases. The plugin and travel time table for each phase are looked up once and the source to
+   * receiver distance is computed once per receiver. The predictions are computed sequentially on
+   * the calling thread, so a batch never ties up the shared common fork-join pool.
+   *
+   * @param predictionType Which type of prediction to calculate.
+   * @param sourceLocation The event location
+   * @param receiverLocations The receiver locations.
+   * @param phaseTypes The phases to predict for.
+   * @param earthModel The earth model to use.
+   * @param correctionDefinitions List of corrections to use; each
+   *     bicubicSplineFeaturePredictorDefinition contains correction-specific parameters.
+   * @param <T> Class that will hold the feature prediction information. Must extend
+   *     FeaturePredictionValue
+   * @return One feature prediction Optional per receiver and phase, in receiver-major order.
+   */
+  @Override
+  public <T extends FeaturePredictionValue<?, ?, ?>>
+      List<Optional<FeaturePrediction<T>>> predictBatch(
+          FeaturePredictionType<T> predictionType,
+          EventLocation sourceLocation,
+          List<Location> receiverLocations,
+          List<PhaseType> phaseTypes,
+          String earthModel,
+          List<FeaturePredictionCorrectionDefinition> correctionDefinitions) {
 
-    var travelTimePlugin =
-        Optional.ofNullable(travelTimeTableMap.get(pluginName))
-            .orElseThrow(
-                () ->
-                    new IllegalStateException(
-                        "There is no FeaturePredictor travelTimePlugin for earth model "
-                            + earthModel
-                            + " (tried travelTimePlugin name "
-                            + pluginName
-                            + ")"));
-
-    double[][] travelTimesAsDoubles;
-    try {
-      //
-      // Do a try catch here so when the earth model is missing the phase
-      // this can be caught properly and fed back to the user without crashing
-      //
-      travelTimesAsDoubles = getTravelTimesAsDoubles(travelTimePlugin, phaseType);
-    } catch (IllegalArgumentException | EarthModelMissingPhaseTypeException e) {
-      LOGGER.info(
-          "No travel time files found for phase {} and earthmodel {} - "
-              + "cannot predict arrival time",
-          phaseType,
-          earthModel);
-      return Optional.empty();
-    }
+    LOGGER.info(
+        "BicubicSplineFeaturePredictor predicting {} for {} receivers and {} phases",
+        predictionType,
+        receiverLocations.size(),
+        phaseTypes.size());
+
+    var travelTimePlugin = getTravelTimePlugin(earthModel);
+
+    List<Optional<TravelTimeTable>> travelTimeTables =
+        phaseTypes.stream()
+            .map(phaseType -> findTravelTimeTable(earthModel, travelTimePlugin, phaseType))
+            .toList();
+
+    double[] distancesDeg =
+        receiverLocations.stream()
+            .mapToDouble(receiverLocation -> getDistanceDegrees(sourceLocation, receiverLocation))
+            .toArray();
+
+    int phaseCount = phaseTypes.size();
+    return IntStream.range(0, receiverLocations.size() * phaseCount)
+        .mapToObj(
+            index -> {
+              int receiver = index / phaseCount;
+              int phase = index % phaseCount;
+              return travelTimeTables
+                  .get(phase)
+                  .flatMap(
+                      travelTimeTable ->
+                          predictWithTable(
+                              predictionType,
+                              Pair.of(sourceLocation, receiverLocations.get(receiver)),
+                              distancesDeg[receiver],
+                              phaseTypes.get(phase),
+                              earthModel,
+                              correctionDefinitions,
+                              travelTimeTable));
+            })
+        .toList();
+  }
 
-    var utility = getEarthModelUtility(travelTimePlugin, phaseType, travelTimesAsDoubles);
+  private <T extends FeaturePredictionValue<?, ?, ?>>
+      Optional<FeaturePrediction<T>> predictWithTable(
+          FeaturePredictionType<T> predictionType,
+          Pair<EventLocation, Location> location,
+          double distanceDeg,
+          PhaseType phaseType,
+          String earthModel,
+          List<FeaturePredictionCorrectionDefinition> correctionDefinitions,
+          TravelTimeTable travelTimeTable) {
+
+    var sourceLocation = location.getLeft();
+    var receiverLocation = location.getRight();
+    var utility =
+        travelTimeTable.createEarthModelUtility(
+            bicubicSplineFeaturePredictorDefinition.isExtrapolate());
 
     double[] travelTimeAndDerivatives;
 
@@ -170,15 +254,9 @@ public class BicubicSplineFeaturePredictor implements FeaturePredictorPlugin {
       // here.
       //
       travelTimeAndDerivatives =
-          utility.interpolateEarthModel(
-              sourceLocation.getDepthKm(),
-              GeoMath.greatCircleAngularSeparation(
-                  sourceLocation.getLatitudeDegrees(),
-                  sourceLocation.getLongitudeDegrees(),
-                  receiverLocation.getLatitudeDegrees(),
-                  receiverLocation.getLongitudeDegrees()));
+          utility.interpolateEarthModel(sourceLocation.getDepthKm(), distanceDeg);
     } catch (InsufficientDataException | ArrayIndexOutOfBoundsException e) {
-      LOGGER.info(
+      LOGGER.debug(
           "Interpolator threw an InsufficientDataException or "
               + "ArrayIndexOutOfBoundsException for phase {}, prediction "
               + "type {}, source location {}, reciever location {}"
@@ -192,7 +270,7 @@ public class BicubicSplineFeaturePredictor implements FeaturePredictorPlugin {
 
     return getOptionalPredictionByType(
         predictionType,
-        Pair.of(sourceLocation, receiverLocation),
+        location,
         phaseType,
         earthModel,
         correctionDefinitions,
@@ -366,30 +444,75 @@ public class BicubicSplineFeaturePredictor implements FeaturePredictorPlugin {
     return predictionComponents;
   }
 
-  private double[][] getTravelTimesAsDoubles(
-      TravelTimeDepthDistanceLookupTablePlugin travelTimePlugin, PhaseType phaseType) {
-    double[][] travelTimesAsDoubles;
-
-    var values = travelTimePlugin.getValues(phaseType);
-    if (values != null) {
-      travelTimesAsDoubles =
-          Arrays.stream(travelTimePlugin.getValues(phaseType).copyOf())
-              .map(
-                  durationArray ->
-                      Arrays.stream(durationArray)
-                          .mapToDouble(
-                              duration ->
-                                  Optional.ofNullable(duration)
-                                      .map(d -> d.toNanos() / 1_000_000_000.0)
-                                      .orElse(Double.NaN))
-                          .toArray())
-              .toArray(double[][]::new);
+  private TravelTimeDepthDistanceLookupTablePlugin getTravelTimePlugin(String earthModel) {
+    var pluginName = getPluginName(earthModel);
 
-    } else {
-      throw new EarthModelMissingPhaseTypeException();
+    return Optional.ofNullable(travelTimeTableMap.get(pluginName))
+        .orElseThrow(
+            () ->
+                new IllegalStateException(
+                    "There is no FeaturePredictor travelTimePlugin for earth model "
+                        + earthModel
+                        + " (tried travelTimePlugin name "
+                        + pluginName
+                        + ")"));
+  }
+
+  private Optional<TravelTimeTable> findTravelTimeTable(
+      String earthModel,
+      TravelTimeDepthDistanceLookupTablePlugin travelTimePlugin,
+      PhaseType phaseType) {
+    try {
+      //
+      // Do a try catch here so when the earth model is missing the phase
+      // this can be caught properly and fed back to the user without crashing
+      //
+      return Optional.of(getTravelTimeTable(earthModel, travelTimePlugin, phaseType));
+    } catch (IllegalArgumentException | EarthModelMissingPhaseTypeException e) {
+      LOGGER.debug(
+          "No travel time files found for phase {} and earthmodel {} - "
+              + "cannot predict arrival time",
+          phaseType,
+          earthModel);
+      return Optional.empty();
     }
+  }
 
-    return travelTimesAsDoubles;
+  private static double getDistanceDegrees(
+      EventLocation sourceLocation, Location receiverLocation) {
+    return GeoMath.greatCircleAngularSeparation(
+        sourceLocation.getLatitudeDegrees(),
+        sourceLocation.getLongitudeDegrees(),
+        receiverLocation.getLatitudeDegrees(),
+        receiverLocation.getLongitudeDegrees());
+  }
+
+  private void compileTravelTimeTables(
+      String earthModel, TravelTimeDepthDistanceLookupTablePlugin travelTimePlugin) {
+    for (PhaseType phaseType : travelTimePlugin.getAvailablePhaseTypes()) {
+      try {
+        getTravelTimeTable(earthModel, travelTimePlugin, phaseType);
+      } catch (IllegalArgumentException | EarthModelMissingPhaseTypeException e) {
+        LOGGER.info("No travel times for phase {} and earthmodel {}", phaseType, earthModel);
+      }
+    }
+    LOGGER.info(
+        "Compiled {} travel time tables for earthmodel {}",
+        travelTimeTablesByEarthModel.getOrDefault(earthModel, Map.of()).size(),
+        earthModel);
+  }
+
+  /**
+   * Gets the compiled travel time table for an earth model and phase, compiling it from the plugin
+   * if it was not compiled at initialization.
+   */
+  private TravelTimeTable getTravelTimeTable(
+      String earthModel,
+      TravelTimeDepthDistanceLookupTablePlugin travelTimePlugin,
+      PhaseType phaseType) {
+    return travelTimeTablesByEarthModel
+        .computeIfAbsent(earthModel, model -> new ConcurrentHashMap<>())
+        .computeIfAbsent(phaseType, phase -> TravelTimeTable.from(travelTimePlugin, phase));
   }
 
   /**
@@ -435,18 +558,6 @@ public class BicubicSplineFeaturePredictor implements FeaturePredictorPlugin {
                 ((basePredictedTravelTime - Math.floor(basePredictedTravelTime)) * 1_000_000_000L));
   }
 
-  private EarthModelUtility getEarthModelUtility(
-      TravelTimeDepthDistanceLookupTablePlugin travelTimePlugin,
-      PhaseType phaseType,
-      double[][] travelTimesAsDoubles) {
-
-    return new EarthModelUtility(
-        travelTimePlugin.getDepthsKmForData(phaseType).toArray(),
-        travelTimePlugin.getDistancesDegForData(phaseType).toArray(),
-        travelTimesAsDoubles,
-        bicubicSplineFeaturePredictorDefinition.isExtrapolate());
-  }
-
   private String getPluginName(String earthModel) {
     return bicubicSplineFeaturePredictorDefinition
         .getTravelTimeDepthDistanceLookupTablePluginNameByEarthModel()
@@ -494,7 +605,7 @@ public class BicubicSplineFeaturePredictor implements FeaturePredictorPlugin {
                       definition, sourceLocation, receiverLocation, phaseType, earthModel);
 
                 default:
-                  LOGGER.info(
+                  LOGGER.debug(
                       "A correction is being asked for that is not implemented: {}",
                       definition.getCorrectionType());
                   return Optional.<FeaturePredictionComponent<DurationValue>>empty();
@@ -0,0 +1,72 @@
+package gms.shared.featureprediction.plugin.prediction;
+
+import gms.shared.common.coi.types.PhaseType;
+import gms.shared.featureprediction.plugin.api.lookuptable.TravelTimeDepthDistanceLookupTablePlugin;
+import gms.shared.featureprediction.utilities.math.EarthModelUtility;
+import java.time.Duration;
+
+/**
+ * Travel time lookup table for a single earth model and phase, converted once to primitive arrays
+ * so that predictions can interpolate it without re-reading the plugin's boxed {@link Duration}
+ * values. Instances are immutable and may be shared across threads; the {@link EarthModelUtility}
+ * used to interpolate them is not, so a new one is created per prediction.
+ */
+final class TravelTimeTable {
+
+  private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+  private final double[] depthsKm;
+  private final double[] distancesDeg;
+
+  // indexed [depthIndex][distanceIndex], in seconds; missing values are NaN
+  private final double[][] travelTimesSec;
+
+  private TravelTimeTable(double[] depthsKm, double[] distancesDeg, double[][] travelTimesSec) {
+    this.depthsKm = depthsKm;
+    this.distancesDeg = distancesDeg;
+    this.travelTimesSec = travelTimesSec;
+  }
+
+  /**
+   * Reads and converts the travel time table a plugin defines for a phase.
+   *
+   * @param travelTimePlugin the initialized travel time plugin
+   * @param phaseType the phase to read
+   * @return the converted table
+   * @throws EarthModelMissingPhaseTypeException if the plugin has no travel times for the phase
+   * @throws IllegalArgumentException if the plugin does not recognize the phase
+   */
+  static TravelTimeTable from(
+      TravelTimeDepthDistanceLookupTablePlugin travelTimePlugin, PhaseType phaseType) {
+
+    var values = travelTimePlugin.getValues(phaseType);
+    if (values == null) {
+      throw new EarthModelMissingPhaseTypeException();
+    }
+
+    var travelTimesSec = new double[values.rowCount()][values.columnCount()];
+    for (var depth = 0; depth < values.rowCount(); depth++) {
+      for (var distance = 0; distance < values.columnCount(); distance++) {
+        Duration travelTime = values.getValue(depth, distance);
+        travelTimesSec[depth][distance] =
+            travelTime == null ? Double.NaN : travelTime.toNanos() / NANOS_PER_SECOND;
+      }
+    }
+
+    return new TravelTimeTable(
+        travelTimePlugin.getDepthsKmForData(phaseType).toArray(),
+        travelTimePlugin.getDistancesDegForData(phaseType).toArray(),
+        travelTimesSec);
+  }
+
+  /**
+   * Creates an interpolator over this table. The table's arrays are shared, not copied, and are
+   * only read by the interpolator.
+   *
+   * @param extrapolate whether holes in the table should be extrapolated
+   * @return a new {@link EarthModelUtility} for a single prediction
+   */
+  EarthModelUtility createEarthModelUtility(boolean extrapolate) {
+    return new EarthModelUtility(depthsKm, distancesDeg, travelTimesSec, extrapolate);
+  }
+}
@@ -79,6 +79,80 @@ class BicubicSplineFeaturePredictorTest {
     Mockito.verify(mockEllipticityCorrectorPlugin).initialize();
   }
 
+  @Test
+  void testInitCompilesTravelTimeTables() {
+    setupTravelTimeAndEllipticMockPluginConfiguration();
+    setupMockTravelTimePlugin();
+    Mockito.when(mockTravelTimePlugin.getAvailablePhaseTypes()).thenReturn(Set.of(PhaseType.P));
+
+    bicubicSplineFeaturePredictor.initialize();
+
+    var sourceLocation = EventLocation.from(3, 0, 3, Instant.EPOCH);
+    var receiverLocation = Location.from(0, 0, 0, 0);
+    var first =
+        bicubicSplineFeaturePredictor.predict(
+            FeaturePredictionType.ARRIVAL_TIME_PREDICTION_TYPE,
+            sourceLocation,
+            receiverLocation,
+            PhaseType.P,
+            AK135,
+            List.of());
+    var second =
+        bicubicSplineFeaturePredictor.predict(
+            FeaturePredictionType.ARRIVAL_TIME_PREDICTION_TYPE,
+            sourceLocation,
+            receiverLocation,
+            PhaseType.P,
+            AK135,
+            List.of());
+
+    Assertions.assertTrue(first.isPresent());
+    Assertions.assertEquals(first, second);
+
+    // the table is read from the plugin once, at initialization, and reused by every prediction
+    Mockito.verify(mockTravelTimePlugin).getValues(PhaseType.P);
+  }
+
+  @Test
+  void testPredictBatchMatchesSinglePredictions() {
+    setupTravelTimeMockPluginConfiguration();
+    setupMockTravelTimePlugin();
+
+    var sourceLocation = EventLocation.from(3, 0, 3, Instant.EPOCH);
+    var receiverLocations = List.of(Location.from(0, 0, 0, 0), Location.from(1, 0, 0, 0));
+    var phaseTypes = List.of(PhaseType.P, PhaseType.IPx);
+
+    var actual =
+        bicubicSplineFeaturePredictor.predictBatch(
+            FeaturePredictionType.ARRIVAL_TIME_PREDICTION_TYPE,
+            sourceLocation,
+            receiverLocations,
+            phaseTypes,
+            AK135,
+            List.of());
+
+    Assertions.assertEquals(receiverLocations.size() * phaseTypes.size(), actual.size());
+    for (var receiver = 0; receiver < receiverLocations.size(); receiver++) {
+      for (var phase = 0; phase < phaseTypes.size(); phase++) {
+        Assertions.assertEquals(
+            bicubicSplineFeaturePredictor.predict(
+                FeaturePredictionType.ARRIVAL_TIME_PREDICTION_TYPE,
+                sourceLocation,
+                receiverLocations.get(receiver),
+                phaseTypes.get(phase),
+                AK135,
+                List.of()),
+            actual.get(receiver * phaseTypes.size() + phase));
+      }
+    }
+
+    // the earth model has no IPx table, so only the P predictions are present
+    Assertions.assertTrue(actual.get(0).isPresent());
+    Assertions.assertTrue(actual.get(1).isEmpty());
+    Assertions.assertTrue(actual.get(2).isPresent());
+    Assertions.assertTrue(actual.get(3).isEmpty());
+  }
+
   @Test
   void testForArrivalTimePredictionType() {
     setupTravelTimeAndEllipticMockPluginConfiguration();
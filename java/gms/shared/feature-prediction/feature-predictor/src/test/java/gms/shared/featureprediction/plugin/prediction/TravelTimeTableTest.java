@@ -0,0 +1,56 @@
+package gms.shared.featureprediction.plugin.prediction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.google.common.primitives.ImmutableDoubleArray;
+import gms.shared.common.coi.types.PhaseType;
+import gms.shared.featureprediction.plugin.api.lookuptable.TravelTimeDepthDistanceLookupTablePlugin;
+import gms.shared.featureprediction.utilities.view.Immutable2dArray;
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class TravelTimeTableTest {
+
+  private static final double[] AXIS = {1, 2, 3, 4, 5};
+
+  @Mock private TravelTimeDepthDistanceLookupTablePlugin mockTravelTimePlugin;
+
+  @Test
+  void testFromConvertsTravelTimesToSeconds() {
+    var travelTimes = new Duration[AXIS.length][AXIS.length];
+    for (var depth = 0; depth < AXIS.length; depth++) {
+      for (var distance = 0; distance < AXIS.length; distance++) {
+        travelTimes[depth][distance] =
+            Duration.ofSeconds(10L * depth + distance).plusMillis(500);
+      }
+    }
+
+    Mockito.when(mockTravelTimePlugin.getDepthsKmForData(PhaseType.P))
+        .thenReturn(ImmutableDoubleArray.copyOf(AXIS));
+    Mockito.when(mockTravelTimePlugin.getDistancesDegForData(PhaseType.P))
+        .thenReturn(ImmutableDoubleArray.copyOf(AXIS));
+    Mockito.when(mockTravelTimePlugin.getValues(PhaseType.P))
+        .thenReturn(Immutable2dArray.from(Duration.class, travelTimes));
+
+    var utility =
+        TravelTimeTable.from(mockTravelTimePlugin, PhaseType.P).createEarthModelUtility(false);
+
+    // depth 2 km and distance 3 deg are the second depth and third distance in the table
+    assertEquals(12.5, utility.interpolateEarthModel(2, 3)[0], 1.0e-9);
+    assertFalse(utility.wasExtrapolated());
+  }
+
+  @Test
+  void testFromMissingPhaseThrows() {
+    assertThrows(
+        EarthModelMissingPhaseTypeException.class,
+        () -> TravelTimeTable.from(mockTravelTimePlugin, PhaseType.P));
+  }
+}
@@ -7,6 +7,7 @@ import com.google.auto.value.AutoValue;
 import com.google.common.base.Preconditions;
 import gms.shared.common.coi.types.PhaseType;
 import java.time.Duration;
+import java.util.Optional;
 
 /**
  * Describes parameters used to calculate {@link FkSpectrum}, but does not include input waveform
@@ -130,6 +131,16 @@ public abstract class FkSpectraDefinition {
    */
   public abstract int getMinimumWaveformsForSpectra();
 
+  /**
+   * Obtains the number of threads used to compute the Fk Spectra. Windows are computed
+   * concurrently, and slowness grid rows as well when there are fewer windows than threads. The
+   * threads come from a pool shared by all Fk computations, so the parallelism is capped at the
+   * number of available processors. When absent the spectra are computed sequentially.
+   *
+   * @return {@literal parallelism, > 0 }
+   */
+  public abstract Optional<Integer> getParallelism();
+
   public static Builder builder() {
     return new AutoValue_FkSpectraDefinition.Builder();
   }
@@ -175,6 +186,8 @@ public abstract class FkSpectraDefinition {
 
     public abstract Builder setMinimumWaveformsForSpectra(int minimumWaveformsForSpectra);
 
+    public abstract Builder setParallelism(Integer parallelism);
+
     protected abstract FkSpectraDefinition autobuild();
 
     public FkSpectraDefinition build() {
@@ -204,6 +217,9 @@ public abstract class FkSpectraDefinition {
       Preconditions.checkState(
           definition.getMinimumWaveformsForSpectra() > 1,
           "FkSpectraDefinition requires minimumWaveformsForSpectra > 1");
+      Preconditions.checkState(
+          definition.getParallelism().map(parallelism -> parallelism > 0).orElse(true),
+          "FkSpectraDefinition requires parallelism > 0");
 
       return definition;
     }
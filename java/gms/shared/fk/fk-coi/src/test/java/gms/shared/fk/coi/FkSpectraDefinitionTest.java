@@ -70,11 +70,16 @@ class FkSpectraDefinitionTest {
             DEFINITION.toBuilder().setWaveformSampleRateToleranceHz(-1)),
         arguments(
             "FkSpectraDefinition requires minimumWaveformsForSpectra > 1",
-            DEFINITION.toBuilder().setMinimumWaveformsForSpectra(1)));
+            DEFINITION.toBuilder().setMinimumWaveformsForSpectra(1)),
+        arguments(
+            "FkSpectraDefinition requires parallelism > 0",
+            DEFINITION.toBuilder().setParallelism(0)));
   }
 
   @Test
   void testSerialization() {
     JsonTestUtilities.assertSerializes(DEFINITION, FkSpectraDefinition.class);
+    JsonTestUtilities.assertSerializes(
+        DEFINITION.toBuilder().setParallelism(8).build(), FkSpectraDefinition.class);
   }
 }
@@ -0,0 +1,274 @@
+package gms.shared.fk.plugin.algorithms;
+
+import com.google.common.base.Preconditions;
+import gms.shared.stationdefinition.coi.channel.RelativePosition;
+import java.util.Arrays;
+import java.util.List;
+import org.apache.commons.math3.util.FastMath;
+
+/**
+ * Primitive beam power kernel used by {@link CaponFkSpectrumAlgorithm}. Passband spectra are held
+ * as interleaved real/imaginary double arrays, laid out channel by channel with one entry per
+ * passband frequency bin. The per-channel time shifts for every slowness pixel are computed when
+ * the kernel is built, along with the steering vectors exp(2&pi;i f t) when they fit within {@link
+ * #MAX_CACHED_STEERING_DOUBLES}, so every window evaluated with the same kernel reuses them.
+ */
+final class CaponFkKernel {
+
+  /** Largest steering vector table (in doubles) a kernel will hold, 64 MiB */
+  static final int MAX_CACHED_STEERING_DOUBLES = 1 << 23;
+
+  private static final double TWO_PI = 2 * Math.PI;
+
+  private final int rowCount;
+  private final int columnCount;
+  private final int channelCount;
+  private final int[] frequencyBinIndices;
+  private final double[] passbandFrequencies;
+  private final boolean[] validPixels;
+  private final double[] timeShifts;
+  private final double[] steeringVectors;
+
+  /**
+   * Builds a kernel for a slowness grid and array geometry.
+   *
+   * @param slowNorth north slowness (sec/km) of each grid row
+   * @param slowEast east slowness (sec/km) of each grid column
+   * @param verticalSlowness vertical slowness (sec/km) of each pixel in row-major order; NaN marks
+   *     pixels with no valid beam
+   * @param relativePositions positions of the channels, the first channelCount of which are used
+   * @param channelCount the number of channels in each spectrum
+   * @param frequencyAxis the frequency (Hz) of each FFT bin
+   * @param frequencyBinIndices the indices of the FFT bins within the passband
+   */
+  CaponFkKernel(
+      double[] slowNorth,
+      double[] slowEast,
+      double[] verticalSlowness,
+      List<RelativePosition> relativePositions,
+      int channelCount,
+      double[] frequencyAxis,
+      int[] frequencyBinIndices) {
+    this(
+        slowNorth,
+        slowEast,
+        verticalSlowness,
+        relativePositions,
+        channelCount,
+        frequencyAxis,
+        frequencyBinIndices,
+        MAX_CACHED_STEERING_DOUBLES);
+  }
+
+  CaponFkKernel(
+      double[] slowNorth,
+      double[] slowEast,
+      double[] verticalSlowness,
+      List<RelativePosition> relativePositions,
+      int channelCount,
+      double[] frequencyAxis,
+      int[] frequencyBinIndices,
+      long maxCachedSteeringDoubles) {
+    Preconditions.checkArgument(
+        verticalSlowness.length == slowNorth.length * slowEast.length,
+        "Vertical slowness must be provided for every pixel");
+    Preconditions.checkArgument(
+        relativePositions.size() >= channelCount,
+        "A relative position is required for every channel");
+
+    this.rowCount = slowNorth.length;
+    this.columnCount = slowEast.length;
+    this.channelCount = channelCount;
+    this.frequencyBinIndices = frequencyBinIndices.clone();
+    this.passbandFrequencies = new double[frequencyBinIndices.length];
+    for (var bin = 0; bin < frequencyBinIndices.length; bin++) {
+      passbandFrequencies[bin] = frequencyAxis[frequencyBinIndices[bin]];
+    }
+
+    int pixelCount = rowCount * columnCount;
+    this.validPixels = new boolean[pixelCount];
+    this.timeShifts = new double[pixelCount * channelCount];
+    for (var row = 0; row < rowCount; row++) {
+      for (var column = 0; column < columnCount; column++) {
+        int pixel = row * columnCount + column;
+        validPixels[pixel] = !Double.isNaN(verticalSlowness[pixel]);
+        for (var channel = 0; channel < channelCount; channel++) {
+          var position = relativePositions.get(channel);
+          timeShifts[pixel * channelCount + channel] =
+              position.getEastDisplacementKm() * slowEast[column]
+                  + position.getNorthDisplacementKm() * slowNorth[row]
+                  + position.getVerticalDisplacementKm() * verticalSlowness[pixel];
+        }
+      }
+    }
+
+    long steeringDoubles = 2L * pixelCount * channelCount * frequencyBinIndices.length;
+    this.steeringVectors =
+        steeringDoubles <= maxCachedSteeringDoubles
+            ? computeSteeringVectors((int) steeringDoubles)
+            : null;
+  }
+
+  boolean isSteeringCached() {
+    return steeringVectors != null;
+  }
+
+  int getBinCount() {
+    return frequencyBinIndices.length;
+  }
+
+  int[] getFrequencyBinIndices() {
+    return frequencyBinIndices.clone();
+  }
+
+  /**
+   * Gathers the passband bins of each channel's FFT into a single interleaved array.
+   *
+   * @param ffts one full complex FFT per channel, as returned by {@link
+   *     gms.shared.fk.plugin.algorithms.util.FftUtilities#computeFftWindow}
+   * @return interleaved spectra, (channel * bins + bin) * 2 for the real part
+   */
+  double[] passbandSpectra(List<double[]> ffts) {
+    Preconditions.checkArgument(ffts.size() == channelCount, "An FFT is required per channel");
+
+    int binCount = frequencyBinIndices.length;
+    var spectra = new double[2 * channelCount * binCount];
+    for (var channel = 0; channel < channelCount; channel++) {
+      passbandBins(ffts.get(channel), spectra, 2 * channel * binCount);
+    }
+    return spectra;
+  }
+
+  /**
+   * Copies the passband bins of a single FFT into an interleaved array.
+   *
+   * @param fft a full complex FFT
+   * @param spectrum destination for the passband bins
+   * @param spectrumOffset index in spectrum of the first bin's real part
+   */
+  void passbandBins(double[] fft, double[] spectrum, int spectrumOffset) {
+    for (var bin = 0; bin < frequencyBinIndices.length; bin++) {
+      spectrum[spectrumOffset + 2 * bin] = fft[2 * frequencyBinIndices[bin]];
+      spectrum[spectrumOffset + 2 * bin + 1] = fft[2 * frequencyBinIndices[bin] + 1];
+    }
+  }
+
+  /**
+   * Computes the unscaled beam power for every pixel of the slowness grid.
+   *
+   * @param passbandSpectra interleaved spectra, (channel * bins + bin) * 2 for the real part
+   * @param power destination grid; pixels with no valid beam are set to NaN
+   */
+  void computeBeamPower(double[] passbandSpectra, double[][] power) {
+    computeBeamPower(passbandSpectra, power, 0, rowCount);
+  }
+
+  /**
+   * Computes the unscaled beam power for a range of slowness grid rows. Disjoint row ranges may be
+   * computed concurrently into the same grid.
+   *
+   * @param passbandSpectra interleaved spectra, (channel * bins + bin) * 2 for the real part
+   * @param power destination grid; pixels with no valid beam are set to NaN
+   * @param fromRow first row to compute, inclusive
+   * @param toRow last row to compute, exclusive
+   */
+  void computeBeamPower(double[] passbandSpectra, double[][] power, int fromRow, int toRow) {
+    int binCount = passbandFrequencies.length;
+    Preconditions.checkArgument(
+        passbandSpectra.length == 2 * channelCount * binCount,
+        "Spectra must hold every passband bin for every channel");
+    Preconditions.checkArgument(
+        0 <= fromRow && fromRow <= toRow && toRow <= rowCount, "Row range must be within the grid");
+
+    var beam = new double[2 * binCount];
+    for (var row = fromRow; row < toRow; row++) {
+      for (var column = 0; column < columnCount; column++) {
+        int pixel = row * columnCount + column;
+        power[row][column] =
+            validPixels[pixel] ? pixelPower(pixel, passbandSpectra, beam) : Double.NaN;
+      }
+    }
+  }
+
+  /**
+   * Computes the average power of the channels' passband spectra, unscaled by sample count.
+   *
+   * @param passbandSpectra interleaved spectra, (channel * bins + bin) * 2 for the real part
+   * @return the summed squared magnitude of the spectra divided by the channel count
+   */
+  double averagePower(double[] passbandSpectra) {
+    var sum = 0.0;
+    for (var i = 0; i < passbandSpectra.length; i += 2) {
+      double real = passbandSpectra[i];
+      double imaginary = passbandSpectra[i + 1];
+      sum += real * real + imaginary * imaginary;
+    }
+    return sum / channelCount;
+  }
+
+  private double pixelPower(int pixel, double[] passbandSpectra, double[] beam) {
+    int binCount = passbandFrequencies.length;
+    Arrays.fill(beam, 0.0);
+
+    for (var channel = 0; channel < channelCount; channel++) {
+      int spectrumOffset = 2 * channel * binCount;
+      if (steeringVectors != null) {
+        int steeringOffset = 2 * (pixel * channelCount + channel) * binCount;
+        for (var bin = 0; bin < binCount; bin++) {
+          accumulate(
+              beam,
+              bin,
+              steeringVectors[steeringOffset + 2 * bin],
+              steeringVectors[steeringOffset + 2 * bin + 1],
+              passbandSpectra,
+              spectrumOffset);
+        }
+      } else {
+        double timeShift = timeShifts[pixel * channelCount + channel];
+        for (var bin = 0; bin < binCount; bin++) {
+          double phase = passbandFrequencies[bin] * timeShift * TWO_PI;
+          accumulate(
+              beam, bin, FastMath.cos(phase), FastMath.sin(phase), passbandSpectra, spectrumOffset);
+        }
+      }
+    }
+
+    var pixelPower = 0.0;
+    for (var bin = 0; bin < binCount; bin++) {
+      double real = beam[2 * bin] / channelCount;
+      double imaginary = beam[2 * bin + 1] / channelCount;
+      pixelPower += real * real + imaginary * imaginary;
+    }
+    return pixelPower;
+  }
+
+  private static void accumulate(
+      double[] beam,
+      int bin,
+      double steeringReal,
+      double steeringImaginary,
+      double[] passbandSpectra,
+      int spectrumOffset) {
+    double spectrumReal = passbandSpectra[spectrumOffset + 2 * bin];
+    double spectrumImaginary = passbandSpectra[spectrumOffset + 2 * bin + 1];
+    beam[2 * bin] += steeringReal * spectrumReal - steeringImaginary * spectrumImaginary;
+    beam[2 * bin + 1] += steeringReal * spectrumImaginary + steeringImaginary * spectrumReal;
+  }
+
+  private double[] computeSteeringVectors(int steeringDoubles) {
+    int binCount = passbandFrequencies.length;
+    var steering = new double[steeringDoubles];
+    for (var shift = 0; shift < timeShifts.length; shift++) {
+      if (!validPixels[shift / channelCount]) {
+        continue;
+      }
+      int offset = 2 * shift * binCount;
+      for (var bin = 0; bin < binCount; bin++) {
+        double phase = passbandFrequencies[bin] * timeShifts[shift] * TWO_PI;
+        steering[offset + 2 * bin] = FastMath.cos(phase);
+        steering[offset + 2 * bin + 1] = FastMath.sin(phase);
+      }
+    }
+    return steering;
+  }
+}
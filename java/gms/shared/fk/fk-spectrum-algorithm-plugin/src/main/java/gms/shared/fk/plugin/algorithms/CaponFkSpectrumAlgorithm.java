@@ -1,6 +1,7 @@
 package gms.shared.fk.plugin.algorithms;
 
 import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
 import com.google.common.primitives.Ints;
 import gms.shared.fk.coi.FkSpectraDefinition;
 import gms.shared.fk.plugin.algorithms.util.FftUtilities;
@@ -14,21 +15,21 @@ import gms.shared.waveform.coi.Waveform;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Function;
 import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import org.apache.commons.lang3.Validate;
-import org.apache.commons.math3.complex.Complex;
-import org.apache.commons.math3.complex.ComplexField;
-import org.apache.commons.math3.linear.Array2DRowFieldMatrix;
-import org.apache.commons.math3.linear.ArrayFieldVector;
 
 public final class CaponFkSpectrumAlgorithm {
 
@@ -39,6 +40,13 @@ public final class CaponFkSpectrumAlgorithm {
   private static final double MIN_QUAL_1_RATIO = powerDecibel(6);
   private static final double MIN_QUAL_2_RATIO = powerDecibel(4);
   private static final double MIN_QUAL_3_RATIO = powerDecibel(1);
+  private static final int WINDOW_CHUNKS_PER_THREAD = 4;
+  private static final int MIN_WINDOWS_PER_CHUNK = 8;
+
+  // shared by every FK computation in the JVM so concurrent requests cannot multiply threads; its
+  // workers are daemon threads, so it never holds up shutdown
+  private static final ForkJoinPool FK_POOL =
+      new ForkJoinPool(Runtime.getRuntime().availableProcessors());
 
   private final FkSpectraDefinition definition;
   private final double mediumVelocityKmPerSec;
@@ -137,19 +145,119 @@ public final class CaponFkSpectrumAlgorithm {
        * The distance between 0 and 1.5, 1.5 and 2.5, and 2.5, and 3.5 is the window length
        * (noted by [-])
        */
+      List<Instant> windowStarts = new ArrayList<>();
       for (Instant windowStart = jitterBaseStartTime,
               fkStartTime = windowStart.plus(definition.getWindowLead());
           !windowStart.plus(definition.getWindowLength()).isAfter(endTime);
           fkStartTime = fkStartTime.plus(fkSamplePeriod),
               windowStart = fkStartTime.minus(definition.getWindowLead())) {
-        generateSingleFk(fkChannelSegments, relativePositionsList, windowStart, jitterBaseStartTime)
-            .ifPresent(fkList::add);
+        windowStarts.add(windowStart);
       }
+
+      // consecutive windows start one FK sample period apart; allow a sample of rounding
+      int maxWindowAdvance =
+          (int)
+                  Math.ceil(
+                      fkSamplePeriod.toNanos()
+                          * (definition.getWaveformSampleRateHz() / NANOS_PER_SEC))
+              + 1;
+
+      fkList.addAll(
+          generateWindows(
+              fkChannelSegments,
+              relativePositionsList,
+              windowStarts,
+              jitterBaseStartTime,
+              maxWindowAdvance));
     }
 
     return fkList;
   }
 
+  /**
+   * Generates the FK Spectrum for each window, in window order. Consecutive windows are computed in
+   * sequence so that each can slide the passband spectra of the one before it. When the definition
+   * requests parallelism the windows are split into contiguous chunks computed on a dedicated
+   * ForkJoinPool, and if there are fewer windows than threads the slowness grid rows of each window
+   * are split across the pool as well.
+   */
+  private List<FkSpectrum> generateWindows(
+      List<ChannelSegment<Waveform>> fkChannelSegments,
+      List<RelativePosition> relativePositions,
+      List<Instant> windowStarts,
+      Instant jitterBaseStartTime,
+      int maxWindowAdvance) {
+
+    int parallelism = Math.min(definition.getParallelism().orElse(1), FK_POOL.getParallelism());
+    Map<KernelKey, CaponFkKernel> kernels = new ConcurrentHashMap<>();
+
+    if (parallelism == 1) {
+      return generateWindowSequence(
+          fkChannelSegments,
+          relativePositions,
+          windowStarts,
+          jitterBaseStartTime,
+          kernels,
+          new WindowSequence(maxWindowAdvance),
+          false);
+    }
+
+    boolean parallelRows = windowStarts.size() < parallelism;
+
+    // several chunks per thread balance the load, but each chunk starts with full FFTs, so keep
+    // chunks long enough to slide across unless that would leave threads idle
+    int windowCount = windowStarts.size();
+    int chunkSize =
+        Math.max(
+            ceilDivide(windowCount, parallelism * WINDOW_CHUNKS_PER_THREAD),
+            Math.min(MIN_WINDOWS_PER_CHUNK, ceilDivide(windowCount, parallelism)));
+    // parallel streams started from within a ForkJoinPool task run on that pool
+    return FK_POOL
+        .submit(
+            () ->
+                Lists.partition(windowStarts, chunkSize).parallelStream()
+                    .flatMap(
+                        chunk ->
+                            generateWindowSequence(
+                                fkChannelSegments,
+                                relativePositions,
+                                chunk,
+                                jitterBaseStartTime,
+                                kernels,
+                                new WindowSequence(maxWindowAdvance),
+                                parallelRows)
+                                .stream())
+                    .toList())
+        .join();
+  }
+
+  private static int ceilDivide(int dividend, int divisor) {
+    return Math.max(1, (dividend + divisor - 1) / divisor);
+  }
+
+  private List<FkSpectrum> generateWindowSequence(
+      List<ChannelSegment<Waveform>> fkChannelSegments,
+      List<RelativePosition> relativePositions,
+      List<Instant> windowStarts,
+      Instant jitterBaseStartTime,
+      Map<KernelKey, CaponFkKernel> kernels,
+      WindowSequence sequence,
+      boolean parallelRows) {
+    return windowStarts.stream()
+        .map(
+            windowStart ->
+                generateSingleFk(
+                    fkChannelSegments,
+                    relativePositions,
+                    windowStart,
+                    jitterBaseStartTime,
+                    kernels,
+                    sequence,
+                    parallelRows))
+        .flatMap(Optional::stream)
+        .toList();
+  }
+
   private Optional<Instant> getModalTime(
       Collection<ChannelSegment<Waveform>> channelSegments,
       Function<Waveform, Instant> timeConverter) {
@@ -194,22 +302,29 @@ public final class CaponFkSpectrumAlgorithm {
    * @param windowEnd The end time of the FkSpectrum
    * @param jitterBaseStartTime The reference point against which all waveforms are compared for
    *     jitter.
+   * @param sequence The state shared with the previous windows, holding each waveform's shift
    * @return A subset of waveforms suitable for calculating the FkSpectrum defined by the
-   *     windowStart and windowEnd.
+   *     windowStart and windowEnd, each paired with the input waveform it was shifted from.
    */
-  private List<Waveform> getWaveformSubset(
+  private List<ShiftedWaveform> getWaveformSubset(
       Collection<ChannelSegment<Waveform>> channelSegments,
       Instant windowStart,
       Instant windowEnd,
-      Instant jitterBaseStartTime) {
+      Instant jitterBaseStartTime,
+      WindowSequence sequence) {
 
     return channelSegments.stream()
         .flatMap(cs -> cs.getTimeseries().stream())
         .filter(this::validateSampleRate)
         .filter(waveform -> jitterCheck(waveform, jitterBaseStartTime))
-        .map(waveform -> shiftWaveform(waveform, jitterBaseStartTime))
-        .filter(waveform -> waveform.computeTimeRange().contains(windowStart))
-        .filter(waveform -> waveform.computeTimeRange().contains(windowEnd))
+        .map(
+            waveform ->
+                new ShiftedWaveform(
+                    waveform,
+                    sequence.shiftedWaveforms.computeIfAbsent(
+                        waveform, source -> shiftWaveform(source, jitterBaseStartTime))))
+        .filter(pair -> pair.shifted().computeTimeRange().contains(windowStart))
+        .filter(pair -> pair.shifted().computeTimeRange().contains(windowEnd))
         .toList();
   }
 
@@ -501,19 +616,39 @@ public final class CaponFkSpectrumAlgorithm {
       List<RelativePosition> relativePositions,
       Instant windowStart,
       Instant minStartTime) {
+    return generateSingleFk(
+        channelSegments,
+        relativePositions,
+        windowStart,
+        minStartTime,
+        new HashMap<>(),
+        new WindowSequence(0),
+        false);
+  }
+
+  private Optional<FkSpectrum> generateSingleFk(
+      List<ChannelSegment<Waveform>> channelSegments,
+      List<RelativePosition> relativePositions,
+      Instant windowStart,
+      Instant minStartTime,
+      Map<KernelKey, CaponFkKernel> kernels,
+      WindowSequence sequence,
+      boolean parallelRows) {
 
-    List<Waveform> waveformSubset =
+    List<ShiftedWaveform> waveformSubset =
         getWaveformSubset(
             channelSegments,
             windowStart,
             windowStart.plus(definition.getWindowLength()),
-            minStartTime);
+            minStartTime,
+            sequence);
 
     List<Waveform> windowedWaveforms =
         waveformSubset.stream()
             .map(
-                waveform ->
-                    waveform.trim(windowStart, windowStart.plus(definition.getWindowLength())))
+                pair ->
+                    pair.shifted()
+                        .trim(windowStart, windowStart.plus(definition.getWindowLength())))
             .toList();
 
     if (windowedWaveforms.size() < definition.getMinimumWaveformsForSpectra()) {
@@ -523,18 +658,58 @@ public final class CaponFkSpectrumAlgorithm {
     int numSamples = windowedWaveforms.get(0).getSampleCount();
     int numChannels = windowedWaveforms.size();
 
-    List<Complex[]> ffts =
-        windowedWaveforms.stream()
-            .map(FftUtilities::computeFftWindow)
-            .map(FftUtilities::getComplexFft)
-            .toList();
-    Array2DRowFieldMatrix<Complex> fftWaveformMatrix =
-        new Array2DRowFieldMatrix<>(ComplexField.getInstance(), numChannels, numSamples);
+    // the steering vectors depend only on the window length and the channels in use, so windows
+    // that share both reuse the same kernel
+    var kernel =
+        kernels.computeIfAbsent(
+            new KernelKey(numSamples, numChannels),
+            key -> createKernel(relativePositions, numSamples, numChannels));
+
+    int binCount = kernel.getBinCount();
+    var passbandSpectra = new double[2 * numChannels * binCount];
+    for (var channel = 0; channel < numChannels; channel++) {
+      sequence.computePassbandSpectrum(
+          kernel,
+          waveformSubset.get(channel),
+          windowedWaveforms.get(channel),
+          windowStart,
+          passbandSpectra,
+          2 * channel * binCount);
+    }
 
-    for (var i = 0; i < numChannels; i++) {
-      fftWaveformMatrix.setRow(i, ffts.get(i));
+    int fftRows = definition.getSlowCountY();
+    int fftCols = definition.getSlowCountX();
+    var power = new double[fftRows][fftCols];
+    var fstat = new double[fftRows][fftCols];
+
+    double scalingFactor = 1 / Math.pow(numSamples, 2);
+    double pAvg = kernel.averagePower(passbandSpectra) * scalingFactor;
+
+    if (parallelRows) {
+      IntStream.range(0, fftRows)
+          .parallel()
+          .forEach(row -> kernel.computeBeamPower(passbandSpectra, power, row, row + 1));
+    } else {
+      kernel.computeBeamPower(passbandSpectra, power);
+    }
+    for (var i = 0; i < fftRows; i++) {
+      for (var j = 0; j < fftCols; j++) {
+        if (!Double.isNaN(power[i][j])) {
+          power[i][j] *= scalingFactor;
+        }
+        fstat[i][j] = computeFStatistic(power[i][j], pAvg, numChannels);
+      }
     }
 
+    return Optional.of(FkSpectrum.from(power, fstat, computeFkQual(power)));
+  }
+
+  /**
+   * Builds the beam power kernel for windows of numSamples samples over the first numChannels
+   * relative positions.
+   */
+  private CaponFkKernel createKernel(
+      List<RelativePosition> relativePositions, int numSamples, int numChannels) {
     double delFrequency = definition.getWaveformSampleRateHz() / numSamples;
 
     double[] frequencyAxis = fftFreq(numSamples, delFrequency);
@@ -545,153 +720,39 @@ public final class CaponFkSpectrumAlgorithm {
         findBinIndices(
             frequencyAxis, definition.getLowFrequencyHz(), definition.getHighFrequencyHz());
 
-    // calculate the passband of the fft'd data.  That is, keep the values that correspond to the
-    // indices in the frequencyAxis that pass the band pass filter
-    // This is part of the outer summation in the FK formula
-    int numFrequencyBins = frequencyBinIndices.length;
-    ArrayFieldVector<Complex> passbandFrequencies =
-        new ArrayFieldVector<>(ComplexField.getInstance(), numFrequencyBins);
-    for (var i = 0; i < numFrequencyBins; i++) {
-      passbandFrequencies.setEntry(i, new Complex(frequencyAxis[frequencyBinIndices[i]]));
-    }
-
-    Array2DRowFieldMatrix<Complex> passbandFfts =
-        calculatePassbandFftMatrix(fftWaveformMatrix, frequencyBinIndices);
-
     int fftRows = definition.getSlowCountY();
     int fftCols = definition.getSlowCountX();
-    var power = new double[fftRows][fftCols];
-    var fstat = new double[fftRows][fftCols];
 
     double slowNorthStart = definition.getSlowStartYSecPerKm();
     double slowEastStart = definition.getSlowStartXSecPerKm();
     double slowNorthDelta = definition.getSlowDeltaYSecPerKm();
     double slowEastDelta = definition.getSlowDeltaXSecPerKm();
 
-    double pAvg = calculateAveragePower(passbandFfts, numSamples, numChannels);
-    double scalingFactor = 1 / Math.pow(numSamples, 2);
+    var slowNorth = new double[fftRows];
     for (var i = 0; i < fftRows; i++) {
-      double slowNorth = slowNorthStart + ((fftRows - i) * slowNorthDelta);
-
-      for (var j = 0; j < fftCols; j++) {
-        var slowEast = slowEastStart + (j * slowEastDelta);
-        var verticalSlowness = calculateVerticalSlowness(slowEast, slowNorth);
-
-        var pixel =
-            getPixel(
-                verticalSlowness,
-                numChannels,
-                relativePositions,
-                slowEast,
-                slowNorth,
-                passbandFrequencies,
-                passbandFfts);
-        if (!Double.isNaN(pixel)) {
-          pixel *= scalingFactor;
-        }
-        power[i][j] = pixel;
-
-        fstat[i][j] = computeFStatistic(power[i][j], pAvg, numChannels);
-      }
+      slowNorth[i] = slowNorthStart + ((fftRows - i) * slowNorthDelta);
     }
 
-    return Optional.of(FkSpectrum.from(power, fstat, computeFkQual(power)));
-  }
-
-  private static double getPixel(
-      double verticalSlowness,
-      int numChannels,
-      List<RelativePosition> relativePositions,
-      double slowEast,
-      double slowNorth,
-      ArrayFieldVector<Complex> passbandFrequencies,
-      Array2DRowFieldMatrix<Complex> passbandFfts) {
-
-    if (Double.isNaN(verticalSlowness)) {
-      return Double.NaN;
-    }
-
-    Array2DRowFieldMatrix<Complex> timeShifts =
-        calculateTimeShifts(
-            numChannels,
-            relativePositions,
-            slowEast,
-            slowNorth,
-            verticalSlowness,
-            passbandFrequencies);
-    Array2DRowFieldMatrix<Complex> shiftedWaveforms = rowWiseMultiply(timeShifts, passbandFfts);
-
-    ArrayFieldVector<Complex> beam =
-        new ArrayFieldVector<>(ComplexField.getInstance(), passbandFrequencies.getDimension());
-    beam = shiftBeam(beam, numChannels, shiftedWaveforms);
-    beam = (ArrayFieldVector<Complex>) beam.mapDivide(new Complex(numChannels));
-
-    return Arrays.stream(beam.toArray())
-        .map(Complex::abs)
-        .map(absBeamPoint -> Math.pow(absBeamPoint, 2))
-        .mapToDouble(Double::valueOf)
-        .sum();
-  }
-
-  private static ArrayFieldVector<Complex> shiftBeam(
-      ArrayFieldVector<Complex> beam,
-      int numChannels,
-      Array2DRowFieldMatrix<Complex> shiftedWaveforms) {
-    for (var k = 0; k < numChannels; k++) {
-      beam = beam.add((ArrayFieldVector<Complex>) shiftedWaveforms.getRowVector(k));
+    var slowEast = new double[fftCols];
+    for (var j = 0; j < fftCols; j++) {
+      slowEast[j] = slowEastStart + (j * slowEastDelta);
     }
-    return beam;
-  }
-
-  private static Array2DRowFieldMatrix<Complex> rowWiseMultiply(
-      Array2DRowFieldMatrix<Complex> matrix1, Array2DRowFieldMatrix<Complex> matrix2) {
-    Preconditions.checkState(
-        matrix1.getRowDimension() == matrix2.getRowDimension(), "Row dimensions must match");
-    Preconditions.checkState(
-        matrix1.getColumnDimension() == matrix2.getColumnDimension(),
-        "Column dimensions must match");
-
-    Array2DRowFieldMatrix<Complex> result =
-        new Array2DRowFieldMatrix<>(
-            ComplexField.getInstance(), matrix1.getRowDimension(), matrix1.getColumnDimension());
 
-    for (var i = 0; i < matrix1.getRowDimension(); i++) {
-      result.setRowVector(i, matrix1.getRowVector(i).ebeMultiply(matrix2.getRowVector(i)));
-    }
-
-    return result;
-  }
-
-  static Array2DRowFieldMatrix<Complex> calculateTimeShifts(
-      int numChannels,
-      List<RelativePosition> relativePositions,
-      double slowEast,
-      double slowNorth,
-      double verticalSlowness,
-      ArrayFieldVector<Complex> passbandFrequencies) {
-
-    ArrayFieldVector<Complex> timeShifts =
-        new ArrayFieldVector<>(ComplexField.getInstance(), numChannels);
-    Array2DRowFieldMatrix<Complex> shiftFactor =
-        new Array2DRowFieldMatrix<>(
-            ComplexField.getInstance(), numChannels, passbandFrequencies.getDimension());
-
-    for (var i = 0; i < numChannels; i++) {
-      var position = relativePositions.get(i);
-      double timeShift =
-          position.getEastDisplacementKm() * slowEast
-              + position.getNorthDisplacementKm() * slowNorth
-              + position.getVerticalDisplacementKm() * verticalSlowness;
-      timeShifts.setEntry(i, new Complex(timeShift));
-      var timeShiftFrequencyRow = passbandFrequencies.mapMultiply(new Complex(timeShift));
-      var timeShiftFrequenceRowPrime =
-          timeShiftFrequencyRow.mapMultiply(Complex.I.multiply(2 * Math.PI));
-      for (var j = 0; j < passbandFrequencies.getDimension(); j++) {
-        shiftFactor.setEntry(i, j, timeShiftFrequenceRowPrime.getEntry(j).exp());
+    var verticalSlowness = new double[fftRows * fftCols];
+    for (var i = 0; i < fftRows; i++) {
+      for (var j = 0; j < fftCols; j++) {
+        verticalSlowness[i * fftCols + j] = calculateVerticalSlowness(slowEast[j], slowNorth[i]);
       }
     }
 
-    return shiftFactor;
+    return new CaponFkKernel(
+        slowNorth,
+        slowEast,
+        verticalSlowness,
+        relativePositions,
+        numChannels,
+        frequencyAxis,
+        frequencyBinIndices);
   }
 
   private double calculateVerticalSlowness(double slowEast, double slowNorth) {
@@ -715,37 +776,6 @@ public final class CaponFkSpectrumAlgorithm {
     return verticalSlowness;
   }
 
-  private static Array2DRowFieldMatrix<Complex> calculatePassbandFftMatrix(
-      Array2DRowFieldMatrix<Complex> ffts, int[] frequencyBinIndices) {
-    int numFrequencyBins = frequencyBinIndices.length;
-
-    // if the frequencyBin indices are always consecutive, might be able to use getSubMatrix
-    Array2DRowFieldMatrix<Complex> passBandFfts =
-        new Array2DRowFieldMatrix<>(
-            ComplexField.getInstance(), ffts.getRowDimension(), numFrequencyBins);
-
-    for (var i = 0; i < numFrequencyBins; i++) {
-      passBandFfts.setColumn(i, ffts.getColumn(frequencyBinIndices[i]));
-    }
-
-    return passBandFfts;
-  }
-
-  private static double calculateAveragePower(
-      Array2DRowFieldMatrix<Complex> passBandFfts, int numSamples, int channelCount) {
-    var pAvg = 0.0;
-
-    Complex[][] data = passBandFfts.getData();
-    for (Complex[] passbandFft : data) {
-      for (Complex complex : passbandFft) {
-        pAvg += Math.pow(complex.abs(), 2);
-      }
-    }
-    pAvg /= channelCount;
-    pAvg /= Math.pow(numSamples, 2);
-    return pAvg;
-  }
-
   /**
    * Compute the FFT Frequency Bin Array for an array with N Samples. Based on the NumPy library
    * function numpy.fft.fftfreq found here: https://docs.scipy
@@ -799,4 +829,84 @@ public final class CaponFkSpectrumAlgorithm {
     }
     return Ints.toArray(binIndices);
   }
+
+  /** Identifies the windows that can share a {@link CaponFkKernel} */
+  private record KernelKey(int numSamples, int numChannels) {}
+
+  /** An input waveform and its copy snapped to the jitter base start time */
+  private record ShiftedWaveform(Waveform source, Waveform shifted) {}
+
+  /**
+   * State carried from one window to the next by a thread computing consecutive windows. Each input
+   * waveform is shifted once rather than once per window, and each channel's passband spectrum is
+   * slid forward from the previous window's rather than recomputed with a full FFT. The spectrum is
+   * recomputed from an FFT every {@link #RESYNC_INTERVAL} slides to bound accumulated rounding
+   * error, and whenever the windows do not overlap enough to make sliding worthwhile.
+   */
+  private static final class WindowSequence {
+
+    private static final int RESYNC_INTERVAL = 32;
+
+    private final int maxWindowAdvance;
+    private final Map<Waveform, Waveform> shiftedWaveforms = new IdentityHashMap<>();
+    private final Map<Integer, PassbandDft> dftsBySampleCount = new HashMap<>();
+    private final Map<Waveform, ChannelSpectrum> spectraBySource = new IdentityHashMap<>();
+
+    private WindowSequence(int maxWindowAdvance) {
+      this.maxWindowAdvance = maxWindowAdvance;
+    }
+
+    /**
+     * Writes the passband spectrum of a windowed waveform into passbandSpectra, sliding the
+     * spectrum of the previous window of the same input waveform when possible.
+     */
+    private void computePassbandSpectrum(
+        CaponFkKernel kernel,
+        ShiftedWaveform waveform,
+        Waveform windowed,
+        Instant windowStart,
+        double[] passbandSpectra,
+        int spectraOffset) {
+
+      var dft =
+          dftsBySampleCount.computeIfAbsent(
+              windowed.getSampleCount(),
+              numSamples ->
+                  new PassbandDft(numSamples, kernel.getFrequencyBinIndices(), maxWindowAdvance));
+      int offset = windowOffset(waveform.shifted(), windowStart);
+
+      var previous = spectraBySource.get(waveform.source());
+      ChannelSpectrum current;
+      if (previous != null
+          && previous.dft() == dft
+          && previous.slides() < RESYNC_INTERVAL
+          && dft.canSlide(offset - previous.offset())) {
+        dft.slide(
+            waveform.shifted().getSamples(), previous.offset(), offset, previous.spectrum(), 0);
+        current = new ChannelSpectrum(dft, offset, previous.slides() + 1, previous.spectrum());
+      } else {
+        var spectrum = new double[2 * kernel.getBinCount()];
+        kernel.passbandBins(FftUtilities.computeFftWindow(windowed), spectrum, 0);
+        current = new ChannelSpectrum(dft, offset, 0, spectrum);
+      }
+      spectraBySource.put(waveform.source(), current);
+
+      System.arraycopy(
+          current.spectrum(), 0, passbandSpectra, spectraOffset, current.spectrum().length);
+    }
+
+    /**
+     * Index within the shifted waveform's samples of the first windowed sample, computed as {@link
+     * Waveform#trim(Instant, Instant)} does
+     */
+    private static int windowOffset(Waveform shifted, Instant windowStart) {
+      double sampleRateNanos = shifted.getSampleRateHz() / NANOS_PER_SEC;
+      return (int)
+          Math.ceil(
+              Duration.between(shifted.getStartTime(), windowStart).toNanos() * sampleRateNanos);
+    }
+  }
+
+  /** A channel's passband spectrum for the window starting at offset */
+  private record ChannelSpectrum(PassbandDft dft, int offset, int slides, double[] spectrum) {}
 }
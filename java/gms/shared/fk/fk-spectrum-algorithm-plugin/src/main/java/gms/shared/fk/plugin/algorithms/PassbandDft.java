@@ -0,0 +1,104 @@
+package gms.shared.fk.plugin.algorithms;
+
+import com.google.common.base.Preconditions;
+import org.apache.commons.math3.util.FastMath;
+
+/**
+ * Sliding discrete Fourier transform over the passband bins of a fixed-length window. Given the
+ * passband spectrum of one window, the spectrum of a later, overlapping window of the same samples
+ * is found by adding the samples that enter the window, removing those that leave it, and rotating
+ * the result to the new window start. That costs one complex multiply-add per passband bin per
+ * sample of advance, so small advances are far cheaper than transforming each window in full.
+ *
+ * <p>Spectra are interleaved real/imaginary pairs, one per passband bin, in the same sign
+ * convention as {@link gms.shared.fk.plugin.algorithms.util.FftUtilities#computeFftWindow}.
+ * Rounding error accumulates with each slide, so callers should periodically recompute the
+ * spectrum from a full transform.
+ */
+final class PassbandDft {
+
+  private final int numSamples;
+  private final int binCount;
+  private final int maxAdvance;
+
+  // e^(-2 pi i k n / N) for each passband bin k and n in [0, maxAdvance], interleaved
+  private final double[] twiddles;
+
+  /**
+   * @param numSamples the window length, N
+   * @param frequencyBinIndices the FFT bin index k of each passband bin
+   * @param maxAdvance the largest advance, in samples, the transform will slide by; it is reduced
+   *     to the advance beyond which a full FFT is cheaper than sliding
+   */
+  PassbandDft(int numSamples, int[] frequencyBinIndices, int maxAdvance) {
+    Preconditions.checkArgument(numSamples > 0, "Window must contain samples");
+
+    this.numSamples = numSamples;
+    this.binCount = frequencyBinIndices.length;
+
+    // a full complex FFT costs on the order of N log2(N) multiply-adds per channel
+    long fftCost = (long) numSamples * (64 - Long.numberOfLeadingZeros(numSamples));
+    long breakEven = binCount == 0 ? 0 : fftCost / binCount;
+    this.maxAdvance = (int) Math.min(Math.min(maxAdvance, numSamples - 1L), breakEven);
+
+    int columns = Math.max(this.maxAdvance, 0) + 1;
+    this.twiddles = new double[2 * binCount * columns];
+    for (var bin = 0; bin < binCount; bin++) {
+      long k = frequencyBinIndices[bin];
+      for (var n = 0; n < columns; n++) {
+        // reduce k * n modulo N first so large windows keep full angle precision
+        double angle = 2 * Math.PI * ((k * n) % numSamples) / numSamples;
+        int index = 2 * (bin * columns + n);
+        twiddles[index] = FastMath.cos(angle);
+        twiddles[index + 1] = -FastMath.sin(angle);
+      }
+    }
+  }
+
+  /**
+   * @param advance the number of samples between the starts of two windows
+   * @return true if a spectrum can be slid forward by advance samples
+   */
+  boolean canSlide(int advance) {
+    return advance > 0 && advance <= maxAdvance;
+  }
+
+  /**
+   * Updates, in place, the spectrum of the window starting at previousOffset to that of the window
+   * starting at offset.
+   *
+   * @param samples the samples containing both windows
+   * @param previousOffset index of the first sample of the window the spectrum currently holds
+   * @param offset index of the first sample of the new window
+   * @param spectrum the spectrum to update
+   * @param spectrumOffset index in spectrum of the first bin's real part
+   */
+  void slide(
+      double[] samples, int previousOffset, int offset, double[] spectrum, int spectrumOffset) {
+    int advance = offset - previousOffset;
+    Preconditions.checkArgument(canSlide(advance), "Cannot slide the spectrum by %s", advance);
+    Preconditions.checkArgument(
+        previousOffset >= 0 && offset + numSamples <= samples.length,
+        "Windows must lie within the samples");
+
+    int columns = maxAdvance + 1;
+    for (var bin = 0; bin < binCount; bin++) {
+      int twiddleOffset = 2 * bin * columns;
+      double real = spectrum[spectrumOffset + 2 * bin];
+      double imaginary = spectrum[spectrumOffset + 2 * bin + 1];
+
+      // samples[previousOffset + N + j] replaces samples[previousOffset + j], both at phase j
+      for (var j = 0; j < advance; j++) {
+        double difference = samples[previousOffset + numSamples + j] - samples[previousOffset + j];
+        real += difference * twiddles[twiddleOffset + 2 * j];
+        imaginary += difference * twiddles[twiddleOffset + 2 * j + 1];
+      }
+
+      // multiply by e^(+2 pi i k advance / N), the conjugate of the twiddle at n = advance
+      double rotationReal = twiddles[twiddleOffset + 2 * advance];
+      double rotationImaginary = -twiddles[twiddleOffset + 2 * advance + 1];
+      spectrum[spectrumOffset + 2 * bin] = real * rotationReal - imaginary * rotationImaginary;
+      spectrum[spectrumOffset + 2 * bin + 1] = real * rotationImaginary + imaginary * rotationReal;
+    }
+  }
+}
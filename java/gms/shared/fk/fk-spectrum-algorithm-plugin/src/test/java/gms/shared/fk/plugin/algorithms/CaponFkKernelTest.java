@@ -0,0 +1,148 @@
+package gms.shared.fk.plugin.algorithms;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import gms.shared.stationdefinition.coi.channel.RelativePosition;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class CaponFkKernelTest {
+
+  private static final double[] FREQUENCY_AXIS = {0.0, 1.0, 2.0, -1.0};
+  private static final int[] FREQUENCY_BIN_INDICES = {1, 2, 3};
+
+  @Test
+  void testZeroOffsetChannelsMatchAveragePower() {
+    var origin = RelativePosition.from(0.0, 0.0, 0.0);
+    var kernel =
+        new CaponFkKernel(
+            new double[] {0.1, 0.0},
+            new double[] {-0.1, 0.2},
+            new double[] {0.0, 0.0, Double.NaN, 0.0},
+            List.of(origin, origin),
+            2,
+            FREQUENCY_AXIS,
+            FREQUENCY_BIN_INDICES);
+    assertTrue(kernel.isSteeringCached());
+
+    double[] fft = {9.0, 0.0, 1.0, 2.0, -3.0, 0.5, 1.0, -2.0};
+    double[] spectra = kernel.passbandSpectra(List.of(fft, fft));
+    assertEquals(12, spectra.length);
+
+    var power = new double[2][2];
+    kernel.computeBeamPower(spectra, power);
+
+    // identical, unshifted channels beam to the power of a single channel
+    double expected = kernel.averagePower(spectra);
+    assertEquals(expected, power[0][0], 1.0e-12);
+    assertEquals(expected, power[0][1], 1.0e-12);
+    assertTrue(Double.isNaN(power[1][0]));
+    assertEquals(expected, power[1][1], 1.0e-12);
+  }
+
+  @Test
+  void testSteeringAlignsShiftedChannels() {
+    double slowEast = 0.25;
+    double eastDisplacementKm = 1.0;
+    double timeShift = eastDisplacementKm * slowEast;
+
+    var kernel =
+        new CaponFkKernel(
+            new double[] {0.0},
+            new double[] {0.0, slowEast},
+            new double[] {0.0, 0.0},
+            List.of(
+                RelativePosition.from(0.0, 0.0, 0.0),
+                RelativePosition.from(0.0, eastDisplacementKm, 0.0)),
+            2,
+            FREQUENCY_AXIS,
+            FREQUENCY_BIN_INDICES);
+
+    // the second channel lags the first by timeShift, so steering at slowEast undoes the delay
+    double[] first = {0.0, 0.0, 1.0, 0.0, 1.0, 0.0, 1.0, 0.0};
+    double[] second = new double[first.length];
+    for (int bin = 0; bin < FREQUENCY_AXIS.length; bin++) {
+      double phase = -2 * Math.PI * FREQUENCY_AXIS[bin] * timeShift;
+      second[2 * bin] = Math.cos(phase);
+      second[2 * bin + 1] = Math.sin(phase);
+    }
+
+    var power = new double[1][2];
+    kernel.computeBeamPower(kernel.passbandSpectra(List.of(first, second)), power);
+
+    assertEquals(FREQUENCY_BIN_INDICES.length, power[0][1], 1.0e-12);
+    assertTrue(power[0][0] < power[0][1]);
+  }
+
+  @Test
+  void testUncachedSteeringMatchesCached() {
+    double[] slowNorth = {-0.2, 0.0, 0.15};
+    double[] slowEast = {-0.1, 0.05, 0.3};
+    double[] verticalSlowness = {0.01, 0.0, 0.02, Double.NaN, 0.0, 0.01, 0.0, 0.03, 0.0};
+    var relativePositions =
+        List.of(
+            RelativePosition.from(0.0, 0.0, 0.0),
+            RelativePosition.from(1.5, -0.5, 0.1),
+            RelativePosition.from(-2.0, 1.0, -0.2));
+
+    var cached =
+        new CaponFkKernel(
+            slowNorth,
+            slowEast,
+            verticalSlowness,
+            relativePositions,
+            3,
+            FREQUENCY_AXIS,
+            FREQUENCY_BIN_INDICES);
+    // a steering table larger than the limit is not held, so each phasor is computed inline
+    var uncached =
+        new CaponFkKernel(
+            slowNorth,
+            slowEast,
+            verticalSlowness,
+            relativePositions,
+            3,
+            FREQUENCY_AXIS,
+            FREQUENCY_BIN_INDICES,
+            0);
+    assertTrue(cached.isSteeringCached());
+    assertFalse(uncached.isSteeringCached());
+
+    List<double[]> ffts =
+        List.of(
+            new double[] {9.0, 0.0, 1.0, 2.0, -3.0, 0.5, 1.0, -2.0},
+            new double[] {4.0, 0.0, -0.5, 1.5, 2.0, -1.0, 0.25, 0.75},
+            new double[] {1.0, 0.0, 3.0, -1.0, 0.5, 0.5, -2.0, 1.0});
+    var cachedPower = new double[3][3];
+    var uncachedPower = new double[3][3];
+    cached.computeBeamPower(cached.passbandSpectra(ffts), cachedPower);
+    uncached.computeBeamPower(uncached.passbandSpectra(ffts), uncachedPower);
+
+    for (var row = 0; row < 3; row++) {
+      for (var column = 0; column < 3; column++) {
+        assertEquals(cachedPower[row][column], uncachedPower[row][column], 1.0e-12);
+      }
+    }
+    assertTrue(Double.isNaN(uncachedPower[1][0]));
+  }
+
+  @Test
+  void testMismatchedSpectraRejected() {
+    var kernel =
+        new CaponFkKernel(
+            new double[] {0.0},
+            new double[] {0.0},
+            new double[] {0.0},
+            List.of(RelativePosition.from(0.0, 0.0, 0.0)),
+            1,
+            FREQUENCY_AXIS,
+            FREQUENCY_BIN_INDICES);
+
+    var power = new double[1][1];
+    assertThrows(
+        IllegalArgumentException.class, () -> kernel.computeBeamPower(new double[2], power));
+  }
+}
@@ -35,6 +35,8 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 
 class CaponFkSpectrumAlgorithmTest {
 
@@ -216,6 +218,29 @@ class CaponFkSpectrumAlgorithmTest {
     }
   }
 
+  @ParameterizedTest
+  @ValueSource(ints = {2, 64})
+  void testGenerateMultipleFksInParallel(int parallelism) {
+    // 64 threads exceeds the number of windows, so slowness grid rows are split as well when
+    // enough processors are available
+    FkSpectraDefinition parallelDefinition =
+        DEFINITION.toBuilder().setParallelism(parallelism).build();
+
+    CaponFkSpectrumAlgorithm algorithm =
+        CaponFkSpectrumAlgorithm.create(parallelDefinition, 10, RELATIVE_POSITION_MAP);
+    List<FkSpectrum> fkSpectrumList = algorithm.generateFk(BASE_CHANNEL_SEGMENTS);
+    assertEquals(BASE_FKS.size(), fkSpectrumList.size());
+
+    for (int i = 0; i < BASE_FKS.size(); i++) {
+      FkSpectrum expected = BASE_FKS.get(i);
+      FkSpectrum actual = fkSpectrumList.get(i);
+
+      compareArrays(expected.getPower(), actual.getPower());
+      compareArrays(expected.getFstat(), actual.getFstat());
+      assertEquals(expected.getQuality(), actual.getQuality());
+    }
+  }
+
   @Test
   void testMultipleFkFromWaveformWithGaps() {
     FkSpectraDefinition gapFkDefinition =
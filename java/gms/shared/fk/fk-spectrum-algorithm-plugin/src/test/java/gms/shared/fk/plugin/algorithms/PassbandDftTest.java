@@ -0,0 +1,88 @@
+package gms.shared.fk.plugin.algorithms;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import gms.shared.fk.plugin.algorithms.util.FftUtilities;
+import gms.shared.waveform.coi.Waveform;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class PassbandDftTest {
+
+  private static final int NUM_SAMPLES = 64;
+  private static final int[] FREQUENCY_BIN_INDICES = {1, 2, 3, 4, 5, 59, 60, 61, 62, 63};
+
+  @Test
+  void testSlideMatchesFft() {
+    var random = new Random(17);
+    var samples = new double[NUM_SAMPLES * 4];
+    for (var i = 0; i < samples.length; i++) {
+      // waveforms hold samples to four decimal places
+      samples[i] = Math.round(random.nextGaussian() * 1.0e4) / 1.0e4;
+    }
+
+    var dft = new PassbandDft(NUM_SAMPLES, FREQUENCY_BIN_INDICES, 3);
+    double[] spectrum = passbandFft(samples, 0);
+
+    var offset = 0;
+    for (var step = 0; step < 60; step++) {
+      int advance = 1 + step % 3;
+      dft.slide(samples, offset, offset + advance, spectrum, 0);
+      offset += advance;
+
+      double[] expected = passbandFft(samples, offset);
+      for (var i = 0; i < expected.length; i++) {
+        assertEquals(expected[i], spectrum[i], 1.0e-10);
+      }
+    }
+  }
+
+  @Test
+  void testCanSlide() {
+    var dft = new PassbandDft(NUM_SAMPLES, FREQUENCY_BIN_INDICES, 3);
+    assertFalse(dft.canSlide(0));
+    assertTrue(dft.canSlide(1));
+    assertTrue(dft.canSlide(3));
+    assertFalse(dft.canSlide(4));
+
+    // windows that do not overlap cannot be slid
+    assertFalse(new PassbandDft(4, new int[] {1}, 10).canSlide(4));
+
+    // sliding across every bin of a large advance costs more than an FFT
+    int[] allBins = new int[NUM_SAMPLES];
+    Arrays.setAll(allBins, bin -> bin);
+    assertFalse(new PassbandDft(NUM_SAMPLES, allBins, 32).canSlide(32));
+  }
+
+  @Test
+  void testSlideRejectsInvalidWindows() {
+    var dft = new PassbandDft(NUM_SAMPLES, FREQUENCY_BIN_INDICES, 3);
+    var spectrum = new double[2 * FREQUENCY_BIN_INDICES.length];
+
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> dft.slide(new double[NUM_SAMPLES * 2], 0, 4, spectrum, 0));
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> dft.slide(new double[NUM_SAMPLES], 0, 1, spectrum, 0));
+  }
+
+  private static double[] passbandFft(double[] samples, int offset) {
+    double[] fft =
+        FftUtilities.computeFftWindow(
+            Waveform.create(
+                Instant.EPOCH, 1.0, Arrays.copyOfRange(samples, offset, offset + NUM_SAMPLES)));
+
+    var spectrum = new double[2 * FREQUENCY_BIN_INDICES.length];
+    for (var bin = 0; bin < FREQUENCY_BIN_INDICES.length; bin++) {
+      spectrum[2 * bin] = fft[2 * FREQUENCY_BIN_INDICES[bin]];
+      spectrum[2 * bin + 1] = fft[2 * FREQUENCY_BIN_INDICES[bin] + 1];
+    }
+    return spectrum;
+  }
+}
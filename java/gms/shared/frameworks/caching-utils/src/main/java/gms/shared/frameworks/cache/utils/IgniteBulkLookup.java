@@ -0,0 +1,129 @@
+package gms.shared.frameworks.cache.utils;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.collect.Iterables;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.apache.ignite.Ignite;
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.lang.IgniteFuture;
+
+/**
+ * Retrieves values from an {@link IgniteCache} by key in bulk, in place of scanning the entire
+ * cache for the entries whose keys match. Keys are grouped by the node that is primary for them so
+ * each batch is served by a single node, and the batches can optionally be fetched concurrently.
+ */
+public final class IgniteBulkLookup {
+
+  /** Largest number of keys retrieved by a single getAll */
+  public static final int DEFAULT_BATCH_SIZE = 1_000;
+
+  private IgniteBulkLookup() {
+    // Hide implicit public constructor
+  }
+
+  /**
+   * Retrieves the values cached for the provided keys, one batch at a time
+   *
+   * @param cache the cache to retrieve from
+   * @param keys the keys to retrieve
+   * @param <K> the type of the cache keys
+   * @param <V> the type of the cache values
+   * @return the cached values by key, in the order the keys were provided; keys with no cached
+   *     value are omitted
+   */
+  public static <K, V> Map<K, V> getAll(IgniteCache<K, V> cache, Collection<? extends K> keys) {
+    return getAll(cache, keys, DEFAULT_BATCH_SIZE, false);
+  }
+
+  /**
+   * Retrieves the values cached for the provided keys, fetching every batch concurrently
+   *
+   * @param cache the cache to retrieve from
+   * @param keys the keys to retrieve
+   * @param <K> the type of the cache keys
+   * @param <V> the type of the cache values
+   * @return the cached values by key, in the order the keys were provided; keys with no cached
+   *     value are omitted
+   */
+  public static <K, V> Map<K, V> getAllParallel(
+      IgniteCache<K, V> cache, Collection<? extends K> keys) {
+    return getAll(cache, keys, DEFAULT_BATCH_SIZE, true);
+  }
+
+  /**
+   * Retrieves the values cached for the provided keys
+   *
+   * @param cache the cache to retrieve from
+   * @param keys the keys to retrieve
+   * @param batchSize the largest number of keys to retrieve in a single request
+   * @param parallel whether to fetch the batches concurrently rather than one at a time
+   * @param <K> the type of the cache keys
+   * @param <V> the type of the cache values
+   * @return the cached values by key, in the order the keys were provided; keys with no cached
+   *     value are omitted
+   */
+  public static <K, V> Map<K, V> getAll(
+      IgniteCache<K, V> cache, Collection<? extends K> keys, int batchSize, boolean parallel) {
+    checkNotNull(cache, "Cache must not be null");
+    checkNotNull(keys, "Keys must not be null");
+    checkArgument(batchSize > 0, "Batch size must be positive");
+
+    Set<K> distinctKeys = new LinkedHashSet<>(keys);
+    if (distinctKeys.isEmpty()) {
+      return Map.of();
+    }
+
+    List<Set<K>> batches = new ArrayList<>();
+    for (Collection<K> nodeKeys : groupByPrimaryNode(cache, distinctKeys)) {
+      Iterables.partition(nodeKeys, batchSize).forEach(batch -> batches.add(new HashSet<>(batch)));
+    }
+
+    Map<K, V> valuesByKey = new HashMap<>();
+    if (parallel && batches.size() > 1) {
+      List<IgniteFuture<Map<K, V>>> futures = new ArrayList<>(batches.size());
+      batches.forEach(batch -> futures.add(cache.getAllAsync(batch)));
+      futures.forEach(future -> valuesByKey.putAll(future.get()));
+    } else {
+      batches.forEach(batch -> valuesByKey.putAll(cache.getAll(batch)));
+    }
+
+    Map<K, V> orderedValuesByKey = new LinkedHashMap<>();
+    for (K key : distinctKeys) {
+      var value = valuesByKey.get(key);
+      if (value != null) {
+        orderedValuesByKey.put(key, value);
+      }
+    }
+    return orderedValuesByKey;
+  }
+
+  /**
+   * Groups keys by the cluster node that is primary for them. When the cache is not backed by a
+   * running Ignite node the keys are left in a single group.
+   */
+  private static <K, V> Collection<Collection<K>> groupByPrimaryNode(
+      IgniteCache<K, V> cache, Set<K> keys) {
+
+    Ignite ignite;
+    try {
+      ignite = cache.unwrap(Ignite.class);
+    } catch (IllegalArgumentException e) {
+      ignite = null;
+    }
+
+    if (ignite == null || cache.getName() == null) {
+      return List.of(keys);
+    }
+    return ignite.<K>affinity(cache.getName()).mapKeysToNodes(keys).values();
+  }
+}
@@ -0,0 +1,76 @@
+package gms.shared.frameworks.cache.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.cache.CacheAtomicityMode;
+import org.apache.ignite.cache.CacheMode;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@Tag("component")
+class IgniteBulkLookupTest {
+
+  private static final CacheInfo BULK_LOOKUP_CACHE =
+      new CacheInfo("bulk-lookup-cache", CacheMode.PARTITIONED, CacheAtomicityMode.ATOMIC);
+
+  @TempDir static Path tempIgnitePath;
+
+  private static IgniteCache<Integer, String> cache;
+
+  @BeforeAll
+  static void setup() {
+    IgniteTestUtility.initializeLocally(tempIgnitePath, BULK_LOOKUP_CACHE);
+    cache = IgniteConnectionManager.getOrCreateCache(BULK_LOOKUP_CACHE);
+    IntStream.range(0, 100).forEach(key -> cache.put(key, "value" + key));
+  }
+
+  @AfterAll
+  static void cleanup() {
+    IgniteConnectionManager.close();
+  }
+
+  @Test
+  void testGetAll() {
+    var keys = List.of(42, 7, 1000, 7, 99);
+
+    // values come back in key order, without duplicates or missing keys
+    var expected =
+        List.of(Map.entry(42, "value42"), Map.entry(7, "value7"), Map.entry(99, "value99"));
+    assertEquals(expected, List.copyOf(IgniteBulkLookup.getAll(cache, keys).entrySet()));
+    assertEquals(expected, List.copyOf(IgniteBulkLookup.getAll(cache, keys, 1, true).entrySet()));
+    assertEquals(expected, List.copyOf(IgniteBulkLookup.getAll(cache, keys, 2, false).entrySet()));
+  }
+
+  @Test
+  void testGetAllParallel() {
+    var keys = IntStream.range(0, 200).boxed().toList();
+
+    var values = IgniteBulkLookup.getAllParallel(cache, keys);
+    assertEquals(100, values.size());
+    assertEquals(IntStream.range(0, 100).boxed().toList(), List.copyOf(values.keySet()));
+  }
+
+  @Test
+  void testGetAllEmptyKeys() {
+    assertTrue(IgniteBulkLookup.getAll(cache, List.of()).isEmpty());
+  }
+
+  @Test
+  void testGetAllValidation() {
+    List<Integer> keys = List.of(1);
+    assertThrows(NullPointerException.class, () -> IgniteBulkLookup.getAll(null, keys));
+    assertThrows(NullPointerException.class, () -> IgniteBulkLookup.getAll(cache, null));
+    assertThrows(
+        IllegalArgumentException.class, () -> IgniteBulkLookup.getAll(cache, keys, 0, false));
+  }
+}
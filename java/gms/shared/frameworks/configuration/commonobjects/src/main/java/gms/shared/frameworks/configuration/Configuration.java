@@ -4,6 +4,7 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.google.auto.value.AutoValue;
+import com.google.auto.value.extension.memoized.Memoized;
 import gms.shared.frameworks.configuration.constraints.WildcardConstraint;
 import java.time.Instant;
 import java.util.ArrayList;
@@ -118,4 +119,15 @@ public abstract class Configuration {
   public abstract Collection<ConfigurationOption> getConfigurationOptions();
 
   public abstract Instant getChangeTime();
+
+  /**
+   * Obtains the {@link ConfigurationMatchIndex} used to resolve this Configuration, compiled on
+   * first use and kept for the life of the Configuration
+   *
+   * @return {@link ConfigurationMatchIndex}, not null
+   */
+  @Memoized
+  ConfigurationMatchIndex matchIndex() {
+    return ConfigurationMatchIndex.compile(getConfigurationOptions());
+  }
 }
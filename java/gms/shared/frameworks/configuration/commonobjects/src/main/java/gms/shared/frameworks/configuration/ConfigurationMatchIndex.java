@@ -0,0 +1,324 @@
+package gms.shared.frameworks.configuration;
+
+import gms.shared.frameworks.configuration.constraints.DefaultConstraint;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Matching index compiled once from the {@link ConfigurationOption}s of a {@link Configuration} and
+ * used by {@link ConfigurationResolver} to find the best matching ConfigurationOption for a list of
+ * {@link Selector}s. Each ConfigurationOption is compiled with its non-{@link
+ * gms.shared.frameworks.configuration.constraints.WildcardConstraint}s sorted by criterion and its
+ * constraint priorities precomputed. ConfigurationOptions with a non-negated STRING or PHASE
+ * {@link Constraint} are bucketed by that Constraint's criterion and values, since they can only be
+ * matched by a Selector with one of those values; a resolution only evaluates the Constraints of
+ * the ConfigurationOptions in the buckets its Selectors hit and of the ConfigurationOptions that
+ * could not be bucketed.
+ */
+final class ConfigurationMatchIndex {
+
+  /** Selector matching a {@link DefaultConstraint} */
+  static final Selector<String> DEFAULT_SELECTOR = Selector.from(DefaultConstraint.CRITERION, "-");
+
+  private final List<CompiledOption> options;
+
+  private final List<CompiledOption> unindexedOptions;
+
+  private final Map<String, Map<Object, List<CompiledOption>>> optionsByIndexValue;
+
+  private ConfigurationMatchIndex(
+      List<CompiledOption> options,
+      List<CompiledOption> unindexedOptions,
+      Map<String, Map<Object, List<CompiledOption>>> optionsByIndexValue) {
+    this.options = options;
+    this.unindexedOptions = unindexedOptions;
+    this.optionsByIndexValue = optionsByIndexValue;
+  }
+
+  /**
+   * Compiles the matching index for the provided {@link ConfigurationOption}s
+   *
+   * @param configurationOptions ConfigurationOptions to index, not null
+   * @return {@link ConfigurationMatchIndex}, not null
+   */
+  static ConfigurationMatchIndex compile(Collection<ConfigurationOption> configurationOptions) {
+    return index(configurationOptions.stream().map(CompiledOption::compile).toList());
+  }
+
+  private static ConfigurationMatchIndex index(List<CompiledOption> options) {
+    final List<CompiledOption> unindexedOptions = new ArrayList<>();
+    final Map<String, Map<Object, List<CompiledOption>>> optionsByIndexValue = new HashMap<>();
+
+    for (CompiledOption compiledOption : options) {
+      final Optional<Constraint> indexConstraint =
+          compiledOption.unmatchedConstraints.stream()
+              .filter(ConfigurationMatchIndex::isIndexable)
+              .findFirst();
+
+      if (indexConstraint.isPresent()) {
+        final Map<Object, List<CompiledOption>> optionsByValue =
+            optionsByIndexValue.computeIfAbsent(
+                indexConstraint.get().getCriterion(), criterion -> new HashMap<>());
+        for (Object value : (Collection<?>) indexConstraint.get().getValue()) {
+          optionsByValue.computeIfAbsent(value, v -> new ArrayList<>()).add(compiledOption);
+        }
+      } else {
+        unindexedOptions.add(compiledOption);
+      }
+    }
+
+    return new ConfigurationMatchIndex(options, unindexedOptions, optionsByIndexValue);
+  }
+
+  /**
+   * Narrows this index to the options consistent with the provided prefix {@link Selector}s. The
+   * Constraints for the prefix Selectors' criteria are evaluated once here and dropped from the
+   * narrowed options, so resolving many Selector lists that share the prefix only evaluates the
+   * remaining Constraints. Selector lists resolved against the narrowed index must start with the
+   * prefix Selectors.
+   *
+   * @param prefixSelectors Selectors shared by every Selector list resolved against the narrowed
+   *     index, not null
+   * @return narrowed {@link ConfigurationMatchIndex}, not null
+   */
+  ConfigurationMatchIndex narrow(List<? extends Selector<?>> prefixSelectors) {
+    final Map<String, Selector<?>> prefixSelectorsByCriterion = new HashMap<>();
+    for (Selector<?> selector : prefixSelectors) {
+      // Leave repeated criteria and default Selectors to resolution of the full Selector lists
+      if (DefaultConstraint.CRITERION.equals(selector.getCriterion())
+          || prefixSelectorsByCriterion.put(selector.getCriterion(), selector) != null) {
+        return this;
+      }
+    }
+
+    return index(
+        options.stream()
+            .map(option -> option.narrow(prefixSelectorsByCriterion))
+            .flatMap(Optional::stream)
+            .toList());
+  }
+
+  /**
+   * Determines whether a {@link Constraint} is only satisfied by a Selector value contained in the
+   * Constraint's value set, which holds for non-negated STRING and PHASE Constraints
+   */
+  private static boolean isIndexable(Constraint constraint) {
+    final ConstraintType constraintType = constraint.getConstraintType();
+    return (constraintType == ConstraintType.STRING || constraintType == ConstraintType.PHASE)
+        && !constraint.getOperator().isNegated()
+        && constraint.getValue() instanceof Collection;
+  }
+
+  /**
+   * Finds the {@link ConfigurationOption} best matched by the provided {@link Selector}s, applying
+   * the tiebreakers described in {@link ConfigurationResolver#resolve(Configuration, List)}
+   *
+   * @param selectors {@link List} of {@link Selector}s, not null
+   * @return Optional ConfigurationOption best matched by the Selectors, empty if none match
+   * @throws IllegalStateException if the tiebreakers do not result in a unique ConfigurationOption
+   */
+  Optional<ConfigurationOption> findBestMatch(List<? extends Selector<?>> selectors) {
+    final Map<String, Selector<?>> selectorsByCriterion = new HashMap<>();
+    for (Selector<?> selector : selectors) {
+      // A repeated criterion leaves more Selectors than Constraints for that criterion so it can
+      // never be matched
+      if (selectorsByCriterion.put(selector.getCriterion(), selector) != null) {
+        return Optional.empty();
+      }
+    }
+    final boolean hasDefaultSelector =
+        DEFAULT_SELECTOR.equals(selectorsByCriterion.get(DefaultConstraint.CRITERION));
+
+    final List<CompiledOption> matches = new ArrayList<>();
+    collectMatches(unindexedOptions, selectorsByCriterion, hasDefaultSelector, matches);
+    optionsByIndexValue.forEach(
+        (criterion, optionsByValue) -> {
+          final Selector<?> selector = selectorsByCriterion.get(criterion);
+          if (selector != null) {
+            collectMatches(
+                optionsByValue.getOrDefault(selector.getValue(), List.of()),
+                selectorsByCriterion,
+                hasDefaultSelector,
+                matches);
+          }
+        });
+
+    return matches.isEmpty()
+        ? Optional.empty()
+        : Optional.of(findBestMatch(matches).configurationOption);
+  }
+
+  private static void collectMatches(
+      List<CompiledOption> candidates,
+      Map<String, Selector<?>> selectorsByCriterion,
+      boolean hasDefaultSelector,
+      List<CompiledOption> matches) {
+    for (CompiledOption candidate : candidates) {
+      if (candidate.match(selectorsByCriterion, hasDefaultSelector)) {
+        matches.add(candidate);
+      }
+    }
+  }
+
+  /**
+   * Provided one or more matching {@link CompiledOption}s determine which wins in a tiebreaking
+   * scenario: 1) a single match wins 2) the match with the most non-WildcardConstraints wins and 3)
+   * the match with the highest distinct {@link Constraint#getPriority()} wins.
+   *
+   * @param matches matching CompiledOptions, not empty, not null
+   * @return CompiledOption winning the tiebreakers, not null
+   * @throws IllegalStateException if the tiebreakers do not result in a unique match
+   */
+  private static CompiledOption findBestMatch(List<CompiledOption> matches) {
+    if (matches.size() == 1) {
+      return matches.get(0);
+    }
+
+    // First tiebreaker is the number of exact Constraint matches
+    final int mostExactMatches =
+        matches.stream().mapToInt(match -> match.exactMatchCount).max().orElseThrow();
+    final List<CompiledOption> mostExactMatchOptions =
+        matches.stream().filter(match -> match.exactMatchCount == mostExactMatches).toList();
+
+    if (mostExactMatchOptions.size() == 1) {
+      return mostExactMatchOptions.get(0);
+    }
+
+    // Second tiebreaker is the priority of the exact matching Constraints, ignoring priorities
+    // shared by more than one match
+    final Set<Long> duplicatePriorities =
+        mostExactMatchOptions.stream()
+            .flatMap(match -> match.priorities.stream())
+            .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()))
+            .entrySet()
+            .stream()
+            .filter(e -> e.getValue() > 1)
+            .map(Entry::getKey)
+            .collect(Collectors.toSet());
+
+    final Map<CompiledOption, Long> highestDistinctPriorities = new IdentityHashMap<>();
+    for (CompiledOption match : mostExactMatchOptions) {
+      match.priorities.stream()
+          .filter(priority -> !duplicatePriorities.contains(priority))
+          .findFirst()
+          .ifPresent(priority -> highestDistinctPriorities.put(match, priority));
+    }
+
+    // If there is no remaining priority the Configuration does not resolve to a unique
+    // ConfigurationOption for the provided Selectors
+    return highestDistinctPriorities.entrySet().stream()
+        .max(Entry.comparingByValue())
+        .map(Entry::getKey)
+        .orElseThrow(
+            () ->
+                new IllegalStateException(
+                    "Configuration resolved to multiple ConfigurationOptions"));
+  }
+
+  /** {@link ConfigurationOption} with its Constraints prepared for matching */
+  private static final class CompiledOption {
+
+    private final ConfigurationOption configurationOption;
+
+    /** Number of non-WildcardConstraints */
+    private final int exactMatchCount;
+
+    /** Priorities of the non-WildcardConstraints, highest first */
+    private final SortedSet<Long> priorities;
+
+    private final boolean hasDefaultConstraint;
+
+    /** Non-WildcardConstraints sorted by criterion, less any already matched by a prefix */
+    private final List<Constraint> unmatchedConstraints;
+
+    private CompiledOption(
+        ConfigurationOption configurationOption,
+        int exactMatchCount,
+        SortedSet<Long> priorities,
+        boolean hasDefaultConstraint,
+        List<Constraint> unmatchedConstraints) {
+      this.configurationOption = configurationOption;
+      this.exactMatchCount = exactMatchCount;
+      this.priorities = priorities;
+      this.hasDefaultConstraint = hasDefaultConstraint;
+      this.unmatchedConstraints = unmatchedConstraints;
+    }
+
+    private static CompiledOption compile(ConfigurationOption configurationOption) {
+      final List<Constraint> constraints =
+          configurationOption.getConstraints().stream()
+              .filter(c -> ConstraintType.WILDCARD != c.getConstraintType())
+              .sorted(Comparator.comparing(Constraint::getCriterion))
+              .toList();
+
+      final SortedSet<Long> priorities =
+          constraints.stream()
+              .map(Constraint::getPriority)
+              .collect(Collectors.toCollection(() -> new TreeSet<>(Comparator.reverseOrder())));
+
+      final boolean hasDefaultConstraint =
+          constraints.stream().anyMatch(c -> DefaultConstraint.CRITERION.equals(c.getCriterion()));
+
+      return new CompiledOption(
+          configurationOption, constraints.size(), priorities, hasDefaultConstraint, constraints);
+    }
+
+    /**
+     * Evaluates the Constraints corresponding to the prefix {@link Selector}s, returning this
+     * option without them if they are all satisfied and an empty Optional otherwise
+     */
+    @SuppressWarnings("unchecked")
+    private Optional<CompiledOption> narrow(Map<String, Selector<?>> prefixSelectorsByCriterion) {
+      final List<Constraint> remainingConstraints = new ArrayList<>();
+      for (Constraint constraint : unmatchedConstraints) {
+        final Selector<?> selector = prefixSelectorsByCriterion.get(constraint.getCriterion());
+        if (selector == null) {
+          remainingConstraints.add(constraint);
+        } else if (!ConstraintEvaluator.evaluate(constraint, selector)) {
+          return Optional.empty();
+        }
+      }
+
+      return Optional.of(
+          new CompiledOption(
+              configurationOption,
+              exactMatchCount,
+              priorities,
+              hasDefaultConstraint,
+              remainingConstraints));
+    }
+
+    /**
+     * Determines whether the {@link Selector}s match this option's Constraints. Every Constraint
+     * needs a Selector for its criterion that satisfies it, and the default Selector only matches
+     * options with a {@link DefaultConstraint}. Selectors for other criteria are ignored.
+     */
+    @SuppressWarnings("unchecked")
+    private boolean match(
+        Map<String, Selector<?>> selectorsByCriterion, boolean hasDefaultSelector) {
+      if (hasDefaultSelector && !hasDefaultConstraint) {
+        return false;
+      }
+
+      for (Constraint constraint : unmatchedConstraints) {
+        final Selector<?> selector = selectorsByCriterion.get(constraint.getCriterion());
+        if (selector == null || !ConstraintEvaluator.evaluate(constraint, selector)) {
+          return false;
+        }
+      }
+      return true;
+    }
+  }
+}
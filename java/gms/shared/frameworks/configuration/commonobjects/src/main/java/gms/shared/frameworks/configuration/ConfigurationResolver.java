@@ -2,40 +2,21 @@ package gms.shared.frameworks.configuration;
 
 import gms.shared.frameworks.configuration.constraints.DefaultConstraint;
 import gms.shared.frameworks.configuration.constraints.WildcardConstraint;
-import java.util.Collection;
-import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.Set;
-import java.util.SortedSet;
-import java.util.TreeSet;
 import java.util.function.Function;
-import java.util.function.Predicate;
-import java.util.function.Supplier;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 /**
  * Processes {@link Configuration} to find which {@link ConfigurationOption} best matches a list of
- * {@link Selector}s.
+ * {@link Selector}s. Matching uses an index of the ConfigurationOptions compiled once per
+ * Configuration, so a resolution only evaluates the ConfigurationOptions its Selectors can match.
  */
 public final class ConfigurationResolver {
 
-  /**
-   * Predicate testing true when the provided {@link Constraint} is not a {@link WildcardConstraint}
-   */
-  private static final Predicate<Constraint> isNotWildcardConstraint =
-      c -> !WildcardConstraint.class.isAssignableFrom(c.getClass());
-
-  /** Selector matching a {@link DefaultConstraint} */
-  private static final Selector<String> defaultSelector =
-      Selector.from(DefaultConstraint.CRITERION, "-");
-
   private ConfigurationResolver() {}
 
   /**
@@ -78,6 +59,40 @@ public final class ConfigurationResolver {
     Objects.requireNonNull(configuration, "Cannot resolve a null Configuration");
     Objects.requireNonNull(selectors, "Cannot resolve from null Selectors");
 
+    return resolve(configuration.matchIndex(), selectors);
+  }
+
+  /**
+   * Obtains a function resolving the {@link Configuration} for the provided prefix {@link
+   * Selector}s followed by the Selectors passed to the function. The Constraints corresponding to
+   * the prefix Selectors are evaluated once, when the function is created, rather than on every
+   * resolution, which makes this the cheaper way to resolve many Selector lists sharing a prefix
+   * (e.g. every phase for a channel). Each resolution returns the same field map, and throws the
+   * same exceptions, as {@link #resolve(Configuration, List)} does for the prefix Selectors
+   * concatenated with the function's Selectors.
+   *
+   * @param configuration Configuration to resolve, not null
+   * @param prefixSelectors Selectors shared by every resolution, not null
+   * @return function resolving the Configuration for the prefix Selectors followed by its input
+   *     Selectors, not null
+   * @throws NullPointerException if configuration or prefixSelectors are null
+   */
+  public static Function<List<? extends Selector<?>>, Map<String, Object>> resolverForPrefix(
+      Configuration configuration, List<? extends Selector<?>> prefixSelectors) {
+    Objects.requireNonNull(configuration, "Cannot resolve a null Configuration");
+    Objects.requireNonNull(prefixSelectors, "Cannot resolve from null Selectors");
+
+    final ConfigurationMatchIndex prefixIndex = configuration.matchIndex().narrow(prefixSelectors);
+    return selectors -> {
+      Objects.requireNonNull(selectors, "Cannot resolve from null Selectors");
+      return resolve(
+          prefixIndex, Stream.concat(prefixSelectors.stream(), selectors.stream()).toList());
+    };
+  }
+
+  private static Map<String, Object> resolve(
+      ConfigurationMatchIndex matchIndex, List<? extends Selector<?>> selectors) {
+
     // Validate each Selector is for a unique Criterion
     if (selectors.size() != selectors.stream().map(Selector::getCriterion).distinct().count()) {
       throw new IllegalArgumentException("Each Selector must be for a unique criterion");
@@ -85,14 +100,15 @@ public final class ConfigurationResolver {
 
     // Resolve the best matching defaults for the provided selectors
     List<Selector<?>> selectorsWithDefault =
-        Stream.concat(selectors.stream(), Stream.of(defaultSelector)).toList();
+        Stream.concat(selectors.stream(), Stream.of(ConfigurationMatchIndex.DEFAULT_SELECTOR))
+            .toList();
 
     final Optional<Map<String, Object>> defaults =
-        getBestMatchedParameters(configuration, selectorsWithDefault);
+        getBestMatchedParameters(matchIndex, selectorsWithDefault);
 
     // Resolve the best matching default overrides for the provided selectors
     final Optional<Map<String, Object>> overrides =
-        getBestMatchedParameters(configuration, selectors);
+        getBestMatchedParameters(matchIndex, selectors);
 
     // Throw if there are no defaults and no default overrides matching the provided selectors
     if (!defaults.isPresent() && !overrides.isPresent()) {
@@ -112,189 +128,12 @@ public final class ConfigurationResolver {
    * Obtains an Optional field map containing the {@link ConfigurationOption#getParameters()} from
    * the {@link ConfigurationOption} best matched by the provided {@link Selector}s.
    *
-   * @param configuration {@link Configuration}, not null
+   * @param matchIndex {@link ConfigurationMatchIndex} of the {@link Configuration}, not null
    * @param selectors {@link List} of {@link Selector}s, not null
    * @return Optional string to object map, not null
    */
   private static Optional<Map<String, Object>> getBestMatchedParameters(
-      Configuration configuration, List<? extends Selector<?>> selectors) {
-
-    // Find all matching ConfigurationOptions
-    final List<ConfigurationOption> matches =
-        configuration.getConfigurationOptions().stream()
-            .filter(o -> match(o.getConstraints(), selectors))
-            .toList();
-
-    // Find the best matching ConfigurationOption
-    return Optional.ofNullable(matches.isEmpty() ? null : findBestMatch(matches).getParameters());
-  }
-
-  /**
-   * Determines whether the {@link Selector}s match the {@link Constraint}s. Finds Selectors
-   * corresponding to each Constraint using {@link Constraint#getCriterion()} and {@link
-   * Selector#getCriterion()}. A Selector trivially matches a {@link WildcardConstraint} but
-   * otherwise {@link Constraint#test(Object)} must evaluate true for {@link Selector#getValue()}.
-   * If Constraint is not a WildcardConstraint and there is no corresponding Selector then there is
-   * no match. The Constraints match with the Selectors if all Constraints are satisfied.
-   *
-   * @param constraints {@link List} of {@link Constraint}s, not null
-   * @param selectors {@link List} of {@link Selector}s, not null
-   * @return true if the Constraints match the Selectors and false otherwise
-   */
-  @SuppressWarnings("unchecked")
-  private static boolean match(
-      List<Constraint> constraints, List<? extends Selector<?>> selectors) {
-
-    // Remove WildcardConstraints since they have no effect, then sort by Constraint criterion
-    final List<Constraint> sortedConstraints =
-        constraints.stream()
-            .filter(isNotWildcardConstraint)
-            .sorted(Comparator.comparing(Constraint::getCriterion))
-            .toList();
-
-    // Keep default Selectors and Selectors with criteria matching a Constraint criteria
-    // (i.e. ignore Selectors that do not have corresponding Constraints, effectively treating
-    // those constraints as WildcardConstraints that match the Selector), then sort by
-    // Selector criterion
-    final Set<String> constraintCriteria =
-        sortedConstraints.stream().map(Constraint::getCriterion).collect(Collectors.toSet());
-
-    final List<? extends Selector> sortedSelectors =
-        selectors.stream()
-            .filter(
-                s -> (defaultSelector.equals(s) || constraintCriteria.contains(s.getCriterion())))
-            .sorted(Comparator.comparing(Selector::getCriterion))
-            .toList();
-
-    // After removing WildcardConstraints there can only be a match if each Constraint has a
-    // Selector with a matching criterion
-    if (sortedSelectors.size() != sortedConstraints.size()) {
-      return false;
-    }
-
-    // Match if there is a Constraint match for each Selector
-    return IntStream.range(0, sortedConstraints.size())
-        .allMatch(
-            i -> ConstraintEvaluator.evaluate(sortedConstraints.get(i), sortedSelectors.get(i)));
-  }
-
-  /**
-   * Provided one or more {@link ConfigurationOption}s determine which ConfigurationOption wins in a
-   * tiebreaking scenario. The rules are: 1) if there is a single ConfigurationOption then it wins
-   * 2) the valid ConfigurationOption with the most non-WildcardConstraints and 3) the
-   * ConfigurationOption with the highest distinct {@link Constraint#getPriority()}.
-   *
-   * @param matches apply tiebreakers to these {@link Collection} of {@link ConfigurationOption},
-   *     not null
-   * @return ConfigurationOption winning the tiebreakers, not null
-   */
-  private static ConfigurationOption findBestMatch(Collection<ConfigurationOption> matches) {
-
-    // Only 1 match - return it
-    if (matches.size() == 1) {
-      return matches.iterator().next();
-    }
-
-    // Multiple matches - apply tie breakers
-    final Collection<ConfigurationOption> mostExactMatches =
-        extractMostExactConstraintMatches(matches);
-
-    // First tiebreaker is the number of exact Constraint matches.
-    // If there is a winning ConfigurationOption then return it.
-    if (mostExactMatches.size() == 1) {
-      return mostExactMatches.iterator().next();
-    }
-
-    // Second tiebreaker is the priority of the exact matching Constraints.
-    return tieBreakByConstraintPriority(mostExactMatches);
-  }
-
-  /**
-   * Provided one or more {@link ConfigurationOption}s extract the ConfigurationOptions that have
-   * the most non-{@link WildcardConstraint}s. All of the returned ConfigurationOptions have the
-   * same number of non-WildcardConstraints.
-   *
-   * @param matches {@link Collection} of {@link ConfigurationOption}, not empty, not null
-   * @return Collection with a subset of the input ConfigurationOptions having the most
-   *     non-WildcardConstraints, not empty, not null.
-   */
-  private static Collection<ConfigurationOption> extractMostExactConstraintMatches(
-      Collection<ConfigurationOption> matches) {
-
-    // Determine the number of exact matches to each ConfigurationOption.  Since the Selectors
-    // match all of the ConfigurationOptions this is the number of non-WildcardConstraints in
-    // each ConfigurationOption
-    final Map<Long, List<ConfigurationOption>> matchesByNumExactMatches =
-        matches.stream()
-            .collect(
-                Collectors.groupingBy(
-                    o -> o.getConstraints().stream().filter(isNotWildcardConstraint).count()));
-
-    // Determine which ConfigurationOptions have the most exact matches
-    final List<Long> exactMatchCountsDescending =
-        matchesByNumExactMatches.keySet().stream().sorted(Comparator.reverseOrder()).toList();
-
-    return matchesByNumExactMatches.get(exactMatchCountsDescending.get(0));
-  }
-
-  /**
-   * Provided a {@link Collection} of {@link ConfigurationOption}, determines which wins a
-   * tiebreaker based on the {@link Constraint#getPriority()}. This operation assumes there can be
-   * ties in Constraint priority so it ignores Constraints that have duplicate priorities. The
-   * ConfigurationOption with the Constraint with the highest remaining priority wins the
-   * tiebreaker. If there are no remaining priorities then the tiebreaker is ambiguous and an
-   * IllegalStateException is thrown.
-   *
-   * @param matches {@link Collection} of {@link ConfigurationOption}, not empty, not null
-   * @return ConfigurationOption winning the constraint priority tiebreaker, not null
-   * @throws IllegalStateException if the tiebreaker does not result in a unique ConfigurationOption
-   */
-  private static ConfigurationOption tieBreakByConstraintPriority(
-      Collection<ConfigurationOption> matches) {
-
-    // Find the priorities of the non-WildcardConstraints in each ConfigurationOption.
-    final Map<ConfigurationOption, SortedSet<Long>> prioritiesPerMatch = new HashMap<>();
-
-    final Supplier<SortedSet<Long>> descendingSetSupplier =
-        () -> new TreeSet<>(Comparator.reverseOrder());
-
-    for (ConfigurationOption configurationOption : matches) {
-      final SortedSet<Long> exactMatchPriorities =
-          configurationOption.getConstraints().stream()
-              .filter(isNotWildcardConstraint)
-              .map(Constraint::getPriority)
-              .collect(Collectors.toCollection(descendingSetSupplier));
-
-      prioritiesPerMatch.put(configurationOption, exactMatchPriorities);
-    }
-
-    // Find the duplicate priorities
-    final List<Long> duplicatePriorities =
-        prioritiesPerMatch.values().stream()
-            .flatMap(Set::stream)
-            .collect(Collectors.groupingBy(Function.identity()))
-            .entrySet()
-            .stream()
-            .filter(e -> e.getValue().size() > 1)
-            .map(Entry::getKey)
-            .toList();
-
-    // Remove the duplicate priorities from each match
-    prioritiesPerMatch.forEach((k, v) -> v.removeAll(duplicatePriorities));
-
-    // Return the match with the highest remaining priority
-    Optional<ConfigurationOption> bestMatch =
-        prioritiesPerMatch.entrySet().stream()
-            .filter(m -> !m.getValue().isEmpty())
-            .max(Comparator.comparingLong(m -> m.getValue().first()))
-            .map(Entry::getKey);
-
-    // Since all the Selectors exactly match all of these Constraints, the winner has the Constraint
-    // with the highest unique priority.  If there is no bestMatch then there is still have a tie
-    // which means the Configuration does not resolve to a unique ConfigurationOption for the
-    // provided Selectors.
-    // TODO: tiebreak with match quality (e.g. small time interval is better than a large interval)?
-    return bestMatch.orElseThrow(
-        () -> new IllegalStateException("Configuration resolved to multiple ConfigurationOptions"));
+      ConfigurationMatchIndex matchIndex, List<? extends Selector<?>> selectors) {
+    return matchIndex.findBestMatch(selectors).map(ConfigurationOption::getParameters);
   }
 }
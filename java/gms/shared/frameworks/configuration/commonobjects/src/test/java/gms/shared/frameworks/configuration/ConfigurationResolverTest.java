@@ -2,13 +2,20 @@ package gms.shared.frameworks.configuration;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
+import gms.shared.common.coi.types.PhaseType;
 import gms.shared.frameworks.configuration.Operator.Type;
 import gms.shared.frameworks.configuration.constraints.DefaultConstraint;
 import gms.shared.frameworks.configuration.constraints.NumericScalarConstraint;
+import gms.shared.frameworks.configuration.constraints.PhaseConstraint;
+import gms.shared.frameworks.configuration.constraints.StringConstraint;
 import gms.shared.frameworks.configuration.constraints.WildcardConstraint;
 import gms.shared.frameworks.osd.coi.FieldMapUtilities;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -272,6 +279,101 @@ class ConfigurationResolverTest {
         "Configuration resolved to multiple ConfigurationOptions");
   }
 
+  /**
+   * Resolves a Configuration with many station options bucketed by their STRING and PHASE
+   * constraint values alongside options that cannot be bucketed (negated and numeric constraints)
+   */
+  @Test
+  void testResolveIndexedStringAndPhaseConstraints() {
+    final Operator eq = Operator.from(Type.EQ, false);
+    final Operator in = Operator.from(Type.IN, false);
+    final Operator notIn = Operator.from(Type.IN, true);
+
+    final List<ConfigurationOption> stationOptions =
+        IntStream.range(0, 100)
+            .mapToObj(
+                i ->
+                    ConfigurationOption.from(
+                        "STA" + i,
+                        List.of(StringConstraint.from("station", eq, Set.of("STA" + i), 10)),
+                        Map.of("a", i)))
+            .toList();
+
+    final ConfigurationOption stationPhaseOption =
+        ConfigurationOption.from(
+            "STA7/P",
+            List.of(
+                StringConstraint.from("station", eq, Set.of("STA7"), 10),
+                PhaseConstraint.from("phase", in, Set.of(PhaseType.P, PhaseType.Pn), 20)),
+            Map.of("a", 200));
+
+    final ConfigurationOption notArrayOption =
+        ConfigurationOption.from(
+            "NOT-ARRAY",
+            List.of(StringConstraint.from("network", notIn, Set.of("ARRAY"), 30)),
+            Map.of("b", 300));
+
+    final Configuration configuration =
+        Configuration.from(
+            "TEST-CONFIG",
+            Stream.concat(
+                    Stream.of(configOptDefault, stationPhaseOption, notArrayOption),
+                    stationOptions.stream())
+                .toList());
+
+    assertEquals(
+        FieldMapUtilities.toFieldMap(fooParamsDefaults.toBuilder().a(42).build()),
+        ConfigurationResolver.resolve(configuration, List.of(Selector.from("station", "STA42"))));
+
+    // Most exact match wins over the station-only option
+    assertEquals(
+        FieldMapUtilities.toFieldMap(fooParamsDefaults.toBuilder().a(200).build()),
+        ConfigurationResolver.resolve(
+            configuration,
+            List.of(Selector.from("station", "STA7"), Selector.from("phase", PhaseType.Pn))));
+
+    // Phase outside the PHASE constraint's values falls back to the station-only option
+    assertEquals(
+        FieldMapUtilities.toFieldMap(fooParamsDefaults.toBuilder().a(7).build()),
+        ConfigurationResolver.resolve(
+            configuration,
+            List.of(Selector.from("station", "STA7"), Selector.from("phase", PhaseType.S))));
+
+    // Negated constraints are not bucketed by value but still match
+    final Map<String, Object> notArrayFieldMap = new HashMap<>(fooParamsDefaultsFieldMap);
+    notArrayFieldMap.put("b", 300);
+    assertEquals(
+        notArrayFieldMap,
+        ConfigurationResolver.resolve(
+            configuration,
+            List.of(Selector.from("station", "STA100"), Selector.from("network", "3C"))));
+
+    assertEquals(
+        fooParamsDefaultsFieldMap,
+        ConfigurationResolver.resolve(
+            configuration,
+            List.of(Selector.from("station", "STA100"), Selector.from("network", "ARRAY"))));
+  }
+
+  @Test
+  void testResolverForPrefixMatchesResolve() {
+    final var resolver =
+        ConfigurationResolver.resolverForPrefix(
+            configurationSnrIs5BazIs10, List.of(Selector.from("snr", 5.0)));
+
+    assertEquals(
+        fooParamsSnrIs5BazIs10FieldMap, resolver.apply(List.of(Selector.from("baz", 10.0))));
+    assertEquals(fooParamsDefaultsFieldMap, resolver.apply(List.of(Selector.from("baz", 1.0))));
+    assertEquals(fooParamsDefaultsFieldMap, resolver.apply(List.of()));
+
+    // the prefix selectors are still validated along with the rest of each selector list
+    final List<Selector<?>> repeatedCriterion = List.of(Selector.from("snr", 5.0));
+    TestUtilities.expectExceptionAndMessage(
+        () -> resolver.apply(repeatedCriterion),
+        IllegalArgumentException.class,
+        "Each Selector must be for a unique criterion");
+  }
+
   @Test
   void testResolveDuplicateSelectorCriteriaExpectIllegalArgumentException() {
     TestUtilities.expectExceptionAndMessage(
@@ -0,0 +1,58 @@
+package gms.shared.frameworks.configuration.repository.client;
+
+import java.lang.management.ManagementFactory;
+import java.util.function.LongSupplier;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A metric reading one statistic of a cache, registered directly with the platform MBean server.
+ * The configuration repository is a dependency of most services, so it doesn't depend on the
+ * metrics module and its exporter.
+ */
+public final class CacheStatsMetric implements CacheStatsMetricMBean {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(CacheStatsMetric.class);
+
+  private final LongSupplier metricVal;
+
+  private CacheStatsMetric(LongSupplier metricVal) {
+    this.metricVal = metricVal;
+  }
+
+  /**
+   * Creates and registers a metric, replacing any metric already registered with the same name so
+   * a cache rebuilt for the same configuration is the one exported
+   *
+   * @param name the JMX {@link ObjectName} of the metric, e.g.
+   *     "configurationParametersCache_hits:type=Counter"
+   * @param metricVal reads the current value of the statistic
+   * @return the metric, which still reads values if it could not be registered
+   */
+  static CacheStatsMetric create(String name, LongSupplier metricVal) {
+    var metric = new CacheStatsMetric(metricVal);
+    try {
+      MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+      var objectName = new ObjectName(name);
+      if (server.isRegistered(objectName)) {
+        server.unregisterMBean(objectName);
+      }
+      server.registerMBean(metric, objectName);
+    } catch (JMException e) {
+      LOGGER.warn(
+          "Metrics {} failed to register. No data will be exported for this metric due to this"
+              + " exception: {}",
+          name,
+          e.getMessage());
+    }
+    return metric;
+  }
+
+  @Override
+  public long getMetricVal() {
+    return metricVal.getAsLong();
+  }
+}
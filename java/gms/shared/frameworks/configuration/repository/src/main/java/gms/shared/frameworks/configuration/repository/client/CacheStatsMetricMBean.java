@@ -0,0 +1,10 @@
+package gms.shared.frameworks.configuration.repository.client;
+
+/**
+ * JMX view of a {@link CacheStatsMetric}. Exposes the same MetricVal attribute as the shared
+ * metrics module's CustomMetric so both are exported the same way.
+ */
+public interface CacheStatsMetricMBean {
+
+  long getMetricVal();
+}
@@ -1,12 +1,13 @@
 package gms.shared.frameworks.configuration.repository.client;
 
+import com.google.common.collect.ImmutableTable;
+import com.google.common.collect.Table;
 import gms.shared.frameworks.configuration.Configuration;
 import gms.shared.frameworks.configuration.ConfigurationReference;
 import gms.shared.frameworks.configuration.ConfigurationRepository;
 import gms.shared.frameworks.configuration.ConfigurationResolver;
 import gms.shared.frameworks.configuration.RetryConfig;
 import gms.shared.frameworks.configuration.Selector;
-import gms.shared.frameworks.osd.coi.FieldMapUtilities;
 import gms.shared.frameworks.utilities.Validation;
 import jakarta.persistence.NoResultException;
 import java.time.Duration;
@@ -538,7 +539,8 @@ public final class ConfigurationConsumerUtility {
   /**
    * Uses the provided {@link Selector}s to resolve parameters from the {@link Configuration} with
    * the provided name. Returns the resolved parameters as an instance of the provided
-   * parametersClass
+   * parametersClass. Instances are cached by configuration name, selectors and parametersClass, so
+   * callers resolving the same parameters repeatedly share one instance.
    *
    * @param configurationName name of the Configuration to resolve
    * @param selectors {@link Selector}s describing how to resolve the Configuration
@@ -557,12 +559,134 @@ public final class ConfigurationConsumerUtility {
     Objects.requireNonNull(parametersClass, "Cannot resolve Configuration to null parametersClass");
 
     // Resolve and construct parametersClass instance.
-    // resolve() call is not inlined in SerializationUtility.fromFieldMap call since both calls
-    // produce exceptions but only the SerializationUtility's exception is caught and
-    // rethrown.
-    final Map<String, Object> resolvedFieldMap = resolve(configurationName, selectors);
+    return resolveParameters(
+        getConfigurationSelectorCache(configurationName, selectors),
+        configurationName,
+        selectors,
+        parametersClass);
+  }
+
+  /**
+   * Resolves parameters from the {@link Configuration} with the provided name for every cell of a
+   * matrix of {@link Selector}s, e.g. every channel and phase requested together. Each cell is
+   * resolved with its row's Selectors followed by its column's Selectors. The Constraints for a
+   * row's Selectors are evaluated once for all of that row's columns, so rows should hold the
+   * Selectors with the most distinct values (e.g. station and channel) and columns the few shared
+   * by every row (e.g. phase). A cell that cannot be resolved fails the whole table, as resolving
+   * it individually would.
+   *
+   * @param configurationName name of the Configuration to resolve
+   * @param rowSelectors {@link Selector}s for each row of the table, by row key
+   * @param columnSelectors {@link Selector}s for each column of the table, by column key
+   * @param parametersClass class type of the resolved parameters, not null
+   * @param <R> type of the row keys
+   * @param <C> type of the column keys
+   * @param <T> type of the parametersClass
+   * @return table of the resolved parameters by row and column key, not null
+   * @throws NullPointerException if any argument is null
+   * @throws ConfigurationResolutionException if this ConfigurationConsumerUtility does not have a
+   *     Configuration with the provided name, or if any cell cannot be resolved
+   * @see ConfigurationResolver#resolve(Configuration, List) for details of the resolution
+   *     algorithm.
+   */
+  public <R, C, T> Table<R, C, T> resolveTable(
+      String configurationName,
+      Map<R, ? extends List<? extends Selector<?>>> rowSelectors,
+      Map<C, ? extends List<? extends Selector<?>>> columnSelectors,
+      Class<T> parametersClass) {
+
+    return resolveTable(
+        configurationName,
+        rowSelectors,
+        columnSelectors,
+        parametersClass,
+        UnresolvedCellPolicy.THROW);
+  }
+
+  /**
+   * Resolves parameters for every cell of a matrix of {@link Selector}s as {@link
+   * #resolveTable(String, Map, Map, Class)} does, handling cells that cannot be resolved according
+   * to the provided {@link UnresolvedCellPolicy}.
+   *
+   * @param configurationName name of the Configuration to resolve
+   * @param rowSelectors {@link Selector}s for each row of the table, by row key
+   * @param columnSelectors {@link Selector}s for each column of the table, by column key
+   * @param parametersClass class type of the resolved parameters, not null
+   * @param unresolvedCellPolicy whether a cell that cannot be resolved fails the table or is left
+   *     out of it, not null
+   * @param <R> type of the row keys
+   * @param <C> type of the column keys
+   * @param <T> type of the parametersClass
+   * @return table of the resolved parameters by row and column key, not null
+   * @throws NullPointerException if any argument is null
+   * @throws ConfigurationResolutionException if this ConfigurationConsumerUtility does not have a
+   *     Configuration with the provided name, or if a cell cannot be resolved and the policy is
+   *     {@link UnresolvedCellPolicy#THROW}
+   */
+  public <R, C, T> Table<R, C, T> resolveTable(
+      String configurationName,
+      Map<R, ? extends List<? extends Selector<?>>> rowSelectors,
+      Map<C, ? extends List<? extends Selector<?>>> columnSelectors,
+      Class<T> parametersClass,
+      UnresolvedCellPolicy unresolvedCellPolicy) {
+
+    Objects.requireNonNull(
+        unresolvedCellPolicy, "Cannot resolve Configuration with null unresolved cell policy");
+    Objects.requireNonNull(rowSelectors, "Cannot resolve Configuration for null row selectors");
+    Objects.requireNonNull(
+        columnSelectors, "Cannot resolve Configuration for null column selectors");
+    Objects.requireNonNull(parametersClass, "Cannot resolve Configuration to null parametersClass");
+
+    final ConfigurationSelectorCache configuration =
+        getConfigurationSelectorCache(configurationName, List.of());
+
+    final ImmutableTable.Builder<R, C, T> table = ImmutableTable.builder();
+    rowSelectors.forEach(
+        (row, prefixSelectors) -> {
+          configuration.preloadFieldMaps(prefixSelectors, columnSelectors.values());
+          columnSelectors.forEach(
+              (column, suffixSelectors) -> {
+                final List<Selector<?>> selectors =
+                    Stream.concat(prefixSelectors.stream(), suffixSelectors.stream()).toList();
+                try {
+                  table.put(
+                      row,
+                      column,
+                      resolveParameters(
+                          configuration, configurationName, selectors, parametersClass));
+                } catch (ConfigurationResolutionException e) {
+                  if (unresolvedCellPolicy == UnresolvedCellPolicy.THROW) {
+                    throw e;
+                  }
+                  LOGGER.warn(
+                      "Configuration {} could not be resolved for selectors {}; skipping",
+                      configurationName,
+                      selectors,
+                      e);
+                }
+              });
+        });
+    return table.buildOrThrow();
+  }
+
+  /** How {@link #resolveTable} handles a cell whose Configuration cannot be resolved */
+  public enum UnresolvedCellPolicy {
+    /** Rethrow the {@link ConfigurationResolutionException}, failing the whole table */
+    THROW,
+    /** Log the failure and leave the cell out of the table */
+    SKIP
+  }
+
+  private static <T> T resolveParameters(
+      ConfigurationSelectorCache configuration,
+      String configurationName,
+      List<? extends Selector<?>> selectors,
+      Class<T> parametersClass) {
+
+    // Only the exception from constructing the parametersClass instance is caught and rethrown;
+    // resolution failures already surface as ConfigurationResolutionExceptions.
     try {
-      return FieldMapUtilities.fromFieldMap(resolvedFieldMap, parametersClass);
+      return configuration.resolveParameters(selectors, parametersClass);
     } catch (IllegalArgumentException e) {
       throw new ConfigurationResolutionException(
           "Resolved Configuration is not a valid instance of " + parametersClass.getCanonicalName(),
@@ -622,6 +746,22 @@ public final class ConfigurationConsumerUtility {
    */
   public Map<String, Object> resolve(
       String configurationName, List<? extends Selector<?>> selectors) {
+    return getConfigurationSelectorCache(configurationName, selectors).resolveFieldMap(selectors);
+  }
+
+  /**
+   * Obtains the {@link ConfigurationSelectorCache} for the {@link Configuration} with the provided
+   * name, loading the Configuration if this ConfigurationConsumerUtility does not have it yet
+   *
+   * @param configurationName name of the Configuration to resolve
+   * @param selectors {@link Selector}s describing how to resolve the Configuration
+   * @return {@link ConfigurationSelectorCache} for the Configuration, not null
+   * @throws NullPointerException if configurationName or selectors are null
+   * @throws ConfigurationResolutionException if this ConfigurationConsumerUtility does not have a
+   *     Configuration with the provided name
+   */
+  private ConfigurationSelectorCache getConfigurationSelectorCache(
+      String configurationName, List<? extends Selector<?>> selectors) {
     Objects.requireNonNull(
         configurationName, "Cannot resolve Configuration for null configurationName");
     Objects.requireNonNull(selectors, "Cannot resolve Configuration for null selectors");
@@ -656,8 +796,7 @@ public final class ConfigurationConsumerUtility {
                     "No Configuration named "
                         + configurationName
                         + " is in this ConfigurationConsumerUtility",
-                    configurationName))
-        .resolveFieldMap(selectors);
+                    configurationName));
   }
 
   protected Duration getSelectorCacheExpiration() {
@@ -1,6 +1,8 @@
 package gms.shared.frameworks.configuration.repository.client;
 
 import gms.shared.frameworks.configuration.Selector;
+import gms.shared.frameworks.osd.coi.FieldMapUtilities;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -17,4 +19,32 @@ public interface ConfigurationSelectorCache {
    * @return A FieldMap containing the configuration option's parameters
    */
   Map<String, Object> resolveFieldMap(List<? extends Selector<?>> selectors);
+
+  /**
+   * Resolve the configuration parameters given a list of {@link Selector}s as an instance of the
+   * provided parameters class
+   *
+   * @param selectors selectors to resolve the parameters for a particular configuration option
+   * @param parametersClass class type of the resolved parameters
+   * @param <T> type of the parametersClass
+   * @return Instance of T containing the configuration option's parameters
+   * @throws IllegalArgumentException if the resolved FieldMap is not a valid instance of T
+   */
+  default <T> T resolveParameters(
+      List<? extends Selector<?>> selectors, Class<T> parametersClass) {
+    return FieldMapUtilities.fromFieldMap(resolveFieldMap(selectors), parametersClass);
+  }
+
+  /**
+   * Resolves the configuration FieldMaps for the prefix {@link Selector}s followed by each list of
+   * suffix Selectors ahead of their individual resolution, so implementations can share the
+   * evaluation of the prefix Selectors. Selector lists that fail to resolve are skipped; resolving
+   * them individually reports the failure. Does nothing by default.
+   *
+   * @param prefixSelectors selectors shared by every Selector list
+   * @param suffixSelectors selectors following the prefix in each Selector list
+   */
+  default void preloadFieldMaps(
+      List<? extends Selector<?>> prefixSelectors,
+      Collection<? extends List<? extends Selector<?>>> suffixSelectors) {}
 }
@@ -2,21 +2,35 @@ package gms.shared.frameworks.configuration.repository.client;
 
 import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
 import com.google.common.util.concurrent.UncheckedExecutionException;
 import gms.shared.frameworks.configuration.Configuration;
 import gms.shared.frameworks.configuration.ConfigurationResolver;
 import gms.shared.frameworks.configuration.Selector;
+import gms.shared.frameworks.osd.coi.FieldMapUtilities;
 import java.time.Duration;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ExecutionException;
-import java.util.function.Predicate;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import javax.management.ObjectName;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-/** Implementation of {@link ConfigurationSelectorCache} using a guava {@link Cache}. */
+/**
+ * Implementation of {@link ConfigurationSelectorCache} using a guava {@link Cache}. Resolved field
+ * maps are cached by selector set. Parameters objects built from them are cached by selector set
+ * and parameters class, so repeated resolutions skip the conversion from the field map as well.
+ * Parameters classes are expected to be immutable value types; Map, Collection and array
+ * parameters are converted on every call so callers never share a mutable instance.
+ *
+ * <p>The parameters cache hit and miss counts are exported over JMX per configuration.
+ */
 public final class ConfigurationSelectorGuavaCache implements ConfigurationSelectorCache {
 
   private static final Logger LOGGER =
@@ -26,14 +40,31 @@ public final class ConfigurationSelectorGuavaCache implements ConfigurationSelec
 
   private final Cache<Set<Selector>, Map<String, Object>> fieldMapCache;
 
-  private final Collection<Map<String, Object>> cacheValues;
+  /** Dedups equal field maps resolved for different selector sets */
+  private final Interner<Map<String, Object>> fieldMapInterner;
+
+  private final Cache<ParametersKey, Object> parametersCache;
 
   private ConfigurationSelectorGuavaCache(
       Configuration configuration, Duration expiration, long maxEntries) {
     this.configuration = configuration;
     this.fieldMapCache =
         CacheBuilder.newBuilder().expireAfterAccess(expiration).maximumSize(maxEntries).build();
-    this.cacheValues = fieldMapCache.asMap().values();
+    this.fieldMapInterner = Interners.newWeakInterner();
+    this.parametersCache =
+        CacheBuilder.newBuilder()
+            .expireAfterAccess(expiration)
+            .maximumSize(maxEntries)
+            .recordStats()
+            .build();
+
+    var configurationKey = ",configuration=" + ObjectName.quote(configuration.getName());
+    CacheStatsMetric.create(
+        "configurationParametersCache_hits:type=Counter" + configurationKey,
+        () -> parametersCache.stats().hitCount());
+    CacheStatsMetric.create(
+        "configurationParametersCache_misses:type=Counter" + configurationKey,
+        () -> parametersCache.stats().missCount());
   }
 
   /**
@@ -71,14 +102,82 @@ public final class ConfigurationSelectorGuavaCache implements ConfigurationSelec
     }
   }
 
+  /**
+   * {@inheritDoc}
+   *
+   * @throws ConfigurationResolutionException if there is a failure to resolve the field map
+   */
+  @Override
+  public <T> T resolveParameters(
+      List<? extends Selector<?>> selectors, Class<T> parametersClass) {
+    if (isMutableContainer(parametersClass)) {
+      return FieldMapUtilities.fromFieldMap(resolveFieldMap(selectors), parametersClass);
+    }
+
+    try {
+      return parametersClass.cast(
+          parametersCache.get(
+              new ParametersKey(Set.copyOf(selectors), parametersClass),
+              () -> FieldMapUtilities.fromFieldMap(resolveFieldMap(selectors), parametersClass)));
+    } catch (ExecutionException | UncheckedExecutionException e) {
+      // rethrow the conversion or resolution failure as the uncached path would have thrown it
+      if (e.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      throw new ConfigurationResolutionException(
+          "Failure attempting to resolve configuration parameters from cache",
+          e.getCause(),
+          configuration.getName());
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>Selector lists missing from the FieldMap cache are resolved with the Constraints for the
+   * prefix Selectors evaluated once for all of them.
+   */
+  @Override
+  public void preloadFieldMaps(
+      List<? extends Selector<?>> prefixSelectors,
+      Collection<? extends List<? extends Selector<?>>> suffixSelectors) {
+    Function<List<? extends Selector<?>>, Map<String, Object>> prefixResolver = null;
+    for (List<? extends Selector<?>> suffix : suffixSelectors) {
+      Set<Selector> selectorSet =
+          Stream.concat(prefixSelectors.stream(), suffix.stream())
+              .collect(Collectors.toUnmodifiableSet());
+      if (fieldMapCache.getIfPresent(selectorSet) == null) {
+        if (prefixResolver == null) {
+          prefixResolver = ConfigurationResolver.resolverForPrefix(configuration, prefixSelectors);
+        }
+        try {
+          fieldMapCache.put(selectorSet, fieldMapInterner.intern(prefixResolver.apply(suffix)));
+        } catch (RuntimeException e) {
+          LOGGER.debug("Skipping preload of configuration field map for {}", selectorSet, e);
+        }
+      }
+    }
+  }
+
+  private static boolean isMutableContainer(Class<?> parametersClass) {
+    return parametersClass.isArray()
+        || Map.class.isAssignableFrom(parametersClass)
+        || Collection.class.isAssignableFrom(parametersClass);
+  }
+
   private Map<String, Object> resolveAndCheckExistingFieldMap(
       List<? extends Selector<?>> selectors) {
-    var fieldMap = ConfigurationResolver.resolve(configuration, selectors);
-    var existingFieldMap = cacheValues.stream().filter(Predicate.isEqual(fieldMap)).findAny();
-    return existingFieldMap.orElse(fieldMap);
+    return fieldMapInterner.intern(ConfigurationResolver.resolve(configuration, selectors));
   }
 
   protected Cache<Set<Selector>, Map<String, Object>> getFieldMapCache() {
     return fieldMapCache;
   }
+
+  protected Cache<ParametersKey, Object> getParametersCache() {
+    return parametersCache;
+  }
+
+  /** Key for a parameters object resolved from a set of selectors */
+  record ParametersKey(Set<Selector> selectors, Class<?> parametersClass) {}
 }
@@ -6,6 +6,7 @@ import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.times;
@@ -14,15 +15,18 @@ import static org.mockito.Mockito.when;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.google.common.collect.ImmutableTable;
 import gms.shared.frameworks.configuration.ConfigurationRepository;
 import gms.shared.frameworks.configuration.RetryConfig;
 import gms.shared.frameworks.configuration.Selector;
 import gms.shared.frameworks.configuration.repository.ConfigurationTestFixtures;
 import gms.shared.frameworks.configuration.repository.FooParameters;
 import gms.shared.frameworks.configuration.repository.TestUtilities;
+import gms.shared.frameworks.configuration.repository.client.ConfigurationConsumerUtility.UnresolvedCellPolicy;
 import java.time.Duration;
 import java.time.temporal.ChronoUnit;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
@@ -320,6 +324,78 @@ class ConfigurationConsumerUtilityTest {
         () -> assertEquals(ConfigurationTestFixtures.fooParamsDefaults, resolvedParams));
   }
 
+  @Test
+  void testResolveToObjectFromClassIsCached() {
+    var clientUtil = getClientUtilMockGmsConfig();
+
+    final FooParameters resolvedParams =
+        clientUtil.resolve(
+            configurationKey, List.of(Selector.from("snr", -5.0)), FooParameters.class);
+
+    // equal selectors resolve to the same instance without converting the field map again
+    assertSame(
+        resolvedParams,
+        clientUtil.resolve(
+            configurationKey, List.of(Selector.from("snr", -5.0)), FooParameters.class));
+  }
+
+  @Test
+  void testResolveTable() {
+    var clientUtil = getClientUtilMockGmsConfig();
+
+    final Map<String, List<Selector<?>>> rowSelectors = new LinkedHashMap<>();
+    rowSelectors.put("snr-5", List.of(Selector.from("snr", 5.0)));
+    rowSelectors.put("snr-minus-5", List.of(Selector.from("snr", -5.0)));
+
+    // the repeated snr criterion cannot be resolved so its cells are skipped
+    final Map<String, List<Selector<?>>> columnSelectors = new LinkedHashMap<>();
+    columnSelectors.put("none", List.of());
+    columnSelectors.put("baz", List.of(Selector.from("baz", 10.0)));
+    columnSelectors.put("snr", List.of(Selector.from("snr", 1.0)));
+
+    var fooParamsSnrIs5 = ConfigurationTestFixtures.fooParamsDefaults.toBuilder().a(10).build();
+    var expected =
+        ImmutableTable.<String, String, FooParameters>builder()
+            .put("snr-5", "none", fooParamsSnrIs5)
+            .put("snr-5", "baz", fooParamsSnrIs5)
+            .put("snr-minus-5", "none", ConfigurationTestFixtures.fooParamsDefaults)
+            .put("snr-minus-5", "baz", ConfigurationTestFixtures.fooParamsDefaults)
+            .build();
+
+    var table =
+        clientUtil.resolveTable(
+            configurationKey,
+            rowSelectors,
+            columnSelectors,
+            FooParameters.class,
+            UnresolvedCellPolicy.SKIP);
+    assertEquals(expected, table);
+
+    // cells resolve to the instances cached for individual resolution
+    assertSame(
+        table.get("snr-5", "baz"),
+        clientUtil.resolve(
+            configurationKey,
+            List.of(Selector.from("snr", 5.0), Selector.from("baz", 10.0)),
+            FooParameters.class));
+  }
+
+  @Test
+  void testResolveTableUnresolvableCellExpectConfigurationResolutionException() {
+    var clientUtil = getClientUtilMockGmsConfig();
+
+    final Map<String, List<Selector<?>>> rowSelectors =
+        Map.of("snr-5", List.of(Selector.from("snr", 5.0)));
+    final Map<String, List<Selector<?>>> columnSelectors =
+        Map.of("snr", List.of(Selector.from("snr", 1.0)));
+
+    assertThrows(
+        ConfigurationResolutionException.class,
+        () ->
+            clientUtil.resolveTable(
+                configurationKey, rowSelectors, columnSelectors, FooParameters.class));
+  }
+
   @Test
   void testParameterClassNotCreatableExpectConfiguraitonResolutionException() {
     TestUtilities.expectExceptionAndMessage(
@@ -5,11 +5,13 @@ import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
+import static org.mockito.Mockito.when;
 
 import com.google.common.collect.Lists;
 import gms.shared.frameworks.configuration.Configuration;
 import gms.shared.frameworks.configuration.ConfigurationResolver;
 import gms.shared.frameworks.configuration.Selector;
+import java.lang.management.ManagementFactory;
 import java.time.Duration;
 import java.util.Collections;
 import java.util.HashMap;
@@ -17,6 +19,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.stream.Stream;
+import javax.management.ObjectName;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -35,6 +39,11 @@ class ConfigurationSelectorGuavaCacheTest {
 
   @Mock Configuration mockConfiguration;
 
+  @BeforeEach
+  void setUp() {
+    when(mockConfiguration.getName()).thenReturn("test-config");
+  }
+
   @Test
   void testUpdatesCache() {
     ConfigurationSelectorGuavaCache cache =
@@ -117,6 +126,112 @@ class ConfigurationSelectorGuavaCacheTest {
     }
   }
 
+  @Test
+  void testResolveParametersCachesInstance() {
+    ConfigurationSelectorGuavaCache cache =
+        ConfigurationSelectorGuavaCache.create(
+            mockConfiguration, CACHE_EXPIRATION, CACHE_MAX_ENTRIES);
+
+    var selectors = List.of(Selector.from("TEST", 1), Selector.from("TEST2", "TEST"));
+
+    try (MockedStatic<ConfigurationResolver> resolve =
+        Mockito.mockStatic(ConfigurationResolver.class)) {
+
+      resolve
+          .when(() -> ConfigurationResolver.resolve(mockConfiguration, selectors))
+          .thenReturn(new HashMap<>(Map.of("test", "TEST")));
+
+      var parameters = cache.resolveParameters(selectors, TestParameters.class);
+      assertEquals(new TestParameters("TEST"), parameters);
+
+      // selector order does not matter, and the cached instance is returned without conversion
+      assertSame(
+          parameters, cache.resolveParameters(Lists.reverse(selectors), TestParameters.class));
+      var stats = cache.getParametersCache().stats();
+      assertEquals(1, stats.hitCount());
+      assertEquals(1, stats.missCount());
+      assertEquals(1, stats.loadCount());
+    }
+  }
+
+  @Test
+  void testParametersCacheStatsExported() throws Exception {
+    ConfigurationSelectorGuavaCache cache =
+        ConfigurationSelectorGuavaCache.create(
+            mockConfiguration, CACHE_EXPIRATION, CACHE_MAX_ENTRIES);
+
+    var selectors = List.of(Selector.from("TEST", 1));
+
+    try (MockedStatic<ConfigurationResolver> resolve =
+        Mockito.mockStatic(ConfigurationResolver.class)) {
+
+      resolve
+          .when(() -> ConfigurationResolver.resolve(mockConfiguration, selectors))
+          .thenReturn(new HashMap<>(Map.of("test", "TEST")));
+
+      cache.resolveParameters(selectors, TestParameters.class);
+      cache.resolveParameters(selectors, TestParameters.class);
+
+      var server = ManagementFactory.getPlatformMBeanServer();
+      assertEquals(
+          1L,
+          server.getAttribute(
+              new ObjectName(
+                  "configurationParametersCache_hits:type=Counter,configuration=\"test-config\""),
+              "MetricVal"));
+      assertEquals(
+          1L,
+          server.getAttribute(
+              new ObjectName(
+                  "configurationParametersCache_misses:type=Counter,configuration=\"test-config\""),
+              "MetricVal"));
+    }
+  }
+
+  @Test
+  void testResolveParametersConvertsMutableContainers() {
+    ConfigurationSelectorGuavaCache cache =
+        ConfigurationSelectorGuavaCache.create(
+            mockConfiguration, CACHE_EXPIRATION, CACHE_MAX_ENTRIES);
+
+    List<Selector<?>> selectors = List.of();
+
+    try (MockedStatic<ConfigurationResolver> resolve =
+        Mockito.mockStatic(ConfigurationResolver.class)) {
+
+      resolve
+          .when(() -> ConfigurationResolver.resolve(mockConfiguration, selectors))
+          .thenReturn(new HashMap<>(Map.of("test", "TEST")));
+
+      assertEquals(Map.of("test", "TEST"), cache.resolveParameters(selectors, Map.class));
+      assertEquals(Map.of("test", "TEST"), cache.resolveParameters(selectors, Map.class));
+      assertEquals(0, cache.getParametersCache().size());
+    }
+  }
+
+  @Test
+  void testResolveParametersInvalidInstanceThrowsException() {
+    ConfigurationSelectorGuavaCache cache =
+        ConfigurationSelectorGuavaCache.create(
+            mockConfiguration, CACHE_EXPIRATION, CACHE_MAX_ENTRIES);
+
+    List<Selector<?>> selectors = List.of();
+
+    try (MockedStatic<ConfigurationResolver> resolve =
+        Mockito.mockStatic(ConfigurationResolver.class)) {
+
+      resolve
+          .when(() -> ConfigurationResolver.resolve(mockConfiguration, selectors))
+          .thenReturn(new HashMap<>(Map.of("test", "TEST")));
+
+      // conversion failures surface as they would without the cache
+      assertThrows(
+          IllegalArgumentException.class,
+          () -> cache.resolveParameters(selectors, Number.class));
+      assertEquals(0, cache.getParametersCache().size());
+    }
+  }
+
   @ParameterizedTest
   @MethodSource("exceptionSource")
   void testResolutionFailureThrowsException(RuntimeException exception) {
@@ -139,6 +254,8 @@ class ConfigurationSelectorGuavaCacheTest {
     }
   }
 
+  record TestParameters(String test) {}
+
   private static Stream<Arguments> exceptionSource() {
     return Stream.of(
         arguments(new NullPointerException()),
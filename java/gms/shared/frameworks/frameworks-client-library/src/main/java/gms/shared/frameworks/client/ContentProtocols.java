@@ -1,5 +1,6 @@
 package gms.shared.frameworks.client;
 
+import static gms.shared.frameworks.common.ContentType.COLUMNAR_MSGPACK;
 import static gms.shared.frameworks.common.ContentType.JSON;
 import static gms.shared.frameworks.common.ContentType.JSON_STREAM;
 import static gms.shared.frameworks.common.ContentType.MSGPACK;
@@ -8,6 +9,7 @@ import static gms.shared.frameworks.common.ContentType.MSGPACK_STREAM;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import gms.shared.frameworks.common.ContentType;
 import gms.shared.frameworks.osd.coi.datatransferobjects.CoiObjectMapperFactory;
+import gms.shared.frameworks.osd.coi.datatransferobjects.ColumnarSampleCodec;
 import java.io.InputStream;
 import java.lang.reflect.Type;
 import java.net.http.HttpRequest.BodyPublisher;
@@ -29,7 +31,8 @@ final class ContentProtocols {
           JSON, new Json(),
           JSON_STREAM, new JsonStream(),
           MSGPACK, new Msgpack(),
-          MSGPACK_STREAM, new MsgpackStream());
+          MSGPACK_STREAM, new MsgpackStream(),
+          COLUMNAR_MSGPACK, new ColumnarMsgpack());
 
   /**
    * Gets a ContentProtocol given a ContentType.
@@ -100,6 +103,36 @@ final class ContentProtocols {
     }
   }
 
+  /**
+   * MessagePack with sample arrays written as raw little-endian columns, see {@link
+   * ColumnarSampleCodec}
+   */
+  private static final class ColumnarMsgpack implements ContentProtocol<byte[], byte[]> {
+
+    private final ColumnarSampleCodec codec =
+        ColumnarSampleCodec.create(CoiObjectMapperFactory.getMsgpackObjectMapper(), true);
+
+    @Override
+    public Function<byte[], BodyPublisher> bodyEncoder() {
+      return BodyPublishers::ofByteArray;
+    }
+
+    @Override
+    public byte[] serialize(Object data) throws Exception {
+      return codec.writeValueAsBytes(data);
+    }
+
+    @Override
+    public BodyHandler<byte[]> bodyHandler() {
+      return BodyHandlers.ofByteArray();
+    }
+
+    @Override
+    public <T> T deserialize(byte[] data, Type type) throws Exception {
+      return codec.read(data, type);
+    }
+  }
+
   private static final class JsonStream implements ContentProtocol<String, InputStream> {
 
     private final ObjectMapper mapper = CoiObjectMapperFactory.getJsonObjectMapper();
@@ -68,6 +68,27 @@ class ContentProtocolsTest {
     verifier.verifyComplete();
   }
 
+  @Test
+  void testColumnarMsgpackRoundTripsSampleArrays() throws Exception {
+    final ContentProtocol<byte[], byte[]> columnarMsgpack =
+        ContentProtocols.from(ContentType.COLUMNAR_MSGPACK);
+
+    final double[] samples = IntStream.range(0, 1000).mapToDouble(i -> i * 0.25 - 100).toArray();
+    final SomeObject<double[]> expected = SomeObject.create(1.5, "samples", samples);
+
+    final Type type =
+        TestUtilities.getResponseType(ContentProtocolsTest.class, "declareSamplesType");
+    final byte[] serialized = columnarMsgpack.serialize(expected);
+    final SomeObject<double[]> actual = columnarMsgpack.deserialize(serialized, type);
+
+    assertEquals(expected.getNum(), actual.getNum());
+    assertEquals(expected.getName(), actual.getName());
+    assertArrayEquals(samples, actual.getGeneric());
+
+    // the quarter-step samples are written as varint deltas rather than eight bytes each
+    assertTrue(serialized.length < samples.length * Double.BYTES / 4);
+  }
+
   private static void assertSameObject(SomeObject<int[]> a, SomeObject<int[]> b) {
     assertEquals(a.getName(), b.getName());
     assertEquals(a.getNum(), b.getNum());
@@ -91,4 +112,13 @@ class ContentProtocolsTest {
   private Flux<SomeObject<int[]>> declareReturnType() {
     return Flux.empty();
   }
+
+  /**
+   * Dummy operation that {@link TestUtilities#getResponseType(Class, String)} can use reflection on
+   * to construct a Type corresponding to a "SomeObject<double[]>".
+   */
+  @SuppressWarnings("unused")
+  private SomeObject<double[]> declareSamplesType() {
+    return null;
+  }
 }
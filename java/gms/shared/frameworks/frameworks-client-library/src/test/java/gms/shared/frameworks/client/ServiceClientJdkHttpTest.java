@@ -34,6 +34,7 @@ import gms.shared.frameworks.client.ServiceClientJdkHttp.InternalServerError;
 import gms.shared.frameworks.common.ContentType;
 import gms.shared.frameworks.configuration.RetryConfig;
 import gms.shared.frameworks.osd.coi.datatransferobjects.CoiObjectMapperFactory;
+import gms.shared.frameworks.osd.coi.datatransferobjects.ColumnarSampleCodec;
 import java.io.IOException;
 import java.lang.reflect.Type;
 import java.net.MalformedURLException;
@@ -64,6 +65,8 @@ class ServiceClientJdkHttpTest {
 
   private static final ObjectMapper jsonMapper = CoiObjectMapperFactory.getJsonObjectMapper();
   private static final ObjectMapper msgpackMapper = CoiObjectMapperFactory.getMsgpackObjectMapper();
+  private static final ColumnarSampleCodec columnarCodec =
+      ColumnarSampleCodec.create(msgpackMapper, true);
 
   private static final String CLIENT_ERROR_PATH = "/client-error",
       CLIENT_ERROR_MSG = "client error!",
@@ -261,22 +264,24 @@ class ServiceClientJdkHttpTest {
       ContentType requestFormat,
       ContentType responseFormat)
       throws Exception {
-    // taking the easy way out and doing everything as if there's only two ContentType's in this
-    // test
-    final boolean requestMsgpack = requestFormat.equals(ContentType.MSGPACK);
-    final boolean responseMsgpack = responseFormat.equals(ContentType.MSGPACK);
-    final ContentPattern<?> pat =
-        requestMsgpack
-            ? binaryEqualTo(msgpackMapper.writeValueAsBytes(request))
-            : equalTo(jsonMapper.writeValueAsString(request));
-    MappingBuilder bob =
+    final MappingBuilder bob =
         accept(contentType(post(urlEqualTo(path)), requestFormat), responseFormat)
-            .withRequestBody(pat);
-    bob =
-        responseMsgpack
-            ? bob.willReturn(ok().withBody(msgpackMapper.writeValueAsBytes(response)))
-            : bob.willReturn(ok().withBody(jsonMapper.writeValueAsString(response)));
-    return bob.build();
+            .withRequestBody(bodyPattern(request, requestFormat));
+    return bob.willReturn(ok().withBody(serialize(response, responseFormat))).build();
+  }
+
+  private static ContentPattern<?> bodyPattern(Object body, ContentType format) throws Exception {
+    return format.equals(ContentType.JSON)
+        ? equalTo(jsonMapper.writeValueAsString(body))
+        : binaryEqualTo(serialize(body, format));
+  }
+
+  private static byte[] serialize(Object body, ContentType format) throws Exception {
+    return switch (format) {
+      case MSGPACK -> msgpackMapper.writeValueAsBytes(body);
+      case COLUMNAR_MSGPACK -> columnarCodec.writeValueAsBytes(body);
+      default -> jsonMapper.writeValueAsBytes(body);
+    };
   }
 
   private static MappingBuilder accept(MappingBuilder mb, ContentType format) {
@@ -350,10 +355,7 @@ class ServiceClientJdkHttpTest {
       ContentType responseFormat)
       throws Exception {
 
-    final ContentPattern<?> pat =
-        requestFormat.equals(ContentType.MSGPACK)
-            ? binaryEqualTo(msgpackMapper.writeValueAsBytes(request))
-            : equalTo(jsonMapper.writeValueAsString(request));
+    final ContentPattern<?> pat = bodyPattern(request, requestFormat);
 
     final int numChunks = 25;
     final int responseTimeMs = 1250;
@@ -0,0 +1,356 @@
+package gms.shared.frameworks.osd.coi.datatransferobjects;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.Type;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Columnar binary serialization for objects carrying sample arrays, such as ChannelSegments of
+ * Waveforms. Every double[] in the serialized object is written as a column of samples ahead of the
+ * rest of the object, which follows as a metadata section written by the provided {@link
+ * ObjectMapper} with each array replaced by its column index.
+ *
+ * <p>Columns are little-endian float64 samples, or float32 samples when every sample is exactly
+ * representable as a float. With delta compression, columns whose samples are all decimal numbers
+ * of at most {@value #MAX_DECIMAL_SCALE} places (as Waveform samples are) are instead written as
+ * zigzag varint deltas of the scaled samples when that is smaller. Every encoding is lossless.
+ *
+ * <p>Layout: magic, version, column count, then per column the encoding, decimal scale, sample
+ * count, payload length and payload, then the metadata length and metadata. Counts and lengths are
+ * little-endian ints.
+ */
+public final class ColumnarSampleCodec {
+
+  private static final byte[] MAGIC = {'G', 'M', 'S', 'C'};
+  private static final byte VERSION = 1;
+  private static final String COLUMNS_ATTRIBUTE = ColumnarSampleCodec.class.getName() + ".columns";
+
+  private static final byte FLOAT64 = 0;
+  private static final byte FLOAT32 = 1;
+  private static final byte DELTA_VARINT = 2;
+
+  private static final int MAX_DECIMAL_SCALE = 8;
+  private static final double[] POWERS_OF_TEN = {1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8};
+  // scaled samples at or beyond 2^52 are not guaranteed to convert back to the same sample
+  private static final double MAX_SCALED_SAMPLE = 0x1p52;
+
+  private final ObjectMapper metadataMapper;
+  private final boolean deltaCompression;
+
+  private ColumnarSampleCodec(ObjectMapper metadataMapper, boolean deltaCompression) {
+    this.metadataMapper = metadataMapper;
+    this.deltaCompression = deltaCompression;
+  }
+
+  /**
+   * Creates a codec writing the metadata section with a copy of the provided {@link ObjectMapper}
+   *
+   * @param metadataMapper mapper for everything but the sample arrays, typically MessagePack
+   * @param deltaCompression whether to write decimal sample columns as varint deltas
+   * @return the codec
+   */
+  public static ColumnarSampleCodec create(ObjectMapper metadataMapper, boolean deltaCompression) {
+    Objects.requireNonNull(metadataMapper, "ObjectMapper can't be null");
+
+    var columnModule =
+        new SimpleModule(ColumnarSampleCodec.class.getSimpleName())
+            .addSerializer(double[].class, new ColumnSerializer())
+            .addDeserializer(double[].class, new ColumnDeserializer());
+    return new ColumnarSampleCodec(
+        metadataMapper.copy().registerModule(columnModule), deltaCompression);
+  }
+
+  /**
+   * Serializes an object, writing its sample arrays as columns
+   *
+   * @param value object to serialize
+   * @return the columnar serialization
+   * @throws IOException if the object can't be serialized
+   */
+  public byte[] writeValueAsBytes(Object value) throws IOException {
+    var outputStream = new ByteArrayOutputStream();
+    write(value, outputStream);
+    return outputStream.toByteArray();
+  }
+
+  /**
+   * Serializes an object to an {@link OutputStream}, writing its sample arrays as columns. The
+   * stream is not closed.
+   *
+   * @param value object to serialize
+   * @param outputStream stream to write to
+   * @throws IOException if the object can't be serialized or written
+   */
+  public void write(Object value, OutputStream outputStream) throws IOException {
+    List<double[]> columns = new ArrayList<>();
+    var metadata =
+        metadataMapper.writer().withAttribute(COLUMNS_ATTRIBUTE, columns).writeValueAsBytes(value);
+
+    var header =
+        ByteBuffer.allocate(MAGIC.length + 1 + Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+    header.put(MAGIC).put(VERSION).putInt(columns.size());
+    outputStream.write(header.array());
+
+    for (var column : columns) {
+      writeColumn(column, outputStream);
+    }
+
+    outputStream.write(littleEndianInt(metadata.length));
+    outputStream.write(metadata);
+  }
+
+  /**
+   * Deserializes an object from its columnar serialization
+   *
+   * @param data the columnar serialization
+   * @param type type of the object
+   * @param <T> type of the object
+   * @return the deserialized object
+   * @throws IOException if the data is not a columnar serialization of the type
+   */
+  public <T> T read(byte[] data, Type type) throws IOException {
+    var buffer = ByteBuffer.wrap(data).order(ByteOrder.LITTLE_ENDIAN);
+    try {
+      var magic = new byte[MAGIC.length];
+      buffer.get(magic);
+      if (!Arrays.equals(MAGIC, magic) || buffer.get() != VERSION) {
+        throw new IOException("Data is not a columnar sample serialization");
+      }
+
+      var columnCount = buffer.getInt();
+      List<double[]> columns = new ArrayList<>(columnCount);
+      for (var column = 0; column < columnCount; column++) {
+        columns.add(readColumn(buffer));
+      }
+
+      var metadataLength = buffer.getInt();
+      if (metadataLength < 0 || metadataLength > buffer.remaining()) {
+        throw new IOException("Columnar sample serialization is truncated");
+      }
+      return metadataMapper
+          .readerFor(metadataMapper.constructType(type))
+          .withAttribute(COLUMNS_ATTRIBUTE, columns)
+          .readValue(data, buffer.position(), metadataLength);
+    } catch (BufferUnderflowException ex) {
+      throw new IOException("Columnar sample serialization is truncated", ex);
+    }
+  }
+
+  /**
+   * Deserializes an object from a columnar serialization read to the end of an {@link InputStream}.
+   * The stream is not closed.
+   *
+   * @param inputStream stream to read
+   * @param type type of the object
+   * @param <T> type of the object
+   * @return the deserialized object
+   * @throws IOException if the stream can't be read or does not hold a columnar serialization of
+   *     the type
+   */
+  public <T> T read(InputStream inputStream, Type type) throws IOException {
+    return read(inputStream.readAllBytes(), type);
+  }
+
+  private void writeColumn(double[] samples, OutputStream outputStream) throws IOException {
+    byte encoding;
+    byte scale = 0;
+    byte[] payload;
+
+    var decimalScale = deltaCompression ? decimalScale(samples) : -1;
+    var deltas = decimalScale >= 0 ? writeDeltaVarints(samples, decimalScale) : null;
+    if (isFloat32(samples)) {
+      encoding = FLOAT32;
+      payload = writeFloat32(samples);
+    } else {
+      encoding = FLOAT64;
+      payload = writeFloat64(samples);
+    }
+    if (deltas != null && deltas.length < payload.length) {
+      encoding = DELTA_VARINT;
+      scale = (byte) decimalScale;
+      payload = deltas;
+    }
+
+    var columnHeader = ByteBuffer.allocate(2 + 2 * Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+    columnHeader.put(encoding).put(scale).putInt(samples.length).putInt(payload.length);
+    outputStream.write(columnHeader.array());
+    outputStream.write(payload);
+  }
+
+  private static double[] readColumn(ByteBuffer buffer) throws IOException {
+    var encoding = buffer.get();
+    var scale = buffer.get();
+    var sampleCount = buffer.getInt();
+    var payloadLength = buffer.getInt();
+    if (sampleCount < 0 || payloadLength < 0 || payloadLength > buffer.remaining()) {
+      throw new IOException("Columnar sample serialization has an invalid column length");
+    }
+
+    var payload = buffer.slice(buffer.position(), payloadLength).order(ByteOrder.LITTLE_ENDIAN);
+    buffer.position(buffer.position() + payloadLength);
+
+    var samples = new double[sampleCount];
+    switch (encoding) {
+      case FLOAT64 -> payload.asDoubleBuffer().get(samples);
+      case FLOAT32 -> {
+        for (var index = 0; index < sampleCount; index++) {
+          samples[index] = payload.getFloat();
+        }
+      }
+      case DELTA_VARINT -> readDeltaVarints(payload, samples, scale);
+      default -> throw new IOException("Unknown column encoding " + encoding);
+    }
+    return samples;
+  }
+
+  private static boolean isFloat32(double[] samples) {
+    for (var sample : samples) {
+      if (Double.doubleToRawLongBits((float) sample) != Double.doubleToRawLongBits(sample)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static byte[] writeFloat32(double[] samples) {
+    var buffer = ByteBuffer.allocate(samples.length * Float.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+    for (var sample : samples) {
+      buffer.putFloat((float) sample);
+    }
+    return buffer.array();
+  }
+
+  private static byte[] writeFloat64(double[] samples) {
+    var buffer = ByteBuffer.allocate(samples.length * Double.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+    buffer.asDoubleBuffer().put(samples);
+    return buffer.array();
+  }
+
+  /**
+   * Finds the fewest decimal places that every sample is the nearest double to, or -1 if there is
+   * none up to {@link #MAX_DECIMAL_SCALE}
+   */
+  private static int decimalScale(double[] samples) {
+    for (var scale = 0; scale <= MAX_DECIMAL_SCALE; scale++) {
+      var factor = POWERS_OF_TEN[scale];
+      var exact = true;
+      for (var index = 0; exact && index < samples.length; index++) {
+        var scaled = Math.rint(samples[index] * factor);
+        // compare as decoded, which also rules out -0.0
+        exact =
+            Math.abs(scaled) < MAX_SCALED_SAMPLE
+                && Double.doubleToRawLongBits((long) scaled / factor)
+                    == Double.doubleToRawLongBits(samples[index]);
+      }
+      if (exact) {
+        return scale;
+      }
+    }
+    return -1;
+  }
+
+  private static byte[] writeDeltaVarints(double[] samples, int scale) {
+    var factor = POWERS_OF_TEN[scale];
+    var outputStream = new ByteArrayOutputStream(samples.length * 2);
+    long previous = 0;
+    for (var sample : samples) {
+      var scaled = (long) Math.rint(sample * factor);
+      var delta = scaled - previous;
+      previous = scaled;
+
+      // zigzag encode so small negative deltas are small varints too
+      var zigzag = (delta << 1) ^ (delta >> 63);
+      while ((zigzag & ~0x7FL) != 0) {
+        outputStream.write((int) ((zigzag & 0x7F) | 0x80));
+        zigzag >>>= 7;
+      }
+      outputStream.write((int) zigzag);
+    }
+    return outputStream.toByteArray();
+  }
+
+  private static void readDeltaVarints(ByteBuffer payload, double[] samples, int scale)
+      throws IOException {
+    if (scale < 0 || scale > MAX_DECIMAL_SCALE) {
+      throw new IOException("Invalid decimal scale " + scale);
+    }
+
+    var factor = POWERS_OF_TEN[scale];
+    long previous = 0;
+    for (var index = 0; index < samples.length; index++) {
+      long zigzag = 0;
+      var shift = 0;
+      byte next;
+      do {
+        next = payload.get();
+        zigzag |= (long) (next & 0x7F) << shift;
+        shift += 7;
+      } while (next < 0 && shift < Long.SIZE);
+
+      previous += (zigzag >>> 1) ^ -(zigzag & 1);
+      samples[index] = previous / factor;
+    }
+  }
+
+  private static byte[] littleEndianInt(int value) {
+    return ByteBuffer.allocate(Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN).putInt(value).array();
+  }
+
+  /** Writes each sample array as the index of the column it is written to */
+  private static final class ColumnSerializer extends StdSerializer<double[]> {
+
+    private ColumnSerializer() {
+      super(double[].class);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void serialize(double[] samples, JsonGenerator generator, SerializerProvider provider)
+        throws IOException {
+      var columns = (List<double[]>) provider.getAttribute(COLUMNS_ATTRIBUTE);
+      if (columns == null) {
+        throw JsonMappingException.from(provider, "No columns to write sample array to");
+      }
+      generator.writeNumber(columns.size());
+      columns.add(samples);
+    }
+  }
+
+  /** Reads each sample array from the column whose index was written in its place */
+  private static final class ColumnDeserializer extends StdDeserializer<double[]> {
+
+    private ColumnDeserializer() {
+      super(double[].class);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public double[] deserialize(JsonParser parser, DeserializationContext context)
+        throws IOException {
+      var columns = (List<double[]>) context.getAttribute(COLUMNS_ATTRIBUTE);
+      var index = parser.getIntValue();
+      if (columns == null || index < 0 || index >= columns.size()) {
+        throw JsonMappingException.from(parser, "No sample column " + index);
+      }
+      return columns.get(index);
+    }
+  }
+}
@@ -0,0 +1,117 @@
+package gms.shared.frameworks.osd.coi.datatransferobjects;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class ColumnarSampleCodecTest {
+
+  private static final ObjectMapper MSGPACK_MAPPER =
+      CoiObjectMapperFactory.getMsgpackObjectMapper();
+
+  @ParameterizedTest
+  @MethodSource("sampleArguments")
+  void testRoundTrip(double[] samples, boolean deltaCompression) throws IOException {
+    var codec = ColumnarSampleCodec.create(MSGPACK_MAPPER, deltaCompression);
+    var series = List.of(new Series("first", samples), new Series("second", new double[] {-0.0}));
+
+    var serialized = codec.writeValueAsBytes(series);
+    List<Series> deserialized =
+        codec.read(
+            new ByteArrayInputStream(serialized),
+            MSGPACK_MAPPER.getTypeFactory().constructCollectionType(List.class, Series.class));
+
+    assertEquals(series, deserialized);
+  }
+
+  static Stream<Arguments> sampleArguments() {
+    var random = new Random(0);
+    var decimalSamples =
+        IntStream.range(0, 2000)
+            .mapToDouble(i -> Math.rint(Math.sin(i) * 1.0e6) / 1.0e4)
+            .toArray();
+    var floatSamples = new double[2000];
+    Arrays.setAll(floatSamples, i -> (float) random.nextGaussian());
+    var doubleSamples = random.doubles(2000).toArray();
+
+    return Stream.of(
+        Arguments.arguments(decimalSamples, true),
+        Arguments.arguments(decimalSamples, false),
+        Arguments.arguments(floatSamples, true),
+        Arguments.arguments(doubleSamples, true),
+        Arguments.arguments(new double[] {Double.NaN, Double.MAX_VALUE, 1.0e300}, true));
+  }
+
+  @Test
+  void testColumnEncodingSizes() throws IOException {
+    var decimalSamples = IntStream.range(0, 1000).mapToDouble(i -> i / 100.0).toArray();
+    var floatSamples = IntStream.range(0, 1000).mapToDouble(i -> i / 1024.0 + 0.5).toArray();
+
+    var compressed = ColumnarSampleCodec.create(MSGPACK_MAPPER, true);
+    var uncompressed = ColumnarSampleCodec.create(MSGPACK_MAPPER, false);
+
+    // steps of one in the second decimal place take a single varint byte per sample
+    assertTrue(compressed.writeValueAsBytes(decimalSamples).length < 1100);
+    assertTrue(uncompressed.writeValueAsBytes(decimalSamples).length > 8000);
+
+    // exactly representable samples fall back to float32 when they are not decimals
+    assertTrue(uncompressed.writeValueAsBytes(floatSamples).length < 4100);
+    assertArrayEquals(
+        floatSamples,
+        uncompressed.read(uncompressed.writeValueAsBytes(floatSamples), double[].class));
+  }
+
+  @Test
+  void testReadRejectsInvalidData() throws IOException {
+    var codec = ColumnarSampleCodec.create(MSGPACK_MAPPER, true);
+    var serialized = codec.writeValueAsBytes(new Series("series", new double[] {1, 2, 3}));
+    var truncated = Arrays.copyOf(serialized, serialized.length / 2);
+    var notColumnar = MSGPACK_MAPPER.writeValueAsBytes(new Series("series", new double[] {1}));
+
+    assertThrows(IOException.class, () -> codec.read(truncated, Series.class));
+    assertThrows(IOException.class, () -> codec.read(notColumnar, Series.class));
+    assertThrows(NullPointerException.class, () -> ColumnarSampleCodec.create(null, true));
+  }
+
+  record Series(String name, double[] samples) {
+
+    @JsonCreator
+    Series(@JsonProperty("name") String name, @JsonProperty("samples") double[] samples) {
+      this.name = name;
+      this.samples = samples;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      return o instanceof Series that
+          && name.equals(that.name)
+          && Arrays.equals(samples, that.samples);
+    }
+
+    @Override
+    public int hashCode() {
+      return 31 * name.hashCode() + Arrays.hashCode(samples);
+    }
+
+    @Override
+    public String toString() {
+      return name + Arrays.toString(samples);
+    }
+  }
+}
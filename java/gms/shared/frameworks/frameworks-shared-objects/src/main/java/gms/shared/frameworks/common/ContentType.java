@@ -8,12 +8,14 @@ public enum ContentType {
   JSON(ContentType.JSON_NAME),
   JSON_STREAM(ContentType.JSON_STREAM_NAME),
   MSGPACK(ContentType.MSGPACK_NAME),
-  MSGPACK_STREAM(ContentType.MSGPACK_STREAM_NAME);
+  MSGPACK_STREAM(ContentType.MSGPACK_STREAM_NAME),
+  COLUMNAR_MSGPACK(ContentType.COLUMNAR_MSGPACK_NAME);
 
   public static final String JSON_NAME = "application/json";
   public static final String JSON_STREAM_NAME = "application/stream+json";
   public static final String MSGPACK_NAME = "application/msgpack";
   public static final String MSGPACK_STREAM_NAME = "application/stream+msgpack";
+  public static final String COLUMNAR_MSGPACK_NAME = "application/columnar+msgpack";
 
   private final String type;
 
@@ -53,6 +55,7 @@ public enum ContentType {
       case JSON_STREAM_NAME -> JSON_STREAM;
       case MSGPACK_NAME -> MSGPACK;
       case MSGPACK_STREAM_NAME -> MSGPACK_STREAM;
+      case COLUMNAR_MSGPACK_NAME -> COLUMNAR_MSGPACK;
       default -> throw new IllegalArgumentException("Unknown content type: " + contentType);
     };
   }
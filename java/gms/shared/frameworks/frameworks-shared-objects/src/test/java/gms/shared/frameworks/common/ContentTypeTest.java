@@ -27,7 +27,11 @@ class ContentTypeTest {
         () -> assertEquals(ContentType.MSGPACK, ContentType.parse(ContentType.MSGPACK_NAME)),
         () ->
             assertEquals(
-                ContentType.MSGPACK_STREAM, ContentType.parse(ContentType.MSGPACK_STREAM_NAME)));
+                ContentType.MSGPACK_STREAM, ContentType.parse(ContentType.MSGPACK_STREAM_NAME)),
+        () ->
+            assertEquals(
+                ContentType.COLUMNAR_MSGPACK,
+                ContentType.parse(ContentType.COLUMNAR_MSGPACK_NAME)));
   }
 
   @Test
@@ -50,6 +50,7 @@ import gms.shared.signaldetection.util.BatchResults;
 import gms.shared.signaldetection.util.SourcedWfdisc;
 import gms.shared.signalenhancement.coi.types.FilterDefinitionUsage;
 import gms.shared.spring.utilities.aspect.Timing;
+import gms.shared.spring.utilities.framework.LookupExecutor;
 import gms.shared.stationdefinition.cache.util.StationDefinitionIdUtility;
 import gms.shared.stationdefinition.coi.channel.Channel;
 import gms.shared.stationdefinition.coi.channel.ChannelSegmentDescriptor;
@@ -74,6 +75,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -81,6 +83,7 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -126,6 +129,7 @@ import org.springframework.stereotype.Component;
   private final IgniteCache<ChannelSegmentDescriptor, List<Long>>
       channelSegmentDescriptorWfidsCache;
   private final SdhBridgeHelperUtility sdhBridgeHelperUtility;
+  private final LookupExecutor lookupExecutor;
   private final Environment environment;
 
   @Autowired
@@ -140,6 +144,7 @@ import org.springframework.stereotype.Component;
       SignalDetectionHypothesisConverter signalDetectionHypothesisConverter,
       SignalDetectionConverter signalDetectionConverter,
       IgniteCache<ChannelSegmentDescriptor, List<Long>> channelSegmentDescriptorWfidsCache,
+      LookupExecutor lookupExecutor,
       Environment environment) {
 
     // set the database connectors for signal detection
@@ -161,6 +166,9 @@ import org.springframework.stereotype.Component;
 
     this.sdhBridgeHelperUtility = sdhBridgeHelperUtility;
 
+    // run independent lookups on the shared, container managed lookup pool
+    this.lookupExecutor = lookupExecutor;
+
     this.environment = environment;
   }
 
@@ -178,7 +186,10 @@ import org.springframework.stereotype.Component;
     var stageName = stageId.getName();
     Optional<WorkflowDefinitionId> previousStageOptional = getPreviousStage(stageId);
 
-    // get the current connectors for arrival and assoc
+    // get the current connectors for amplitude, arrival and assoc
+    var amplitudeDatabaseConnector =
+        signalDetectionBridgeDatabaseConnectors.getConnectorForCurrentStageOrThrow(
+            stageName, SignalDetectionDatabaseConnectorTypes.AMPLITUDE_CONNECTOR_TYPE);
     var arrivalDatabaseConnector =
         signalDetectionBridgeDatabaseConnectors.getConnectorForCurrentStageOrThrow(
             stageName, SignalDetectionDatabaseConnectorTypes.ARRIVAL_CONNECTOR_TYPE);
@@ -186,23 +197,6 @@ import org.springframework.stereotype.Component;
         signalDetectionBridgeDatabaseConnectors.getConnectorForCurrentStageOrThrow(
             stageName, SignalDetectionDatabaseConnectorTypes.ASSOC_CONNECTOR_TYPE);
 
-    // create arids using from id utility and signal detection objects,
-    // filtering out nulls that return from the utility
-    var arids =
-        ids.stream()
-            .map(signalDetectionIdUtility::getAridForSignalDetectionUUID)
-            .filter(Objects::nonNull)
-            .toList();
-
-    // create map of current stage arrivals using arids as keys
-    Map<Long, ArrivalDao> currentStageArrivals =
-        findCurrentStageArrivals(arrivalDatabaseConnector, arids);
-    // get the key sets of current stage arrivals used to query assocs
-    var currentArids = new ArrayList<>(currentStageArrivals.keySet());
-    // create map of current stage arrivals using arids as keys
-    SetMultimap<Long, AssocDao> currentStageAssocs =
-        findCurrentStageAssocs(assocDatabaseConnector, currentArids);
-
     // check if the previous connectors exists for arrival and assoc
     var prevArrivalDatabaseConnectorExists =
         signalDetectionBridgeDatabaseConnectors.connectorExistsForPreviousStage(
@@ -211,40 +205,73 @@ import org.springframework.stereotype.Component;
         signalDetectionBridgeDatabaseConnectors.connectorExistsForPreviousStage(
             stageName, SignalDetectionDatabaseConnectorTypes.ASSOC_CONNECTOR_TYPE);
 
-    // if previous stage connector exists, create map of previous stage arrivals using arids as keys
-    Map<Long, ArrivalDao> previousStageArrivals =
-        prevArrivalDatabaseConnectorExists ? findPreviousStageArrivals(stageId, arids) : Map.of();
-    var previousArids = new ArrayList<>(previousStageArrivals.keySet());
-
+    // create arids using from id utility and signal detection objects,
+    // leaving out ids the utility has no arid for
+    var arids =
+        new ArrayList<>(signalDetectionIdUtility.getAridsForSignalDetectionUUIDs(ids).values());
+
+    // current and previous stage arrivals are both queried by the requested arids, so run them
+    // together. Assocs and amplitudes for each stage are queried as soon as that stage's arrivals
+    // are found.
+    CompletableFuture<Map<Long, ArrivalDao>> currentStageArrivalsFuture =
+        lookupExecutor.submit(() -> findCurrentStageArrivals(arrivalDatabaseConnector, arids));
+    CompletableFuture<Map<Long, ArrivalDao>> previousStageArrivalsFuture =
+        prevArrivalDatabaseConnectorExists
+            ? lookupExecutor.submit(() -> findPreviousStageArrivals(stageId, arids))
+            : CompletableFuture.completedFuture(Map.of());
+
+    CompletableFuture<SetMultimap<Long, AssocDao>> currentStageAssocsFuture =
+        currentStageArrivalsFuture.thenApplyAsync(
+            currentStageArrivals ->
+                findCurrentStageAssocs(
+                    assocDatabaseConnector, new ArrayList<>(currentStageArrivals.keySet())),
+            lookupExecutor);
+    CompletableFuture<SetMultimap<Long, AmplitudeDao>> amplitudeDaosFuture =
+        currentStageArrivalsFuture.thenApplyAsync(
+            currentStageArrivals ->
+                findCurrentStageAmplitudes(
+                    amplitudeDatabaseConnector, new ArrayList<>(currentStageArrivals.keySet())),
+            lookupExecutor);
     // if previous arids exists and previous stage database connector exists query for previous
     // assocs
-    SetMultimap<Long, AssocDao> previousStageAssocs =
-        (!previousArids.isEmpty() && prevAssocDatabaseConnectorExists)
-            ? findPreviousStageAssocs(stageId, previousArids)
-            : HashMultimap.create();
+    CompletableFuture<SetMultimap<Long, AssocDao>> previousStageAssocsFuture =
+        previousStageArrivalsFuture.thenApplyAsync(
+            previousStageArrivals ->
+                (!previousStageArrivals.isEmpty() && prevAssocDatabaseConnectorExists)
+                    ? findPreviousStageAssocs(
+                        stageId, new ArrayList<>(previousStageArrivals.keySet()))
+                    : HashMultimap.create(),
+            lookupExecutor);
+
+    var currentStageArrivals = LookupExecutor.join(currentStageArrivalsFuture);
+    var previousStageArrivals = LookupExecutor.join(previousStageArrivalsFuture);
+    var previousStageAssocs = LookupExecutor.join(previousStageAssocsFuture);
+
+    // get signal detections for any arids only found in the previous stage, while the current
+    // stage detections are converted
+    var previousArids = new HashSet<>(previousStageArrivals.keySet());
+    previousArids.removeAll(currentStageArrivals.keySet());
+    CompletableFuture<List<SignalDetection>> previousStageSignalDetectionsFuture =
+        (!previousArids.isEmpty() && previousStageOptional.isPresent())
+            ? lookupExecutor.submit(
+                () ->
+                    findByIdsHelper(
+                        previousStageArrivals, previousStageAssocs, previousStageOptional.get()))
+            : CompletableFuture.completedFuture(List.of());
 
     var signalDetectionList =
-        findByIdsHelper(
+        convertSignalDetections(
             currentStageArrivals,
-            currentStageAssocs,
+            LookupExecutor.join(currentStageAssocsFuture),
             previousStageArrivals,
             previousStageAssocs,
+            LookupExecutor.join(amplitudeDaosFuture),
             stageId);
 
-    previousArids.removeAll(currentArids);
-
-    // get signal detections for any remaining arids
-    if (!previousArids.isEmpty() && previousStageOptional.isPresent()) {
-      signalDetectionList =
-          Stream.concat(
-                  signalDetectionList.stream(),
-                  findByIdsHelper(
-                      previousStageArrivals, previousStageAssocs, previousStageOptional.get())
-                      .stream())
-              .toList();
-    }
-
-    return signalDetectionList;
+    return Stream.concat(
+            signalDetectionList.stream(),
+            LookupExecutor.join(previousStageSignalDetectionsFuture).stream())
+        .toList();
   }
 
   private List<SignalDetection> findByIdsHelper(
@@ -277,33 +304,38 @@ import org.springframework.stereotype.Component;
             ? findPreviousStageAssocs(currentStage, previousArids)
             : HashMultimap.create();
 
-    return findByIdsHelper(
+    var amplitudeDatabaseConnector =
+        signalDetectionBridgeDatabaseConnectors.getConnectorForCurrentStageOrThrow(
+            stageName, SignalDetectionDatabaseConnectorTypes.AMPLITUDE_CONNECTOR_TYPE);
+    // get amplitude from current set of arids
+    SetMultimap<Long, AmplitudeDao> amplitudeDaos =
+        findCurrentStageAmplitudes(amplitudeDatabaseConnector, currentArids);
+
+    return convertSignalDetections(
         currentStageArrivals,
         currentStageAssocs,
         previousStageArrivals,
         previousStageAssocs,
+        amplitudeDaos,
         currentStage);
   }
 
-  private List<SignalDetection> findByIdsHelper(
+  /**
+   * Converts the legacy records found for each current stage arrival into signal detections,
+   * converting arrivals in parallel
+   */
+  private List<SignalDetection> convertSignalDetections(
       Map<Long, ArrivalDao> currentStageArrivals,
       SetMultimap<Long, AssocDao> currentStageAssocs,
       Map<Long, ArrivalDao> previousStageArrivals,
       SetMultimap<Long, AssocDao> previousStageAssocs,
+      SetMultimap<Long, AmplitudeDao> amplitudeDaos,
       WorkflowDefinitionId currentStage) {
 
-    var currentArids = new ArrayList<>(currentStageArrivals.keySet());
-    var stageName = currentStage.getName();
     Optional<WorkflowDefinitionId> previousStageOptional = getPreviousStage(currentStage);
 
-    var amplitudeDatabaseConnector =
-        signalDetectionBridgeDatabaseConnectors.getConnectorForCurrentStageOrThrow(
-            stageName, SignalDetectionDatabaseConnectorTypes.AMPLITUDE_CONNECTOR_TYPE);
-    // get amplitude from current set of arids
-    SetMultimap<Long, AmplitudeDao> amplitudeDaos =
-        findCurrentStageAmplitudes(amplitudeDatabaseConnector, currentArids);
-
     return currentStageArrivals.entrySet().stream()
+        .parallel()
         .map(
             entry ->
                 mapEntryToSignalDetectionBuilder(
@@ -438,19 +470,17 @@ import org.springframework.stereotype.Component;
 
   private List<SignalDetectionHypothesisAssocIdComponents> findSdhAssocIdComponents(
       List<SignalDetectionHypothesisId> ids) {
-    return ids.stream()
-        .map(
-            hypId ->
-                signalDetectionIdUtility.getAssocIdComponentsFromSignalDetectionHypothesisId(
-                    hypId.getId()))
-        .toList();
+    var uuids = ids.stream().map(SignalDetectionHypothesisId::getId).toList();
+    return List.copyOf(
+        signalDetectionIdUtility
+            .getAssocIdComponentsFromSignalDetectionHypothesisIds(uuids)
+            .values());
   }
 
   private List<AccountValue<Long>> findAccountArrivalIds(List<SignalDetectionHypothesisId> ids) {
 
-    return ids.stream()
-        .map(hypId -> signalDetectionIdUtility.getAccountArrivalIdFromSdhId(hypId.getId()))
-        .toList();
+    var uuids = ids.stream().map(SignalDetectionHypothesisId::getId).toList();
+    return List.copyOf(signalDetectionIdUtility.getAccountArrivalIdsFromSdhIds(uuids).values());
   }
 
   @Override
@@ -498,9 +528,11 @@ import org.springframework.stereotype.Component;
 
     // create excluded arids using from id utility and signal detection objects
     Collection<Long> excludedArids =
-        excludedSignalDetections.stream()
-            .map(sd -> signalDetectionIdUtility.getAridForSignalDetectionUUID(sd.getId()))
-            .toList();
+        List.copyOf(
+            signalDetectionIdUtility
+                .getAridsForSignalDetectionUUIDs(
+                    excludedSignalDetections.stream().map(SignalDetection::getId).toList())
+                .values());
 
     SetMultimap<String, String> channelGroupNames =
         findChannelGroupNamesFromStationsAndTimeRange(stations, startTime, endTime);
@@ -2,8 +2,11 @@ package gms.shared.signaldetection.repository.utils;
 
 import com.google.common.base.Preconditions;
 import gms.shared.frameworks.cache.utils.CacheInfo;
+import gms.shared.frameworks.cache.utils.IgniteBulkLookup;
 import gms.shared.frameworks.cache.utils.IgniteConnectionManager;
 import gms.shared.signaldetection.coi.types.FeatureMeasurementType;
+import java.util.Collection;
+import java.util.Map;
 import java.util.UUID;
 import org.apache.ignite.IgniteCache;
 import org.apache.ignite.cache.CacheAtomicityMode;
@@ -133,6 +136,17 @@ public class SignalDetectionIdUtility {
     return signalDetectionAridMap.get(uuid);
   }
 
+  /**
+   * Find the Arrival Ids for the given SignalDetection UUIDs, omitting UUIDs with no value found
+   *
+   * @param uuids SignalDetection UUIDs
+   * @return arids by SignalDetection UUID, in the order the UUIDs were provided
+   */
+  public Map<UUID, Long> getAridsForSignalDetectionUUIDs(Collection<UUID> uuids) {
+    Preconditions.checkNotNull(uuids);
+    return IgniteBulkLookup.getAll(signalDetectionAridMap, uuids);
+  }
+
   /**
    * Find SignalDetectionHypothesis UUID for given Arrival Id and Stage Id, returns null if no value
    * is found
@@ -158,6 +172,19 @@ public class SignalDetectionIdUtility {
     return accountArrivalIdBySdhIdCache.get(uuid);
   }
 
+  /**
+   * Find Arrival Ids and Stage Ids for the given SignalDetectionHypothesis UUIDs, omitting UUIDs
+   * with no value found
+   *
+   * @param uuids SignalDetectionHypothesis UUIDs
+   * @return AccountValues containing arid and stageid by SignalDetectionHypothesis UUID, in the
+   *     order the UUIDs were provided
+   */
+  public Map<UUID, AccountValue<Long>> getAccountArrivalIdsFromSdhIds(Collection<UUID> uuids) {
+    Preconditions.checkNotNull(uuids);
+    return IgniteBulkLookup.getAll(accountArrivalIdBySdhIdCache, uuids);
+  }
+
   /**
    * Add mapping between Signal detection hypothesis UUID and stageId and arid
    *
@@ -212,6 +239,20 @@ public class SignalDetectionIdUtility {
     return signalDetectionHypothesisIdAssocIdComponentsMap.get(uuid);
   }
 
+  /**
+   * Find Arrival Ids, Origin Ids, and Stage Ids for the given SignalDetectionHypothesis UUIDs,
+   * omitting UUIDs with no value found
+   *
+   * @param uuids SignalDetectionHypothesis UUIDs
+   * @return {@link SignalDetectionHypothesisAssocIdComponents} by SignalDetectionHypothesis UUID,
+   *     in the order the UUIDs were provided
+   */
+  public Map<UUID, SignalDetectionHypothesisAssocIdComponents>
+      getAssocIdComponentsFromSignalDetectionHypothesisIds(Collection<UUID> uuids) {
+    Preconditions.checkNotNull(uuids);
+    return IgniteBulkLookup.getAll(signalDetectionHypothesisIdAssocIdComponentsMap, uuids);
+  }
+
   /**
    * Add mapping between Signal detection hypothesis UUID and stage id and arid and orid
    *
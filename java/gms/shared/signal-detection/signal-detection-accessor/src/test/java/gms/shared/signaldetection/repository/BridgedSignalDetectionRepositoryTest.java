@@ -56,10 +56,12 @@ import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
@@ -88,6 +90,7 @@ import gms.shared.signaldetection.repository.utils.AccountValue;
 import gms.shared.signaldetection.repository.utils.SignalDetectionHypothesisAssocIdComponents;
 import gms.shared.signaldetection.repository.utils.SignalDetectionIdUtility;
 import gms.shared.signalenhancement.coi.types.FilterDefinitionUsage;
+import gms.shared.spring.utilities.framework.LookupExecutor;
 import gms.shared.stationdefinition.coi.channel.ChannelSegmentDescriptor;
 import gms.shared.stationdefinition.coi.filter.FilterDefinition;
 import gms.shared.stationdefinition.coi.filter.LinearFilterDescription;
@@ -111,6 +114,7 @@ import java.util.function.Consumer;
 import java.util.stream.Stream;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.ignite.IgniteCache;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -181,6 +185,8 @@ class BridgedSignalDetectionRepositoryTest {
   private static final ImmutableMap<WorkflowDefinitionId, String> dbAccountMissingStageMap =
       ImmutableMap.of(WORKFLOW_DEFINITION_ID1, WORKFLOW_DEFINITION_ID1_NAME);
 
+  private LookupExecutor lookupExecutor;
+
   private BridgedSignalDetectionRepository repository;
 
   private static final List<UUID> SIGNAL_DETECTION_IDS =
@@ -195,6 +201,9 @@ class BridgedSignalDetectionRepositoryTest {
   private static final List<SignalDetectionHypothesisId> SIGNAL_DETECTION_HYPOTHESIS_IDS_2 =
       List.of(SIGNAL_DETECTION_HYPOTHESIS_ID_TEST_1, SIGNAL_DETECTION_HYPOTHESIS_ID_TEST_3);
 
+  private static final List<UUID> SDH_UUIDS =
+      List.of(SIGNAL_DETECTION_HYPOTHESIS_ID.getId(), SIGNAL_DETECTION_HYPOTHESIS_ID_2.getId());
+
   private static final Instant START_TIME = Instant.EPOCH;
   private static final Instant END_TIME = Instant.EPOCH.plusSeconds(300);
 
@@ -208,6 +217,7 @@ class BridgedSignalDetectionRepositoryTest {
   @BeforeEach
   void setUp() {
 
+    lookupExecutor = new LookupExecutor(3, 16);
     repository =
         new BridgedSignalDetectionRepository(
             signalDetectionBridgeDatabaseConnectors,
@@ -220,9 +230,15 @@ class BridgedSignalDetectionRepositoryTest {
             signalDetectionHypothesisConverter,
             signalDetectionConverter,
             channelSegmentDescriptorWfidsCache,
+            lookupExecutor,
             environment);
   }
 
+  @AfterEach
+  void tearDown() {
+    lookupExecutor.close();
+  }
+
   @Test
   void testFindByIdsNullIds() {
     assertThrows(
@@ -346,6 +362,25 @@ class BridgedSignalDetectionRepositoryTest {
         channelSegmentDescriptorWfidsCache);
   }
 
+  @Test
+  void testFindByIdsRethrowsLookupFailure() {
+    initCurrentConnectorMocks();
+
+    when(signalDetectionBridgeDefinition.getOrderedStages())
+        .thenReturn(ImmutableList.of(WORKFLOW_DEFINITION_ID1));
+    when(signalDetectionIdUtility.getAridsForSignalDetectionUUIDs(SIGNAL_DETECTION_IDS))
+        .thenReturn(ImmutableMap.of(SIGNAL_DETECTION_ID, ARRIVAL_1.getId()));
+    doThrow(new IllegalStateException("Arrival query failed"))
+        .when(currArrivalDatabaseConnector)
+        .findArrivalsByArids(List.of(ARRIVAL_1.getId()));
+
+    // the failed lookup's own exception reaches the caller, not the completion wrapper
+    assertThrows(
+        IllegalStateException.class,
+        () -> repository.findByIds(SIGNAL_DETECTION_IDS, WORKFLOW_DEFINITION_ID1));
+    verifyNoInteractions(currAssocDatabaseConnector, amplitudeDatabaseConnector);
+  }
+
   @Test
   void testFindHypothesesByIdsArrivalsNoAssocs() {
     // initialize current and previous stage connectors
@@ -371,14 +406,15 @@ class BridgedSignalDetectionRepositoryTest {
     when(signalDetectionBridgeDefinition.getDatabaseAccountByStage()).thenReturn(dbAccountStageMap);
 
     var idComponents1 = SDH_ACCOUNT_ARRIVAL_ID_1;
-    doReturn(idComponents1)
-        .when(signalDetectionIdUtility)
-        .getAccountArrivalIdFromSdhId(SIGNAL_DETECTION_HYPOTHESIS_ID.getId());
-
     var idComponents2 = AccountValue.create(WORKFLOW_DEFINITION_ID2_NAME, ARRIVAL_3.getId());
-    doReturn(idComponents2)
+    doReturn(
+            ImmutableMap.of(
+                SIGNAL_DETECTION_HYPOTHESIS_ID.getId(),
+                idComponents1,
+                SIGNAL_DETECTION_HYPOTHESIS_ID_2.getId(),
+                idComponents2))
         .when(signalDetectionIdUtility)
-        .getAccountArrivalIdFromSdhId(SIGNAL_DETECTION_HYPOTHESIS_ID_2.getId());
+        .getAccountArrivalIdsFromSdhIds(SDH_UUIDS);
 
     // create arrival current and previous stage connector mock returns
     List<ArrivalDao> currArrivals1 = List.of(ARRIVAL_1);
@@ -516,8 +552,8 @@ class BridgedSignalDetectionRepositoryTest {
             any(),
             any(),
             any());
-    verify(signalDetectionIdUtility, times(2))
-        .getAssocIdComponentsFromSignalDetectionHypothesisId(any());
+    verify(signalDetectionIdUtility)
+        .getAssocIdComponentsFromSignalDetectionHypothesisIds(SDH_UUIDS);
 
     verifyNoMoreInteractions(
         signalDetectionBridgeDefinition,
@@ -582,14 +618,15 @@ class BridgedSignalDetectionRepositoryTest {
     when(signalDetectionBridgeDefinition.getDatabaseAccountByStage()).thenReturn(dbAccountStageMap);
 
     var idComponents1 = SDH_ACCOUNT_ARRIVAL_ID_1;
-    doReturn(idComponents1)
-        .when(signalDetectionIdUtility)
-        .getAccountArrivalIdFromSdhId(SIGNAL_DETECTION_HYPOTHESIS_ID.getId());
-
     var idComponents2 = AccountValue.create(WORKFLOW_DEFINITION_ID2_NAME, ARRIVAL_3.getId());
-    doReturn(idComponents2)
+    doReturn(
+            ImmutableMap.of(
+                SIGNAL_DETECTION_HYPOTHESIS_ID.getId(),
+                idComponents1,
+                SIGNAL_DETECTION_HYPOTHESIS_ID_2.getId(),
+                idComponents2))
         .when(signalDetectionIdUtility)
-        .getAccountArrivalIdFromSdhId(SIGNAL_DETECTION_HYPOTHESIS_ID_2.getId());
+        .getAccountArrivalIdsFromSdhIds(SDH_UUIDS);
 
     // create arrival current and previous stage connector mock returns
     List<ArrivalDao> currArrivals1 = List.of(ARRIVAL_1);
@@ -742,8 +779,8 @@ class BridgedSignalDetectionRepositoryTest {
             any(),
             any(),
             any());
-    verify(signalDetectionIdUtility, times(2))
-        .getAssocIdComponentsFromSignalDetectionHypothesisId(any());
+    verify(signalDetectionIdUtility)
+        .getAssocIdComponentsFromSignalDetectionHypothesisIds(SDH_UUIDS);
 
     verifyNoMoreInteractions(
         signalDetectionBridgeDefinition,
@@ -782,34 +819,35 @@ class BridgedSignalDetectionRepositoryTest {
     when(signalDetectionBridgeDefinition.getDatabaseAccountByStage()).thenReturn(dbAccountStageMap);
 
     var idComponents1 = AccountValue.create(WORKFLOW_DEFINITION_ID2_NAME, ARRIVAL_TEST_1.getId());
-    doReturn(idComponents1)
-        .when(signalDetectionIdUtility)
-        .getAccountArrivalIdFromSdhId(SIGNAL_DETECTION_HYPOTHESIS_ID.getId());
-
     var idComponents2 = AccountValue.create(WORKFLOW_DEFINITION_ID2_NAME, ARRIVAL_TEST_3.getId());
-    doReturn(idComponents2)
+    doReturn(
+            ImmutableMap.of(
+                SIGNAL_DETECTION_HYPOTHESIS_ID.getId(),
+                idComponents1,
+                SIGNAL_DETECTION_HYPOTHESIS_ID_2.getId(),
+                idComponents2))
         .when(signalDetectionIdUtility)
-        .getAccountArrivalIdFromSdhId(SIGNAL_DETECTION_HYPOTHESIS_ID_2.getId());
+        .getAccountArrivalIdsFromSdhIds(SDH_UUIDS);
 
     var assocIdComponents1 =
         SignalDetectionHypothesisAssocIdComponents.create(
             WORKFLOW_DEFINITION_ID2_NAME,
             ASSOC_TEST_1.getId().getArrivalId(),
             ASSOC_TEST_1.getId().getOriginId());
-    doReturn(assocIdComponents1)
-        .when(signalDetectionIdUtility)
-        .getAssocIdComponentsFromSignalDetectionHypothesisId(
-            SIGNAL_DETECTION_HYPOTHESIS_ID.getId());
 
     var assocIdComponents2 =
         SignalDetectionHypothesisAssocIdComponents.create(
             WORKFLOW_DEFINITION_ID2_NAME,
             ASSOC_TEST_3.getId().getArrivalId(),
             ASSOC_TEST_3.getId().getOriginId());
-    doReturn(assocIdComponents2)
+    doReturn(
+            ImmutableMap.of(
+                SIGNAL_DETECTION_HYPOTHESIS_ID.getId(),
+                assocIdComponents1,
+                SIGNAL_DETECTION_HYPOTHESIS_ID_2.getId(),
+                assocIdComponents2))
         .when(signalDetectionIdUtility)
-        .getAssocIdComponentsFromSignalDetectionHypothesisId(
-            SIGNAL_DETECTION_HYPOTHESIS_ID_2.getId());
+        .getAssocIdComponentsFromSignalDetectionHypothesisIds(SDH_UUIDS);
 
     // ---------------------------------------------------------
     // create arrival current and previous stage connector mock returns
@@ -955,34 +993,35 @@ class BridgedSignalDetectionRepositoryTest {
         .thenReturn(dbAccountMissingStageMap);
     doReturn(new String[] {}).when(environment).getActiveProfiles();
     var idComponents1 = AccountValue.create(WORKFLOW_DEFINITION_ID2_NAME, ARRIVAL_TEST_1.getId());
-    doReturn(idComponents1)
-        .when(signalDetectionIdUtility)
-        .getAccountArrivalIdFromSdhId(SIGNAL_DETECTION_HYPOTHESIS_ID.getId());
-
     var idComponents2 = AccountValue.create(WORKFLOW_DEFINITION_ID2_NAME, ARRIVAL_TEST_3.getId());
-    doReturn(idComponents2)
+    doReturn(
+            ImmutableMap.of(
+                SIGNAL_DETECTION_HYPOTHESIS_ID.getId(),
+                idComponents1,
+                SIGNAL_DETECTION_HYPOTHESIS_ID_2.getId(),
+                idComponents2))
         .when(signalDetectionIdUtility)
-        .getAccountArrivalIdFromSdhId(SIGNAL_DETECTION_HYPOTHESIS_ID_2.getId());
+        .getAccountArrivalIdsFromSdhIds(SDH_UUIDS);
 
     var assocIdComponents1 =
         SignalDetectionHypothesisAssocIdComponents.create(
             WORKFLOW_DEFINITION_ID2_NAME,
             ASSOC_TEST_1.getId().getArrivalId(),
             ASSOC_TEST_1.getId().getOriginId());
-    doReturn(assocIdComponents1)
-        .when(signalDetectionIdUtility)
-        .getAssocIdComponentsFromSignalDetectionHypothesisId(
-            SIGNAL_DETECTION_HYPOTHESIS_ID.getId());
 
     var assocIdComponents2 =
         SignalDetectionHypothesisAssocIdComponents.create(
             WORKFLOW_DEFINITION_ID2_NAME,
             ASSOC_TEST_3.getId().getArrivalId(),
             ASSOC_TEST_3.getId().getOriginId());
-    doReturn(assocIdComponents2)
+    doReturn(
+            ImmutableMap.of(
+                SIGNAL_DETECTION_HYPOTHESIS_ID.getId(),
+                assocIdComponents1,
+                SIGNAL_DETECTION_HYPOTHESIS_ID_2.getId(),
+                assocIdComponents2))
         .when(signalDetectionIdUtility)
-        .getAssocIdComponentsFromSignalDetectionHypothesisId(
-            SIGNAL_DETECTION_HYPOTHESIS_ID_2.getId());
+        .getAssocIdComponentsFromSignalDetectionHypothesisIds(SDH_UUIDS);
 
     List<SignalDetectionHypothesis> signalDetectionHypotheses =
         repository.findHypothesesByIds(
@@ -1203,15 +1242,17 @@ class BridgedSignalDetectionRepositoryTest {
     List<SignalDetection> expectedValues = List.of(SIGNAL_DETECTION, SIGNAL_DETECTION_3);
     Consumer<SignalDetectionIdUtility> twoAridSetup =
         sdUtil -> {
-          when(sdUtil.getAridForSignalDetectionUUID(SIGNAL_DETECTION_ID))
-              .thenReturn(ARRIVAL_1.getId());
-          when(sdUtil.getAridForSignalDetectionUUID(SIGNAL_DETECTION_ID_3))
-              .thenReturn(ARRIVAL_3.getId());
+          when(sdUtil.getAridsForSignalDetectionUUIDs(SIGNAL_DETECTION_IDS))
+              .thenReturn(
+                  ImmutableMap.of(
+                      SIGNAL_DETECTION_ID,
+                      ARRIVAL_1.getId(),
+                      SIGNAL_DETECTION_ID_3,
+                      ARRIVAL_3.getId()));
         };
     Consumer<SignalDetectionIdUtility> twoAridVerification =
         sdUtil -> {
-          verify(sdUtil).getAridForSignalDetectionUUID(SIGNAL_DETECTION_ID);
-          verify(sdUtil).getAridForSignalDetectionUUID(SIGNAL_DETECTION_ID_3);
+          verify(sdUtil).getAridsForSignalDetectionUUIDs(SIGNAL_DETECTION_IDS);
           verifyNoMoreInteractions(sdUtil);
         };
 
@@ -1223,12 +1264,12 @@ class BridgedSignalDetectionRepositoryTest {
     List<SignalDetection> expectedValues = List.of(SIGNAL_DETECTION_3);
     Consumer<SignalDetectionIdUtility> aridSetup =
         sdUtil -> {
-          when(sdUtil.getAridForSignalDetectionUUID(SIGNAL_DETECTION_ID))
-              .thenReturn(ARRIVAL_1.getId());
+          when(sdUtil.getAridsForSignalDetectionUUIDs(List.of(SIGNAL_DETECTION_ID)))
+              .thenReturn(Map.of(SIGNAL_DETECTION_ID, ARRIVAL_1.getId()));
         };
     Consumer<SignalDetectionIdUtility> aridVerification =
         sdUtil -> {
-          verify(sdUtil).getAridForSignalDetectionUUID(SIGNAL_DETECTION_ID);
+          verify(sdUtil).getAridsForSignalDetectionUUIDs(List.of(SIGNAL_DETECTION_ID));
           verifyNoMoreInteractions(sdUtil);
         };
 
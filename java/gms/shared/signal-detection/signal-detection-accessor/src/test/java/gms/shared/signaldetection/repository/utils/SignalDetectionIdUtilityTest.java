@@ -11,6 +11,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
@@ -21,6 +22,9 @@ import gms.shared.frameworks.cache.utils.IgniteConnectionManager;
 import gms.shared.frameworks.systemconfig.SystemConfig;
 import gms.shared.signaldetection.coi.types.FeatureMeasurementTypesChecker;
 import gms.shared.workflow.coi.WorkflowDefinitionId;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Stream;
 import org.apache.ignite.IgniteCache;
@@ -162,6 +166,10 @@ class SignalDetectionIdUtilityTest {
     given(aridSignalDetectionMap.get(ARID_2)).willReturn(uuid);
     given(signalDetectionAridMap.get(uuid)).willReturn(ARID_2);
     assertEquals(ARID_2, signalDetectionIdUtility.getAridForSignalDetectionUUID(uuid));
+    given(signalDetectionAridMap.getAll(Set.of(uuid))).willReturn(Map.of(uuid, ARID_2));
+    assertEquals(
+        Map.of(uuid, ARID_2),
+        signalDetectionIdUtility.getAridsForSignalDetectionUUIDs(List.of(uuid, uuid)));
     assertEquals(uuid, signalDetectionIdUtility.getSignalDetectionForArid(ARID_2));
     assertEquals(uuid, signalDetectionIdUtility.getOrCreateSignalDetectionIdfromArid(ARID_2));
   }
@@ -194,6 +202,9 @@ class SignalDetectionIdUtilityTest {
 
     given(signalDetectionHypothesisIdArrivalIdComponentsMap.get(uuid)).willReturn(null);
     assertNull(signalDetectionIdUtility.getAccountArrivalIdFromSdhId(uuid));
+    given(signalDetectionHypothesisIdArrivalIdComponentsMap.getAll(Set.of(uuid)))
+        .willReturn(Map.of());
+    assertTrue(signalDetectionIdUtility.getAccountArrivalIdsFromSdhIds(List.of(uuid)).isEmpty());
     assertNotNull(
         signalDetectionIdUtility.getOrCreateSignalDetectionHypothesisIdFromAridAndStageId(
             ARID_1, workFlowId.getName()));
@@ -219,6 +230,12 @@ class SignalDetectionIdUtilityTest {
 
     given(signalDetectionHypothesisIdAssocIdComponentsMap.get(uuid)).willReturn(null);
     assertNull(signalDetectionIdUtility.getAssocIdComponentsFromSignalDetectionHypothesisId(uuid));
+    given(signalDetectionHypothesisIdAssocIdComponentsMap.getAll(Set.of(uuid)))
+        .willReturn(Map.of(uuid, id));
+    assertEquals(
+        Map.of(uuid, id),
+        signalDetectionIdUtility.getAssocIdComponentsFromSignalDetectionHypothesisIds(
+            List.of(uuid)));
     assertNotNull(
         signalDetectionIdUtility.getOrCreateSignalDetectionHypothesisIdFromAridOridAndStageId(
             ARID_1, ORID_1, workFlowId.getName()));
@@ -5,20 +5,33 @@ import gms.shared.signaldetection.api.SignalDetectionAccessor;
 import gms.shared.signaldetection.coi.detection.FeatureMeasurement;
 import gms.shared.signaldetection.coi.detection.SignalDetection;
 import gms.shared.signaldetection.coi.detection.SignalDetectionHypothesis;
+import gms.shared.signaldetection.coi.detection.SignalDetectionHypothesisId;
 import gms.shared.signaldetection.coi.types.FeatureMeasurementTypes;
 import gms.shared.signaldetection.coi.values.ArrivalTimeMeasurementValue;
+import gms.shared.stationdefinition.coi.channel.Channel;
+import gms.shared.stationdefinition.coi.channel.ChannelSegmentDescriptor;
 import gms.shared.stationdefinition.coi.facets.FacetingDefinition;
 import gms.shared.stationdefinition.facet.StationDefinitionFacetingUtility;
+import gms.shared.stationdefinition.facet.StationDefinitionFacetingUtility.ChannelAtTime;
 import gms.shared.waveform.api.facet.WaveformFacetingUtility;
 import gms.shared.waveform.coi.ChannelSegment;
+import gms.shared.waveform.coi.Timeseries;
 import gms.shared.waveform.coi.Waveform;
 import gms.shared.workflow.coi.WorkflowDefinitionId;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -44,6 +57,7 @@ public final class SignalDetectionFacetingUtility {
   private final SignalDetectionAccessor signalDetectionAccessor;
   private final WaveformFacetingUtility waveformFacetingUtility;
   private final StationDefinitionFacetingUtility stationDefinitionFacetingUtility;
+  private final ReferenceFaceting retrievedReferences = new RetrievedReferences();
 
   private SignalDetectionFacetingUtility(
       SignalDetectionAccessor signalDetectionAccessor,
@@ -113,13 +127,108 @@ public final class SignalDetectionFacetingUtility {
         return null;
       }
 
-      return populateSignalDetection(facetedSD, sdhDefinition, stationDefinition);
+      return populateSignalDetection(
+          facetedSD,
+          hypothesis -> populateFacets(hypothesis, sdhDefinition),
+          stationDefinition);
     }
   }
 
+  /**
+   * Populates the provided {@link SignalDetection}s based on the faceting definition and stage,
+   * as {@link #populateFacets(SignalDetection, FacetingDefinition, WorkflowDefinitionId)} would
+   * each of them. The entity references among them are retrieved with a single {@link
+   * SignalDetectionAccessor#findByIds(List, WorkflowDefinitionId)} call, and their hypotheses are
+   * populated together by {@link #populateFacetsForHypotheses(Collection, FacetingDefinition)}.
+   * Signal detections that could not be faceted are left out of the result.
+   *
+   * @param initial the initial {@link SignalDetection}s to populate
+   * @param facetingDefinition the {@link FacetingDefinition} defining how to populate the {@link
+   *     SignalDetection}s
+   * @param stageId the {@link WorkflowDefinitionId} from where the {@link SignalDetection}s were
+   *     found
+   * @return the faceted {@link SignalDetection}s by id
+   */
+  public Map<UUID, SignalDetection> populateFacetsForSignalDetections(
+      Collection<SignalDetection> initial,
+      FacetingDefinition facetingDefinition,
+      WorkflowDefinitionId stageId) {
+
+    Objects.requireNonNull(initial, "Initial SignalDetections cannot be null");
+    Objects.requireNonNull(facetingDefinition, NULL_FACETING_DEFINITION_MESSAGE);
+    Objects.requireNonNull(stageId, "StageId cannot be null");
+    Preconditions.checkState(
+        facetingDefinition.getClassType().equals(SignalDetection.class.getSimpleName()),
+        "FacetingDefinition must be present for SignalDetection");
+
+    Map<UUID, SignalDetection> distinctDetections = new LinkedHashMap<>();
+    initial.forEach(detection -> distinctDetections.putIfAbsent(detection.getId(), detection));
+
+    Map<UUID, SignalDetection> facetedDetections = new LinkedHashMap<>();
+    if (!facetingDefinition.isPopulated()) {
+      distinctDetections.forEach(
+          (id, detection) ->
+              facetedDetections.put(
+                  id, detection.isPresent() ? detection.toEntityReference() : detection));
+      return facetedDetections;
+    }
+
+    var sdhDefinition =
+        facetingDefinition.getFacetingDefinitionByName(SIGNAL_DETECTION_HYPOTHESES).orElse(null);
+    var stationDefinition = facetingDefinition.getFacetingDefinitionByName(STATION).orElse(null);
+    if (checkForProblems(stationDefinition, sdhDefinition)) {
+      return facetedDetections;
+    }
+
+    var referencedIds =
+        distinctDetections.values().stream()
+            .filter(detection -> !detection.isPresent())
+            .map(SignalDetection::getId)
+            .toList();
+    var retrievedDetections =
+        referencedIds.isEmpty()
+            ? Map.<UUID, SignalDetection>of()
+            : uniqueById(
+                referencedIds,
+                signalDetectionAccessor.findByIds(referencedIds, stageId),
+                SignalDetection::getId,
+                SignalDetection.class.getSimpleName());
+
+    List<SignalDetection> presentDetections =
+        distinctDetections.values().stream()
+            .map(
+                detection ->
+                    detection.isPresent() ? detection : retrievedDetections.get(detection.getId()))
+            .filter(Objects::nonNull)
+            .toList();
+
+    var facetedHypotheses =
+        populateFacetsForHypotheses(
+            presentDetections.stream()
+                .map(SignalDetection::getData)
+                .flatMap(Optional::stream)
+                .map(SignalDetection.Data::getSignalDetectionHypotheses)
+                .flatMap(List::stream)
+                .toList(),
+            sdhDefinition);
+
+    presentDetections.forEach(
+        (SignalDetection detection) -> {
+          var facetedDetection =
+              populateSignalDetection(
+                  detection,
+                  hypothesis -> facetedHypotheses.get(hypothesis.getId()),
+                  stationDefinition);
+          if (facetedDetection != null) {
+            facetedDetections.put(detection.getId(), facetedDetection);
+          }
+        });
+    return facetedDetections;
+  }
+
   private SignalDetection populateSignalDetection(
       SignalDetection facetedSD,
-      FacetingDefinition sdhDefinition,
+      UnaryOperator<SignalDetectionHypothesis> hypothesisFaceting,
       FacetingDefinition stationDefinition) {
     // ensure that data exists within the faceted SignalDetection object
     var facetedData = facetedSD.getData();
@@ -133,7 +242,7 @@ public final class SignalDetectionFacetingUtility {
     var dataBuilder = data.toBuilder();
     List<SignalDetectionHypothesis> facetedHypotheses =
         data.getSignalDetectionHypotheses().stream()
-            .map(hypothesis -> populateFacets(hypothesis, sdhDefinition))
+            .map(hypothesisFaceting)
             .filter(Objects::nonNull)
             .toList();
     if (facetedHypotheses.isEmpty()) {
@@ -255,12 +364,229 @@ public final class SignalDetectionFacetingUtility {
       return initial.isPresent() ? initial.toEntityReference() : initial;
     } else {
       SignalDetectionHypothesis faceted = findInitialHypothesis(initial);
-      return (faceted == null) ? null : buildHypothesis(faceted, facetingDefinition);
+      return (faceted == null)
+          ? null
+          : buildHypothesis(faceted, facetingDefinition, retrievedReferences);
+    }
+  }
+
+  /**
+   * Populates the provided {@link SignalDetectionHypothesis} objects based on the faceting
+   * definition, as {@link #populateFacets(SignalDetectionHypothesis, FacetingDefinition)} would
+   * each of them. The entity references among them are retrieved with a single {@link
+   * SignalDetectionAccessor#findHypothesesByIds(List)} call, and each distinct hypothesis is
+   * populated once. The channels and channel segments their feature measurements reference are
+   * faceted together, as are their parent hypotheses, rather than hypothesis by hypothesis.
+   * Hypotheses that could not be faceted are left out of the result.
+   *
+   * @param initial the initial {@link SignalDetectionHypothesis} objects to populate
+   * @param facetingDefinition the {@link FacetingDefinition} defining how to populate the {@link
+   *     SignalDetectionHypothesis} objects
+   * @return the faceted {@link SignalDetectionHypothesis} objects by id
+   */
+  public Map<SignalDetectionHypothesisId, SignalDetectionHypothesis> populateFacetsForHypotheses(
+      Collection<SignalDetectionHypothesis> initial, FacetingDefinition facetingDefinition) {
+
+    Objects.requireNonNull(initial, "Initial SignalDetectionHypotheses cannot be null");
+    Objects.requireNonNull(facetingDefinition, NULL_FACETING_DEFINITION_MESSAGE);
+    Preconditions.checkState(
+        facetingDefinition.getClassType().equals(SignalDetectionHypothesis.class.getSimpleName()),
+        "FacetingDefinition must be present for SignalDetectionHypothesis");
+
+    Map<SignalDetectionHypothesisId, SignalDetectionHypothesis> distinctHypotheses =
+        new LinkedHashMap<>();
+    initial.forEach(hypothesis -> distinctHypotheses.putIfAbsent(hypothesis.getId(), hypothesis));
+
+    Map<SignalDetectionHypothesisId, SignalDetectionHypothesis> facetedHypotheses =
+        new LinkedHashMap<>();
+    if (!facetingDefinition.isPopulated()) {
+      distinctHypotheses.forEach(
+          (id, hypothesis) ->
+              facetedHypotheses.put(
+                  id, hypothesis.isPresent() ? hypothesis.toEntityReference() : hypothesis));
+      return facetedHypotheses;
+    }
+
+    var referencedIds =
+        distinctHypotheses.values().stream()
+            .filter(hypothesis -> !hypothesis.isPresent())
+            .map(SignalDetectionHypothesis::getId)
+            .toList();
+    var retrievedHypotheses =
+        referencedIds.isEmpty()
+            ? Map.<SignalDetectionHypothesisId, SignalDetectionHypothesis>of()
+            : uniqueById(
+                referencedIds,
+                signalDetectionAccessor.findHypothesesByIds(referencedIds),
+                SignalDetectionHypothesis::getId,
+                SignalDetectionHypothesis.class.getSimpleName());
+
+    List<SignalDetectionHypothesis> presentHypotheses =
+        distinctHypotheses.values().stream()
+            .map(
+                hypothesis ->
+                    hypothesis.isPresent()
+                        ? hypothesis
+                        : retrievedHypotheses.get(hypothesis.getId()))
+            .filter(Objects::nonNull)
+            .toList();
+    var references = prefetchReferences(presentHypotheses, facetingDefinition);
+
+    presentHypotheses.forEach(
+        (SignalDetectionHypothesis hypothesis) -> {
+          var facetedHypothesis = buildHypothesis(hypothesis, facetingDefinition, references);
+          if (facetedHypothesis != null) {
+            facetedHypotheses.put(hypothesis.getId(), facetedHypothesis);
+          }
+        });
+    return facetedHypotheses;
+  }
+
+  /**
+   * Facets the objects the given hypotheses reference, each kind with a single call: the channels
+   * and channel segments of their feature measurements, and their parent hypotheses. Only the
+   * hypotheses with an arrival time measurement are considered, as only those can be built.
+   */
+  private ReferenceFaceting prefetchReferences(
+      List<SignalDetectionHypothesis> hypotheses, FacetingDefinition facetingDefinition) {
+    var buildable =
+        hypotheses.stream()
+            .filter(hypothesis -> findEffectiveTime(hypothesis).isPresent())
+            .toList();
+
+    Map<ChannelAtTime, Channel> channels = Map.of();
+    Map<FacetingDefinition, Map<ChannelSegmentDescriptor, ChannelSegment<? extends Timeseries>>>
+        channelSegments = Map.of();
+    var measurementDefinition =
+        facetingDefinition
+            .getFacetingDefinitionByName(FEATURE_MEASUREMENTS)
+            .filter(FacetingDefinition::isPopulated);
+    if (measurementDefinition.isPresent()) {
+      channels = prefetchChannels(buildable, measurementDefinition.get());
+      channelSegments = prefetchChannelSegments(buildable, measurementDefinition.get());
+    }
+
+    var parentHypotheses =
+        buildable.stream()
+            .map(SignalDetectionHypothesis::getParentSignalDetectionHypothesis)
+            .flatMap(Optional::stream)
+            .toList();
+    var parents =
+        facetingDefinition
+            .getFacetingDefinitionByName(PARENT_SIGNAL_DETECTION_HYPOTHESIS)
+            .filter(parentDefinition -> !parentHypotheses.isEmpty())
+            .map(
+                parentDefinition -> populateFacetsForHypotheses(parentHypotheses, parentDefinition))
+            .orElse(Map.of());
+
+    return new PrefetchedReferences(channels, channelSegments, parents);
+  }
+
+  private Map<ChannelAtTime, Channel> prefetchChannels(
+      List<SignalDetectionHypothesis> hypotheses, FacetingDefinition measurementDefinition) {
+    var channelDefinition = measurementDefinition.getFacetingDefinitionByName(CHANNEL);
+    if (channelDefinition.isEmpty()) {
+      return Map.of();
     }
+
+    List<ChannelAtTime> measuredChannels = new ArrayList<>();
+    hypotheses.forEach(
+        (SignalDetectionHypothesis hypothesis) -> {
+          var effectiveTime = findEffectiveTime(hypothesis).orElseThrow();
+          hypothesis
+              .getFeatureMeasurements()
+              .forEach(
+                  measurement ->
+                      measuredChannels.add(
+                          new ChannelAtTime(measurement.getChannel(), effectiveTime)));
+        });
+    return measuredChannels.isEmpty()
+        ? Map.of()
+        : stationDefinitionFacetingUtility.populateFacetsForChannels(
+            measuredChannels, channelDefinition.get());
+  }
+
+  private Map<
+          FacetingDefinition, Map<ChannelSegmentDescriptor, ChannelSegment<? extends Timeseries>>>
+      prefetchChannelSegments(
+          List<SignalDetectionHypothesis> hypotheses, FacetingDefinition measurementDefinition) {
+    var measuredDefinition =
+        measurementDefinition.getFacetingDefinitionByName(MEASURED_CHANNEL_SEGMENT);
+    var analysisWaveformDefinition =
+        measurementDefinition.getFacetingDefinitionByName(AW_CHANNEL_SEGMENT);
+
+    // segments faceted with the same definition are faceted together, whichever field holds them
+    Map<FacetingDefinition, List<ChannelSegment<? extends Timeseries>>> segmentsByDefinition =
+        new HashMap<>();
+    hypotheses.stream()
+        .map(SignalDetectionHypothesis::getFeatureMeasurements)
+        .flatMap(Collection::stream)
+        .forEach(
+            (FeatureMeasurement<?> measurement) -> {
+              measuredDefinition.ifPresent(
+                  definition ->
+                      measurement
+                          .getMeasuredChannelSegment()
+                          .ifPresent(
+                              segment ->
+                                  segmentsByDefinition
+                                      .computeIfAbsent(definition, key -> new ArrayList<>())
+                                      .add(segment)));
+              analysisWaveformDefinition.ifPresent(
+                  definition ->
+                      measurement
+                          .getAnalysisWaveform()
+                          .ifPresent(
+                              analysisWaveform ->
+                                  segmentsByDefinition
+                                      .computeIfAbsent(definition, key -> new ArrayList<>())
+                                      .add(analysisWaveform.getWaveform())));
+            });
+
+    Map<FacetingDefinition, Map<ChannelSegmentDescriptor, ChannelSegment<? extends Timeseries>>>
+        facetedSegments = new HashMap<>();
+    segmentsByDefinition.forEach(
+        (definition, segments) ->
+            facetedSegments.put(
+                definition,
+                waveformFacetingUtility.populateFacetsForChannelSegments(segments, definition)));
+    return facetedSegments;
+  }
+
+  private static Optional<Instant> findEffectiveTime(SignalDetectionHypothesis hypothesis) {
+    return hypothesis
+        .getData()
+        .flatMap(
+            data -> data.getFeatureMeasurement(FeatureMeasurementTypes.ARRIVAL_TIME))
+        .map(arrival -> arrival.getMeasurementValue().getArrivalTime().getValue());
+  }
+
+  /**
+   * Matches objects retrieved in bulk to the ids they were requested by, logging the ids that
+   * matched no object or more than one, as the single-object lookups do.
+   */
+  private static <K, T> Map<K, T> uniqueById(
+      Collection<K> ids, Collection<T> retrieved, Function<T, K> idFunction, String typeName) {
+    var retrievedById = retrieved.stream().collect(Collectors.groupingBy(idFunction));
+
+    Map<K, T> unique = new HashMap<>();
+    for (var id : ids) {
+      var matches = retrievedById.getOrDefault(id, List.of());
+      if (matches.isEmpty()) {
+        LOGGER.debug("No {} found with ID {}", typeName, id);
+      } else if (matches.size() > 1) {
+        LOGGER.debug("Multiple {} found for ID {}", typeName, id);
+      } else {
+        unique.put(id, matches.get(0));
+      }
+    }
+    return unique;
   }
 
   private SignalDetectionHypothesis buildHypothesis(
-      SignalDetectionHypothesis faceted, FacetingDefinition facetingDefinition) {
+      SignalDetectionHypothesis faceted,
+      FacetingDefinition facetingDefinition,
+      ReferenceFaceting references) {
     // ensure that data exists within the faceted SignalDetectionHypothesis object
     var initialDataOptional = faceted.getData();
     var initialData = initialDataOptional.orElse(null);
@@ -268,7 +594,7 @@ public final class SignalDetectionFacetingUtility {
       LOGGER.debug("Retrieved data is not populated");
       return null;
     }
-    var dataBuilder = setDataBuilder(initialData, facetingDefinition, faceted);
+    var dataBuilder = setDataBuilder(initialData, facetingDefinition, faceted, references);
 
     if (dataBuilder == null) {
       return null;
@@ -280,7 +606,8 @@ public final class SignalDetectionFacetingUtility {
   private SignalDetectionHypothesis.Data.Builder setDataBuilder(
       SignalDetectionHypothesis.Data initialData,
       FacetingDefinition facetingDefinition,
-      SignalDetectionHypothesis faceted) {
+      SignalDetectionHypothesis faceted,
+      ReferenceFaceting references) {
 
     var dataBuilder = initialData.toBuilder();
     Optional<FeatureMeasurement<ArrivalTimeMeasurementValue>> arrivalMeasurementOptional =
@@ -312,7 +639,8 @@ public final class SignalDetectionFacetingUtility {
                   faceted.getFeatureMeasurements().stream()
                       .map(
                           featureMeasurement ->
-                              populateFacets(featureMeasurement, featMeasFacetdef, effectiveTime))
+                              populateFacets(
+                                  featureMeasurement, featMeasFacetdef, effectiveTime, references))
                       .collect(Collectors.toSet());
               dataBuilder.setFeatureMeasurements(facetedFeatureMeasurements);
             });
@@ -332,7 +660,7 @@ public final class SignalDetectionFacetingUtility {
                 .ifPresent(
                     facet ->
                         dataBuilder.setParentSignalDetectionHypothesis(
-                            populateFacets(parentSignalDetectionHypothesis, facet))));
+                            references.parent(parentSignalDetectionHypothesis, facet))));
     return dataBuilder;
   }
 
@@ -375,6 +703,14 @@ public final class SignalDetectionFacetingUtility {
    */
   public <T> FeatureMeasurement<T> populateFacets(
       FeatureMeasurement<T> initial, FacetingDefinition facetingDefinition, Instant effectiveTime) {
+    return populateFacets(initial, facetingDefinition, effectiveTime, retrievedReferences);
+  }
+
+  private <T> FeatureMeasurement<T> populateFacets(
+      FeatureMeasurement<T> initial,
+      FacetingDefinition facetingDefinition,
+      Instant effectiveTime,
+      ReferenceFaceting references) {
     Objects.requireNonNull(initial, "Initial FeatureMeasurement cannot be null");
     Objects.requireNonNull(facetingDefinition, NULL_FACETING_DEFINITION_MESSAGE);
     Objects.requireNonNull(effectiveTime, "EffectiveTime cannot be null");
@@ -388,8 +724,7 @@ public final class SignalDetectionFacetingUtility {
     var facetedFmChannel = initial.getChannel();
     if (channelFacetDefinition.isPresent()) {
       facetedFmChannel =
-          stationDefinitionFacetingUtility.populateFacets(
-              initial.getChannel(), channelFacetDefinition.get(), effectiveTime);
+          references.channel(initial.getChannel(), channelFacetDefinition.get(), effectiveTime);
     }
 
     var measChanSegFacetDefinition =
@@ -400,7 +735,7 @@ public final class SignalDetectionFacetingUtility {
             .map(
                 facetMCSegment ->
                     (measChanSegFacetDefinition.isPresent())
-                        ? waveformFacetingUtility.populateFacets(
+                        ? references.channelSegment(
                             facetMCSegment, measChanSegFacetDefinition.get())
                         : facetMCSegment);
 
@@ -413,7 +748,7 @@ public final class SignalDetectionFacetingUtility {
                         ? aw.toBuilder()
                             .setWaveform(
                                 (ChannelSegment<Waveform>)
-                                    waveformFacetingUtility.populateFacets(
+                                    references.channelSegment(
                                         aw.getWaveform(),
                                         facetingDefinition
                                             .getFacetingDefinitionByName(AW_CHANNEL_SEGMENT)
@@ -430,4 +765,84 @@ public final class SignalDetectionFacetingUtility {
         .setAnalysisWaveform(facetedAw)
         .build();
   }
+
+  /**
+   * Source of the faceted objects a {@link SignalDetectionHypothesis} references: the channels and
+   * channel segments of its feature measurements, and its parent hypothesis
+   */
+  private interface ReferenceFaceting {
+
+    Channel channel(Channel initial, FacetingDefinition facetingDefinition, Instant effectiveTime);
+
+    ChannelSegment<? extends Timeseries> channelSegment(
+        ChannelSegment<? extends Timeseries> initial, FacetingDefinition facetingDefinition);
+
+    SignalDetectionHypothesis parent(
+        SignalDetectionHypothesis initial, FacetingDefinition facetingDefinition);
+  }
+
+  /** Facets each referenced object as it is reached, retrieving it if needed */
+  private final class RetrievedReferences implements ReferenceFaceting {
+
+    @Override
+    public Channel channel(
+        Channel initial, FacetingDefinition facetingDefinition, Instant effectiveTime) {
+      return stationDefinitionFacetingUtility.populateFacets(
+          initial, facetingDefinition, effectiveTime);
+    }
+
+    @Override
+    public ChannelSegment<? extends Timeseries> channelSegment(
+        ChannelSegment<? extends Timeseries> initial, FacetingDefinition facetingDefinition) {
+      return waveformFacetingUtility.populateFacets(initial, facetingDefinition);
+    }
+
+    @Override
+    public SignalDetectionHypothesis parent(
+        SignalDetectionHypothesis initial, FacetingDefinition facetingDefinition) {
+      return populateFacets(initial, facetingDefinition);
+    }
+  }
+
+  /**
+   * Looks up referenced objects already faceted together for all the hypotheses being built. The
+   * channels were faceted with the one channel definition of the feature measurements, so only
+   * the channel segments are looked up by definition.
+   */
+  private static final class PrefetchedReferences implements ReferenceFaceting {
+
+    private final Map<ChannelAtTime, Channel> channels;
+    private final Map<
+            FacetingDefinition, Map<ChannelSegmentDescriptor, ChannelSegment<? extends Timeseries>>>
+        channelSegments;
+    private final Map<SignalDetectionHypothesisId, SignalDetectionHypothesis> parents;
+
+    private PrefetchedReferences(
+        Map<ChannelAtTime, Channel> channels,
+        Map<FacetingDefinition, Map<ChannelSegmentDescriptor, ChannelSegment<? extends Timeseries>>>
+            channelSegments,
+        Map<SignalDetectionHypothesisId, SignalDetectionHypothesis> parents) {
+      this.channels = channels;
+      this.channelSegments = channelSegments;
+      this.parents = parents;
+    }
+
+    @Override
+    public Channel channel(
+        Channel initial, FacetingDefinition facetingDefinition, Instant effectiveTime) {
+      return channels.get(new ChannelAtTime(initial, effectiveTime));
+    }
+
+    @Override
+    public ChannelSegment<? extends Timeseries> channelSegment(
+        ChannelSegment<? extends Timeseries> initial, FacetingDefinition facetingDefinition) {
+      return channelSegments.getOrDefault(facetingDefinition, Map.of()).get(initial.getId());
+    }
+
+    @Override
+    public SignalDetectionHypothesis parent(
+        SignalDetectionHypothesis initial, FacetingDefinition facetingDefinition) {
+      return parents.get(initial.getId());
+    }
+  }
 }
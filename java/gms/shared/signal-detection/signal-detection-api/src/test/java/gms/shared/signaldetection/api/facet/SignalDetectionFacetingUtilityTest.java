@@ -49,8 +49,10 @@ import gms.shared.stationdefinition.coi.filter.types.LinearFilterType;
 import gms.shared.stationdefinition.coi.filter.types.PassBandType;
 import gms.shared.stationdefinition.facet.FacetingTypes;
 import gms.shared.stationdefinition.facet.StationDefinitionFacetingUtility;
+import gms.shared.stationdefinition.facet.StationDefinitionFacetingUtility.ChannelAtTime;
 import gms.shared.waveform.api.facet.WaveformFacetingUtility;
 import gms.shared.waveform.coi.ChannelSegment;
+import gms.shared.waveform.coi.Timeseries;
 import gms.shared.waveform.coi.Waveform;
 import gms.shared.waveform.testfixture.WaveformTestFixtures;
 import gms.shared.workflow.coi.WorkflowDefinitionId;
@@ -194,6 +196,25 @@ class SignalDetectionFacetingUtilityTest {
           verify(waveformFacetingUtility, times(2))
               .populateFacets(CHANNEL_SEGMENT, channelSegmentFacetingDefinition);
 
+  // both feature measurements of a hypothesis measure CHANNEL_SEGMENT on CHANNEL
+  private static final List<ChannelSegment<? extends Timeseries>> measuredChannelSegments =
+      List.of(CHANNEL_SEGMENT, CHANNEL_SEGMENT);
+  private static final ChannelAtTime measuredChannel = new ChannelAtTime(CHANNEL, effectiveTime);
+  private static final List<ChannelAtTime> measuredChannels =
+      List.of(measuredChannel, measuredChannel);
+
+  private static final Consumer<WaveformFacetingUtility> facetWaveformTogetherSetup =
+      waveformFacetingUtility ->
+          doReturn(Map.of(CHANNEL_SEGMENT.getId(), CHANNEL_SEGMENT))
+              .when(waveformFacetingUtility)
+              .populateFacetsForChannelSegments(
+                  measuredChannelSegments, channelSegmentFacetingDefinition);
+  private static final Consumer<WaveformFacetingUtility> facetWaveformTogetherVerifier =
+      waveformFacetingUtility ->
+          verify(waveformFacetingUtility)
+              .populateFacetsForChannelSegments(
+                  measuredChannelSegments, channelSegmentFacetingDefinition);
+
   private static final WorkflowDefinitionId stageId = WorkflowDefinitionId.from("test");
 
   @Mock private SignalDetectionAccessor signalDetectionAccessor;
@@ -418,6 +439,14 @@ class SignalDetectionFacetingUtilityTest {
   }
 
   static Stream<Arguments> getPopulateFacetsSdArguments() {
+    return populateFacetsSdArguments(false);
+  }
+
+  static Stream<Arguments> getPopulateFacetsForSignalDetectionsArguments() {
+    return populateFacetsSdArguments(true);
+  }
+
+  private static Stream<Arguments> populateFacetsSdArguments(boolean facetedTogether) {
     FacetingDefinition unpopulatedSignalDetectionFacetingDefinition =
         signalDetectionFacetingDefinition.toBuilder()
             .setPopulated(false)
@@ -437,17 +466,16 @@ class SignalDetectionFacetingUtilityTest {
           when(stationDefinitionFacetingUtility.populateFacets(
                   STATION, stationFacetingDefinition, effectiveTime))
               .thenReturn(STATION);
-          when(stationDefinitionFacetingUtility.populateFacets(
-                  CHANNEL, channelFacetingDefinition, effectiveTime))
-              .thenReturn(CHANNEL);
+          facetChannelSetup(stationDefinitionFacetingUtility, facetedTogether);
         };
     Consumer<StationDefinitionFacetingUtility> facetStationDefinitionVerifier =
         stationDefinitionFacetingUtility -> {
           verify(stationDefinitionFacetingUtility, times(2))
               .populateFacets(STATION, stationFacetingDefinition, effectiveTime);
-          verify(stationDefinitionFacetingUtility, times(2))
-              .populateFacets(CHANNEL, channelFacetingDefinition, effectiveTime);
+          facetChannelVerifier(stationDefinitionFacetingUtility, facetedTogether);
         };
+    var waveformSetup = facetedTogether ? facetWaveformTogetherSetup : facetWaveformSetup;
+    var waveformVerifier = facetedTogether ? facetWaveformTogetherVerifier : facetWaveformVerifier;
 
     var SIGNAL_DETECTION_ENTITY_STATION =
         SIGNAL_DETECTION.toBuilder()
@@ -493,28 +521,80 @@ class SignalDetectionFacetingUtilityTest {
             noOpStationDefinitionFacetingVerifier),
         arguments(
             singleResultSetup,
-            facetWaveformSetup,
+            waveformSetup,
             facetStationDefinitionSetup,
             unpopulatedDetection,
             signalDetectionFacetingDefinition,
             stageId,
             SIGNAL_DETECTION_ENTITY_STATION,
             singleResultVerifier,
-            facetWaveformVerifier,
+            waveformVerifier,
             facetStationDefinitionVerifier),
         arguments(
             noOpAccessorSetup,
-            facetWaveformSetup,
+            waveformSetup,
             facetStationDefinitionSetup,
             SIGNAL_DETECTION,
             signalDetectionFacetingDefinition,
             stageId,
             SIGNAL_DETECTION_ENTITY_STATION,
             noOpAccessorVerifier,
-            facetWaveformVerifier,
+            waveformVerifier,
             facetStationDefinitionVerifier));
   }
 
+  @ParameterizedTest
+  @MethodSource("getPopulateFacetsForSignalDetectionsArguments")
+  void testPopulateFacetsForSignalDetections(
+      Consumer<SignalDetectionAccessor> accessorMockSetup,
+      Consumer<WaveformFacetingUtility> waveformFacetingMockSetup,
+      Consumer<StationDefinitionFacetingUtility> stationDefinitionFacetingMockSetup,
+      SignalDetection initial,
+      FacetingDefinition facetingDefinition,
+      WorkflowDefinitionId stageId,
+      SignalDetection expected,
+      Consumer<SignalDetectionAccessor> accessorVerifier,
+      Consumer<WaveformFacetingUtility> waveformFacetingVerifier,
+      Consumer<StationDefinitionFacetingUtility> stationDefinitinFacetingVerifier) {
+
+    accessorMockSetup.accept(signalDetectionAccessor);
+    waveformFacetingMockSetup.accept(waveformFacetingUtility);
+    stationDefinitionFacetingMockSetup.accept(stationDefinitionFacetingUtility);
+
+    // a detection referenced twice is retrieved and faceted once
+    Map<UUID, SignalDetection> actual =
+        signalDetectionFacetingUtility.populateFacetsForSignalDetections(
+            List.of(initial, initial), facetingDefinition, stageId);
+
+    assertEquals(Map.of(expected.getId(), expected), actual);
+
+    accessorVerifier.accept(signalDetectionAccessor);
+    waveformFacetingVerifier.accept(waveformFacetingUtility);
+    stationDefinitinFacetingVerifier.accept(stationDefinitionFacetingUtility);
+    verifyNoMoreInteractions(
+        signalDetectionAccessor, waveformFacetingUtility, stationDefinitionFacetingUtility);
+  }
+
+  @ParameterizedTest
+  @MethodSource("getPopulateFacetsSdNullArguments")
+  void testPopulateFacetsForSignalDetectionsOmitsUnfaceted(
+      Consumer<SignalDetectionAccessor> accessorMockSetup,
+      SignalDetection initial,
+      FacetingDefinition facetingDefinition,
+      WorkflowDefinitionId stageId,
+      SignalDetection expected,
+      Consumer<SignalDetectionAccessor> accessorVerifier) {
+
+    accessorMockSetup.accept(signalDetectionAccessor);
+
+    assertEquals(
+        Map.of(),
+        signalDetectionFacetingUtility.populateFacetsForSignalDetections(
+            List.of(initial), facetingDefinition, stageId));
+
+    accessorVerifier.accept(signalDetectionAccessor);
+  }
+
   @ParameterizedTest
   @MethodSource("getPopulateFacetsSdNullArguments")
   void testPopulateFacetsSdNull(
@@ -708,7 +788,82 @@ class SignalDetectionFacetingUtilityTest {
         signalDetectionAccessor, waveformFacetingUtility, stationDefinitionFacetingUtility);
   }
 
+  @ParameterizedTest
+  @MethodSource("getPopulateFacetsForHypothesesArguments")
+  void testPopulateFacetsForHypotheses(
+      Consumer<SignalDetectionAccessor> accessorMockSetup,
+      Consumer<WaveformFacetingUtility> waveformFacetingMockSetup,
+      Consumer<StationDefinitionFacetingUtility> stationDefinitionFacetingMockSetup,
+      SignalDetectionHypothesis initial,
+      FacetingDefinition facetingDefinition,
+      SignalDetectionHypothesis expected,
+      Consumer<SignalDetectionAccessor> accessorVerifier,
+      Consumer<WaveformFacetingUtility> waveformFacetingVerifier,
+      Consumer<StationDefinitionFacetingUtility> stationDefinitionFacetingVerifier) {
+
+    accessorMockSetup.accept(signalDetectionAccessor);
+    waveformFacetingMockSetup.accept(waveformFacetingUtility);
+    stationDefinitionFacetingMockSetup.accept(stationDefinitionFacetingUtility);
+
+    // a hypothesis referenced twice is retrieved and faceted once
+    Map<SignalDetectionHypothesisId, SignalDetectionHypothesis> actual =
+        signalDetectionFacetingUtility.populateFacetsForHypotheses(
+            List.of(initial, initial), facetingDefinition);
+
+    assertEquals(Map.of(expected.getId(), expected), actual);
+    accessorVerifier.accept(signalDetectionAccessor);
+    waveformFacetingVerifier.accept(waveformFacetingUtility);
+    stationDefinitionFacetingVerifier.accept(stationDefinitionFacetingUtility);
+    verifyNoMoreInteractions(
+        signalDetectionAccessor, waveformFacetingUtility, stationDefinitionFacetingUtility);
+  }
+
+  @Test
+  void testPopulateFacetsForHypothesesOmitsMissing() {
+    when(signalDetectionAccessor.findHypothesesByIds(unpopulatedHypothesisId))
+        .thenReturn(List.of());
+
+    assertEquals(
+        Map.of(),
+        signalDetectionFacetingUtility.populateFacetsForHypotheses(
+            List.of(unpopulatedHypothesis), signalDetectionHypothesisFacetingDefinition));
+    verify(signalDetectionAccessor).findHypothesesByIds(unpopulatedHypothesisId);
+  }
+
+  private static void facetChannelSetup(
+      StationDefinitionFacetingUtility stationDefinitionFacetingUtility, boolean facetedTogether) {
+    if (facetedTogether) {
+      when(stationDefinitionFacetingUtility.populateFacetsForChannels(
+              measuredChannels, channelFacetingDefinition))
+          .thenReturn(Map.of(measuredChannel, CHANNEL));
+    } else {
+      when(stationDefinitionFacetingUtility.populateFacets(
+              CHANNEL, channelFacetingDefinition, effectiveTime))
+          .thenReturn(CHANNEL);
+    }
+  }
+
+  // the channels of all the hypotheses being built are faceted with a single call
+  private static void facetChannelVerifier(
+      StationDefinitionFacetingUtility stationDefinitionFacetingUtility, boolean facetedTogether) {
+    if (facetedTogether) {
+      verify(stationDefinitionFacetingUtility)
+          .populateFacetsForChannels(measuredChannels, channelFacetingDefinition);
+    } else {
+      verify(stationDefinitionFacetingUtility, times(2))
+          .populateFacets(CHANNEL, channelFacetingDefinition, effectiveTime);
+    }
+  }
+
   static Stream<Arguments> getPopulateFacetsSdhArguments() {
+    return populateFacetsSdhArguments(false);
+  }
+
+  static Stream<Arguments> getPopulateFacetsForHypothesesArguments() {
+    return populateFacetsSdhArguments(true);
+  }
+
+  private static Stream<Arguments> populateFacetsSdhArguments(boolean facetedTogether) {
     Consumer<SignalDetectionAccessor> singleResultSetup =
         signalDetectionAccessor ->
             when(signalDetectionAccessor.findHypothesesByIds(unpopulatedHypothesisId))
@@ -722,17 +877,16 @@ class SignalDetectionFacetingUtilityTest {
           when(stationDefinitionFacetingUtility.populateFacets(
                   STATION, stationFacetingDefinition, effectiveTime))
               .thenReturn(STATION);
-          when(stationDefinitionFacetingUtility.populateFacets(
-                  CHANNEL, channelFacetingDefinition, effectiveTime))
-              .thenReturn(CHANNEL);
+          facetChannelSetup(stationDefinitionFacetingUtility, facetedTogether);
         };
     Consumer<StationDefinitionFacetingUtility> facetStationDefinitionVerifier =
         stationDefinitionFacetingUtility -> {
           verify(stationDefinitionFacetingUtility)
               .populateFacets(STATION, stationFacetingDefinition, effectiveTime);
-          verify(stationDefinitionFacetingUtility, times(2))
-              .populateFacets(CHANNEL, channelFacetingDefinition, effectiveTime);
+          facetChannelVerifier(stationDefinitionFacetingUtility, facetedTogether);
         };
+    var waveformSetup = facetedTogether ? facetWaveformTogetherSetup : facetWaveformSetup;
+    var waveformVerifier = facetedTogether ? facetWaveformTogetherVerifier : facetWaveformVerifier;
 
     FacetingDefinition unpopulatedFacetingDefinition =
         signalDetectionHypothesisFacetingDefinition.toBuilder()
@@ -762,23 +916,23 @@ class SignalDetectionFacetingUtilityTest {
             noOpStationDefinitionFacetingVerifier),
         arguments(
             singleResultSetup,
-            facetWaveformSetup,
+            waveformSetup,
             facetStationDefinitionSetup,
             unpopulatedHypothesis,
             signalDetectionHypothesisFacetingDefinition,
             SIGNAL_DETECTION_HYPOTHESIS,
             singleResultVerifier,
-            facetWaveformVerifier,
+            waveformVerifier,
             facetStationDefinitionVerifier),
         arguments(
             noOpAccessorSetup,
-            facetWaveformSetup,
+            waveformSetup,
             facetStationDefinitionSetup,
             SIGNAL_DETECTION_HYPOTHESIS,
             signalDetectionHypothesisFacetingDefinition,
             SIGNAL_DETECTION_HYPOTHESIS,
             noOpAccessorVerifier,
-            facetWaveformVerifier,
+            waveformVerifier,
             facetStationDefinitionVerifier));
   }
 
@@ -0,0 +1,188 @@
+package gms.shared.signaldetection.database.connector;
+
+import gms.shared.signaldetection.dao.css.ArrivalDao;
+import gms.shared.signaldetection.dao.css.AssocDao;
+import gms.shared.utilities.bridge.database.connector.KeySetPredicates;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Persistence;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.apache.commons.lang3.tuple.Pair;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Compares the latency of key set lookups built as per-key OR-chains, as IN-lists sized to each
+ * key set, and through the bucketed IN-lists and row-value IN-lists of {@link KeySetPredicates},
+ * against an in-memory H2 database in Oracle mode standing in for the bridged Oracle database. Each
+ * invocation looks up the next of a fixed series of key sets with sizes spread over a 250-key
+ * partition, so the unpadded forms produce a new statement text for nearly every size. The
+ * connection pool caches prepared statements, standing in for Oracle's shared cursor cache.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class KeySetQueryBenchmark {
+
+  private static final int KEY_SET_COUNT = 64;
+  private static final int MAX_KEY_SET_SIZE = 250;
+  private static final String ID = "id";
+  private static final String ARRIVAL_ID = "arrivalId";
+  private static final String ORIGIN_ID = "originId";
+
+  private EntityManagerFactory entityManagerFactory;
+
+  private List<List<Long>> aridKeySets;
+
+  private List<List<Pair<Long, Long>>> aridOridKeySets;
+
+  private int nextKeySet;
+
+  @Setup
+  public void setup() {
+    var initScripts =
+        Stream.of(
+                "signaldetection/signaldetection_gms_ddl.sql",
+                "signaldetection/data/signaldetection_gms_arrival.sql",
+                "signaldetection/data/signaldetection_gms_assoc.sql")
+            .map(
+                script ->
+                    String.format(
+                        "runscript from '%s'",
+                        KeySetQueryBenchmark.class.getClassLoader().getResource(script)))
+            .collect(Collectors.joining("\\;"));
+
+    Map<String, String> props =
+        Map.ofEntries(
+            Map.entry("hibernate.connection.driver_class", "org.h2.Driver"),
+            Map.entry(
+                "hibernate.connection.url",
+                "jdbc:h2:mem:key_set_benchmark;USER=GMS_GLOBAL;MODE=Oracle;TIME ZONE=UTC;INIT="
+                    + initScripts),
+            Map.entry("hibernate.default_schema", "GMS_GLOBAL"),
+            Map.entry("hibernate.hbm2ddl.auto", "none"),
+            Map.entry("hibernate.c3p0.max_statements", "64"));
+    entityManagerFactory =
+        Persistence.createEntityManagerFactory("gms_signal_detection_test", props);
+
+    var random = new Random(0);
+    aridKeySets = new ArrayList<>(KEY_SET_COUNT);
+    aridOridKeySets = new ArrayList<>(KEY_SET_COUNT);
+    for (var keySet = 0; keySet < KEY_SET_COUNT; keySet++) {
+      var size = 1 + random.nextInt(MAX_KEY_SET_SIZE);
+      aridKeySets.add(random.longs(size, 59_210_000L, 59_212_000L).boxed().toList());
+      aridOridKeySets.add(
+          random
+              .longs(size, 1L, 2L * MAX_KEY_SET_SIZE)
+              .mapToObj(arid -> Pair.of(arid, 1 + arid % 4))
+              .toList());
+    }
+  }
+
+  @TearDown
+  public void tearDown() {
+    entityManagerFactory.close();
+  }
+
+  @Benchmark
+  public List<ArrivalDao> orChainedArids() {
+    var arids = nextAridKeySet();
+    return findArrivals(
+        (cb, idPath) ->
+            cb.or(arids.stream().map(arid -> cb.equal(idPath, arid)).toArray(Predicate[]::new)));
+  }
+
+  @Benchmark
+  public List<ArrivalDao> inListArids() {
+    var arids = nextAridKeySet();
+    return findArrivals((cb, idPath) -> idPath.in(arids));
+  }
+
+  @Benchmark
+  public List<ArrivalDao> keySetArids() {
+    var arids = nextAridKeySet();
+    return findArrivals((cb, idPath) -> KeySetPredicates.in(idPath, arids));
+  }
+
+  @Benchmark
+  public List<AssocDao> orChainedAridOrids() {
+    var aridOrids = nextAridOridKeySet();
+    return findAssocs(
+        (cb, idPath) ->
+            cb.or(
+                aridOrids.stream()
+                    .map(
+                        aridOrid ->
+                            cb.and(
+                                cb.equal(idPath.get(ARRIVAL_ID), aridOrid.getLeft()),
+                                cb.equal(idPath.get(ORIGIN_ID), aridOrid.getRight())))
+                    .toArray(Predicate[]::new)));
+  }
+
+  @Benchmark
+  public List<AssocDao> keySetAridOrids() {
+    var aridOrids = nextAridOridKeySet();
+    return findAssocs(
+        (cb, idPath) ->
+            KeySetPredicates.tupleIn(
+                cb,
+                List.of(idPath.get(ARRIVAL_ID), idPath.get(ORIGIN_ID)),
+                aridOrids,
+                aridOrid -> List.of(aridOrid.getLeft(), aridOrid.getRight())));
+  }
+
+  private List<Long> nextAridKeySet() {
+    nextKeySet = (nextKeySet + 1) % KEY_SET_COUNT;
+    return aridKeySets.get(nextKeySet);
+  }
+
+  private List<Pair<Long, Long>> nextAridOridKeySet() {
+    nextKeySet = (nextKeySet + 1) % KEY_SET_COUNT;
+    return aridOridKeySets.get(nextKeySet);
+  }
+
+  private List<ArrivalDao> findArrivals(KeyPredicateBuilder keyPredicate) {
+    var entityManager = entityManagerFactory.createEntityManager();
+    try {
+      var cb = entityManager.getCriteriaBuilder();
+      var query = cb.createQuery(ArrivalDao.class);
+      var fromArrival = query.from(ArrivalDao.class);
+      query.select(fromArrival).where(keyPredicate.build(cb, fromArrival.get(ID)));
+      return entityManager.createQuery(query).getResultList();
+    } finally {
+      entityManager.close();
+    }
+  }
+
+  private List<AssocDao> findAssocs(KeyPredicateBuilder keyPredicate) {
+    var entityManager = entityManagerFactory.createEntityManager();
+    try {
+      var cb = entityManager.getCriteriaBuilder();
+      var query = cb.createQuery(AssocDao.class);
+      var fromAssoc = query.from(AssocDao.class);
+      query.select(fromAssoc).where(keyPredicate.build(cb, fromAssoc.get(ID)));
+      return entityManager.createQuery(query).getResultList();
+    } finally {
+      entityManager.close();
+    }
+  }
+
+  @FunctionalInterface
+  private interface KeyPredicateBuilder {
+    Predicate build(CriteriaBuilder cb, Path<Object> idPath);
+  }
+}
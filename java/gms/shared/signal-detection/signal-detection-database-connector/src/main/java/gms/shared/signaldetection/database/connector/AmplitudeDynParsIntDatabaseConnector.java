@@ -97,7 +97,7 @@ public class AmplitudeDynParsIntDatabaseConnector extends DatabaseConnector {
     } else {
       var errorMessage = String.format(AMPLITUDE_DYN_PARS_INT_SIZE_MESSAGE, ampids.size());
 
-      return runPartitionedQuery(
+      return runPartitionedQueryConcurrently(
           ampids,
           PARTITION_SIZE,
           (Collection<Long> partitionedAmpids) ->
@@ -150,7 +150,7 @@ public class AmplitudeDynParsIntDatabaseConnector extends DatabaseConnector {
     } else {
       var errorMessage = String.format(AMPLITUDE_DYN_PARS_INT_SIZE_MESSAGE, ampids.size());
 
-      return runPartitionedQuery(
+      return runPartitionedQueryConcurrently(
           ampids,
           PARTITION_SIZE,
           (Collection<Long> partitionedAmpids) ->
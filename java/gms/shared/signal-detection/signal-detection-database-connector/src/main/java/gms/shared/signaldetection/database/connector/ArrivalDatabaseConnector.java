@@ -3,6 +3,7 @@ package gms.shared.signaldetection.database.connector;
 import gms.shared.signaldetection.dao.css.ArrivalDao;
 import gms.shared.utilities.bridge.database.connector.DatabaseConnector;
 import gms.shared.utilities.bridge.database.connector.EntityResultListFunction;
+import gms.shared.utilities.bridge.database.connector.KeySetPredicates;
 import gms.shared.utilities.bridge.database.connector.EntitySingleResultFunction;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityManagerFactory;
@@ -109,7 +110,7 @@ public class ArrivalDatabaseConnector extends DatabaseConnector {
                   Root<ArrivalDao> fromArrival = arrivalQuery.from(ArrivalDao.class);
 
                   arrivalQuery.select(fromArrival);
-                  arrivalQuery.where(fromArrival.get(ID).in(partitionedArids));
+                  arrivalQuery.where(KeySetPredicates.in(fromArrival.get(ID), partitionedArids));
 
                   return entityManager.createQuery(arrivalQuery).getResultList().stream()
                       .distinct()
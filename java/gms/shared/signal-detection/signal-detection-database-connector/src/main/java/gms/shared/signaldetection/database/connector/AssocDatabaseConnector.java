@@ -3,9 +3,9 @@ package gms.shared.signaldetection.database.connector;
 import gms.shared.signaldetection.dao.css.AssocDao;
 import gms.shared.utilities.bridge.database.connector.DatabaseConnector;
 import gms.shared.utilities.bridge.database.connector.EntityResultListFunction;
+import gms.shared.utilities.bridge.database.connector.KeySetPredicates;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityManagerFactory;
-import jakarta.persistence.criteria.Predicate;
 import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
@@ -53,7 +53,9 @@ public class AssocDatabaseConnector extends DatabaseConnector {
                   var query = criteriaBuilder.createQuery(AssocDao.class);
                   var fromAssoc = query.from(AssocDao.class);
                   var idPath = fromAssoc.get(ID);
-                  query.select(fromAssoc).where(idPath.get(ARRIVAL_ID).in(partitionedArids));
+                  query
+                      .select(fromAssoc)
+                      .where(KeySetPredicates.in(idPath.get(ARRIVAL_ID), partitionedArids));
 
                   return entityManager.createQuery(query).getResultList();
                 };
@@ -132,19 +134,15 @@ public class AssocDatabaseConnector extends DatabaseConnector {
     var fromAssoc = query.from(AssocDao.class);
     var idPath = fromAssoc.get(ID);
 
-    // stream through the list of arid/orid pairs and create predicate for primary
-    // keys
+    // match the arid/orid primary keys with a single row-value IN-list
     query
         .select(fromAssoc)
         .where(
-            cb.or(
-                partitionedAridsOrids.stream()
-                    .map(
-                        aridOridPair ->
-                            cb.and(
-                                cb.equal(idPath.get(ARRIVAL_ID), aridOridPair.getLeft()),
-                                cb.equal(idPath.get(ORIGIN_ID), aridOridPair.getRight())))
-                    .toArray(Predicate[]::new)));
+            KeySetPredicates.tupleIn(
+                cb,
+                List.of(idPath.get(ARRIVAL_ID), idPath.get(ORIGIN_ID)),
+                partitionedAridsOrids,
+                aridOridPair -> List.of(aridOridPair.getLeft(), aridOridPair.getRight())));
 
     return entityManager.createQuery(query).getResultList();
   }
@@ -41,8 +41,6 @@ import gms.shared.stationdefinition.coi.channel.Channel;
 import gms.shared.stationdefinition.coi.channel.ChannelProcessingMetadataType;
 import gms.shared.stationdefinition.coi.facets.FacetingDefinition;
 import gms.shared.stationdefinition.coi.filter.FilterDefinition;
-import gms.shared.stationdefinition.coi.qc.ProcessingMaskDefinition;
-import gms.shared.stationdefinition.coi.qc.ProcessingOperation;
 import gms.shared.stationdefinition.coi.station.Station;
 import gms.shared.stationdefinition.facet.StationDefinitionFacetingUtility;
 import gms.shared.waveform.api.WaveformAccessor;
@@ -236,90 +234,26 @@ public class SignalEnhancementConfigurationService {
   public ProcessingMaskDefinitionByPhaseByChannel getProcessingMaskDefinitions(
       ProcessingMaskDefinitionRequest request) {
 
+    var definitionsTable =
+        signalEnhancementFilterConfiguration.getProcessingMaskDefinitions(
+            request.getProcessingOperations(), request.getChannels(), request.getPhaseTypes());
+
     return ProcessingMaskDefinitionByPhaseByChannel.create(
         request.getChannels().stream()
-            .parallel()
-            //
-            // Map each input channel to a ProcessingMaskPhaseChannelItem
-            //
             .map(
-                inputChannel ->
-                    ProcessingMaskPhaseChannelItem.create(
-                        inputChannel,
-                        request.getPhaseTypes().stream()
-                            .parallel()
-                            //
-                            // Map each phase to the phaseMap mentioned in the description.
-                            //
-                            .map(phase -> createPhaseMapEntry(request, phase, inputChannel))
-                            .flatMap(Optional::stream)
-                            .collect(Collectors.toMap(Entry::getKey, Entry::getValue))))
+                inputChannel -> {
+                  var definitionsByPhase = definitionsTable.row(inputChannel);
+                  if (definitionsByPhase.isEmpty()) {
+                    LOGGER.info(
+                        "Channel {} could not be resolved to any ProcessingMaskDefinitions",
+                        inputChannel.getName());
+                  }
+                  return ProcessingMaskPhaseChannelItem.create(
+                      inputChannel, Map.copyOf(definitionsByPhase));
+                })
             .toList());
   }
 
-  /**
-   * Create a Map.Entry, associating phase with a list of ProcessingDefinitions.
-   *
-   * @param request The overall request object
-   * @param phase The specific phase
-   * @param populatedChannel The specific channel, which needs to be populated.
-   * @return The Map.Entry
-   */
-  private Optional<Entry<PhaseType, List<ProcessingMaskDefinition>>> createPhaseMapEntry(
-      ProcessingMaskDefinitionRequest request, PhaseType phase, Channel channel) {
-
-    Entry<PhaseType, List<ProcessingMaskDefinition>> results =
-        Map.entry(
-            phase,
-            request.getProcessingOperations().stream()
-                .parallel()
-                .map(
-                    operation ->
-                        getOptionalProcessingMaskDefinition(request, operation, channel, phase))
-                .flatMap(Optional::stream)
-                .toList());
-
-    if (results.getValue().isEmpty()) {
-      LOGGER.info(
-          "Channel {} could not be resolved to any ProcessingMaskDefinitions; skipping", channel);
-      return Optional.empty();
-    }
-    return Optional.of(results);
-  }
-
-  /**
-   * Retrieve a ProcessingMaskDefinition from configuration, logging and returning an Optional.empty
-   * if not found, or if there was an error.
-   *
-   * @param request Overall request object - needed for station group and for logging.
-   * @param operation The ProcessingOperation to look for.
-   * @param populatedChannel The (fully populated) channel.
-   * @param phase The phase to look for.
-   * @return Optional of the matching ProcessingMaskDefinition or Optional.empty if not found.
-   */
-  private Optional<ProcessingMaskDefinition> getOptionalProcessingMaskDefinition(
-      ProcessingMaskDefinitionRequest request,
-      ProcessingOperation operation,
-      Channel populatedChannel,
-      PhaseType phase) {
-
-    try {
-      return Optional.of(
-          signalEnhancementFilterConfiguration.getProcessingMaskDefinition(
-              operation, populatedChannel, phase));
-    } catch (IllegalArgumentException e) {
-      LOGGER.info(
-          "Missing or invalid configuration for request: {}."
-              + " and specfic phsse: {} and channel: {}"
-              + "Associated exception was {}",
-          request,
-          phase,
-          populatedChannel.getName(),
-          e);
-      return Optional.<ProcessingMaskDefinition>empty();
-    }
-  }
-
   /**
    * Resolves default FilterDefinitions for each of the provided SignalDetectionHypothesis objects
    * for each FilterDefinitionUsage literal
@@ -388,25 +322,11 @@ public class SignalEnhancementConfigurationService {
       }
     }
 
-    return populatedStations.stream()
-        .map(
-            station ->
-                beamformingTemplatesRequest.getPhases().stream()
-                    .map(
-                        phase ->
-                            signalEnhancementFilterConfiguration
-                                .getBeamformingTemplate(
-                                    station, phase, beamformingTemplatesRequest.getBeamType())
-                                .map(
-                                    template ->
-                                        Tables.<String, String, BeamformingTemplate>immutableCell(
-                                            station.getName(), phase.toString(), template)))
-                    .flatMap(Optional::stream))
-        .flatMap(Function.identity())
-        .distinct()
-        .collect(
-            ImmutableTable.toImmutableTable(
-                Table.Cell::getRowKey, Table.Cell::getColumnKey, Table.Cell::getValue));
+    return toNamedTable(
+        signalEnhancementFilterConfiguration.getBeamformingTemplates(
+            populatedStations,
+            beamformingTemplatesRequest.getPhases(),
+            beamformingTemplatesRequest.getBeamType()));
   }
 
   /**
@@ -438,18 +358,21 @@ public class SignalEnhancementConfigurationService {
       }
     }
 
-    return populatedStations.stream()
+    return toNamedTable(
+        signalEnhancementFilterConfiguration.getFkSpectraTemplates(
+            populatedStations, fkSpectraTemplatesRequest.phases()));
+  }
+
+  /**
+   * Re-keys a table of templates by {@link Station} name and {@link PhaseType} name. Stations are
+   * assumed unique ignoring version.
+   */
+  private static <T> Table<String, String, T> toNamedTable(Table<Station, PhaseType, T> templates) {
+    return templates.cellSet().stream()
         .map(
-            station ->
-                fkSpectraTemplatesRequest.phases().stream()
-                    .map(
-                        phase ->
-                            Tables.<String, String, FkSpectraTemplate>immutableCell(
-                                station.getName(),
-                                phase.toString(),
-                                signalEnhancementFilterConfiguration.getFkSpectraTemplate(
-                                    station, phase))))
-        .flatMap(Function.identity())
+            cell ->
+                Tables.<String, String, T>immutableCell(
+                    cell.getRowKey().getName(), cell.getColumnKey().toString(), cell.getValue()))
         .distinct()
         .collect(
             ImmutableTable.toImmutableTable(
@@ -515,14 +438,20 @@ public class SignalEnhancementConfigurationService {
   public FilterDefsByUsageTable getDefaultDefinitionByUsageMap(
       FilterDefintionByUsageMapRequest request) {
 
-    return request.channels().parallelStream()
-        .map(SignalEnhancementConfigurationService::componentsFromChannel)
-        .flatMap(Optional::stream)
-        .flatMap(
-            components ->
-                request.phases().parallelStream()
-                    .map(phase -> resolveMappingCell(components, phase)))
-        .distinct()
+    var channelComponents =
+        request.channels().stream()
+            .map(SignalEnhancementConfigurationService::componentsFromChannel)
+            .flatMap(Optional::stream)
+            .toList();
+
+    return signalEnhancementFilterConfiguration
+        .getDefaultFilterDefinitionByUsageMaps(channelComponents, request.phases())
+        .cellSet()
+        .stream()
+        .map(
+            cell ->
+                new FilterDefsByUsageTable.TableCell(
+                    cell.getRowKey(), cell.getColumnKey(), cell.getValue()))
         .collect(FilterDefsByUsageTable.Builder.toBuilder())
         .withGlobalDefaults(
             signalEnhancementFilterConfiguration.getDefaultFilterDefinitionByUsageMap())
@@ -543,19 +472,6 @@ public class SignalEnhancementConfigurationService {
     }
   }
 
-  private FilterDefsByUsageTable.TableCell resolveMappingCell(
-      ChannelComponents components, PhaseType phase) {
-
-    var fdByUsageMap =
-        signalEnhancementFilterConfiguration.getDefaultFilterDefinitionByUsageMap(
-            components.stationName(),
-            components.channelGroupName(),
-            components.channelCode(),
-            phase);
-
-    return new FilterDefsByUsageTable.TableCell(components, phase, fdByUsageMap);
-  }
-
   /**
    * Resolves for empty signal detection hypothesis by trying to populate it using the faceting
    * utility and makes sure this operation is safe by doing it with an optional.
@@ -6,13 +6,14 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.spy;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.google.common.base.Preconditions;
+import com.google.common.collect.HashBasedTable;
 import com.google.common.collect.ImmutableTable;
 import com.google.common.collect.Tables;
 import gms.shared.common.coi.types.PhaseType;
@@ -45,6 +46,7 @@ import gms.shared.signalenhancement.coi.filter.FilterListDefinition;
 import gms.shared.signalenhancement.coi.fk.FkSpectraTemplate;
 import gms.shared.signalenhancement.coi.rotation.RotationTemplate;
 import gms.shared.signalenhancement.coi.types.FilterDefinitionUsage;
+import gms.shared.signalenhancement.coi.utils.ChannelComponents;
 import gms.shared.signalenhancement.configuration.ProcessingMaskDefinitionConfiguration;
 import gms.shared.signalenhancement.configuration.RotationConfiguration;
 import gms.shared.signalenhancement.configuration.SignalEnhancementConfiguration;
@@ -58,7 +60,6 @@ import gms.shared.stationdefinition.coi.channel.ChannelBandType;
 import gms.shared.stationdefinition.coi.channel.ChannelInstrumentType;
 import gms.shared.stationdefinition.coi.channel.ChannelOrientationType;
 import gms.shared.stationdefinition.coi.channel.ChannelSegmentDescriptor;
-import gms.shared.stationdefinition.coi.channel.ChannelTypes;
 import gms.shared.stationdefinition.coi.channel.Location;
 import gms.shared.stationdefinition.coi.filter.FilterDefinition;
 import gms.shared.stationdefinition.coi.station.Station;
@@ -652,11 +653,13 @@ class SignalEnhancementConfigurationServiceTest {
             .build();
 
     Mockito.when(
-            mockedSignalEnhancementConfig.getBeamformingTemplate(station1, phaseType, beamType))
-        .thenReturn(Optional.of(BeamTestFixtures.CONTINUOUS_BEAMFORMING_TEMPLATE));
-    Mockito.when(
-            mockedSignalEnhancementConfig.getBeamformingTemplate(station2, phaseType, beamType))
-        .thenReturn(Optional.of(BeamTestFixtures.CONTINUOUS_BEAMFORMING_TEMPLATE));
+            mockedSignalEnhancementConfig.getBeamformingTemplates(
+                List.of(station1, station2), beamformingRequest.getPhases(), beamType))
+        .thenReturn(
+            ImmutableTable.<Station, PhaseType, BeamformingTemplate>builder()
+                .put(station1, phaseType, BeamTestFixtures.CONTINUOUS_BEAMFORMING_TEMPLATE)
+                .put(station2, phaseType, BeamTestFixtures.CONTINUOUS_BEAMFORMING_TEMPLATE)
+                .build());
 
     Mockito.when(
             stationDefinitionAccessor.findStationsByNameAndTime(Mockito.<String>anyList(), any()))
@@ -703,11 +706,13 @@ class SignalEnhancementConfigurationServiceTest {
             .build();
 
     Mockito.when(
-            mockedSignalEnhancementConfig.getBeamformingTemplate(station1, phaseType, beamType))
-        .thenReturn(Optional.of(BeamTestFixtures.CONTINUOUS_BEAMFORMING_TEMPLATE));
-    Mockito.when(
-            mockedSignalEnhancementConfig.getBeamformingTemplate(station2, phaseType, beamType))
-        .thenReturn(Optional.of(BeamTestFixtures.CONTINUOUS_BEAMFORMING_TEMPLATE));
+            mockedSignalEnhancementConfig.getBeamformingTemplates(
+                List.of(station1, station2), beamformingRequest.getPhases(), beamType))
+        .thenReturn(
+            ImmutableTable.<Station, PhaseType, BeamformingTemplate>builder()
+                .put(station1, phaseType, BeamTestFixtures.CONTINUOUS_BEAMFORMING_TEMPLATE)
+                .put(station2, phaseType, BeamTestFixtures.CONTINUOUS_BEAMFORMING_TEMPLATE)
+                .build());
 
     Mockito.when(
             stationDefinitionAccessor.findStationsByNameAndTime(Mockito.<String>anyList(), any()))
@@ -752,8 +757,11 @@ class SignalEnhancementConfigurationServiceTest {
             .build();
 
     Mockito.when(
-            mockedSignalEnhancementConfig.getBeamformingTemplate(station1, phaseType, beamType))
-        .thenReturn(Optional.of(BeamTestFixtures.CONTINUOUS_BEAMFORMING_TEMPLATE));
+            mockedSignalEnhancementConfig.getBeamformingTemplates(
+                List.of(station1), beamformingRequest.getPhases(), beamType))
+        .thenReturn(
+            ImmutableTable.of(
+                station1, phaseType, BeamTestFixtures.CONTINUOUS_BEAMFORMING_TEMPLATE));
 
     Mockito.when(
             stationDefinitionAccessor.findStationsByNameAndTime(Mockito.<String>anyList(), any()))
@@ -790,14 +798,13 @@ class SignalEnhancementConfigurationServiceTest {
             .setPhases(List.of(phaseType))
             .setStations(List.of(station1, station2))
             .build();
-    Mockito.when(mockedSignalEnhancement.getBeamformingTemplate(station1, phaseType, beamType))
-        .thenReturn(Optional.empty());
-    Mockito.when(mockedSignalEnhancement.getBeamformingTemplate(station2, phaseType, beamType))
-        .thenReturn(Optional.empty());
-    Mockito.when(mockedSignalEnhancement.getBeamformingTemplate(station1, phaseType, beamType))
-        .thenReturn(Optional.of(BeamTestFixtures.CONTINUOUS_BEAMFORMING_TEMPLATE));
-    Mockito.when(mockedSignalEnhancement.getBeamformingTemplate(station2, phaseType, beamType))
-        .thenReturn(Optional.of(BeamTestFixtures.CONTINUOUS_BEAMFORMING_TEMPLATE));
+    // station2 did not resolve to a template, so it is absent from the configuration table
+    Mockito.when(
+            mockedSignalEnhancement.getBeamformingTemplates(
+                List.of(station1, station2), beamformingRequest.getPhases(), beamType))
+        .thenReturn(
+            ImmutableTable.of(
+                station1, phaseType, BeamTestFixtures.CONTINUOUS_BEAMFORMING_TEMPLATE));
 
     Mockito.when(
             stationDefinitionAccessor.findStationsByNameAndTime(Mockito.<String>anyList(), any()))
@@ -809,10 +816,6 @@ class SignalEnhancementConfigurationServiceTest {
                 station1.getName(),
                 phaseType.getLabel(),
                 BeamTestFixtures.CONTINUOUS_BEAMFORMING_TEMPLATE)
-            .put(
-                station2.getName(),
-                phaseType.getLabel(),
-                BeamTestFixtures.CONTINUOUS_BEAMFORMING_TEMPLATE)
             .build();
 
     var results = serviceWithMock.getBeamformingTemplates(beamformingRequest);
@@ -839,10 +842,14 @@ class SignalEnhancementConfigurationServiceTest {
     var request =
         new FkSpectraTemplatesRequest(List.of(asar, pdar), List.of(PhaseType.P, PhaseType.S));
 
-    Mockito.when(secConfigMock.getFkSpectraTemplate(asar, PhaseType.P)).thenReturn(templateAsarP);
-    Mockito.when(secConfigMock.getFkSpectraTemplate(asar, PhaseType.S)).thenReturn(templateAsarS);
-    Mockito.when(secConfigMock.getFkSpectraTemplate(pdar, PhaseType.P)).thenReturn(templatePdarP);
-    Mockito.when(secConfigMock.getFkSpectraTemplate(pdar, PhaseType.S)).thenReturn(templatePdarS);
+    Mockito.when(secConfigMock.getFkSpectraTemplates(List.of(asar, pdar), request.phases()))
+        .thenReturn(
+            ImmutableTable.<Station, PhaseType, FkSpectraTemplate>builder()
+                .put(asar, PhaseType.P, templateAsarP)
+                .put(asar, PhaseType.S, templateAsarS)
+                .put(pdar, PhaseType.P, templatePdarP)
+                .put(pdar, PhaseType.S, templatePdarS)
+                .build());
 
     Mockito.when(
             stationDefinitionAccessor.findStationsByNameAndTime(Mockito.<String>anyList(), any()))
@@ -881,10 +888,14 @@ class SignalEnhancementConfigurationServiceTest {
         new FkSpectraTemplatesRequest(
             List.of(asar, pdar, asar), List.of(PhaseType.P, PhaseType.S, PhaseType.P));
 
-    Mockito.when(secConfigMock.getFkSpectraTemplate(asar, PhaseType.P)).thenReturn(templateAsarP);
-    Mockito.when(secConfigMock.getFkSpectraTemplate(asar, PhaseType.S)).thenReturn(templateAsarS);
-    Mockito.when(secConfigMock.getFkSpectraTemplate(pdar, PhaseType.P)).thenReturn(templatePdarP);
-    Mockito.when(secConfigMock.getFkSpectraTemplate(pdar, PhaseType.S)).thenReturn(templatePdarS);
+    Mockito.when(secConfigMock.getFkSpectraTemplates(List.of(asar, pdar), request.phases()))
+        .thenReturn(
+            ImmutableTable.<Station, PhaseType, FkSpectraTemplate>builder()
+                .put(asar, PhaseType.P, templateAsarP)
+                .put(asar, PhaseType.S, templateAsarS)
+                .put(pdar, PhaseType.P, templatePdarP)
+                .put(pdar, PhaseType.S, templatePdarS)
+                .build());
 
     Mockito.when(
             stationDefinitionAccessor.findStationsByNameAndTime(Mockito.<String>anyList(), any()))
@@ -1231,10 +1242,18 @@ class SignalEnhancementConfigurationServiceTest {
         .when(signalEnhancementFilterConfiguration)
         .getDefaultFilterDefinitionByUsageMap();
 
-    doReturn(dummy)
+    doAnswer(
+            invocation -> {
+              Collection<ChannelComponents> components = invocation.getArgument(0);
+              Collection<PhaseType> phases = invocation.getArgument(1);
+              var table =
+                  HashBasedTable
+                      .<ChannelComponents, PhaseType, FilterDefsForDistRangesByUsage>create();
+              components.forEach(component -> phases.forEach(p -> table.put(component, p, dummy)));
+              return table;
+            })
         .when(signalEnhancementFilterConfiguration)
-        .getDefaultFilterDefinitionByUsageMap(
-            anyString(), anyString(), any(ChannelTypes.class), any(PhaseType.class));
+        .getDefaultFilterDefinitionByUsageMaps(any(), any());
     assertEquals(
         expectedResult,
         signalEnhancementConfigurationService.getDefaultDefinitionByUsageMap(request));
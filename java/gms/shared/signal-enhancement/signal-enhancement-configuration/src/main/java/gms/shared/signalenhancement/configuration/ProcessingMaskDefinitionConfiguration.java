@@ -2,16 +2,24 @@ package gms.shared.signalenhancement.configuration;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
+import com.google.common.collect.ImmutableTable;
+import com.google.common.collect.Table;
 import gms.shared.common.coi.types.PhaseType;
 import gms.shared.frameworks.configuration.Selector;
 import gms.shared.frameworks.configuration.repository.client.ConfigurationConsumerUtility;
+import gms.shared.frameworks.configuration.repository.client.ConfigurationResolutionException;
 import gms.shared.signalenhancement.coi.utils.ChannelComponents;
 import gms.shared.stationdefinition.coi.channel.Channel;
 import gms.shared.stationdefinition.coi.qc.ProcessingMaskConfigurationObject;
 import gms.shared.stationdefinition.coi.qc.ProcessingMaskDefinition;
 import gms.shared.stationdefinition.coi.qc.ProcessingOperation;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
@@ -20,6 +28,9 @@ import org.springframework.context.annotation.Configuration;
 @Configuration
 public class ProcessingMaskDefinitionConfiguration {
 
+  private static final Logger LOGGER =
+      LoggerFactory.getLogger(ProcessingMaskDefinitionConfiguration.class);
+
   private static final String STATION_NAME_SELECTOR = "station";
   private static final String CHANNEL_NAME_SELECTOR = "channel";
   private static final String CHANNEL_GROUP_NAME_SELECTOR = "channelGroup";
@@ -59,6 +70,90 @@ public class ProcessingMaskDefinitionConfiguration {
     return getProcessingMaskDefinition(processingOperation, channel, phaseType, List.of());
   }
 
+  /**
+   * Retrieves the {@link ProcessingMaskDefinition}s for every combination of the input parameters,
+   * resolving configuration for all of them in one pass. Channels whose names cannot be parsed are
+   * skipped.
+   *
+   * @param processingOperations {@link ProcessingOperation}s to use in configuration query
+   * @param channels {@link Channel}s to use in configuration query
+   * @param phaseTypes {@link PhaseType}s to use in configuration query
+   * @return {@link ProcessingMaskDefinition}s, one per {@link ProcessingOperation}, by {@link
+   *     Channel} and {@link PhaseType}
+   * @throws ConfigurationResolutionException if configuration can't be resolved for any
+   *     combination
+   */
+  public Table<Channel, PhaseType, List<ProcessingMaskDefinition>> getProcessingMaskDefinitions(
+      Collection<ProcessingOperation> processingOperations,
+      Collection<Channel> channels,
+      Collection<PhaseType> phaseTypes) {
+
+    checkNotNull(processingOperations, PROCESSINGOPERATION_NULL_STR);
+    checkNotNull(channels, CHANNEL_NULL_STR);
+    checkNotNull(phaseTypes, PHASETYPE_NULL_STR);
+
+    var channelSelectors = new LinkedHashMap<Channel, List<Selector<String>>>();
+    for (var channel : channels) {
+      try {
+        channelSelectors.computeIfAbsent(channel, ProcessingMaskDefinitionConfiguration::selectors);
+      } catch (IllegalArgumentException e) {
+        LOGGER.info("Channel name {} could not be parsed; skipping", channel.getName(), e);
+      }
+    }
+
+    var phaseOperationSelectors = new LinkedHashMap<PhaseOperation, List<Selector<String>>>();
+    for (var phaseType : phaseTypes) {
+      for (var processingOperation : processingOperations) {
+        phaseOperationSelectors.put(
+            new PhaseOperation(phaseType, processingOperation),
+            List.of(
+                Selector.from(PROCESSING_OPERATION_NAME_SELECTOR, processingOperation.toString()),
+                Selector.from(PHASE_TYPE_NAME_SELECTOR, phaseType.toString())));
+      }
+    }
+
+    var configurationObjects =
+        configurationConsumerUtility.resolveTable(
+            processingMaskDefinitionConfig,
+            channelSelectors,
+            phaseOperationSelectors,
+            ProcessingMaskConfigurationObject.class);
+
+    var definitions = ImmutableTable.<Channel, PhaseType, List<ProcessingMaskDefinition>>builder();
+    configurationObjects
+        .rowMap()
+        .forEach(
+            (channel, objectsByPhaseOperation) ->
+                objectsByPhaseOperation.entrySet().stream()
+                    .collect(
+                        Collectors.groupingBy(
+                            entry -> entry.getKey().phaseType(),
+                            LinkedHashMap::new,
+                            Collectors.mapping(
+                                entry ->
+                                    new ProcessingMaskDefinition(
+                                        entry.getValue(), entry.getKey().processingOperation()),
+                                Collectors.toList())))
+                    .forEach(
+                        (phaseType, phaseDefinitions) ->
+                            definitions.put(channel, phaseType, List.copyOf(phaseDefinitions))));
+    return definitions.buildOrThrow();
+  }
+
+  private static List<Selector<String>> selectors(Channel channel) {
+    var channelComponents = ChannelComponents.fromChannelName(channel.getName());
+    return List.of(
+        Selector.from(STATION_NAME_SELECTOR, channelComponents.stationName()),
+        Selector.from(CHANNEL_NAME_SELECTOR, channelComponents.shortChannelName()),
+        Selector.from(CHANNEL_GROUP_NAME_SELECTOR, channelComponents.channelGroupName()),
+        Selector.from(
+            CHANNEL_BAND_NAME_SELECTOR,
+            String.valueOf(channelComponents.channelCode().getBandType().getCode())),
+        Selector.from(
+            CHANNEL_INSTRUMENT_NAME_SELECTOR,
+            String.valueOf(channelComponents.channelCode().getInstrumentType().getCode())));
+  }
+
   /**
    * Retrieves the {@link ProcessingMaskDefinition} based on the input parameters. If there are no
    * matching definitions, a default all encompassing definition will be returned
@@ -107,4 +202,6 @@ public class ProcessingMaskDefinitionConfiguration {
 
     return new ProcessingMaskDefinition(configurationObject, processingOperation);
   }
+
+  private record PhaseOperation(PhaseType phaseType, ProcessingOperation processingOperation) {}
 }
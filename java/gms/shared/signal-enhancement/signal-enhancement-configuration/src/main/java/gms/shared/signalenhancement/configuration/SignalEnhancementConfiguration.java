@@ -2,6 +2,9 @@ package gms.shared.signalenhancement.configuration;
 
 import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableTable;
+import com.google.common.collect.Table;
+import com.google.common.collect.Tables;
 import gms.shared.common.coi.types.PhaseType;
 import gms.shared.derivedchannel.coi.BeamDescription;
 import gms.shared.derivedchannel.coi.BeamformingTemplate;
@@ -10,6 +13,7 @@ import gms.shared.event.coi.LocationSolution;
 import gms.shared.featureprediction.utilities.math.GeoMath;
 import gms.shared.frameworks.configuration.Selector;
 import gms.shared.frameworks.configuration.repository.client.ConfigurationConsumerUtility;
+import gms.shared.frameworks.configuration.repository.client.ConfigurationConsumerUtility.UnresolvedCellPolicy;
 import gms.shared.frameworks.configuration.repository.client.ConfigurationResolutionException;
 import gms.shared.signalenhancement.api.FilterDefinitionByFilterDefinitionUsage;
 import gms.shared.signalenhancement.coi.filter.FilterConfiguration;
@@ -21,6 +25,7 @@ import gms.shared.signalenhancement.coi.filter.FilterListDefinition;
 import gms.shared.signalenhancement.coi.fk.FkSpectraTemplate;
 import gms.shared.signalenhancement.coi.fk.FkSpectraTemplateConfiguration;
 import gms.shared.signalenhancement.coi.types.FilterDefinitionUsage;
+import gms.shared.signalenhancement.coi.utils.ChannelComponents;
 import gms.shared.stationdefinition.api.StationDefinitionAccessor;
 import gms.shared.stationdefinition.coi.channel.BeamType;
 import gms.shared.stationdefinition.coi.channel.Channel;
@@ -38,6 +43,7 @@ import java.time.Instant;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -214,6 +220,25 @@ public class SignalEnhancementConfiguration {
         processingOperation, channel, phaseType);
   }
 
+  /**
+   * Retrieves the {@link ProcessingMaskDefinition}s for every combination of the input parameters,
+   * resolving configuration for all of them in one pass
+   *
+   * @param processingOperations {@link ProcessingOperation}s to use in configuration query
+   * @param channels {@link Channel}s to use in configuration query
+   * @param phaseTypes {@link PhaseType}s to use in configuration query
+   * @return {@link ProcessingMaskDefinition}s, one per resolved {@link ProcessingOperation}, by
+   *     {@link Channel} and {@link PhaseType}
+   */
+  public Table<Channel, PhaseType, List<ProcessingMaskDefinition>> getProcessingMaskDefinitions(
+      Collection<ProcessingOperation> processingOperations,
+      Collection<Channel> channels,
+      Collection<PhaseType> phaseTypes) {
+
+    return processingMaskDefinitionConfiguration.getProcessingMaskDefinitions(
+        processingOperations, channels, phaseTypes);
+  }
+
   /**
    * Resolve {@link BeamformingTemplate} using processing configuration, input {@link Station},
    * {@link PhaseType} and {@link BeamType}
@@ -250,6 +275,56 @@ public class SignalEnhancementConfiguration {
       return Optional.empty();
     }
 
+    return getBeamformingTemplate(station, phase, beamType, btParams);
+  }
+
+  /**
+   * Resolve {@link BeamformingTemplate}s using processing configuration for every combination of
+   * the input {@link Station}s and {@link PhaseType}s with the input {@link BeamType}, resolving
+   * configuration for all of them in one pass
+   *
+   * @param stations input {@link Station}s
+   * @param phases input {@link PhaseType}s
+   * @param beamType input {@link BeamType}
+   * @return {@link BeamformingTemplate}s by {@link Station} and {@link PhaseType}, for each
+   *     combination that resolved to a template
+   */
+  public Table<Station, PhaseType, BeamformingTemplate> getBeamformingTemplates(
+      Collection<Station> stations, Collection<PhaseType> phases, BeamType beamType) {
+
+    Preconditions.checkNotNull(stations, STATION_NULL);
+    Preconditions.checkNotNull(phases, PHASE_TYPE_NULL);
+    Preconditions.checkNotNull(beamType, BEAM_TYPE_NULL);
+
+    var beamNameSelector = Selector.from(BEAM_TYPE_SELECTOR, beamType.getLabel());
+    var btParamsTable =
+        configurationConsumerUtility.resolveTable(
+            signalEnhancementBeamformingConfig,
+            stationSelectors(stations),
+            selectorsByKey(
+                phases,
+                phase ->
+                    List.of(
+                        Selector.from(PHASE_TYPE_SELECTOR, phase.getLabel()), beamNameSelector)),
+            BeamformingTemplateParameters.class,
+            UnresolvedCellPolicy.SKIP);
+
+    var templates = ImmutableTable.<Station, PhaseType, BeamformingTemplate>builder();
+    for (var cell : btParamsTable.cellSet()) {
+      var station = cell.getRowKey();
+      var phase = cell.getColumnKey();
+      getBeamformingTemplate(station, phase, beamType, cell.getValue())
+          .ifPresent(template -> templates.put(station, phase, template));
+    }
+    return templates.buildOrThrow();
+  }
+
+  private Optional<BeamformingTemplate> getBeamformingTemplate(
+      Station station,
+      PhaseType phase,
+      BeamType beamType,
+      BeamformingTemplateParameters btParams) {
+
     // get input channel groups and channels from the beamforming config
     var inputChannelGroups = btParams.inputChannelGroups();
     var inputChannels = btParams.inputChannels();
@@ -347,19 +422,60 @@ public class SignalEnhancementConfiguration {
         signalEnhancementFkConfig,
         List.of(stationNameSelector, phaseTypeSelector),
         FkSpectraTemplateConfiguration.class,
-        (FkSpectraTemplateConfiguration fkConfig) -> {
+        (FkSpectraTemplateConfiguration fkConfig) ->
+            getFkSpectraTemplate(station, phaseType, fkConfig));
+  }
+
+  /**
+   * Resolve {@link FkSpectraTemplate}s using processing configuration for every combination of the
+   * input {@link Station}s and {@link PhaseType}s, resolving configuration for all of them in one
+   * pass
+   *
+   * @param stations input {@link Station}s, must be populated
+   * @param phaseTypes input {@link PhaseType}s
+   * @return {@link FkSpectraTemplate}s by {@link Station} and {@link PhaseType}
+   * @throws ConfigurationResolutionException if configuration can't be resolved for any
+   *     combination
+   */
+  public Table<Station, PhaseType, FkSpectraTemplate> getFkSpectraTemplates(
+      Collection<Station> stations, Collection<PhaseType> phaseTypes) {
+
+    Preconditions.checkNotNull(stations);
+    Preconditions.checkNotNull(phaseTypes);
+    Preconditions.checkArgument(
+        stations.stream().allMatch(Station::isPresent), "Stations must be populated.");
+
+    var fkConfigTable =
+        configurationConsumerUtility.resolveTable(
+            signalEnhancementFkConfig,
+            stationSelectors(stations),
+            selectorsByKey(
+                phaseTypes, phase -> List.of(Selector.from(PHASE_TYPE_SELECTOR, phase.getLabel()))),
+            FkSpectraTemplateConfiguration.class);
+
+    var templates = ImmutableTable.<Station, PhaseType, FkSpectraTemplate>builder();
+    fkConfigTable
+        .cellSet()
+        .forEach(
+            cell ->
+                templates.put(
+                    cell.getRowKey(),
+                    cell.getColumnKey(),
+                    getFkSpectraTemplate(cell.getRowKey(), cell.getColumnKey(), cell.getValue())));
+    return templates.buildOrThrow();
+  }
 
-          // filter raw channels using input channel groups & channels
-          List<Channel> fkInputChannels =
-              StationDefinitionCoiFilter.filterStationRawChannels(
-                  station.getAllRawChannels(),
-                  fkConfig.inputChannelGroups(),
-                  fkConfig.inputChannels());
+  private static FkSpectraTemplate getFkSpectraTemplate(
+      Station station, PhaseType phaseType, FkSpectraTemplateConfiguration fkConfig) {
+
+    // filter raw channels using input channel groups & channels
+    List<Channel> fkInputChannels =
+        StationDefinitionCoiFilter.filterStationRawChannels(
+            station.getAllRawChannels(), fkConfig.inputChannelGroups(), fkConfig.inputChannels());
 
-          var versionStation = Station.createVersionReference(station);
+    var versionStation = Station.createVersionReference(station);
 
-          return getTemplateFromConfig(fkConfig, phaseType, versionStation, fkInputChannels);
-        });
+    return getTemplateFromConfig(fkConfig, phaseType, versionStation, fkInputChannels);
   }
 
   private static FkSpectraTemplate getTemplateFromConfig(
@@ -558,9 +674,75 @@ public class SignalEnhancementConfiguration {
         filterDefinitionsByUsageConfig,
         selectorsList,
         FilterDefinitionsForDistanceRangesByUsage.class,
-        fdbuMapConfig ->
-            fdbuMapConfig.filterDefinitionsForDistanceRangesByUsage().entrySet().stream()
-                .collect(FilterDefsForDistRangesByUsage.toFilterDefsForDistRangesByUsage()));
+        SignalEnhancementConfiguration::toFilterDefsForDistRangesByUsage);
+  }
+
+  /**
+   * Resolves mappings from {@link FilterDefinitionUsage} to {@link
+   * FilterDefinitionForDistanceRange}s from processing configuration for every combination of the
+   * provided channels and phases, resolving configuration for all of them in one pass
+   *
+   * @param channelComponents {@link ChannelComponents} of the channels to select for
+   * @param phases Phases to select for
+   * @return Mappings from {@link FilterDefinitionUsage} to {@link
+   *     FilterDefinitionForDistanceRange}s by channel and phase
+   * @throws ConfigurationResolutionException if configuration can't be resolved for any
+   *     combination
+   */
+  public Table<ChannelComponents, PhaseType, FilterDefsForDistRangesByUsage>
+      getDefaultFilterDefinitionByUsageMaps(
+          Collection<ChannelComponents> channelComponents, Collection<PhaseType> phases) {
+
+    var fdbuMapConfigTable =
+        configurationConsumerUtility.resolveTable(
+            filterDefinitionsByUsageConfig,
+            selectorsByKey(
+                channelComponents,
+                components ->
+                    List.of(
+                        Selector.from(STATION_NAME_SELECTOR, components.stationName()),
+                        Selector.from(CHANNEL_GROUP_NAME_SELECTOR, components.channelGroupName()),
+                        Selector.from(
+                            CHANNEL_BAND_NAME_SELECTOR,
+                            String.valueOf(components.channelCode().getBandType().getCode())),
+                        Selector.from(
+                            CHANNEL_INSTRUMENT_NAME_SELECTOR,
+                            String.valueOf(components.channelCode().getInstrumentType().getCode())),
+                        Selector.from(
+                            CHANNEL_ORIENTATION_NAME_SELECTOR,
+                            String.valueOf(
+                                components.channelCode().getOrientationType().getCode())))),
+            selectorsByKey(
+                phases, phase -> List.of(Selector.from(PHASE_NAME_SELECTOR, phase.getLabel()))),
+            FilterDefinitionsForDistanceRangesByUsage.class);
+
+    return ImmutableTable.copyOf(
+        Tables.transformValues(
+            fdbuMapConfigTable, SignalEnhancementConfiguration::toFilterDefsForDistRangesByUsage));
+  }
+
+  private static FilterDefsForDistRangesByUsage toFilterDefsForDistRangesByUsage(
+      FilterDefinitionsForDistanceRangesByUsage fdbuMapConfig) {
+    return fdbuMapConfig.filterDefinitionsForDistanceRangesByUsage().entrySet().stream()
+        .collect(FilterDefsForDistRangesByUsage.toFilterDefsForDistRangesByUsage());
+  }
+
+  private static Map<Station, List<Selector<String>>> stationSelectors(
+      Collection<Station> stations) {
+    return selectorsByKey(
+        stations, station -> List.of(Selector.from(STATION_SELECTOR, station.getName())));
+  }
+
+  /**
+   * Maps each distinct key to its {@link Selector}s, in the keys' order, for resolving a
+   * configuration table
+   */
+  private static <K> Map<K, List<Selector<String>>> selectorsByKey(
+      Collection<K> keys, Function<K, List<Selector<String>>> selectors) {
+    return keys.stream()
+        .distinct()
+        .collect(
+            Collectors.toMap(Function.identity(), selectors, (a, b) -> a, LinkedHashMap::new));
   }
 
   /**
@@ -574,14 +756,10 @@ public class SignalEnhancementConfiguration {
    *     configuration
    */
   public FilterDefsForDistRangesByUsage getDefaultFilterDefinitionByUsageMap() {
-    return configurationConsumerUtility
-        .resolve(
+    return toFilterDefsForDistRangesByUsage(
+        configurationConsumerUtility.resolve(
             filterDefinitionsByUsageConfig,
             Collections.emptyList(),
-            FilterDefinitionsForDistanceRangesByUsage.class)
-        .filterDefinitionsForDistanceRangesByUsage()
-        .entrySet()
-        .stream()
-        .collect(FilterDefsForDistRangesByUsage.toFilterDefsForDistRangesByUsage());
+            FilterDefinitionsForDistanceRangesByUsage.class));
   }
 }
@@ -8,6 +8,7 @@ import gms.shared.common.coi.types.PhaseType;
 import gms.shared.frameworks.configuration.RetryConfig;
 import gms.shared.frameworks.configuration.repository.FileConfigurationRepository;
 import gms.shared.frameworks.configuration.repository.client.ConfigurationConsumerUtility;
+import gms.shared.stationdefinition.coi.channel.Channel;
 import gms.shared.stationdefinition.coi.channel.ChannelBandType;
 import gms.shared.stationdefinition.coi.channel.ChannelInstrumentType;
 import gms.shared.stationdefinition.coi.channel.ChannelOrientationType;
@@ -23,6 +24,7 @@ import gms.shared.stationdefinition.testfixtures.UtilsTestFixtures;
 import java.io.File;
 import java.time.Duration;
 import java.time.temporal.ChronoUnit;
+import java.util.List;
 import java.util.Set;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
@@ -367,6 +369,53 @@ class ProcessingMaskDefinitionConfigurationTest {
     verifyProcessingMaskDefinition(expectedPMDef, actualPMDef);
   }
 
+  @Test
+  void testProcessingMaskDefinitionsMatchSingleResolution() {
+
+    var verticalChannel =
+        UtilsTestFixtures.createTestChannelForProcessingMaskConfiguration(
+            "ASAR",
+            "AS01",
+            "BHZ",
+            ChannelBandType.BROADBAND,
+            ChannelInstrumentType.HIGH_GAIN_SEISMOMETER,
+            ChannelOrientationType.VERTICAL,
+            PROCESSING_MASK_LOCATION);
+    var transverseChannel =
+        UtilsTestFixtures.createTestChannelForProcessingMaskConfiguration(
+            "ASAR",
+            "AS31",
+            "BHZ",
+            ChannelBandType.BROADBAND,
+            ChannelInstrumentType.HIGH_GAIN_SEISMOMETER,
+            ChannelOrientationType.TRANSVERSE,
+            PROCESSING_MASK_LOCATION);
+    var unparseableChannel = Channel.createEntityReference("BHZ");
+
+    var operations =
+        List.of(ProcessingOperation.AMPLITUDE_MEASUREMENT_BEAM, ProcessingOperation.DISPLAY_FILTER);
+    var phases = List.of(PhaseType.Lg, PhaseType.S);
+
+    var actual =
+        processingMaskDefinitionConfiguration.getProcessingMaskDefinitions(
+            operations, List.of(verticalChannel, transverseChannel, unparseableChannel), phases);
+
+    assertTrue(actual.row(unparseableChannel).isEmpty());
+    assertEquals(4, actual.size());
+    for (var channel : List.of(verticalChannel, transverseChannel)) {
+      for (var phase : phases) {
+        var expected =
+            operations.stream()
+                .map(
+                    operation ->
+                        processingMaskDefinitionConfiguration.getProcessingMaskDefinition(
+                            operation, channel, phase))
+                .toList();
+        assertEquals(expected, actual.get(channel, phase));
+      }
+    }
+  }
+
   /**
    * Common asserts for validating ProcessingMaskDefinition objects
    *
@@ -12,6 +12,7 @@ import static org.junit.jupiter.params.provider.Arguments.arguments;
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableTable;
 import gms.shared.common.coi.types.PhaseType;
 import gms.shared.frameworks.configuration.RetryConfig;
 import gms.shared.frameworks.configuration.Selector;
@@ -19,7 +20,9 @@ import gms.shared.frameworks.configuration.repository.FileConfigurationRepositor
 import gms.shared.frameworks.configuration.repository.client.ConfigurationConsumerUtility;
 import gms.shared.signalenhancement.coi.filter.FilterList;
 import gms.shared.signalenhancement.coi.filter.FilterListDefinition;
+import gms.shared.signalenhancement.coi.fk.FkSpectraTemplate;
 import gms.shared.signalenhancement.coi.types.FilterDefinitionUsage;
+import gms.shared.signalenhancement.coi.utils.ChannelComponents;
 import gms.shared.signalenhancement.configuration.testfixtures.CascadeFilterName;
 import gms.shared.signalenhancement.configuration.testfixtures.ConfigurationTestUtility;
 import gms.shared.signalenhancement.configuration.testfixtures.FilterDescriptionName;
@@ -843,6 +846,30 @@ class SignalEnhancementConfigurationTest {
                 FkSpectraTemplateFixtures.ANY_STATION_VERSION_REFERENCE, PhaseType.P));
   }
 
+  @Test
+  void testResolveFkSpectraTemplatesMatchesSingleResolution() {
+
+    var stations =
+        List.of(
+            FkSpectraTemplateFixtures.ANY_STATION,
+            FkSpectraTemplateFixtures.ASAR_STATION_WITH_FILTERED_STATIONS);
+    var phases = List.of(PhaseType.P, PhaseType.LR);
+
+    var expected = ImmutableTable.<Station, PhaseType, FkSpectraTemplate>builder();
+    for (var station : stations) {
+      for (var phase : phases) {
+        expected.put(
+            station,
+            phase,
+            signalEnhancementFilterConfiguration.getFkSpectraTemplate(station, phase));
+      }
+    }
+
+    assertEquals(
+        expected.build(),
+        signalEnhancementFilterConfiguration.getFkSpectraTemplates(stations, phases));
+  }
+
   @ParameterizedTest
   @MethodSource("getBuildArguments")
   void testNullArguments(Station station, PhaseType phaseType) {
@@ -903,6 +930,33 @@ class SignalEnhancementConfigurationTest {
         Arguments.arguments(hitStationName, hitChannelGroupName, hitChannelCode, PhaseType.UNSET));
   }
 
+  @Test
+  void testResolveFilterDefinitionByUsageMapsMatchesSingleResolution() {
+
+    var channelComponents =
+        List.of(
+            ChannelComponents.fromChannelName(UtilsTestFixtures.CHANNEL_STA01_STA01_BHE.getName()),
+            ChannelComponents.fromChannelName("MISS.MISS.BHZ"));
+    var phases = List.of(PhaseType.P, PhaseType.S, PhaseType.UNSET);
+
+    var actual =
+        signalEnhancementFilterConfiguration.getDefaultFilterDefinitionByUsageMaps(
+            channelComponents, phases);
+
+    assertEquals(channelComponents.size() * phases.size(), actual.size());
+    for (var components : channelComponents) {
+      for (var phase : phases) {
+        assertEquals(
+            signalEnhancementFilterConfiguration.getDefaultFilterDefinitionByUsageMap(
+                components.stationName(),
+                components.channelGroupName(),
+                components.channelCode(),
+                phase),
+            actual.get(components, phase));
+      }
+    }
+  }
+
   @Test
   void testGetDefaultFilterDefinitionByUsageMap() {
 
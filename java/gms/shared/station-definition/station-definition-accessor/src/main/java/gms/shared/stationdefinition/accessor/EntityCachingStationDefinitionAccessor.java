@@ -830,13 +830,12 @@ public class EntityCachingStationDefinitionAccessor implements StationDefinition
                     Response.class.getSimpleName().concat(responseId.toString()),
                     effectiveAt.orElseThrow());
       } else {
-        var versionedResponseMap =
-            versionCache.retrieveVersionsByEntityIdAndTimeRangeMap(
+        var versionedResponses =
+            versionCache.retrieveVersionRangeMapByEntityId(
                 Response.class.getSimpleName().concat(responseId.toString()));
 
-        if (!versionedResponseMap.asMapOfRanges().isEmpty()) {
-          Instant lastTime = versionedResponseMap.span().upperEndpoint();
-          versionedResponse = (Response) versionedResponseMap.get(lastTime);
+        if (versionedResponses != null) {
+          versionedResponse = (Response) versionedResponses.latest();
         }
       }
     }
@@ -1037,17 +1036,15 @@ public class EntityCachingStationDefinitionAccessor implements StationDefinition
 
           String key = entityType.getSimpleName().concat(name);
 
-          RangeMap<Instant, Object> cacheRangeMap =
-              versionCache.retrieveVersionsByEntityIdAndTimeRangeMap(key);
+          var cachedVersions = versionCache.retrieveVersionRangeMapByEntityId(key);
 
-          // check if the cache range map contains the station group key and pull the associated
-          // RangeMap of Range->StationGroupVersion
-          if (cacheRangeMap != null && !cacheRangeMap.asMapOfRanges().isEmpty()) {
+          // check if the cache contains versions for the key and pull the ones connected to the
+          // time range, along with their ranges
+          if (cachedVersions != null) {
 
             cachedObjects.addAll(
-                cacheRangeMap.asDescendingMapOfRanges().entrySet().stream()
+                cachedVersions.entriesConnectedTo(timeRange).stream()
                     .map(entry -> removeTimeRangeFromDelegateSet(entry, delegateRangeSet))
-                    .filter(entry -> timeRange.isConnected(entry.getKey()))
                     .map(Map.Entry::getValue)
                     .distinct()
                     .map(entityType::cast)
@@ -8,7 +8,11 @@ import java.time.Instant;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.NavigableSet;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import javax.cache.processor.MutableEntry;
 import org.apache.ignite.IgniteCache;
+import org.apache.ignite.cache.CacheEntryProcessor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -18,14 +22,17 @@ public abstract class VersionCache {
   private static final Logger LOGGER = LoggerFactory.getLogger(VersionCache.class);
   public static final String CACHE_INITIALIZED = "Cache already initialized: ";
 
-  private final IgniteCache<String, RangeMap<Instant, Object>> versionsByEntityIdAndTimeCache;
+  static final int MAX_MERGE_ATTEMPTS = 8;
+  private static final long MERGE_BACKOFF_NANOS = TimeUnit.MICROSECONDS.toNanos(500);
+
+  private final IgniteCache<String, VersionRangeMap> versionsByEntityIdAndTimeCache;
   private final IgniteCache<String, NavigableSet<Instant>> versionEffectiveTimesByEntityIdCache;
   private SystemConfig systemConfig;
 
   protected VersionCache(
       SystemConfig systemConfig,
       IgniteCache<String, NavigableSet<Instant>> versionEffectiveTimesByEntityIdCache,
-      IgniteCache<String, RangeMap<Instant, Object>> versionsByEntityIdAndTimeCache) {
+      IgniteCache<String, VersionRangeMap> versionsByEntityIdAndTimeCache) {
 
     this.versionEffectiveTimesByEntityIdCache = versionEffectiveTimesByEntityIdCache;
     this.versionsByEntityIdAndTimeCache = versionsByEntityIdAndTimeCache;
@@ -66,18 +73,38 @@ public abstract class VersionCache {
   }
 
   /**
-   * Cache version objects using entityId and effectiveTimes
+   * Cache version objects using entityId and effectiveTimes, merging them into any versions already
+   * cached for the entity. The merge is written back with a compare-and-set against the cached
+   * value, so that concurrent writers on any node do not lose each other's versions. After a
+   * bounded number of lost attempts, with a short backoff between them, the merge is instead run
+   * under the entry's lock with an entry processor.
    *
    * @param key EntityId strings
    * @param value RangeMap of effectiveTimes to version objects
    */
   public void cacheVersionsByEntityIdAndTime(String key, RangeMap<Instant, Object> value) {
 
-    if (!versionsByEntityIdAndTimeCache.containsKey(key)) {
-      versionsByEntityIdAndTimeCache.put(key, value);
-    } else {
-      versionsByEntityIdAndTimeCache.get(key).putAll(value);
+    var versions = VersionRangeMap.from(value);
+    for (var attempt = 1; attempt <= MAX_MERGE_ATTEMPTS; attempt++) {
+      var cachedVersions = versionsByEntityIdAndTimeCache.get(key);
+      var merged =
+          cachedVersions == null
+              ? versionsByEntityIdAndTimeCache.putIfAbsent(key, versions)
+              : versionsByEntityIdAndTimeCache.replace(
+                  key, cachedVersions, cachedVersions.putAll(versions));
+      if (merged) {
+        return;
+      }
+      if (attempt < MAX_MERGE_ATTEMPTS) {
+        LockSupport.parkNanos(MERGE_BACKOFF_NANOS << (attempt - 1));
+      }
     }
+
+    LOGGER.info(
+        "Versions for {} were not merged after {} attempts, merging under the entry lock",
+        key,
+        MAX_MERGE_ATTEMPTS);
+    versionsByEntityIdAndTimeCache.invoke(key, new MergeVersions(versions));
   }
 
   /**
@@ -107,6 +134,17 @@ public abstract class VersionCache {
    * @return rangeMap of versions by effectiveTime to version object
    */
   public RangeMap<Instant, Object> retrieveVersionsByEntityIdAndTimeRangeMap(String key) {
+    var versions = versionsByEntityIdAndTimeCache.get(key);
+    return versions == null ? null : versions.toRangeMap();
+  }
+
+  /**
+   * Retrieve the cached versions using entityId string, in their compact form
+   *
+   * @param key EntityId string
+   * @return versions by effectiveTime, or null if none are cached
+   */
+  public VersionRangeMap retrieveVersionRangeMapByEntityId(String key) {
     return versionsByEntityIdAndTimeCache.get(key);
   }
 
@@ -118,9 +156,9 @@ public abstract class VersionCache {
    * @return version object from RangeMap
    */
   public Object retrieveVersionsByEntityIdAndTime(String key, Instant effectiveTime) {
-    RangeMap<Instant, Object> rangeMap = versionsByEntityIdAndTimeCache.get(key);
-    if (rangeMap != null) {
-      return rangeMap.get(effectiveTime);
+    var versions = versionsByEntityIdAndTimeCache.get(key);
+    if (versions != null) {
+      return versions.get(effectiveTime);
     }
 
     return null;
@@ -136,10 +174,28 @@ public abstract class VersionCache {
   public Collection<Object> retrieveVersionsByEntityIdAndTimeRange(
       String key, Range<Instant> timeRange) {
 
-    RangeMap<Instant, Object> rangeMap = versionsByEntityIdAndTimeCache.get(key);
-    if (rangeMap != null && timeRange != null) {
-      return rangeMap.subRangeMap(timeRange).asDescendingMapOfRanges().values();
+    var versions = versionsByEntityIdAndTimeCache.get(key);
+    if (versions != null && timeRange != null) {
+      return versions.valuesIntersecting(timeRange);
     }
     return Collections.emptyList();
   }
+
+  /** Merges versions into those cached for an entity while holding the entry's lock */
+  static final class MergeVersions implements CacheEntryProcessor<String, VersionRangeMap, Void> {
+
+    private static final long serialVersionUID = 1L;
+
+    private final VersionRangeMap versions;
+
+    MergeVersions(VersionRangeMap versions) {
+      this.versions = versions;
+    }
+
+    @Override
+    public Void process(MutableEntry<String, VersionRangeMap> entry, Object... arguments) {
+      entry.setValue(entry.exists() ? entry.getValue().putAll(versions) : versions);
+      return null;
+    }
+  }
 }
@@ -0,0 +1,278 @@
+package gms.shared.stationdefinition.cache;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.collect.BoundType;
+import com.google.common.collect.Range;
+import com.google.common.collect.RangeMap;
+import com.google.common.collect.TreeRangeMap;
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compact, immutable form of a {@link RangeMap} of effective time ranges to versions, as stored in
+ * the {@link VersionCache}. The disjoint ranges are held in ascending order as parallel primitive
+ * arrays of their endpoints (epoch seconds plus nanosecond adjustments), so that a version can be
+ * looked up by time with a binary search rather than by rebuilding a {@link TreeRangeMap}.
+ */
+public final class VersionRangeMap implements Serializable {
+
+  private static final long serialVersionUID = 1L;
+
+  private static final long UNBOUNDED_BELOW = Long.MIN_VALUE;
+  private static final long UNBOUNDED_ABOVE = Long.MAX_VALUE;
+  private static final byte LOWER_CLOSED = 1;
+  private static final byte UPPER_CLOSED = 2;
+
+  private final long[] lowerSeconds;
+  private final int[] lowerNanos;
+  private final long[] upperSeconds;
+  private final int[] upperNanos;
+  private final byte[] boundTypes;
+  private final Object[] values;
+
+  private VersionRangeMap(int size) {
+    lowerSeconds = new long[size];
+    lowerNanos = new int[size];
+    upperSeconds = new long[size];
+    upperNanos = new int[size];
+    boundTypes = new byte[size];
+    values = new Object[size];
+  }
+
+  /**
+   * Creates the compact form of a {@link RangeMap}
+   *
+   * @param rangeMap RangeMap of effectiveTimes to version objects
+   * @return the compact form of the range map
+   */
+  public static VersionRangeMap from(RangeMap<Instant, ?> rangeMap) {
+    checkNotNull(rangeMap, "RangeMap cannot be null");
+
+    var ranges = rangeMap.asMapOfRanges();
+    var versionRangeMap = new VersionRangeMap(ranges.size());
+    var index = 0;
+    for (var entry : ranges.entrySet()) {
+      var range = entry.getKey();
+      byte boundType = 0;
+
+      if (range.hasLowerBound()) {
+        versionRangeMap.lowerSeconds[index] = range.lowerEndpoint().getEpochSecond();
+        versionRangeMap.lowerNanos[index] = range.lowerEndpoint().getNano();
+        boundType |= range.lowerBoundType() == BoundType.CLOSED ? LOWER_CLOSED : 0;
+      } else {
+        versionRangeMap.lowerSeconds[index] = UNBOUNDED_BELOW;
+      }
+
+      if (range.hasUpperBound()) {
+        versionRangeMap.upperSeconds[index] = range.upperEndpoint().getEpochSecond();
+        versionRangeMap.upperNanos[index] = range.upperEndpoint().getNano();
+        boundType |= range.upperBoundType() == BoundType.CLOSED ? UPPER_CLOSED : 0;
+      } else {
+        versionRangeMap.upperSeconds[index] = UNBOUNDED_ABOVE;
+      }
+
+      versionRangeMap.boundTypes[index] = boundType;
+      versionRangeMap.values[index] = entry.getValue();
+      index++;
+    }
+    return versionRangeMap;
+  }
+
+  /**
+   * Retrieve the version in effect at a time
+   *
+   * @param time EffectiveTime instant
+   * @return the version object whose range contains the time, or null if there is none
+   */
+  public Object get(Instant time) {
+    checkNotNull(time, "Time cannot be null");
+
+    // find the last range starting at or before the time; a range ending exactly at the time
+    // can only be the one before it, when that one starts open at the time
+    var low = 0;
+    var high = values.length - 1;
+    while (low <= high) {
+      var mid = (low + high) >>> 1;
+      if (compare(lowerSeconds[mid], lowerNanos[mid], time) <= 0) {
+        low = mid + 1;
+      } else {
+        high = mid - 1;
+      }
+    }
+
+    for (var index = high; index >= 0 && index >= high - 1; index--) {
+      if (contains(index, time)) {
+        return values[index];
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Retrieve the versions whose ranges intersect a time range, latest first
+   *
+   * @param timeRange Range of Instant
+   * @return Collection of version objects
+   */
+  public Collection<Object> valuesIntersecting(Range<Instant> timeRange) {
+    checkNotNull(timeRange, "Time range cannot be null");
+
+    List<Object> intersecting = new ArrayList<>();
+    for (var index = values.length - 1; index >= 0; index--) {
+      var range = range(index);
+      if (range.isConnected(timeRange) && !range.intersection(timeRange).isEmpty()) {
+        intersecting.add(values[index]);
+      }
+    }
+    return intersecting;
+  }
+
+  /**
+   * Retrieve the version of the latest range
+   *
+   * @return the version object whose range is latest, or null if there are no versions
+   */
+  public Object latest() {
+    return values.length == 0 ? null : values[values.length - 1];
+  }
+
+  /**
+   * Retrieve the ranges and versions whose ranges are connected to a time range, that is, overlap
+   * or adjoin it, latest first
+   *
+   * @param timeRange Range of Instant
+   * @return entries of effective time range to version object
+   */
+  public List<Map.Entry<Range<Instant>, Object>> entriesConnectedTo(Range<Instant> timeRange) {
+    checkNotNull(timeRange, "Time range cannot be null");
+
+    List<Map.Entry<Range<Instant>, Object>> connected = new ArrayList<>();
+    for (var index = values.length - 1; index >= 0; index--) {
+      var range = range(index);
+      if (range.isConnected(timeRange)) {
+        connected.add(Map.entry(range, values[index]));
+      } else if (isBelow(range, timeRange)) {
+        // the ranges are disjoint and ascending, so every earlier range is below as well
+        break;
+      }
+    }
+    return connected;
+  }
+
+  /**
+   * Overlays another range map on this one, with the other's versions replacing these where their
+   * ranges overlap
+   *
+   * @param other the range map to overlay
+   * @return the merged range map
+   */
+  public VersionRangeMap putAll(VersionRangeMap other) {
+    checkNotNull(other, "RangeMap cannot be null");
+
+    var merged = toRangeMap();
+    merged.putAll(other.toRangeMap());
+    return from(merged);
+  }
+
+  /**
+   * Expands this compact form back to a {@link RangeMap}
+   *
+   * @return RangeMap of effectiveTimes to version objects
+   */
+  public RangeMap<Instant, Object> toRangeMap() {
+    RangeMap<Instant, Object> rangeMap = TreeRangeMap.create();
+    for (var index = 0; index < values.length; index++) {
+      rangeMap.put(range(index), values[index]);
+    }
+    return rangeMap;
+  }
+
+  public boolean isEmpty() {
+    return values.length == 0;
+  }
+
+  public int size() {
+    return values.length;
+  }
+
+  private boolean contains(int index, Instant time) {
+    var lowerComparison = compare(lowerSeconds[index], lowerNanos[index], time);
+    var upperComparison = compare(upperSeconds[index], upperNanos[index], time);
+    return (lowerComparison < 0 || (lowerComparison == 0 && isClosed(index, LOWER_CLOSED)))
+        && (upperComparison > 0 || (upperComparison == 0 && isClosed(index, UPPER_CLOSED)));
+  }
+
+  private static boolean isBelow(Range<Instant> range, Range<Instant> timeRange) {
+    return range.hasUpperBound()
+        && timeRange.hasLowerBound()
+        && !range.upperEndpoint().isAfter(timeRange.lowerEndpoint());
+  }
+
+  private Range<Instant> range(int index) {
+    var lowerType = isClosed(index, LOWER_CLOSED) ? BoundType.CLOSED : BoundType.OPEN;
+    var upperType = isClosed(index, UPPER_CLOSED) ? BoundType.CLOSED : BoundType.OPEN;
+    var hasLowerBound = lowerSeconds[index] != UNBOUNDED_BELOW;
+    var hasUpperBound = upperSeconds[index] != UNBOUNDED_ABOVE;
+
+    if (hasLowerBound && hasUpperBound) {
+      return Range.range(lowerEndpoint(index), lowerType, upperEndpoint(index), upperType);
+    } else if (hasLowerBound) {
+      return Range.downTo(lowerEndpoint(index), lowerType);
+    } else if (hasUpperBound) {
+      return Range.upTo(upperEndpoint(index), upperType);
+    }
+    return Range.all();
+  }
+
+  private Instant lowerEndpoint(int index) {
+    return Instant.ofEpochSecond(lowerSeconds[index], lowerNanos[index]);
+  }
+
+  private Instant upperEndpoint(int index) {
+    return Instant.ofEpochSecond(upperSeconds[index], upperNanos[index]);
+  }
+
+  private boolean isClosed(int index, byte bound) {
+    return (boundTypes[index] & bound) != 0;
+  }
+
+  private static int compare(long epochSeconds, int nanos, Instant time) {
+    var secondsComparison = Long.compare(epochSeconds, time.getEpochSecond());
+    return secondsComparison != 0 ? secondsComparison : Integer.compare(nanos, time.getNano());
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof VersionRangeMap that)) {
+      return false;
+    }
+    return Arrays.equals(lowerSeconds, that.lowerSeconds)
+        && Arrays.equals(lowerNanos, that.lowerNanos)
+        && Arrays.equals(upperSeconds, that.upperSeconds)
+        && Arrays.equals(upperNanos, that.upperNanos)
+        && Arrays.equals(boundTypes, that.boundTypes)
+        && Arrays.equals(values, that.values);
+  }
+
+  @Override
+  public int hashCode() {
+    var result = Arrays.hashCode(lowerSeconds);
+    result = 31 * result + Arrays.hashCode(upperSeconds);
+    result = 31 * result + Arrays.hashCode(values);
+    return result;
+  }
+
+  @Override
+  public String toString() {
+    return toRangeMap().toString();
+  }
+}
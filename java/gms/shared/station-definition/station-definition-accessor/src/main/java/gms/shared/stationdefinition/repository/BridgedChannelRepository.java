@@ -6,6 +6,7 @@ import static gms.shared.stationdefinition.coi.channel.ChannelProcessingMetadata
 import com.google.common.base.Functions;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.Range;
+import com.google.common.collect.RangeMap;
 import com.google.common.collect.TreeRangeMap;
 import gms.shared.common.coi.types.BeamSummation;
 import gms.shared.derivedchannel.coi.BeamDefinition;
@@ -878,13 +879,8 @@ public class BridgedChannelRepository implements ChannelRepository {
     versionTimes.add(channel.getEffectiveAt().orElseThrow());
     versionCache.cacheVersionEffectiveTimesByEntityId(key, versionTimes);
 
-    var versions = versionCache.retrieveVersionsByEntityIdAndTimeRangeMap(key);
-
-    if (versions == null) {
-      versions = TreeRangeMap.create();
-    }
-
-    // cache derived channel versions
+    // cache derived channel versions, merged into those already cached
+    RangeMap<Instant, Object> versions = TreeRangeMap.create();
     var range =
         channel.getEffectiveUntil().isPresent()
             ? Range.closedOpen(
@@ -940,15 +936,13 @@ public class BridgedChannelRepository implements ChannelRepository {
         .map(
             (String name) -> {
               String key = Channel.class.getSimpleName().concat(name);
-              return versionCache.retrieveVersionsByEntityIdAndTimeRangeMap(key);
+              return versionCache.retrieveVersionRangeMapByEntityId(key);
             })
-        // check if the cache range map contains the station group key and pull the associated
-        // RangeMap of Range->StationGroupVersion
-        .filter(cacheRangeMap -> cacheRangeMap != null && !cacheRangeMap.asMapOfRanges().isEmpty())
+        // pull the cached channel versions connected to the time range
+        .filter(Objects::nonNull)
         .flatMap(
-            cacheRangeMap ->
-                cacheRangeMap.asDescendingMapOfRanges().entrySet().stream()
-                    .filter(entry -> timeRange.isConnected(entry.getKey()))
+            cachedVersions ->
+                cachedVersions.entriesConnectedTo(timeRange).stream()
                     .map(Map.Entry::getValue)
                     .map(Channel.class::cast))
         .filter(Objects::nonNull)
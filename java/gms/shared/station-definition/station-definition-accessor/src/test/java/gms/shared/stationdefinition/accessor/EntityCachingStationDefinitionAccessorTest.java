@@ -43,6 +43,7 @@ import gms.shared.frameworks.systemconfig.SystemConfig;
 import gms.shared.stationdefinition.api.StationDefinitionAccessor;
 import gms.shared.stationdefinition.api.station.util.StationChangeTimesRequest;
 import gms.shared.stationdefinition.cache.VersionCache;
+import gms.shared.stationdefinition.cache.VersionRangeMap;
 import gms.shared.stationdefinition.cache.util.StationDefinitionIdUtility;
 import gms.shared.stationdefinition.coi.channel.Channel;
 import gms.shared.stationdefinition.coi.channel.ChannelGroup;
@@ -212,14 +213,14 @@ class EntityCachingStationDefinitionAccessorTest {
 
     RangeMap<Instant, Object> rangeMap = TreeRangeMap.create();
     rangeMap.put(Range.closed(START_TIME, END_TIME), STATION_GROUP);
-    when(cache.retrieveVersionsByEntityIdAndTimeRangeMap(any())).thenReturn(rangeMap);
+    when(cache.retrieveVersionRangeMapByEntityId(any())).thenReturn(VersionRangeMap.from(rangeMap));
 
     List<StationGroup> response =
         entityCacheAccessor.findStationGroupsByNameAndTimeRange(
             List.of(TEST_NAME), START_TIME, END_TIME);
 
     // verify cache was called and response is correct
-    verify(cache).retrieveVersionsByEntityIdAndTimeRangeMap(entityIdCaptor.capture());
+    verify(cache).retrieveVersionRangeMapByEntityId(entityIdCaptor.capture());
     assertFalse(response.isEmpty());
     assertEquals(STATION_GROUP, response.get(0));
   }
@@ -230,7 +231,7 @@ class EntityCachingStationDefinitionAccessorTest {
 
     RangeMap<Instant, Object> rangeMap = TreeRangeMap.create();
     rangeMap.put(Range.closed(START_TIME, END_TIME2), STATION_GROUP);
-    when(cache.retrieveVersionsByEntityIdAndTimeRangeMap(any())).thenReturn(rangeMap);
+    when(cache.retrieveVersionRangeMapByEntityId(any())).thenReturn(VersionRangeMap.from(rangeMap));
     when(delegate.findStationGroupsByNameAndTimeRange(any(), any(), any()))
         .thenReturn(List.of(STATION_GROUP2));
 
@@ -239,7 +240,7 @@ class EntityCachingStationDefinitionAccessorTest {
             List.of(TEST_NAME), START_TIME, END_TIME);
 
     // verify cache was called and response is correct
-    verify(cache, times(1)).retrieveVersionsByEntityIdAndTimeRangeMap(entityIdCaptor.capture());
+    verify(cache, times(1)).retrieveVersionRangeMapByEntityId(entityIdCaptor.capture());
     assertFalse(response.isEmpty());
     assertTrue(response.contains(STATION_GROUP));
     assertTrue(response.contains(STATION_GROUP2));
@@ -359,14 +360,15 @@ class EntityCachingStationDefinitionAccessorTest {
     rangeMap.put(Range.closed(START_TIME, END_TIME), STATION);
 
     String stationKey = Station.class.getSimpleName().concat(TEST_NAME);
-    when(cache.retrieveVersionsByEntityIdAndTimeRangeMap(stationKey)).thenReturn(rangeMap);
+    when(cache.retrieveVersionRangeMapByEntityId(stationKey))
+        .thenReturn(VersionRangeMap.from(rangeMap));
 
     List<Station> stations =
         entityCacheAccessor.findStationsByNameAndTimeRange(
             List.of(TEST_NAME), START_TIME, END_TIME);
 
     // verify cache was called and response is correct
-    verify(cache, times(1)).retrieveVersionsByEntityIdAndTimeRangeMap(entityIdCaptor.capture());
+    verify(cache, times(1)).retrieveVersionRangeMapByEntityId(entityIdCaptor.capture());
     assertFalse(stations.isEmpty());
 
     Station expectedStation =
@@ -404,7 +406,7 @@ class EntityCachingStationDefinitionAccessorTest {
             List.of(TEST_NAME), START_TIME, END_TIME);
 
     // verify cache was called and response is correct
-    verify(cache, times(1)).retrieveVersionsByEntityIdAndTimeRangeMap(entityIdCaptor.capture());
+    verify(cache, times(1)).retrieveVersionRangeMapByEntityId(entityIdCaptor.capture());
     assertFalse(response.isEmpty());
 
     List<Channel> entityReferenceChannels =
@@ -621,13 +623,13 @@ class EntityCachingStationDefinitionAccessorTest {
     rangeSet.addAll(List.of(START_TIME, END_TIME));
     RangeMap<Instant, Object> rangeMap = TreeRangeMap.create();
     rangeMap.put(Range.closed(START_TIME, END_TIME), CHANNEL_GROUP);
-    when(cache.retrieveVersionsByEntityIdAndTimeRangeMap(any())).thenReturn(rangeMap);
+    when(cache.retrieveVersionRangeMapByEntityId(any())).thenReturn(VersionRangeMap.from(rangeMap));
     List<ChannelGroup> response =
         entityCacheAccessor.findChannelGroupsByNameAndTimeRange(
             List.of(CHANNEL_GROUP.getName()), START_TIME, END_TIME);
 
     // verify cache was called and response is correct
-    verify(cache).retrieveVersionsByEntityIdAndTimeRangeMap(entityIdCaptor.capture());
+    verify(cache).retrieveVersionRangeMapByEntityId(entityIdCaptor.capture());
     assertFalse(response.isEmpty());
     assertEquals(CHANNEL_GROUP, response.get(0));
   }
@@ -638,7 +640,7 @@ class EntityCachingStationDefinitionAccessorTest {
 
     RangeMap<Instant, Object> rangeMap = TreeRangeMap.create();
     rangeMap.put(Range.closed(START_TIME, END_TIME2), CHANNEL_GROUP);
-    when(cache.retrieveVersionsByEntityIdAndTimeRangeMap(any())).thenReturn(rangeMap);
+    when(cache.retrieveVersionRangeMapByEntityId(any())).thenReturn(VersionRangeMap.from(rangeMap));
     when(delegate.findChannelGroupsByNameAndTimeRange(any(), any(), any()))
         .thenReturn(List.of(CHANNEL_GROUP_TEST));
     List<ChannelGroup> response =
@@ -646,7 +648,7 @@ class EntityCachingStationDefinitionAccessorTest {
             List.of(TEST_NAME), START_TIME, END_TIME);
 
     // verify cache was called and response is correct
-    verify(cache).retrieveVersionsByEntityIdAndTimeRangeMap(entityIdCaptor.capture());
+    verify(cache).retrieveVersionRangeMapByEntityId(entityIdCaptor.capture());
     assertFalse(response.isEmpty());
     assertTrue(response.contains(CHANNEL_GROUP));
     assertTrue(response.contains(CHANNEL_GROUP_TEST));
@@ -773,14 +775,14 @@ class EntityCachingStationDefinitionAccessorTest {
 
     RangeMap<Instant, Object> rangeMap = TreeRangeMap.create();
     rangeMap.put(Range.closed(START_TIME, END_TIME), CHANNEL);
-    when(cache.retrieveVersionsByEntityIdAndTimeRangeMap(any())).thenReturn(rangeMap);
-    when(cache.retrieveVersionsByEntityIdAndTimeRangeMap(any())).thenReturn(rangeMap);
+    when(cache.retrieveVersionRangeMapByEntityId(any())).thenReturn(VersionRangeMap.from(rangeMap));
+    when(cache.retrieveVersionRangeMapByEntityId(any())).thenReturn(VersionRangeMap.from(rangeMap));
     List<Channel> response =
         entityCacheAccessor.findChannelsByNameAndTimeRange(
             List.of(TEST_NAME), START_TIME, END_TIME);
 
     // verify cache was called and response is correct
-    verify(cache, times(1)).retrieveVersionsByEntityIdAndTimeRangeMap(entityIdCaptor.capture());
+    verify(cache, times(1)).retrieveVersionRangeMapByEntityId(entityIdCaptor.capture());
     assertFalse(response.isEmpty());
     assertEquals(CHANNEL, response.get(0));
   }
@@ -791,7 +793,7 @@ class EntityCachingStationDefinitionAccessorTest {
 
     RangeMap<Instant, Object> rangeMap = TreeRangeMap.create();
     rangeMap.put(Range.closed(START_TIME, END_TIME2), CHANNEL);
-    when(cache.retrieveVersionsByEntityIdAndTimeRangeMap(any())).thenReturn(rangeMap);
+    when(cache.retrieveVersionRangeMapByEntityId(any())).thenReturn(VersionRangeMap.from(rangeMap));
     when(delegate.findChannelsByNameAndTimeRange(any(), any(), any()))
         .thenReturn(List.of(CHANNEL_TWO));
     List<Channel> response =
@@ -799,7 +801,7 @@ class EntityCachingStationDefinitionAccessorTest {
             List.of(TEST_NAME), START_TIME, END_TIME);
 
     // verify cache was called and response is correct
-    verify(cache, times(1)).retrieveVersionsByEntityIdAndTimeRangeMap(entityIdCaptor.capture());
+    verify(cache, times(1)).retrieveVersionRangeMapByEntityId(entityIdCaptor.capture());
     assertFalse(response.isEmpty());
     assertTrue(response.contains(CHANNEL));
     assertTrue(response.contains(CHANNEL_TWO));
@@ -923,13 +925,13 @@ class EntityCachingStationDefinitionAccessorTest {
 
     RangeMap<Instant, Object> rangeMap = TreeRangeMap.create();
     rangeMap.put(Range.closed(START_TIME, END_TIME), RESPONSE);
-    when(cache.retrieveVersionsByEntityIdAndTimeRangeMap(any())).thenReturn(rangeMap);
+    when(cache.retrieveVersionRangeMapByEntityId(any())).thenReturn(VersionRangeMap.from(rangeMap));
 
     List<Response> response =
         entityCacheAccessor.findResponsesByIdAndTimeRange(List.of(TEST_UUID), START_TIME, END_TIME);
 
     // verify cache was called and response is correct
-    verify(cache, times(1)).retrieveVersionsByEntityIdAndTimeRangeMap(entityIdCaptor.capture());
+    verify(cache, times(1)).retrieveVersionRangeMapByEntityId(entityIdCaptor.capture());
     assertFalse(response.isEmpty());
     assertEquals(RESPONSE, response.get(0));
   }
@@ -940,14 +942,14 @@ class EntityCachingStationDefinitionAccessorTest {
 
     RangeMap<Instant, Object> rangeMap = TreeRangeMap.create();
     rangeMap.put(Range.closed(START_TIME, END_TIME2), RESPONSE);
-    when(cache.retrieveVersionsByEntityIdAndTimeRangeMap(any())).thenReturn(rangeMap);
+    when(cache.retrieveVersionRangeMapByEntityId(any())).thenReturn(VersionRangeMap.from(rangeMap));
     when(delegate.findResponsesByIdAndTimeRange(any(), any(), any()))
         .thenReturn(List.of(RESPONSE_TWO));
     List<Response> response =
         entityCacheAccessor.findResponsesByIdAndTimeRange(List.of(TEST_UUID), START_TIME, END_TIME);
 
     // verify cache was called and response is correct
-    verify(cache, times(1)).retrieveVersionsByEntityIdAndTimeRangeMap(entityIdCaptor.capture());
+    verify(cache, times(1)).retrieveVersionRangeMapByEntityId(entityIdCaptor.capture());
     assertFalse(response.isEmpty());
     assertTrue(response.contains(RESPONSE));
     assertTrue(response.contains(RESPONSE_TWO));
@@ -977,12 +979,13 @@ class EntityCachingStationDefinitionAccessorTest {
 
     when(stationDefinitionIdUtility.getResponseForWfid(anyLong()))
         .thenReturn(Optional.of(RESPONSE));
-    when(cache.retrieveVersionsByEntityIdAndTimeRangeMap(any())).thenReturn(entityMap);
+    when(cache.retrieveVersionRangeMapByEntityId(any()))
+        .thenReturn(VersionRangeMap.from(entityMap));
 
     var actual = entityCacheAccessor.loadResponseFromWfdisc(1L);
 
     verify(stationDefinitionIdUtility, times(1)).getResponseForWfid(anyLong());
-    verify(cache, times(1)).retrieveVersionsByEntityIdAndTimeRangeMap(any());
+    verify(cache, times(1)).retrieveVersionRangeMapByEntityId(any());
 
     Assertions.assertEquals(RESPONSE, actual);
 
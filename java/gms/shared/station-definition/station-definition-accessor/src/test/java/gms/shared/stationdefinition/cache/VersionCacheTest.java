@@ -0,0 +1,140 @@
+package gms.shared.stationdefinition.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.common.collect.Range;
+import com.google.common.collect.RangeMap;
+import com.google.common.collect.TreeRangeMap;
+import gms.shared.frameworks.systemconfig.SystemConfig;
+import java.time.Instant;
+import java.util.List;
+import java.util.NavigableSet;
+import javax.cache.processor.MutableEntry;
+import org.apache.ignite.IgniteCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class VersionCacheTest {
+
+  private static final String KEY = "StationASAR";
+  private static final Instant T1 = Instant.parse("2010-01-01T00:00:00Z");
+  private static final Instant T2 = Instant.parse("2020-01-01T00:00:00Z");
+
+  @Mock private SystemConfig systemConfig;
+  @Mock private IgniteCache<String, NavigableSet<Instant>> effectiveTimesCache;
+  @Mock private IgniteCache<String, VersionRangeMap> versionsCache;
+  @Mock private MutableEntry<String, VersionRangeMap> entry;
+
+  private VersionCache versionCache;
+
+  @BeforeEach
+  void setUp() {
+    versionCache = new VersionCache(systemConfig, effectiveTimesCache, versionsCache) {};
+  }
+
+  @Test
+  void testCacheVersionsPutsIfAbsent() {
+    var update = rangeMap(Range.atLeast(T2), "second");
+    when(versionsCache.putIfAbsent(KEY, VersionRangeMap.from(update))).thenReturn(true);
+
+    versionCache.cacheVersionsByEntityIdAndTime(KEY, update);
+
+    verify(versionsCache, never()).replace(any(), any(), any());
+  }
+
+  @Test
+  void testCacheVersionsMergesWithCompareAndSet() {
+    var cached = VersionRangeMap.from(rangeMap(Range.closedOpen(T1, T2), "first"));
+    var concurrentlyCached =
+        cached.putAll(VersionRangeMap.from(rangeMap(Range.lessThan(T1), "zeroth")));
+    var update = rangeMap(Range.atLeast(T2), "second");
+    var versions = VersionRangeMap.from(update);
+
+    when(versionsCache.get(KEY)).thenReturn(cached, concurrentlyCached);
+    when(versionsCache.replace(KEY, cached, cached.putAll(versions))).thenReturn(false);
+    when(versionsCache.replace(KEY, concurrentlyCached, concurrentlyCached.putAll(versions)))
+        .thenReturn(true);
+
+    versionCache.cacheVersionsByEntityIdAndTime(KEY, update);
+
+    verify(versionsCache).replace(KEY, concurrentlyCached, concurrentlyCached.putAll(versions));
+    verify(versionsCache, never()).put(any(), any());
+  }
+
+  @Test
+  void testCacheVersionsFallsBackToEntryProcessor() {
+    var cached = VersionRangeMap.from(rangeMap(Range.closedOpen(T1, T2), "first"));
+    var update = rangeMap(Range.atLeast(T2), "second");
+
+    // the compare-and-set never succeeds, e.g. because another writer keeps winning the race
+    when(versionsCache.get(KEY)).thenReturn(cached);
+    when(versionsCache.replace(any(), any(), any())).thenReturn(false);
+
+    versionCache.cacheVersionsByEntityIdAndTime(KEY, update);
+
+    verify(versionsCache, times(VersionCache.MAX_MERGE_ATTEMPTS)).replace(any(), any(), any());
+    verify(versionsCache).invoke(eq(KEY), any(VersionCache.MergeVersions.class));
+    verify(versionsCache, never()).put(any(), any());
+  }
+
+  @Test
+  void testMergeVersions() {
+    var cached = VersionRangeMap.from(rangeMap(Range.closedOpen(T1, T2), "first"));
+    var versions = VersionRangeMap.from(rangeMap(Range.atLeast(T2), "second"));
+    var mergeVersions = new VersionCache.MergeVersions(versions);
+
+    when(entry.exists()).thenReturn(true, false);
+    when(entry.getValue()).thenReturn(cached);
+
+    mergeVersions.process(entry);
+    verify(entry).setValue(cached.putAll(versions));
+
+    mergeVersions.process(entry);
+    verify(entry).setValue(versions);
+  }
+
+  @Test
+  void testRetrieveVersions() {
+    var rangeMap = rangeMap(Range.closedOpen(T1, T2), "first");
+    rangeMap.put(Range.atLeast(T2), "second");
+    when(versionsCache.get(KEY)).thenReturn(VersionRangeMap.from(rangeMap));
+
+    assertEquals("first", versionCache.retrieveVersionsByEntityIdAndTime(KEY, T1));
+    assertEquals("second", versionCache.retrieveVersionsByEntityIdAndTime(KEY, T2));
+    assertNull(versionCache.retrieveVersionsByEntityIdAndTime(KEY, T1.minusNanos(1)));
+    assertEquals(
+        List.of("second", "first"),
+        List.copyOf(
+            versionCache.retrieveVersionsByEntityIdAndTimeRange(KEY, Range.closed(T1, T2))));
+    assertEquals(rangeMap, versionCache.retrieveVersionsByEntityIdAndTimeRangeMap(KEY));
+    assertEquals(
+        VersionRangeMap.from(rangeMap), versionCache.retrieveVersionRangeMapByEntityId(KEY));
+  }
+
+  @Test
+  void testRetrieveMissingVersions() {
+    assertNull(versionCache.retrieveVersionsByEntityIdAndTime(KEY, T1));
+    assertNull(versionCache.retrieveVersionsByEntityIdAndTimeRangeMap(KEY));
+    assertNull(versionCache.retrieveVersionRangeMapByEntityId(KEY));
+    assertEquals(
+        List.of(),
+        List.copyOf(versionCache.retrieveVersionsByEntityIdAndTimeRange(KEY, Range.all())));
+  }
+
+  private static RangeMap<Instant, Object> rangeMap(Range<Instant> range, Object value) {
+    RangeMap<Instant, Object> rangeMap = TreeRangeMap.create();
+    rangeMap.put(range, value);
+    return rangeMap;
+  }
+}
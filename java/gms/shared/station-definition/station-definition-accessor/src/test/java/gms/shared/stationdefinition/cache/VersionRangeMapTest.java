@@ -0,0 +1,146 @@
+package gms.shared.stationdefinition.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.google.common.collect.Range;
+import com.google.common.collect.RangeMap;
+import com.google.common.collect.TreeRangeMap;
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class VersionRangeMapTest {
+
+  private static final Instant T1 = Instant.parse("2010-01-01T00:00:00Z");
+  private static final Instant T2 = Instant.parse("2015-06-01T12:00:00.000000001Z");
+  private static final Instant T3 = Instant.parse("2020-01-01T00:00:00Z");
+  private static final Instant T4 = Instant.parse("2022-01-01T00:00:00Z");
+
+  private static RangeMap<Instant, Object> rangeMap() {
+    RangeMap<Instant, Object> rangeMap = TreeRangeMap.create();
+    rangeMap.put(Range.closed(T1, T2), "first");
+    rangeMap.put(Range.open(T2, T3), "second");
+    rangeMap.put(Range.atLeast(T4), "third");
+    return rangeMap;
+  }
+
+  @ParameterizedTest
+  @MethodSource("getArguments")
+  void testGetMatchesRangeMap(Instant time) {
+    var rangeMap = rangeMap();
+    assertEquals(rangeMap.get(time), VersionRangeMap.from(rangeMap).get(time));
+  }
+
+  static Stream<Arguments> getArguments() {
+    return Stream.of(
+            Instant.MIN,
+            T1.minusNanos(1),
+            T1,
+            T1.plusSeconds(1),
+            T2.minusNanos(1),
+            T2,
+            T2.plusNanos(1),
+            T3.minusNanos(1),
+            T3,
+            T4.minusSeconds(1),
+            T4,
+            Instant.MAX)
+        .map(Arguments::arguments);
+  }
+
+  @Test
+  void testUnboundedRanges() {
+    RangeMap<Instant, Object> rangeMap = TreeRangeMap.create();
+    rangeMap.put(Range.lessThan(T1), "before");
+    rangeMap.put(Range.atLeast(T3), "after");
+
+    var versions = VersionRangeMap.from(rangeMap);
+    assertEquals("before", versions.get(Instant.MIN));
+    assertNull(versions.get(T1));
+    assertEquals("after", versions.get(Instant.MAX));
+    assertEquals(rangeMap, versions.toRangeMap());
+
+    RangeMap<Instant, Object> allTime = TreeRangeMap.create();
+    allTime.put(Range.all(), "always");
+    assertEquals("always", VersionRangeMap.from(allTime).get(T2));
+  }
+
+  @Test
+  void testEmpty() {
+    var versions = VersionRangeMap.from(TreeRangeMap.create());
+    assertTrue(versions.isEmpty());
+    assertNull(versions.get(T1));
+    assertTrue(versions.valuesIntersecting(Range.all()).isEmpty());
+  }
+
+  @Test
+  void testToRangeMapRoundTrips() {
+    var rangeMap = rangeMap();
+    var versions = VersionRangeMap.from(rangeMap);
+
+    assertEquals(3, versions.size());
+    assertEquals(rangeMap, versions.toRangeMap());
+    assertEquals(versions, VersionRangeMap.from(versions.toRangeMap()));
+  }
+
+  @Test
+  void testValuesIntersectingMatchesSubRangeMap() {
+    var rangeMap = rangeMap();
+    var versions = VersionRangeMap.from(rangeMap);
+
+    for (var timeRange :
+        List.of(Range.closed(T2, T3), Range.open(T2, T4), Range.atMost(T1), Range.closed(T3, T3))) {
+      assertEquals(
+          List.copyOf(rangeMap.subRangeMap(timeRange).asDescendingMapOfRanges().values()),
+          List.copyOf(versions.valuesIntersecting(timeRange)));
+    }
+  }
+
+  @Test
+  void testEntriesConnectedToMatchesRangeMap() {
+    var rangeMap = rangeMap();
+    var versions = VersionRangeMap.from(rangeMap);
+
+    for (var timeRange :
+        List.of(
+            Range.closed(T2, T3),
+            Range.closed(T3, T3),
+            Range.lessThan(T1),
+            Range.greaterThan(T4.plusSeconds(1)),
+            Range.<Instant>all())) {
+      assertEquals(
+          rangeMap.asDescendingMapOfRanges().entrySet().stream()
+              .filter(entry -> timeRange.isConnected(entry.getKey()))
+              .toList(),
+          versions.entriesConnectedTo(timeRange));
+    }
+  }
+
+  @Test
+  void testLatest() {
+    assertEquals("third", VersionRangeMap.from(rangeMap()).latest());
+    assertNull(VersionRangeMap.from(TreeRangeMap.create()).latest());
+  }
+
+  @Test
+  void testPutAllOverlays() {
+    var rangeMap = rangeMap();
+    RangeMap<Instant, Object> update = TreeRangeMap.create();
+    update.put(Range.closedOpen(T3, T4), "gap");
+    update.put(Range.atLeast(T4.plusSeconds(1)), "latest");
+
+    var merged = VersionRangeMap.from(rangeMap).putAll(VersionRangeMap.from(update));
+
+    rangeMap.putAll(update);
+    assertEquals(rangeMap, merged.toRangeMap());
+    assertEquals("gap", merged.get(T3));
+    assertEquals("third", merged.get(T4));
+    assertEquals("latest", merged.get(Instant.MAX));
+  }
+}
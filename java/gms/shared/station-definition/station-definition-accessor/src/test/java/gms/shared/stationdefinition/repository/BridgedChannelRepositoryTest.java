@@ -49,6 +49,7 @@ import gms.shared.common.coi.types.PhaseType;
 import gms.shared.derivedchannel.coi.BeamTestFixtures;
 import gms.shared.event.coi.EventHypothesis;
 import gms.shared.stationdefinition.cache.DerivedChannelVersionCache;
+import gms.shared.stationdefinition.cache.VersionRangeMap;
 import gms.shared.stationdefinition.cache.util.DerivedChannelIdComponents;
 import gms.shared.stationdefinition.cache.util.StationDefinitionIdUtility;
 import gms.shared.stationdefinition.coi.channel.BeamType;
@@ -932,7 +933,8 @@ class BridgedChannelRepositoryTest {
         Range.open(testChan.getEffectiveAt().get(), testChan.getEffectiveUntil().get()), testChan);
 
     var key = Channel.class.getSimpleName().concat(testChan.getName());
-    when(versionCache.retrieveVersionsByEntityIdAndTimeRangeMap(key)).thenReturn(cacheRangeMap);
+    when(versionCache.retrieveVersionRangeMapByEntityId(key))
+        .thenReturn(VersionRangeMap.from(cacheRangeMap));
 
     List<Channel> chans =
         repository.findChannelsByNameAndTimeRange(
@@ -15,14 +15,33 @@ import gms.shared.stationdefinition.coi.station.Station;
 import gms.shared.stationdefinition.coi.station.StationGroup;
 import java.time.Instant;
 import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 /** Utility for building faceted StationGroup, Station, ChannelGroups, and Channels */
 public final class StationDefinitionFacetingUtility {
   private final StationDefinitionAccessor stationDefinitionAccessor;
 
+  /**
+   * A {@link Channel} to facet, paired with the effective time used to retrieve its data
+   *
+   * @param channel the {@link Channel} to facet
+   * @param effectiveAt the effective time used to retrieve data
+   */
+  public record ChannelAtTime(Channel channel, Instant effectiveAt) {
+
+    public ChannelAtTime {
+      Objects.requireNonNull(channel);
+      Objects.requireNonNull(effectiveAt);
+    }
+  }
+
   private StationDefinitionFacetingUtility(StationDefinitionAccessor stationDefinitionAccessor) {
     this.stationDefinitionAccessor = stationDefinitionAccessor;
   }
@@ -152,6 +171,59 @@ public final class StationDefinitionFacetingUtility {
     }
   }
 
+  /**
+   * Generate faceted {@link Channel}s, each as {@link #populateFacets(Channel, FacetingDefinition,
+   * Instant)} would at its own effective time. The {@link Channel}s that are not present are
+   * retrieved together, with a single query spanning all of their effective times, and each is
+   * matched to the version effective at its own time.
+   *
+   * @param initial the {@link Channel}s to facet, with their effective times
+   * @param facetingDefinition the {@link FacetingDefinition} defining the fields to facet value
+   * @return the faceted {@link Channel}s by the {@link ChannelAtTime} they were requested by,
+   *     leaving out those that could not be found
+   */
+  public Map<ChannelAtTime, Channel> populateFacetsForChannels(
+      Collection<ChannelAtTime> initial, FacetingDefinition facetingDefinition) {
+
+    Objects.requireNonNull(initial);
+    Objects.requireNonNull(facetingDefinition);
+    checkState(facetingDefinition.getClassType().equals(CHANNEL_TYPE.getValue()));
+
+    var distinct = new LinkedHashSet<>(initial);
+    Map<ChannelAtTime, Channel> faceted = new HashMap<>();
+    if (!facetingDefinition.isPopulated()) {
+      distinct.forEach(
+          channelAtTime ->
+              faceted.put(
+                  channelAtTime,
+                  populateFacets(
+                      channelAtTime.channel(), facetingDefinition, channelAtTime.effectiveAt())));
+      return faceted;
+    }
+
+    var versionsByName =
+        findChannelVersions(
+            distinct.stream()
+                .filter(channelAtTime -> !channelAtTime.channel().isPresent())
+                .toList());
+    for (var channelAtTime : distinct) {
+      var channel =
+          channelAtTime.channel().isPresent()
+              ? channelAtTime.channel()
+              : findVersionAt(
+                  versionsByName.getOrDefault(channelAtTime.channel().getName(), List.of()),
+                  channelAtTime.effectiveAt());
+      var populatedChannel =
+          channel == null
+              ? null
+              : populateResponses(channel, facetingDefinition, channelAtTime.effectiveAt());
+      if (populatedChannel != null) {
+        faceted.put(channelAtTime, populatedChannel);
+      }
+    }
+    return faceted;
+  }
+
   /**
    * Generate a faceted {@link Response}
    *
@@ -343,6 +415,63 @@ public final class StationDefinitionFacetingUtility {
     return populatedChannel;
   }
 
+  /**
+   * Retrieve the versions of the referenced {@link Channel}s effective across all of their
+   * effective times
+   *
+   * @param referenced {@link Channel}s to retrieve, with their effective times
+   * @return the retrieved {@link Channel} versions by name
+   */
+  private Map<String, List<Channel>> findChannelVersions(List<ChannelAtTime> referenced) {
+    if (referenced.isEmpty()) {
+      return Map.of();
+    }
+
+    var channelNames =
+        referenced.stream()
+            .map(channelAtTime -> channelAtTime.channel().getName())
+            .distinct()
+            .toList();
+    var startTime =
+        referenced.stream()
+            .map(ChannelAtTime::effectiveAt)
+            .min(Comparator.naturalOrder())
+            .orElseThrow();
+    var endTime =
+        referenced.stream()
+            .map(ChannelAtTime::effectiveAt)
+            .max(Comparator.naturalOrder())
+            .orElseThrow();
+
+    // the range query needs a non-empty range, so a single effective time is queried by itself
+    List<Channel> versions =
+        startTime.equals(endTime)
+            ? stationDefinitionAccessor.findChannelsByNameAndTime(channelNames, startTime)
+            : stationDefinitionAccessor.findChannelsByNameAndTimeRange(
+                channelNames, startTime, endTime);
+
+    return versions.stream().collect(Collectors.groupingBy(Channel::getName));
+  }
+
+  /**
+   * Find the {@link Channel} version effective at the given time
+   *
+   * @param versions the versions of a {@link Channel}
+   * @param effectiveTime Instant to match
+   * @return the latest version effective at the time, or null if there is none
+   */
+  private static Channel findVersionAt(List<Channel> versions, Instant effectiveTime) {
+    return versions.stream()
+        .filter(version -> version.getEffectiveAt().isPresent())
+        .filter(version -> !version.getEffectiveAt().get().isAfter(effectiveTime))
+        .filter(
+            version ->
+                version.getEffectiveUntil().isEmpty()
+                    || !version.getEffectiveUntil().get().isBefore(effectiveTime))
+        .max(Comparator.comparing(version -> version.getEffectiveAt().get()))
+        .orElse(null);
+  }
+
   /**
    * Populate the {@link Response} and check lower level {@link FrequencyAmplitudePhase}
    *
@@ -6,6 +6,7 @@ import gms.shared.stationdefinition.dao.css.SiteChanKey;
 import gms.shared.utilities.bridge.database.connector.DatabaseConnector;
 import gms.shared.utilities.bridge.database.connector.EntityResultListFunction;
 import gms.shared.utilities.bridge.database.connector.EntitySingleResultFunction;
+import gms.shared.utilities.bridge.database.connector.KeySetPredicates;
 import gms.shared.utilities.bridge.database.converter.NegativeNaInstantToDoubleConverter;
 import gms.shared.utilities.bridge.database.converter.PositiveNaInstantToDoubleConverter;
 import jakarta.persistence.EntityManager;
@@ -181,14 +182,11 @@ public class SensorDatabaseConnector extends DatabaseConnector {
 
   private static Predicate in(
       CriteriaBuilder cb, Root<SensorDao> from, Collection<SiteChanKey> siteChanKeys) {
-    return cb.or(
-        siteChanKeys.stream()
-            .map(
-                siteChanKey ->
-                    cb.and(
-                        cb.equal(from.get(SENSOR_KEY).get(STATION), siteChanKey.getStationCode()),
-                        cb.equal(from.get(SENSOR_KEY).get(CHANNEL), siteChanKey.getChannelCode())))
-            .toArray(Predicate[]::new));
+    return KeySetPredicates.tupleIn(
+        cb,
+        List.of(from.get(SENSOR_KEY).get(STATION), from.get(SENSOR_KEY).get(CHANNEL)),
+        siteChanKeys,
+        siteChanKey -> List.of(siteChanKey.getStationCode(), siteChanKey.getChannelCode()));
   }
 
   private static Subquery<Double> floorEndTime(
@@ -303,14 +301,11 @@ public class SensorDatabaseConnector extends DatabaseConnector {
             cb.and(
                 cb.greaterThanOrEqualTo(id.get(END_TIME), startTime),
                 cb.lessThanOrEqualTo(id.get(TIME), endTime),
-                cb.or(
-                    keySubList.stream()
-                        .map(
-                            k ->
-                                cb.and(
-                                    cb.equal(id.get(STATION), k.getStationCode()),
-                                    cb.equal(id.get(CHANNEL), k.getChannelCode())))
-                        .toArray(Predicate[]::new))))
+                KeySetPredicates.tupleIn(
+                    cb,
+                    List.of(id.get(STATION), id.get(CHANNEL)),
+                    keySubList,
+                    k -> List.of(k.getStationCode(), k.getChannelCode()))))
         .orderBy(cb.asc(fromSensor.get(SENSOR_KEY).get(TIME)));
 
     return em.createQuery(query).getResultList();
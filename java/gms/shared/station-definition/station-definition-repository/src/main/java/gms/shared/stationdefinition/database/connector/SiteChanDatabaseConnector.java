@@ -6,6 +6,7 @@ import gms.shared.stationdefinition.dao.css.SiteChanDao;
 import gms.shared.stationdefinition.dao.css.SiteChanKey;
 import gms.shared.utilities.bridge.database.connector.DatabaseConnector;
 import gms.shared.utilities.bridge.database.connector.EntityResultListFunction;
+import gms.shared.utilities.bridge.database.connector.KeySetPredicates;
 import gms.shared.utilities.bridge.database.connector.EntitySingleResultFunction;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityManagerFactory;
@@ -126,7 +127,7 @@ public class SiteChanDatabaseConnector extends DatabaseConnector {
       LOGGER.debug("Request for SiteChan by name was given an empty list of station codes");
       return new ArrayList<>();
     } else {
-      return runPartitionedQuery(
+      return runPartitionedQueryConcurrently(
           stationCodes,
           950,
           (Collection<String> partition) -> {
@@ -168,7 +169,7 @@ public class SiteChanDatabaseConnector extends DatabaseConnector {
       LOGGER.debug(MISSING_STATION_CODES_ERROR);
       return new ArrayList<>();
     } else {
-      return runPartitionedQuery(
+      return runPartitionedQueryConcurrently(
           stationCodes,
           400,
           (Collection<String> partition) -> {
@@ -208,7 +209,7 @@ public class SiteChanDatabaseConnector extends DatabaseConnector {
       LOGGER.debug(MISSING_KEY_SET_ERROR);
       return new ArrayList<>();
     } else {
-      return runPartitionedQuery(
+      return runPartitionedQueryConcurrently(
           siteChanKeys,
           250,
           (Collection<SiteChanKey> keySublist) -> {
@@ -259,7 +260,7 @@ public class SiteChanDatabaseConnector extends DatabaseConnector {
 
     var errMessage =
         String.format(SITE_CHAN_KEYS_EFFECTIVE_TIME_MESSAGE, siteChanKeys.size(), effectiveAt);
-    return runPartitionedQuery(
+    return runPartitionedQueryConcurrently(
         siteChanKeys,
         500,
         (Collection<SiteChanKey> keySublist) -> {
@@ -280,16 +281,13 @@ public class SiteChanDatabaseConnector extends DatabaseConnector {
 
     query.select(fromSiteChan);
     query.where(
-        cb.or(
-            keySublist.stream()
-                .map(
-                    key ->
-                        cb.and(
-                            cb.equal(idPath.get(STATION_CODE), key.getStationCode()),
-                            cb.equal(idPath.get(CHANNEL_CODE), key.getChannelCode()),
-                            cb.greaterThanOrEqualTo(fromSiteChan.get(OFF_DATE), startTime),
-                            cb.lessThanOrEqualTo(idPath.get(ON_DATE), endTime)))
-                .toArray(Predicate[]::new)));
+        KeySetPredicates.tupleIn(
+            cb,
+            List.of(idPath.get(STATION_CODE), idPath.get(CHANNEL_CODE)),
+            keySublist,
+            key -> List.of(key.getStationCode(), key.getChannelCode())),
+        cb.greaterThanOrEqualTo(fromSiteChan.get(OFF_DATE), startTime),
+        cb.lessThanOrEqualTo(idPath.get(ON_DATE), endTime));
 
     return em.createQuery(query).getResultList();
   }
@@ -307,7 +305,7 @@ public class SiteChanDatabaseConnector extends DatabaseConnector {
       LOGGER.debug(MISSING_STATION_CODES_ERROR);
       return new ArrayList<>();
     } else {
-      return runPartitionedQuery(
+      return runPartitionedQueryConcurrently(
           stationCodes,
           950,
           (Collection<String> partition) -> {
@@ -354,7 +352,7 @@ public class SiteChanDatabaseConnector extends DatabaseConnector {
       LOGGER.debug(MISSING_STATION_CODES_ERROR);
       return new ArrayList<>();
     } else {
-      return runPartitionedQuery(
+      return runPartitionedQueryConcurrently(
           stationCodes,
           950,
           (Collection<String> partition) -> {
@@ -398,7 +396,7 @@ public class SiteChanDatabaseConnector extends DatabaseConnector {
     var errMessage =
         String.format(
             SITE_CHAN_SURROUNDING_DATES_KEYS_TIME_MESSAGE, siteChanKeys.size(), effectiveAt);
-    return runPartitionedQuery(
+    return runPartitionedQueryConcurrently(
         siteChanKeys,
         950,
         (Collection<SiteChanKey> partition) -> {
@@ -429,7 +427,7 @@ public class SiteChanDatabaseConnector extends DatabaseConnector {
             siteChanKeys.size(),
             startTime,
             endTime);
-    return runPartitionedQuery(
+    return runPartitionedQueryConcurrently(
         siteChanKeys,
         950,
         (Collection<SiteChanKey> partition) -> {
@@ -453,14 +451,11 @@ public class SiteChanDatabaseConnector extends DatabaseConnector {
 
     var predicate =
         cb.and(
-            cb.or(
-                partition.stream()
-                    .map(
-                        key ->
-                            cb.and(
-                                cb.equal(idPath.get(STATION_CODE), key.getStationCode()),
-                                cb.equal(idPath.get(CHANNEL_CODE), key.getChannelCode())))
-                    .toArray(Predicate[]::new)),
+            KeySetPredicates.tupleIn(
+                cb,
+                List.of(idPath.get(STATION_CODE), idPath.get(CHANNEL_CODE)),
+                partition,
+                key -> List.of(key.getStationCode(), key.getChannelCode())),
             cb.greaterThanOrEqualTo(fromSiteChan.get(OFF_DATE), startTime),
             cb.lessThanOrEqualTo(idPath.get(ON_DATE), endTime));
 
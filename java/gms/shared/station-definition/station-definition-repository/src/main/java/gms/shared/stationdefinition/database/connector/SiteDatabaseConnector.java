@@ -93,7 +93,7 @@ public class SiteDatabaseConnector extends DatabaseConnector {
       LOGGER.debug(MISSING_STATION_NAME_LIST_ERROR);
       return new ArrayList<>();
     } else {
-      return runPartitionedQuery(
+      return runPartitionedQueryConcurrently(
           stationNames,
           950,
           (Collection<String> partition) -> {
@@ -122,7 +122,7 @@ public class SiteDatabaseConnector extends DatabaseConnector {
       LOGGER.debug(MISSING_STATION_NAME_LIST_ERROR);
       return new ArrayList<>();
     } else {
-      return runPartitionedQuery(
+      return runPartitionedQueryConcurrently(
           refStationNames,
           950,
           (Collection<String> partition) -> {
@@ -156,7 +156,7 @@ public class SiteDatabaseConnector extends DatabaseConnector {
       LOGGER.debug(MISSING_STATION_NAME_LIST_ERROR);
       return new ArrayList<>();
     } else {
-      return runPartitionedQuery(
+      return runPartitionedQueryConcurrently(
           stationNames,
           950,
           (Collection<String> partition) -> {
@@ -192,7 +192,7 @@ public class SiteDatabaseConnector extends DatabaseConnector {
       LOGGER.debug(MISSING_STATION_NAME_LIST_ERROR);
       return new ArrayList<>();
     } else {
-      return runPartitionedQuery(
+      return runPartitionedQueryConcurrently(
           stationNames,
           200,
           (Collection<String> partition) -> {
@@ -227,7 +227,7 @@ public class SiteDatabaseConnector extends DatabaseConnector {
       LOGGER.debug(MISSING_STATION_NAME_LIST_ERROR);
       return List.of();
     } else {
-      return runPartitionedQuery(
+      return runPartitionedQueryConcurrently(
           stationNames,
           200,
           (Collection<String> partition) -> {
@@ -268,7 +268,7 @@ public class SiteDatabaseConnector extends DatabaseConnector {
       LOGGER.debug(MISSING_STATION_NAME_LIST_ERROR);
       return List.of();
     } else {
-      return runPartitionedQuery(
+      return runPartitionedQueryConcurrently(
           referenceStations,
           900,
           (Collection<String> referenceStationsSubList) -> {
@@ -309,7 +309,7 @@ public class SiteDatabaseConnector extends DatabaseConnector {
       LOGGER.debug(MISSING_STATION_NAME_LIST_ERROR);
       return new ArrayList<>();
     } else {
-      return runPartitionedQuery(
+      return runPartitionedQueryConcurrently(
           stationNames,
           950,
           (Collection<String> partition) -> {
@@ -370,7 +370,7 @@ public class SiteDatabaseConnector extends DatabaseConnector {
       LOGGER.debug(MISSING_STATION_NAME_LIST_ERROR);
       return new ArrayList<>();
     } else {
-      return runPartitionedQuery(
+      return runPartitionedQueryConcurrently(
           refStas,
           950,
           (Collection<String> partition) -> {
@@ -419,7 +419,7 @@ public class SiteDatabaseConnector extends DatabaseConnector {
       LOGGER.debug(MISSING_STATION_NAME_LIST_ERROR);
       return new ArrayList<>();
     } else {
-      return runPartitionedQuery(
+      return runPartitionedQueryConcurrently(
           refStas,
           950,
           (Collection<String> partition) -> {
@@ -448,7 +448,7 @@ public class SiteDatabaseConnector extends DatabaseConnector {
       LOGGER.debug(MISSING_STATION_NAME_LIST_ERROR);
       return new ArrayList<>();
     } else {
-      return runPartitionedQuery(
+      return runPartitionedQueryConcurrently(
           stationCodes,
           950,
           (Collection<String> partition) -> {
@@ -479,7 +479,7 @@ public class SiteDatabaseConnector extends DatabaseConnector {
       LOGGER.debug(MISSING_STATION_NAME_LIST_ERROR);
       return new ArrayList<>();
     } else {
-      return runPartitionedQuery(
+      return runPartitionedQueryConcurrently(
           stationCodes,
           950,
           (Collection<String> partition) -> {
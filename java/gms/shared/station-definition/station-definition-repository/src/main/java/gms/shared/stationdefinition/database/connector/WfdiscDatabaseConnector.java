@@ -9,6 +9,7 @@ import gms.shared.stationdefinition.dao.css.enums.SegType;
 import gms.shared.stationdefinition.dao.css.enums.TagName;
 import gms.shared.utilities.bridge.database.connector.DatabaseConnector;
 import gms.shared.utilities.bridge.database.connector.EntityResultListFunction;
+import gms.shared.utilities.bridge.database.connector.KeySetPredicates;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityManagerFactory;
 import jakarta.persistence.Tuple;
@@ -97,16 +98,9 @@ public class WfdiscDatabaseConnector extends DatabaseConnector {
           EntityManager em,
           Instant effectiveTime) ->
           query.where(
-              cb.or(
-                  keySubList.stream()
-                      .map(
-                          k ->
-                              cb.and(
-                                  cb.equal(fromWfdisc.get(STATION_CODE), k.getStationCode()),
-                                  cb.equal(fromWfdisc.get(CHANNEL_CODE), k.getChannelCode()),
-                                  cb.lessThanOrEqualTo(fromWfdisc.get(TIME), effectiveTime),
-                                  cb.greaterThanOrEqualTo(fromWfdisc.get(END_TIME), effectiveTime)))
-                      .toArray(Predicate[]::new)));
+              createKeyPredicate(keySubList, cb, fromWfdisc),
+              cb.lessThanOrEqualTo(fromWfdisc.get(TIME), effectiveTime),
+              cb.greaterThanOrEqualTo(fromWfdisc.get(END_TIME), effectiveTime));
 
   private static final TimerangeQueryBuilder UNBOUNDED_TIMERANGE_QUERY =
       (CriteriaBuilder cb,
@@ -116,17 +110,10 @@ public class WfdiscDatabaseConnector extends DatabaseConnector {
           EntityManager em,
           Instant effectiveTime) ->
           query.where(
-              cb.or(
-                  keySubList.stream()
-                      .map(
-                          k ->
-                              cb.and(
-                                  cb.equal(fromWfdisc.get(STATION_CODE), k.getStationCode()),
-                                  cb.equal(fromWfdisc.get(CHANNEL_CODE), k.getChannelCode()),
-                                  cb.lessThan(
-                                      fromWfdisc.get(TIME),
-                                      getNextVersionStartTime(cb, query, k, effectiveTime))))
-                      .toArray(Predicate[]::new)));
+              createKeyPredicate(keySubList, cb, fromWfdisc),
+              cb.lessThan(
+                  fromWfdisc.get(TIME),
+                  getNextVersionStartTime(cb, query, fromWfdisc, effectiveTime)));
 
   @Autowired
   public WfdiscDatabaseConnector(@Qualifier("oracle") EntityManagerFactory entityManagerFactory) {
@@ -147,7 +134,7 @@ public class WfdiscDatabaseConnector extends DatabaseConnector {
       LOGGER.debug("Request for Wfdiscs by wfids was given an empty list of keys");
       return new ArrayList<>();
     } else {
-      return runPartitionedQuery(
+      return runPartitionedQueryConcurrently(
           wfids,
           PARTITIONS_SIZE,
           (Collection<Long> partitionedWfids) -> {
@@ -158,11 +145,7 @@ public class WfdiscDatabaseConnector extends DatabaseConnector {
                   Root<WfdiscDao> fromWfdisc = query.from(WfdiscDao.class);
 
                   query.select(fromWfdisc);
-                  query.where(
-                      cb.or(
-                          partitionedWfids.stream()
-                              .map(wfid -> cb.equal(fromWfdisc.get(ID), wfid))
-                              .toArray(Predicate[]::new)));
+                  query.where(KeySetPredicates.in(fromWfdisc.get(ID), partitionedWfids));
 
                   return em.createQuery(query).getResultList();
                 };
@@ -221,7 +204,7 @@ public class WfdiscDatabaseConnector extends DatabaseConnector {
       LOGGER.debug("Request for Wftag by tagIds was given an empty list of keys");
       return new ArrayList<>();
     } else {
-      return runPartitionedQuery(
+      return runPartitionedQueryConcurrently(
           evIds,
           PARTITIONS_SIZE,
           (Collection<Long> partitionedTagIds) -> {
@@ -236,10 +219,7 @@ public class WfdiscDatabaseConnector extends DatabaseConnector {
                   query.where(
                       cb.and(
                           cb.equal(idPath.get(TAGNAME), TagName.EVID),
-                          cb.or(
-                              partitionedTagIds.stream()
-                                  .map(evid -> cb.equal(idPath.get(ID), evid))
-                                  .toArray(Predicate[]::new))));
+                          KeySetPredicates.in(idPath.get(ID), partitionedTagIds)));
 
                   return em.createQuery(query).getResultList();
                 };
@@ -281,7 +261,7 @@ public class WfdiscDatabaseConnector extends DatabaseConnector {
       LOGGER.debug(EMPTY_LIST_OF_KEYS_ERROR);
       return new ArrayList<>();
     } else {
-      return runPartitionedQuery(
+      return runPartitionedQueryConcurrently(
           siteChanKeys,
           500,
           (Collection<SiteChanKey> keySubList) -> {
@@ -314,23 +294,31 @@ public class WfdiscDatabaseConnector extends DatabaseConnector {
 
   /**
    * subquery to retreive the start time of the next version. For Wfdisc, that is defined as a
-   * change in calper or calib values
+   * change in calper or calib values. The subquery is correlated to the station and channel of
+   * each row of the parent query rather than built per key.
    *
    * @param cb
    * @param query
-   * @param k
+   * @param fromWfdisc
    * @param effectiveTime
    * @return subquery to be used in parent query
    */
   private static Subquery<Instant> getNextVersionStartTime(
-      CriteriaBuilder cb, CriteriaQuery<WfdiscDao> query, SiteChanKey k, Instant effectiveTime) {
+      CriteriaBuilder cb,
+      CriteriaQuery<WfdiscDao> query,
+      Root<WfdiscDao> fromWfdisc,
+      Instant effectiveTime) {
     Subquery<Instant> subquery = query.subquery(Instant.class);
     Root<WfdiscDao> wfdisc = subquery.from(WfdiscDao.class);
 
     Predicate calibIn =
-        wfdisc.get(CALIB).in(getVersionDoubleAttributes(cb, query, k, CALIB, effectiveTime));
+        wfdisc
+            .get(CALIB)
+            .in(getVersionDoubleAttributes(cb, query, fromWfdisc, CALIB, effectiveTime));
     Predicate calperIn =
-        wfdisc.get(CALPER).in(getVersionDoubleAttributes(cb, query, k, CALPER, effectiveTime));
+        wfdisc
+            .get(CALPER)
+            .in(getVersionDoubleAttributes(cb, query, fromWfdisc, CALPER, effectiveTime));
     CriteriaBuilder.Coalesce<Instant> coalesce = cb.coalesce();
     coalesce.value(cb.least(wfdisc.<Instant>get(TIME)));
     coalesce.value(Instant.MAX);
@@ -338,8 +326,8 @@ public class WfdiscDatabaseConnector extends DatabaseConnector {
     subquery
         .select(coalesce)
         .where(
-            cb.equal(wfdisc.get(STATION_CODE), k.getStationCode()),
-            cb.equal(wfdisc.get(CHANNEL_CODE), k.getChannelCode()),
+            cb.equal(wfdisc.get(STATION_CODE), fromWfdisc.get(STATION_CODE)),
+            cb.equal(wfdisc.get(CHANNEL_CODE), fromWfdisc.get(CHANNEL_CODE)),
             cb.greaterThanOrEqualTo(wfdisc.get(TIME), effectiveTime),
             cb.or(cb.not(calibIn), cb.not(calperIn)));
     return subquery;
@@ -350,7 +338,7 @@ public class WfdiscDatabaseConnector extends DatabaseConnector {
    *
    * @param cb
    * @param query
-   * @param k
+   * @param fromWfdisc
    * @param property
    * @param effectiveTime
    * @return subquery to be used in parent query
@@ -358,7 +346,7 @@ public class WfdiscDatabaseConnector extends DatabaseConnector {
   private static Subquery<Double> getVersionDoubleAttributes(
       CriteriaBuilder cb,
       CriteriaQuery<WfdiscDao> query,
-      SiteChanKey k,
+      Root<WfdiscDao> fromWfdisc,
       String property,
       Instant effectiveTime) {
     Subquery<Double> subquery = query.subquery(Double.class);
@@ -367,8 +355,8 @@ public class WfdiscDatabaseConnector extends DatabaseConnector {
     subquery
         .select(wfdisc.get(property))
         .where(
-            cb.equal(wfdisc.get(STATION_CODE), k.getStationCode()),
-            cb.equal(wfdisc.get(CHANNEL_CODE), k.getChannelCode()),
+            cb.equal(wfdisc.get(STATION_CODE), fromWfdisc.get(STATION_CODE)),
+            cb.equal(wfdisc.get(CHANNEL_CODE), fromWfdisc.get(CHANNEL_CODE)),
             cb.greaterThanOrEqualTo(wfdisc.get(END_TIME), effectiveTime),
             cb.lessThanOrEqualTo(wfdisc.get(TIME), effectiveTime));
 
@@ -400,7 +388,7 @@ public class WfdiscDatabaseConnector extends DatabaseConnector {
       LOGGER.debug(EMPTY_LIST_OF_KEYS_ERROR);
       return new ArrayList<>();
     } else {
-      return runPartitionedQuery(
+      return runPartitionedQueryConcurrently(
           siteChanKeys,
           500,
           (Collection<SiteChanKey> keySubList) -> {
@@ -436,7 +424,7 @@ public class WfdiscDatabaseConnector extends DatabaseConnector {
       LOGGER.debug(EMPTY_LIST_OF_KEYS_ERROR);
       return new ArrayList<>();
     } else {
-      return runPartitionedQuery(
+      return runPartitionedQueryConcurrently(
           siteChanKeys,
           PARTITIONS_SIZE,
           (Collection<SiteChanKey> keySubList) -> {
@@ -482,11 +470,11 @@ public class WfdiscDatabaseConnector extends DatabaseConnector {
       Instant startTime,
       Instant endTime) {
 
-    var keyPredicates = createKeyPredicates(keySubList, cb, fromWfdisc);
+    var keyPredicate = createKeyPredicate(keySubList, cb, fromWfdisc);
 
     // time range predicate for start and end times
     return cb.and(
-        cb.or(keyPredicates),
+        keyPredicate,
         cb.greaterThanOrEqualTo(fromWfdisc.get(END_TIME), startTime),
         cb.lessThanOrEqualTo(fromWfdisc.get(TIME), endTime));
   }
@@ -516,12 +504,12 @@ public class WfdiscDatabaseConnector extends DatabaseConnector {
     Subquery<Instant> prevWfdiscSubQuery = wfdiscQuery.subquery(Instant.class);
     Root<WfdiscDao> subFromWfdisc = prevWfdiscSubQuery.from(WfdiscDao.class);
 
-    var keyPredicates = createKeyPredicates(keySubList, cb, fromWfdisc);
+    var keyPredicate = createKeyPredicate(keySubList, cb, fromWfdisc);
 
     // find the max time of all wfdisc start times before query start time
     prevWfdiscSubQuery
         .select(cb.greatest(subFromWfdisc.<Instant>get(TIME)))
-        .where(cb.and(cb.or(keyPredicates), cb.lessThan(subFromWfdisc.get(TIME), startTime)));
+        .where(cb.and(keyPredicate, cb.lessThan(subFromWfdisc.get(TIME), startTime)));
 
     var maxTimeSubPredicate = cb.equal(fromWfdisc.get(TIME), prevWfdiscSubQuery);
 
@@ -531,23 +519,21 @@ public class WfdiscDatabaseConnector extends DatabaseConnector {
         .orderBy(cb.asc(fromWfdisc.get(TIME)));
   }
 
-  private static Predicate[] createKeyPredicates(
+  private static Predicate createKeyPredicate(
       Collection<SiteChanKey> keySubList, CriteriaBuilder cb, Root<WfdiscDao> fromWfdisc) {
 
-    return keySubList.stream()
-        .map(
-            k ->
-                cb.and(
-                    cb.equal(fromWfdisc.get(STATION_CODE), k.getStationCode()),
-                    cb.equal(fromWfdisc.get(CHANNEL_CODE), k.getChannelCode())))
-        .toArray(Predicate[]::new);
+    return KeySetPredicates.tupleIn(
+        cb,
+        List.of(fromWfdisc.get(STATION_CODE), fromWfdisc.get(CHANNEL_CODE)),
+        keySubList,
+        k -> List.of(k.getStationCode(), k.getChannelCode()));
   }
 
   public List<WfdiscDao> findWfDiscVersionAfterEffectiveTime(Collection<SiteChanKey> siteChanKeys) {
 
     var errMessage = String.format(WFDISCS_BY_SITECHAN_KEYS_MESSAGE, siteChanKeys.size());
     List<Tuple> resultSet =
-        runPartitionedQuery(
+        runPartitionedQueryConcurrently(
             siteChanKeys,
             PARTITIONS_SIZE,
             (Collection<SiteChanKey> partitionedSiteChanKeys) -> {
@@ -561,7 +547,7 @@ public class WfdiscDatabaseConnector extends DatabaseConnector {
                   delegateFunc, WFDISCS_BY_SITECHAN_KEYS_ERROR, errMessage);
             });
 
-    return runPartitionedQuery(
+    return runPartitionedQueryConcurrently(
         resultSet,
         PARTITIONS_SIZE,
         (Collection<Tuple> partitionedResultSet) -> {
@@ -587,15 +573,14 @@ public class WfdiscDatabaseConnector extends DatabaseConnector {
             fromWfdisc.get(CHANNEL_CODE),
             cb.min(fromWfdisc.get(TIME)).alias(TIME))
         .where(
-            cb.or(
-                partitionedSiteChanKeys.stream()
-                    .map(
-                        k ->
-                            cb.and(
-                                cb.equal(fromWfdisc.get(STATION_CODE), k.getStationCode()),
-                                cb.equal(fromWfdisc.get(CHANNEL_CODE), k.getChannelCode()),
-                                cb.greaterThan(fromWfdisc.get(TIME), k.getOnDate())))
-                    .toArray(Predicate[]::new)))
+            KeySetPredicates.anyOf(
+                cb,
+                partitionedSiteChanKeys,
+                k ->
+                    cb.and(
+                        cb.equal(fromWfdisc.get(STATION_CODE), k.getStationCode()),
+                        cb.equal(fromWfdisc.get(CHANNEL_CODE), k.getChannelCode()),
+                        cb.greaterThan(fromWfdisc.get(TIME), k.getOnDate()))))
         .groupBy(fromWfdisc.get(STATION_CODE), fromWfdisc.get(CHANNEL_CODE));
 
     return query;
@@ -608,15 +593,14 @@ public class WfdiscDatabaseConnector extends DatabaseConnector {
     query
         .select(fromWfdisc)
         .where(
-            cb.or(
-                partitionedResultSet.stream()
-                    .map(
-                        k ->
-                            cb.and(
-                                cb.equal(fromWfdisc.get(STATION_CODE), k.get(STATION_INDEX)),
-                                cb.equal(fromWfdisc.get(CHANNEL_CODE), k.get(CHANNEL_INDEX)),
-                                cb.equal(fromWfdisc.get(TIME), k.get(TIME_INDEX))))
-                    .toArray(Predicate[]::new)))
+            KeySetPredicates.anyOf(
+                cb,
+                partitionedResultSet,
+                k ->
+                    cb.and(
+                        cb.equal(fromWfdisc.get(STATION_CODE), k.get(STATION_INDEX)),
+                        cb.equal(fromWfdisc.get(CHANNEL_CODE), k.get(CHANNEL_INDEX)),
+                        cb.equal(fromWfdisc.get(TIME), k.get(TIME_INDEX)))))
         .orderBy(cb.asc(fromWfdisc.get(TIME)));
     return query;
   }
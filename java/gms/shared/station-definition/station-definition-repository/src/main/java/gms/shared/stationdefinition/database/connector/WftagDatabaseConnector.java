@@ -8,11 +8,11 @@ import gms.shared.stationdefinition.dao.css.WfTagDao;
 import gms.shared.stationdefinition.dao.css.enums.TagName;
 import gms.shared.utilities.bridge.database.connector.DatabaseConnector;
 import gms.shared.utilities.bridge.database.connector.EntityResultListFunction;
+import gms.shared.utilities.bridge.database.connector.KeySetPredicates;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityManagerFactory;
 import jakarta.persistence.criteria.CriteriaQuery;
 import jakarta.persistence.criteria.Path;
-import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
 import java.util.Collection;
 import java.util.List;
@@ -57,10 +57,7 @@ public class WftagDatabaseConnector extends DatabaseConnector {
                 query.where(
                     cb.and(
                         cb.equal(idPath.get(TAG_NAME), TagName.ARID),
-                        cb.or(
-                            partitionedArIds.stream()
-                                .map(arId -> cb.equal(idPath.get(ID), arId))
-                                .toArray(Predicate[]::new))));
+                        KeySetPredicates.in(idPath.get(ID), partitionedArIds)));
 
                 return em.createQuery(query).getResultList();
               };
@@ -95,10 +92,7 @@ public class WftagDatabaseConnector extends DatabaseConnector {
                 query.where(
                     cb.and(
                         cb.equal(idPath.get(TAG_NAME), TagName.EVID),
-                        cb.or(
-                            partitionedEvIds.stream()
-                                .map(evId -> cb.equal(idPath.get(ID), evId))
-                                .toArray(Predicate[]::new))));
+                        KeySetPredicates.in(idPath.get(ID), partitionedEvIds)));
 
                 return em.createQuery(query).getResultList();
               };
@@ -0,0 +1,55 @@
+package gms.shared.utilities.bridge.database.connector;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.management.JMException;
+import javax.management.ObjectName;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A thread-safe counter or latest value metric registered directly with the platform MBean server.
+ * The bridge utilities are a dependency of most services, so they don't depend on the metrics
+ * module and its exporter.
+ */
+public final class ConnectorMetric implements ConnectorMetricMBean {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(ConnectorMetric.class);
+
+  private final AtomicLong metricVal = new AtomicLong();
+
+  private ConnectorMetric() {}
+
+  /**
+   * Creates and registers a metric
+   *
+   * @param name the JMX {@link ObjectName} of the metric, e.g. "partitionedQuery_hits:type=Counter"
+   * @return the metric, which still records values if it could not be registered
+   */
+  static ConnectorMetric create(String name) {
+    var metric = new ConnectorMetric();
+    try {
+      ManagementFactory.getPlatformMBeanServer().registerMBean(metric, new ObjectName(name));
+    } catch (JMException e) {
+      LOGGER.warn(
+          "Metrics {} failed to register. No data will be exported for this metric due to this"
+              + " exception: {}",
+          name,
+          e.getMessage());
+    }
+    return metric;
+  }
+
+  @Override
+  public long getMetricVal() {
+    return metricVal.get();
+  }
+
+  void increment() {
+    metricVal.incrementAndGet();
+  }
+
+  void set(long value) {
+    metricVal.set(value);
+  }
+}
@@ -0,0 +1,10 @@
+package gms.shared.utilities.bridge.database.connector;
+
+/**
+ * JMX view of a {@link ConnectorMetric}. Exposes the same MetricVal attribute as the shared
+ * metrics module's CustomMetric so both are exported the same way.
+ */
+public interface ConnectorMetricMBean {
+
+  long getMetricVal();
+}
@@ -8,11 +8,19 @@ import jakarta.persistence.NonUniqueResultException;
 import jakarta.persistence.PersistenceException;
 import jakarta.persistence.QueryTimeoutException;
 import jakarta.persistence.RollbackException;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import net.jodah.failsafe.Failsafe;
@@ -35,8 +43,22 @@ public abstract class DatabaseConnector {
   private static final String EMPTY_RESULT_MESSAGE = "Returning empty result.";
   private static final String EMPTY_LIST_MESSAGE = "Returning empty list.";
 
+  static final String C3P0_POOL_SIZE_KEY = "hibernate.c3p0.max_size";
+  static final String HIKARI_POOL_SIZE_KEY = "hibernate.hikari.maximumPoolSize";
+  private static final long PARTITION_THREAD_KEEP_ALIVE_SECONDS = 60L;
+
+  private static final AtomicInteger partitionQueryThreadCount = new AtomicInteger();
+
+  private static final ConnectorMetric partitionedQuery =
+      ConnectorMetric.create("partitionedQuery_hits:type=Counter");
+
+  private static final ConnectorMetric partitionedQueryDuration =
+      ConnectorMetric.create("partitionedQuery_duration:type=Value");
+
   private final EntityManagerFactory entityManagerFactory;
 
+  private ThreadPoolExecutor partitionQueryExecutor;
+
   protected DatabaseConnector(EntityManagerFactory entityManagerFactory) {
     this.entityManagerFactory = entityManagerFactory;
   }
@@ -188,13 +210,133 @@ public abstract class DatabaseConnector {
       Collection<P> queryParams,
       int partitionSize,
       Function<Collection<P>, List<T>> partitionQueryFunction) {
-    return Lists.partition(new ArrayList<>(queryParams), partitionSize).stream()
-        .map(partitionQueryFunction)
+    return runPartitions(
+        Lists.partition(new ArrayList<>(queryParams), partitionSize), partitionQueryFunction);
+  }
+
+  /**
+   * Breaks the query into partitionSize batches and makes individual Oracle queries for each
+   * partition concurrently. Partitions run on an executor owned by this connector with at most as
+   * many threads as the entity manager factory's connection pool has connections, so the queries
+   * wait on threads here rather than on connection checkout. Results are merged in partition
+   * order, matching {@link #runPartitionedQuery(Collection, int, Function)}. When the query fits in
+   * a single partition or the pool holds a single connection, the partitions run sequentially on
+   * the calling thread.
+   *
+   * @param <P> input object type
+   * @param <T> output object type
+   * @param queryParams - query params to partition
+   * @param partitionSize - number of params in each partition
+   * @param partitionQueryFunction - function to query for each partition
+   * @return list of DAOs
+   */
+  protected <P, T> List<T> runPartitionedQueryConcurrently(
+      Collection<P> queryParams,
+      int partitionSize,
+      Function<Collection<P>, List<T>> partitionQueryFunction) {
+    var partitions = Lists.partition(new ArrayList<>(queryParams), partitionSize);
+    var executor = getPartitionQueryExecutor();
+    if (partitions.size() < 2 || executor == null) {
+      return runPartitions(partitions, partitionQueryFunction);
+    }
+
+    List<CompletableFuture<List<T>>> partitionResults =
+        partitions.stream()
+            .map(
+                partition ->
+                    CompletableFuture.supplyAsync(
+                        () -> timePartitionQuery(partitionQueryFunction, partition), executor))
+            .toList();
+
+    List<T> results = new ArrayList<>();
+    try {
+      partitionResults.forEach(partitionResult -> results.addAll(partitionResult.join()));
+    } catch (CompletionException e) {
+      partitionResults.forEach(partitionResult -> partitionResult.cancel(false));
+      if (e.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      throw e;
+    }
+    return results;
+  }
+
+  private static <P, T> List<T> runPartitions(
+      List<List<P>> partitions, Function<Collection<P>, List<T>> partitionQueryFunction) {
+    return partitions.stream()
+        .map(partition -> timePartitionQuery(partitionQueryFunction, partition))
         .flatMap(Collection::stream)
         // deployments fail when this is channged to Stream.toList()
         .collect(Collectors.toList());
   }
 
+  private static <P, T> List<T> timePartitionQuery(
+      Function<Collection<P>, List<T>> partitionQueryFunction, Collection<P> partition) {
+    var start = Instant.now();
+    try {
+      return partitionQueryFunction.apply(partition);
+    } finally {
+      recordPartitionQuery(Duration.between(start, Instant.now()).toMillis());
+    }
+  }
+
+  private static void recordPartitionQuery(long elapsedMillis) {
+    partitionedQuery.increment();
+    partitionedQueryDuration.set(elapsedMillis);
+  }
+
+  /**
+   * Lazily creates the executor for concurrent partition queries, sized to the connection pool of
+   * the entity manager factory. Threads exit after a minute idle so connectors that are rarely
+   * queried do not hold them.
+   *
+   * @return the executor, or null if the pool holds a single connection
+   */
+  private synchronized ThreadPoolExecutor getPartitionQueryExecutor() {
+    if (partitionQueryExecutor == null) {
+      var poolSize = findConnectionPoolSize();
+      if (poolSize < 2) {
+        return null;
+      }
+
+      partitionQueryExecutor =
+          new ThreadPoolExecutor(
+              poolSize,
+              poolSize,
+              PARTITION_THREAD_KEEP_ALIVE_SECONDS,
+              TimeUnit.SECONDS,
+              new LinkedBlockingQueue<>(),
+              runnable -> {
+                var thread =
+                    new Thread(
+                        runnable,
+                        "partitioned-query-" + partitionQueryThreadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+              });
+      partitionQueryExecutor.allowCoreThreadTimeOut(true);
+    }
+    return partitionQueryExecutor;
+  }
+
+  private int findConnectionPoolSize() {
+    var properties = entityManagerFactory.getProperties();
+    var poolSize = properties.get(C3P0_POOL_SIZE_KEY);
+    if (poolSize == null) {
+      poolSize = properties.get(HIKARI_POOL_SIZE_KEY);
+    }
+    if (poolSize == null) {
+      return 1;
+    }
+
+    try {
+      return Integer.parseInt(poolSize.toString().trim());
+    } catch (NumberFormatException e) {
+      LOGGER.warn("Unable to parse connection pool size {}", poolSize);
+      return 1;
+    }
+  }
+
   /** Create RetryPolicy with transaction rollback for failed commits */
   private static RetryPolicy<Object> createVoidRetryPolicy() {
 
@@ -0,0 +1,154 @@
+package gms.shared.utilities.bridge.database.connector;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.function.Function;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+import org.hibernate.query.criteria.JpaExpression;
+
+/**
+ * Builds criteria predicates matching a set of keys so that the generated SQL text depends only on
+ * a small number of key set sizes. Hibernate binds criteria values as JDBC parameters, so an
+ * IN-list over N keys renders as a statement with N parameter slots; queries over key sets of every
+ * possible size each produce a distinct statement, which defeats the database's statement cache
+ * and forces a hard parse per query. Key sets are instead deduplicated and padded to the next
+ * bucket size by repeating their last key, which leaves the rows matched unchanged and bounds the
+ * number of distinct statements to the number of buckets. Keys made of several columns are matched
+ * with a row-value IN-list, so padding only adds parameter slots and never repeats a predicate.
+ */
+public final class KeySetPredicates {
+
+  /** Largest number of keys Oracle allows in a single IN-list */
+  public static final int MAX_KEY_SET_SIZE = 1000;
+
+  static final int MIN_BUCKET_SIZE = 8;
+
+  private KeySetPredicates() {
+    // Hide implicit public constructor
+  }
+
+  /**
+   * Creates a predicate matching rows whose value for the provided expression is one of the keys
+   *
+   * @param expression the path or expression to match against the keys
+   * @param keys the keys to match, no more than {@link #MAX_KEY_SET_SIZE} once deduplicated
+   * @return an IN predicate over the padded key set
+   */
+  public static Predicate in(Expression<?> expression, Collection<?> keys) {
+    checkNotNull(expression, "Expression cannot be null");
+    return expression.in(padToBucket(keys));
+  }
+
+  /**
+   * Creates a predicate matching rows whose values for the provided columns are, in order, the
+   * values of one of the keys. Renders as a single row-value IN-list, e.g. {@code (sta, chan) in
+   * ((?, ?), (?, ?))}.
+   *
+   * @param cb the criteria builder for the query, which must be Hibernate's
+   * @param columns the paths or expressions to match against the key values
+   * @param keys the keys to match, no more than {@link #MAX_KEY_SET_SIZE} once deduplicated
+   * @param keyValues extracts the values of a key, one per column
+   * @param <K> the type of the keys
+   * @return a row-value IN predicate over the padded key set
+   */
+  public static <K> Predicate tupleIn(
+      CriteriaBuilder cb,
+      List<? extends Expression<?>> columns,
+      Collection<K> keys,
+      Function<K, List<?>> keyValues) {
+    checkNotNull(cb, "Criteria builder cannot be null");
+    checkNotNull(columns, "Columns cannot be null");
+    checkNotNull(keyValues, "Key values cannot be null");
+    checkArgument(
+        cb instanceof HibernateCriteriaBuilder,
+        "Row-value IN-lists require a Hibernate criteria builder");
+    checkArgument(columns.size() > 1, "Row-value IN-lists require more than one column");
+
+    var hcb = (HibernateCriteriaBuilder) cb;
+    var valueTuples =
+        padToBucket(keys).stream()
+            .map(
+                key -> {
+                  var values = keyValues.apply(key);
+                  checkArgument(
+                      values.size() == columns.size(),
+                      "Key %s has %s values for %s columns",
+                      key,
+                      values.size(),
+                      columns.size());
+                  return tuple(hcb, values.stream().map(hcb::value).toList());
+                })
+            .toArray(Expression<?>[]::new);
+
+    return tuple(hcb, columns).in(valueTuples);
+  }
+
+  /**
+   * Creates a predicate matching rows that match any one of the keys, for keys whose predicate
+   * differs by more than its values, e.g. a per-key time bound. The keys are deduplicated but not
+   * padded, as each padded key would repeat its whole predicate in the statement. Prefer {@link
+   * #tupleIn} when the keys only differ by the values of some columns.
+   *
+   * @param cb the criteria builder for the query
+   * @param keys the keys to match
+   * @param keyPredicate creates the predicate matching a single key
+   * @param <K> the type of the keys
+   * @return an OR predicate over the deduplicated keys
+   */
+  public static <K> Predicate anyOf(
+      CriteriaBuilder cb, Collection<K> keys, Function<K, Predicate> keyPredicate) {
+    checkNotNull(cb, "Criteria builder cannot be null");
+    checkNotNull(keys, "Keys cannot be null");
+    checkNotNull(keyPredicate, "Key predicate cannot be null");
+    return cb.or(new LinkedHashSet<>(keys).stream().map(keyPredicate).toArray(Predicate[]::new));
+  }
+
+  /**
+   * Deduplicates the keys and pads them, by repeating the last key, to the smallest power of two
+   * holding them, or to {@link #MAX_KEY_SET_SIZE} when no power of two within that limit does
+   *
+   * @param keys the keys to pad
+   * @param <K> the type of the keys
+   * @return the padded keys
+   */
+  static <K> List<K> padToBucket(Collection<K> keys) {
+    checkNotNull(keys, "Keys cannot be null");
+    List<K> paddedKeys = new ArrayList<>(new LinkedHashSet<>(keys));
+    checkArgument(!paddedKeys.isEmpty(), "Keys cannot be empty");
+    checkArgument(
+        paddedKeys.size() <= MAX_KEY_SET_SIZE,
+        "Key set of size %s exceeds the maximum of %s",
+        paddedKeys.size(),
+        MAX_KEY_SET_SIZE);
+
+    var lastKey = paddedKeys.get(paddedKeys.size() - 1);
+    var bucketSize = bucketSize(paddedKeys.size());
+    while (paddedKeys.size() < bucketSize) {
+      paddedKeys.add(lastKey);
+    }
+    return paddedKeys;
+  }
+
+  static int bucketSize(int keyCount) {
+    var bucketSize = MIN_BUCKET_SIZE;
+    while (bucketSize < keyCount) {
+      bucketSize *= 2;
+    }
+    return Math.min(bucketSize, MAX_KEY_SET_SIZE);
+  }
+
+  private static JpaExpression<Object[]> tuple(
+      HibernateCriteriaBuilder hcb, List<? extends Expression<?>> expressions) {
+    return hcb.tuple(
+        Object[].class,
+        expressions.stream().map(JpaExpression.class::cast).toArray(JpaExpression[]::new));
+  }
+}
@@ -0,0 +1,27 @@
+package gms.shared.utilities.bridge.database.connector;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.lang.management.ManagementFactory;
+import javax.management.ObjectName;
+import org.junit.jupiter.api.Test;
+
+class ConnectorMetricTest {
+
+  @Test
+  void testMetricExportedOverJmx() throws Exception {
+    var name = "connectorMetricTest_hits:type=Counter";
+    var metric = ConnectorMetric.create(name);
+
+    metric.increment();
+    metric.increment();
+
+    assertEquals(
+        2L,
+        ManagementFactory.getPlatformMBeanServer()
+            .getAttribute(new ObjectName(name), "MetricVal"));
+
+    metric.set(42L);
+    assertEquals(42L, metric.getMetricVal());
+  }
+}
@@ -0,0 +1,104 @@
+package gms.shared.utilities.bridge.database.connector;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+import jakarta.persistence.EntityManagerFactory;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class DatabaseConnectorTest {
+
+  private static final List<Integer> QUERY_PARAMS = IntStream.range(0, 100).boxed().toList();
+
+  @Mock private EntityManagerFactory entityManagerFactory;
+
+  @Test
+  void testRunPartitionedQueryConcurrently() {
+    when(entityManagerFactory.getProperties())
+        .thenReturn(Map.of(DatabaseConnector.C3P0_POOL_SIZE_KEY, "4"));
+    var connector = new TestDatabaseConnector(entityManagerFactory);
+
+    Set<String> threadNames = ConcurrentHashMap.newKeySet();
+    var results =
+        connector.runPartitionedQueryConcurrently(
+            QUERY_PARAMS,
+            10,
+            (Collection<Integer> partition) -> {
+              threadNames.add(Thread.currentThread().getName());
+              // later partitions finish first
+              sleep(100 - partition.iterator().next());
+              return partition.stream().map(param -> param * 2).toList();
+            });
+
+    // results are merged in partition order regardless of completion order
+    assertEquals(QUERY_PARAMS.stream().map(param -> param * 2).toList(), results);
+    assertTrue(threadNames.stream().allMatch(name -> name.startsWith("partitioned-query-")));
+    assertTrue(threadNames.size() <= 4);
+  }
+
+  @Test
+  void testRunPartitionedQueryConcurrentlySinglePoolConnection() {
+    when(entityManagerFactory.getProperties())
+        .thenReturn(Map.of(DatabaseConnector.HIKARI_POOL_SIZE_KEY, 1));
+    var connector = new TestDatabaseConnector(entityManagerFactory);
+
+    var callingThread = Thread.currentThread().getName();
+    Function<Collection<Integer>, List<String>> partitionQuery =
+        partition -> List.of(Thread.currentThread().getName());
+
+    // a single connection leaves nothing to run concurrently
+    assertEquals(
+        List.of(callingThread, callingThread),
+        connector.runPartitionedQueryConcurrently(QUERY_PARAMS, 50, partitionQuery));
+    assertEquals(
+        connector.runPartitionedQuery(QUERY_PARAMS, 50, partitionQuery),
+        connector.runPartitionedQueryConcurrently(QUERY_PARAMS, 50, partitionQuery));
+  }
+
+  @Test
+  void testRunPartitionedQueryConcurrentlyRethrows() {
+    when(entityManagerFactory.getProperties())
+        .thenReturn(Map.of(DatabaseConnector.C3P0_POOL_SIZE_KEY, "2"));
+    var connector = new TestDatabaseConnector(entityManagerFactory);
+
+    Function<Collection<Integer>, List<Integer>> partitionQuery =
+        partition -> {
+          if (partition.contains(50)) {
+            throw new DatabaseConnectorException("Partition failed", new RuntimeException());
+          }
+          return List.copyOf(partition);
+        };
+
+    assertThrows(
+        DatabaseConnectorException.class,
+        () -> connector.runPartitionedQueryConcurrently(QUERY_PARAMS, 10, partitionQuery));
+  }
+
+  private static void sleep(long millis) {
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private static class TestDatabaseConnector extends DatabaseConnector {
+
+    TestDatabaseConnector(EntityManagerFactory entityManagerFactory) {
+      super(entityManagerFactory);
+    }
+  }
+}
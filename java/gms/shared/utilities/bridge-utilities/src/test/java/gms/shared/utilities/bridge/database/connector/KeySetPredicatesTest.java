@@ -0,0 +1,147 @@
+package gms.shared.utilities.bridge.database.connector;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+import org.hibernate.query.criteria.JpaExpression;
+import org.hibernate.query.criteria.JpaPredicate;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class KeySetPredicatesTest {
+
+  @Mock private CriteriaBuilder cb;
+  @Mock private Expression<Long> expression;
+  @Mock private Predicate predicate;
+  @Mock private HibernateCriteriaBuilder hcb;
+  @Mock private JpaExpression<Long> column;
+  @Mock private JpaExpression<Object[]> tuple;
+  @Mock private JpaPredicate tuplePredicate;
+
+  @ParameterizedTest
+  @MethodSource("bucketSizeArguments")
+  void testBucketSize(int keyCount, int expectedBucketSize) {
+    assertEquals(expectedBucketSize, KeySetPredicates.bucketSize(keyCount));
+  }
+
+  static Stream<Arguments> bucketSizeArguments() {
+    return Stream.of(
+        Arguments.arguments(1, 8),
+        Arguments.arguments(8, 8),
+        Arguments.arguments(9, 16),
+        Arguments.arguments(250, 256),
+        Arguments.arguments(512, 512),
+        Arguments.arguments(513, 1000),
+        Arguments.arguments(1000, 1000));
+  }
+
+  @Test
+  void testPadToBucket() {
+    assertEquals(
+        List.of(3L, 1L, 2L, 2L, 2L, 2L, 2L, 2L),
+        KeySetPredicates.padToBucket(List.of(3L, 1L, 3L, 2L)));
+
+    var keys = IntStream.range(0, 1000).boxed().toList();
+    assertEquals(keys, KeySetPredicates.padToBucket(keys));
+  }
+
+  @Test
+  void testPadToBucketValidation() {
+    List<Long> emptyKeys = List.of();
+    List<Integer> tooManyKeys = IntStream.range(0, 1001).boxed().toList();
+
+    assertThrows(NullPointerException.class, () -> KeySetPredicates.padToBucket(null));
+    assertThrows(IllegalArgumentException.class, () -> KeySetPredicates.padToBucket(emptyKeys));
+    assertThrows(IllegalArgumentException.class, () -> KeySetPredicates.padToBucket(tooManyKeys));
+
+    // duplicates do not count against the maximum
+    assertEquals(
+        Collections.nCopies(8, 1), KeySetPredicates.padToBucket(Collections.nCopies(1001, 1)));
+  }
+
+  @Test
+  void testIn() {
+    when(expression.in(List.of(1L, 2L, 2L, 2L, 2L, 2L, 2L, 2L))).thenReturn(predicate);
+    assertSame(predicate, KeySetPredicates.in(expression, List.of(1L, 2L)));
+  }
+
+  @Test
+  void testTupleIn() {
+    // thirteen keys are padded to a bucket of sixteen value tuples in a single IN-list
+    var keys = IntStream.range(0, 13).mapToObj(i -> List.of((long) i, i + 100L)).toList();
+    var inListSize = new AtomicInteger();
+    when(hcb.tuple(eq(Object[].class), any(JpaExpression[].class))).thenReturn(tuple);
+    when(tuple.in(any(Expression[].class)))
+        .thenAnswer(
+            invocation -> {
+              inListSize.set(invocation.getArguments().length);
+              return tuplePredicate;
+            });
+
+    assertSame(
+        tuplePredicate, KeySetPredicates.tupleIn(hcb, List.of(column, column), keys, key -> key));
+
+    assertEquals(16, inListSize.get());
+    verify(hcb, times(17)).tuple(eq(Object[].class), any(JpaExpression[].class));
+    verify(hcb, times(32)).value(any());
+  }
+
+  @Test
+  void testTupleInValidation() {
+    List<List<Long>> keys = List.of(List.of(1L, 2L));
+    var columns = List.of(column, column);
+    var oneColumn = List.of(column);
+
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> KeySetPredicates.tupleIn(cb, columns, keys, key -> key));
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> KeySetPredicates.tupleIn(hcb, oneColumn, keys, key -> key));
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> KeySetPredicates.tupleIn(hcb, columns, keys, key -> List.of(1L)));
+  }
+
+  @Test
+  void testAnyOf() {
+    var disjunctCount = new AtomicInteger();
+    when(cb.or(any(Predicate[].class)))
+        .thenAnswer(
+            invocation -> {
+              disjunctCount.set(invocation.getArguments().length);
+              return predicate;
+            });
+
+    assertSame(
+        predicate,
+        KeySetPredicates.anyOf(cb, List.of(1L, 2L, 3L, 3L), key -> cb.equal(expression, key)));
+
+    // per-key predicates are deduplicated but never padded
+    assertEquals(3, disjunctCount.get());
+    verify(cb).equal(expression, 1L);
+    verify(cb).equal(expression, 2L);
+    verify(cb).equal(expression, 3L);
+  }
+}
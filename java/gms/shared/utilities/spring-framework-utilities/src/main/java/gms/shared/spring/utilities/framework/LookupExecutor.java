@@ -0,0 +1,107 @@
+package gms.shared.spring.utilities.framework;
+
+import com.google.common.base.Preconditions;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Shared executor for running independent bridged database lookups concurrently. Lookups run on a
+ * bounded pool sized by configuration; when the pool's queue is full, the submitting thread runs
+ * the lookup itself, which throttles callers instead of queueing without bound. The pool is shut
+ * down with the application context.
+ *
+ * <p>Lookups run on this executor must not wait on other lookups run on it.
+ */
+@Component
+public class LookupExecutor implements Executor, AutoCloseable {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(LookupExecutor.class);
+
+  private static final long KEEP_ALIVE_SECONDS = 60L;
+
+  private final ThreadPoolExecutor executor;
+
+  @Autowired
+  public LookupExecutor(
+      @Value("${bridge.lookup.thread-count:8}") int threadCount,
+      @Value("${bridge.lookup.queue-size:256}") int queueSize) {
+    Preconditions.checkArgument(threadCount > 0, "Lookup thread count must be positive");
+    Preconditions.checkArgument(queueSize > 0, "Lookup queue size must be positive");
+
+    this.executor =
+        new ThreadPoolExecutor(
+            threadCount,
+            threadCount,
+            KEEP_ALIVE_SECONDS,
+            TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(queueSize),
+            new LookupThreadFactory(),
+            new ThreadPoolExecutor.CallerRunsPolicy());
+    executor.allowCoreThreadTimeOut(true);
+  }
+
+  /**
+   * Schedules a lookup on the pool
+   *
+   * @param lookup the lookup to run
+   * @param <T> the type produced by the lookup
+   * @return a future completing with the result of the lookup
+   */
+  public <T> CompletableFuture<T> submit(Supplier<T> lookup) {
+    return CompletableFuture.supplyAsync(lookup, executor);
+  }
+
+  /**
+   * Waits for a lookup, rethrowing the lookup's own runtime exception if it failed
+   *
+   * @param lookup the pending lookup
+   * @param <T> the type produced by the lookup
+   * @return the result of the lookup
+   */
+  public static <T> T join(CompletableFuture<T> lookup) {
+    try {
+      return lookup.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      throw e;
+    }
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void execute(Runnable command) {
+    executor.execute(command);
+  }
+
+  @Override
+  public void close() {
+    LOGGER.info("Shutting down lookup executor");
+    executor.shutdown();
+  }
+
+  private static final class LookupThreadFactory implements ThreadFactory {
+
+    private final AtomicInteger threadCount = new AtomicInteger();
+
+    @Override
+    public Thread newThread(Runnable runnable) {
+      var thread = new Thread(runnable, "bridge-lookup-" + threadCount.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    }
+  }
+}
@@ -0,0 +1,66 @@
+package gms.shared.spring.utilities.webmvc;
+
+import gms.shared.frameworks.osd.coi.datatransferobjects.ColumnarSampleCodec;
+import java.io.IOException;
+import java.lang.reflect.Type;
+import org.msgpack.jackson.dataformat.MessagePackMapper;
+import org.springframework.core.GenericTypeResolver;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.lang.Nullable;
+
+/**
+ * Reads and writes {@link GmsMediaType#APPLICATION_COLUMNAR_MSGPACK} bodies, in which sample arrays
+ * (e.g. the samples of each Waveform in a ChannelSegment) are written as raw little-endian columns
+ * ahead of the MessagePack-encoded remainder of the object. See {@link ColumnarSampleCodec}.
+ */
+public class ColumnarMessagePackMessageConverter
+    extends AbstractGenericHttpMessageConverter<Object> {
+
+  private final ColumnarSampleCodec codec;
+
+  public ColumnarMessagePackMessageConverter(
+      MessagePackMapper objectMapper, boolean deltaCompression) {
+    super(GmsMediaType.APPLICATION_COLUMNAR_MSGPACK);
+    this.codec = ColumnarSampleCodec.create(objectMapper, deltaCompression);
+  }
+
+  @Override
+  protected boolean supports(Class<?> clazz) {
+    return true;
+  }
+
+  @Override
+  public Object read(Type type, @Nullable Class<?> contextClass, HttpInputMessage inputMessage)
+      throws IOException {
+    return readType(GenericTypeResolver.resolveType(type, contextClass), inputMessage);
+  }
+
+  @Override
+  protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) throws IOException {
+    return readType(clazz, inputMessage);
+  }
+
+  private Object readType(Type type, HttpInputMessage inputMessage) throws IOException {
+    try {
+      return codec.read(inputMessage.getBody(), type);
+    } catch (IOException ex) {
+      throw new HttpMessageNotReadableException(
+          "Could not read columnar MessagePack: " + ex.getMessage(), ex, inputMessage);
+    }
+  }
+
+  @Override
+  protected void writeInternal(
+      Object object, @Nullable Type type, HttpOutputMessage outputMessage) throws IOException {
+    try {
+      codec.write(object, outputMessage.getBody());
+    } catch (IOException ex) {
+      throw new HttpMessageNotWritableException(
+          "Could not write columnar MessagePack: " + ex.getMessage(), ex);
+    }
+  }
+}
@@ -0,0 +1,83 @@
+package gms.shared.spring.utilities.webmvc;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import gms.shared.utilities.javautilities.objectmapper.ObjectMappers;
+import java.util.Objects;
+import java.util.stream.Stream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * Builds streaming responses in which each element is serialized and flushed to the client as soon
+ * as it is produced, rather than materializing the whole collection before serializing it.
+ *
+ * <p>Elements are written individually, e.g. `"one" "two" ...` rather than `["one", "two", ...]`,
+ * in {@link GmsMediaType#APPLICATION_STREAM_MSGPACK} or {@link
+ * GmsMediaType#APPLICATION_STREAM_JSON}. This matches the framing read by the
+ * frameworks-client-library for streaming content types.
+ */
+public final class ElementStreams {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(ElementStreams.class);
+
+  // Separates each JSON element, which is needed to separate primitive numbers
+  private static final byte[] JSON_SEPARATOR = {' '};
+
+  private ElementStreams() {}
+
+  /**
+   * Creates a response streaming each of the provided elements. The elements are serialized in
+   * MessagePack if the accept header includes {@link GmsMediaType#APPLICATION_STREAM_MSGPACK} and
+   * in JSON otherwise. The stream is consumed, and then closed, on the servlet container's async
+   * thread, so it should be lazy for memory to stay bounded. Elements that can't be serialized are
+   * logged and omitted.
+   *
+   * @param accept value of the request's Accept header, not null
+   * @param elements {@link Stream} of elements to serialize, not null
+   * @return {@link ResponseEntity} wrapping a {@link StreamingResponseBody}, not null
+   */
+  public static ResponseEntity<StreamingResponseBody> stream(String accept, Stream<?> elements) {
+    Objects.requireNonNull(accept, "accept can't be null");
+    Objects.requireNonNull(elements, "elements can't be null");
+
+    var msgpack =
+        MediaType.parseMediaTypes(accept).stream()
+            .anyMatch(GmsMediaType.APPLICATION_STREAM_MSGPACK::equalsTypeAndSubtype);
+    var writer = msgpack ? ObjectMappers.messagePackWriter() : ObjectMappers.jsonWriter();
+    var contentType =
+        msgpack ? GmsMediaType.APPLICATION_STREAM_MSGPACK : GmsMediaType.APPLICATION_STREAM_JSON;
+
+    StreamingResponseBody body =
+        outputStream -> {
+          try (elements) {
+            var iterator = elements.iterator();
+            while (iterator.hasNext()) {
+              var serialized = serialize(writer, iterator.next());
+              if (serialized.length > 0) {
+                outputStream.write(serialized);
+                if (!msgpack) {
+                  outputStream.write(JSON_SEPARATOR);
+                }
+                outputStream.flush();
+              }
+            }
+          }
+        };
+
+    return ResponseEntity.ok().contentType(contentType).body(body);
+  }
+
+  private static byte[] serialize(ObjectWriter writer, Object element) {
+    try {
+      return writer.writeValueAsBytes(element);
+    } catch (JsonProcessingException e) {
+      LOGGER.error("Omitting object from streaming response as it could not be serialized", e);
+      LOGGER.trace("Object omitted from streaming response is: {}", element);
+      return new byte[0];
+    }
+  }
+}
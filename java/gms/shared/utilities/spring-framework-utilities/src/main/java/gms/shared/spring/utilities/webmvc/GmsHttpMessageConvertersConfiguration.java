@@ -1,6 +1,7 @@
 package gms.shared.spring.utilities.webmvc;
 
 import gms.shared.utilities.javautilities.objectmapper.ObjectMappers;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
@@ -17,4 +18,11 @@ public class GmsHttpMessageConvertersConfiguration {
   public MessagePackMessageConverter messagePackMessageConverter() {
     return new MessagePackMessageConverter(ObjectMappers.messagePackMapper());
   }
+
+  @Bean
+  public ColumnarMessagePackMessageConverter columnarMessagePackMessageConverter(
+      @Value("${gms.http.columnar-msgpack.delta-compression:true}") boolean deltaCompression) {
+    return new ColumnarMessagePackMessageConverter(
+        ObjectMappers.messagePackMapper(), deltaCompression);
+  }
 }
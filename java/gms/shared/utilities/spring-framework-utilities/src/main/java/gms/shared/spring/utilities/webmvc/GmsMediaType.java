@@ -10,9 +10,18 @@ public final class GmsMediaType {
 
   public static final String APPLICATION_MSGPACK_VALUE = "application/msgpack";
   public static final MediaType APPLICATION_MSGPACK;
+  public static final String APPLICATION_COLUMNAR_MSGPACK_VALUE = "application/columnar+msgpack";
+  public static final MediaType APPLICATION_COLUMNAR_MSGPACK;
+  public static final String APPLICATION_STREAM_JSON_VALUE = "application/stream+json";
+  public static final MediaType APPLICATION_STREAM_JSON;
+  public static final String APPLICATION_STREAM_MSGPACK_VALUE = "application/stream+msgpack";
+  public static final MediaType APPLICATION_STREAM_MSGPACK;
 
   static {
     APPLICATION_MSGPACK = new MediaType("application", "msgpack");
+    APPLICATION_COLUMNAR_MSGPACK = new MediaType("application", "columnar+msgpack");
+    APPLICATION_STREAM_JSON = new MediaType("application", "stream+json");
+    APPLICATION_STREAM_MSGPACK = new MediaType("application", "stream+msgpack");
   }
 
   private GmsMediaType() {}
@@ -0,0 +1,73 @@
+package gms.shared.spring.utilities.framework;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class LookupExecutorTest {
+
+  private LookupExecutor executor;
+
+  @BeforeEach
+  void setUp() {
+    executor = new LookupExecutor(2, 1);
+  }
+
+  @AfterEach
+  void tearDown() {
+    executor.close();
+  }
+
+  @Test
+  void testSubmitReturnsLookupResult() {
+    assertEquals("found", LookupExecutor.join(executor.submit(() -> "found")));
+  }
+
+  @Test
+  void testJoinRethrowsLookupException() {
+    CompletableFuture<Object> lookup =
+        executor.submit(
+            () -> {
+              throw new IllegalStateException("bad lookup");
+            });
+
+    var exception = assertThrows(IllegalStateException.class, () -> LookupExecutor.join(lookup));
+    assertEquals("bad lookup", exception.getMessage());
+  }
+
+  @Test
+  void testFullQueueRunsOnCaller() {
+    var caller = Thread.currentThread();
+
+    // with two threads and a queue of one, later lookups run on the submitting thread
+    List<CompletableFuture<Boolean>> lookups =
+        IntStream.range(0, 16)
+            .mapToObj(
+                i ->
+                    executor.submit(
+                        () -> {
+                          try {
+                            Thread.sleep(5);
+                          } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                          }
+                          return Thread.currentThread() == caller;
+                        }))
+            .toList();
+
+    assertTrue(lookups.stream().map(LookupExecutor::join).anyMatch(Boolean::booleanValue));
+  }
+
+  @Test
+  void testInvalidConfiguration() {
+    assertThrows(IllegalArgumentException.class, () -> new LookupExecutor(0, 1));
+    assertThrows(IllegalArgumentException.class, () -> new LookupExecutor(1, 0));
+  }
+}
@@ -0,0 +1,68 @@
+package gms.shared.spring.utilities.webmvc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import gms.shared.utilities.javautilities.objectmapper.ObjectMappers;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+class ElementStreamsTest {
+
+  @Test
+  void testStreamMessagePack() throws IOException {
+    var closed = new AtomicBoolean();
+    var response =
+        ElementStreams.stream(
+            GmsMediaType.APPLICATION_STREAM_MSGPACK_VALUE,
+            Stream.of("one", "two", "three").onClose(() -> closed.set(true)));
+
+    assertEquals(GmsMediaType.APPLICATION_STREAM_MSGPACK, response.getHeaders().getContentType());
+    assertEquals(
+        List.of("one", "two", "three"), readElements(response.getBody(), mapperFor(response)));
+    assertTrue(closed.get());
+  }
+
+  @Test
+  void testStreamJson() throws IOException {
+    var response =
+        ElementStreams.stream(MediaType.APPLICATION_JSON_VALUE, Stream.of("1", "2", "3"));
+
+    assertEquals(GmsMediaType.APPLICATION_STREAM_JSON, response.getHeaders().getContentType());
+    assertEquals(List.of("1", "2", "3"), readElements(response.getBody(), mapperFor(response)));
+  }
+
+  @Test
+  void testValidation() {
+    var elements = Stream.empty();
+    assertThrows(NullPointerException.class, () -> ElementStreams.stream(null, elements));
+    assertThrows(
+        NullPointerException.class,
+        () -> ElementStreams.stream(GmsMediaType.APPLICATION_STREAM_JSON_VALUE, null));
+  }
+
+  private static ObjectMapper mapperFor(ResponseEntity<?> response) {
+    return GmsMediaType.APPLICATION_STREAM_MSGPACK.equals(response.getHeaders().getContentType())
+        ? ObjectMappers.messagePackMapper()
+        : ObjectMappers.jsonMapper();
+  }
+
+  private static List<String> readElements(StreamingResponseBody body, ObjectMapper mapper)
+      throws IOException {
+    var outputStream = new ByteArrayOutputStream();
+    body.writeTo(outputStream);
+    try (var values =
+        mapper.readerFor(String.class).<String>readValues(outputStream.toByteArray())) {
+      return values.readAll();
+    }
+  }
+}
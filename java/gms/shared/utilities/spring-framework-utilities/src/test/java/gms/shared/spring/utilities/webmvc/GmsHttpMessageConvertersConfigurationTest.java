@@ -18,6 +18,10 @@ class GmsHttpMessageConvertersConfigurationTest {
       new Condition<>(
           converter -> converter.canRead(String.class, new MediaType("application", "msgpack")),
           "can read application/msgpack");
+  private static final Condition<HttpMessageConverter<?>> canReadColumnarMessagePack =
+      new Condition<>(
+          converter -> converter.canRead(String.class, GmsMediaType.APPLICATION_COLUMNAR_MSGPACK),
+          "can read application/columnar+msgpack");
 
   private GmsHttpMessageConvertersConfiguration configuration;
 
@@ -35,4 +39,11 @@ class GmsHttpMessageConvertersConfigurationTest {
   void testMessagePackMessageConverter() {
     assertThat(configuration.messagePackMessageConverter()).satisfies(canReadMessagePack);
   }
+
+  @Test
+  void testColumnarMessagePackMessageConverter() {
+    assertThat(configuration.columnarMessagePackMessageConverter(true))
+        .satisfies(canReadColumnarMessagePack)
+        .doesNotHave(canReadJson);
+  }
 }
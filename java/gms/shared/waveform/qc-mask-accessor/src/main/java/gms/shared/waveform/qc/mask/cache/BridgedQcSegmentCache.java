@@ -3,6 +3,7 @@ package gms.shared.waveform.qc.mask.cache;
 import static gms.shared.waveform.qc.mask.cache.util.QcMaskCacheFactory.QC_SEGMENT_CACHE;
 import static gms.shared.waveform.qc.mask.cache.util.QcMaskCacheFactory.QC_SEGMENT_VERSION_CACHE;
 
+import gms.shared.frameworks.cache.utils.IgniteBulkLookup;
 import gms.shared.frameworks.cache.utils.IgniteConnectionManager;
 import gms.shared.frameworks.systemconfig.SystemConfig;
 import gms.shared.stationdefinition.cache.util.StationDefinitionIdUtility;
@@ -65,10 +66,7 @@ public final class BridgedQcSegmentCache {
    * @return list of matching {@link QcSegment}s
    */
   public List<QcSegment> findQcSegmentsByIds(Collection<UUID> uuids) {
-    return qcSegmentCache.query(new ScanQuery<UUID, QcSegment>()).getAll().stream()
-        .filter(entry -> uuids.contains(entry.getKey()))
-        .map(Cache.Entry::getValue)
-        .toList();
+    return List.copyOf(IgniteBulkLookup.getAll(qcSegmentCache, uuids).values());
   }
 
   /**
@@ -80,13 +78,8 @@ public final class BridgedQcSegmentCache {
   public List<QcSegmentVersion> findQcSegmentVersionsByIds(
       Collection<QcSegmentVersionId> qcSegmentVersionIds) {
 
-    return qcSegmentVersionCache
-        .query(new ScanQuery<QcSegmentVersionId, QcSegmentVersion>())
-        .getAll()
-        .stream()
-        .filter(entry -> qcSegmentVersionIds.contains(entry.getKey()))
-        .map(Cache.Entry::getValue)
-        .toList();
+    return List.copyOf(
+        IgniteBulkLookup.getAll(qcSegmentVersionCache, qcSegmentVersionIds).values());
   }
 
   /**
@@ -1,6 +1,7 @@
 package gms.shared.waveform.api.facet;
 
 import gms.shared.event.coi.EventHypothesis;
+import gms.shared.stationdefinition.coi.channel.ChannelSegmentDescriptor;
 import gms.shared.stationdefinition.coi.facets.FacetingDefinition;
 import gms.shared.waveform.coi.ChannelSegment;
 import gms.shared.waveform.coi.Timeseries;
@@ -8,6 +9,8 @@ import gms.shared.waveform.coi.Waveform;
 import gms.shared.waveform.processingmask.coi.ProcessingMask;
 import gms.shared.waveform.qc.coi.QcSegment;
 import gms.shared.waveform.qc.coi.QcSegmentVersion;
+import java.util.Collection;
+import java.util.Map;
 
 /*
  * TODO: Evaluate if this interface is necessary and remove it if not. It has a single implementing class and is not
@@ -27,6 +30,19 @@ public interface WaveformFaceting {
       ChannelSegment<? extends Timeseries> initialChannelSegment,
       FacetingDefinition facetingDefinition);
 
+  /**
+   * Populate the {@link ChannelSegment}s according to the faceting definition, retrieving the
+   * channels they reference together
+   *
+   * @param initialChannelSegments the {@link ChannelSegment}s to facet
+   * @param facetingDefinition the {@link FacetingDefinition} defining the fields to facet value
+   * @return the faceted {@link ChannelSegment}s by their {@link ChannelSegmentDescriptor}s
+   */
+  Map<ChannelSegmentDescriptor, ChannelSegment<? extends Timeseries>>
+      populateFacetsForChannelSegments(
+          Collection<ChannelSegment<? extends Timeseries>> initialChannelSegments,
+          FacetingDefinition facetingDefinition);
+
   /**
    * Populate the {@link ChannelSegment} with the specified arch guidance each level will be covered
    * for each {@link ChannelSegment}
@@ -11,6 +11,7 @@ import gms.shared.stationdefinition.coi.channel.ChannelSegmentDescriptor;
 import gms.shared.stationdefinition.coi.facets.FacetingDefinition;
 import gms.shared.stationdefinition.facet.FacetingTypes;
 import gms.shared.stationdefinition.facet.StationDefinitionFacetingUtility;
+import gms.shared.stationdefinition.facet.StationDefinitionFacetingUtility.ChannelAtTime;
 import gms.shared.waveform.api.WaveformAccessor;
 import gms.shared.waveform.coi.ChannelSegment;
 import gms.shared.waveform.coi.MissingChannelTimeRangeListPair;
@@ -23,12 +24,14 @@ import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.SortedSet;
 import java.util.TreeSet;
+import java.util.function.BiFunction;
 import java.util.stream.Collectors;
 import org.apache.commons.lang3.NotImplementedException;
 import org.slf4j.Logger;
@@ -62,25 +65,73 @@ public class WaveformFacetingUtility implements WaveformFaceting {
       ChannelSegment<? extends Timeseries> initialChannelSegment,
       FacetingDefinition facetingDefinition) {
 
+    return populateFacets(
+        initialChannelSegment,
+        facetingDefinition,
+        (descriptor, channelFacetingDefinition) ->
+            stationDefinitionFacetingUtility.populateFacets(
+                descriptor.getChannel(), channelFacetingDefinition, descriptor.getCreationTime()));
+  }
+
+  @Override
+  public Map<ChannelSegmentDescriptor, ChannelSegment<? extends Timeseries>>
+      populateFacetsForChannelSegments(
+          Collection<ChannelSegment<? extends Timeseries>> initialChannelSegments,
+          FacetingDefinition facetingDefinition) {
+
     facetingNullCheck(
-        initialChannelSegment, facetingDefinition, ChannelSegment.class.getSimpleName());
-    checkState(
-        facetingDefinition.isPopulated(),
-        FacetingTypes.CHANNEL_SEGMENT_TYPE.getValue()
-            + " only supports populated = true at this time");
+        initialChannelSegments, facetingDefinition, ChannelSegment.class.getSimpleName());
+    checkChannelSegmentFacetingDefinition(facetingDefinition);
+
+    // a segment is faceted once, however many times it is referenced
+    Map<ChannelSegmentDescriptor, ChannelSegment<? extends Timeseries>> distinctSegments =
+        new LinkedHashMap<>();
+    initialChannelSegments.forEach(
+        segment -> distinctSegments.putIfAbsent(segment.getId(), segment));
 
+    // delegate the channel faceting of all the segments to StationDefinitionFacetingUtility at once
     var channelFacetingDefinition =
         facetingDefinition.getFacetingDefinitionByName(FacetingTypes.ID_CHANNEL_KEY.getValue());
+    Map<ChannelAtTime, Channel> facetedChannels =
+        channelFacetingDefinition.isPresent() && !distinctSegments.isEmpty()
+            ? stationDefinitionFacetingUtility.populateFacetsForChannels(
+                distinctSegments.keySet().stream()
+                    .map(
+                        descriptor ->
+                            new ChannelAtTime(
+                                descriptor.getChannel(), descriptor.getCreationTime()))
+                    .toList(),
+                channelFacetingDefinition.get())
+            : Map.of();
+
+    Map<ChannelSegmentDescriptor, ChannelSegment<? extends Timeseries>> facetedSegments =
+        new LinkedHashMap<>();
+    distinctSegments.forEach(
+        (descriptor, segment) ->
+            facetedSegments.put(
+                descriptor,
+                populateFacets(
+                    segment,
+                    facetingDefinition,
+                    (segmentDescriptor, segmentChannelFacetingDefinition) ->
+                        facetedChannels.get(
+                            new ChannelAtTime(
+                                segmentDescriptor.getChannel(),
+                                segmentDescriptor.getCreationTime())))));
+    return facetedSegments;
+  }
 
-    // validate facetingDefinition types passed in
-    if (!facetingDefinition.getFacetingDefinitions().isEmpty()) {
-      checkState(
-          facetingDefinition.getFacetingDefinitions().size() == 1,
-          "Only valid faceting definition is: "
-              + FacetingTypes.CHANNEL_SEGMENT_TYPE.getValue()
-              + ". Found:"
-              + facetingDefinition.getFacetingDefinitions());
-    }
+  private ChannelSegment<? extends Timeseries> populateFacets(
+      ChannelSegment<? extends Timeseries> initialChannelSegment,
+      FacetingDefinition facetingDefinition,
+      BiFunction<ChannelSegmentDescriptor, FacetingDefinition, Channel> channelFaceting) {
+
+    facetingNullCheck(
+        initialChannelSegment, facetingDefinition, ChannelSegment.class.getSimpleName());
+    checkChannelSegmentFacetingDefinition(facetingDefinition);
+
+    var channelFacetingDefinition =
+        facetingDefinition.getFacetingDefinitionByName(FacetingTypes.ID_CHANNEL_KEY.getValue());
 
     var facetedProcMask =
         getChannelSegmentFacetedProcessingMask(initialChannelSegment, facetingDefinition);
@@ -94,10 +145,7 @@ public class WaveformFacetingUtility implements WaveformFaceting {
 
       // delegate channelFaceting to StationDefinitionFacetingUtility
       var facetedChannel =
-          stationDefinitionFacetingUtility.populateFacets(
-              initialChannelSegment.getId().getChannel(),
-              channelFacetingDefinition.get(),
-              initialChannelSegment.getId().getCreationTime());
+          channelFaceting.apply(initialChannelSegment.getId(), channelFacetingDefinition.get());
       return ChannelSegment.from(
           facetedChannel,
           initialChannelSegment.getUnits(),
@@ -123,6 +171,23 @@ public class WaveformFacetingUtility implements WaveformFaceting {
     }
   }
 
+  private static void checkChannelSegmentFacetingDefinition(FacetingDefinition facetingDefinition) {
+    checkState(
+        facetingDefinition.isPopulated(),
+        FacetingTypes.CHANNEL_SEGMENT_TYPE.getValue()
+            + " only supports populated = true at this time");
+
+    // validate facetingDefinition types passed in
+    if (!facetingDefinition.getFacetingDefinitions().isEmpty()) {
+      checkState(
+          facetingDefinition.getFacetingDefinitions().size() == 1,
+          "Only valid faceting definition is: "
+              + FacetingTypes.CHANNEL_SEGMENT_TYPE.getValue()
+              + ". Found:"
+              + facetingDefinition.getFacetingDefinitions());
+    }
+  }
+
   /**
    * Populate the input {@link ChannelSegment} according to the {@link FacetingDefinition}
    *
@@ -10,6 +10,8 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
 import gms.shared.event.coi.EventTestFixtures;
@@ -22,6 +24,7 @@ import gms.shared.stationdefinition.facet.FacetingTypes;
 import gms.shared.stationdefinition.testfixtures.DefaultCoiTestFixtures;
 import gms.shared.waveform.api.WaveformAccessor;
 import gms.shared.waveform.coi.ChannelSegment;
+import gms.shared.waveform.coi.Timeseries;
 import gms.shared.waveform.coi.Waveform;
 import gms.shared.waveform.processingmask.coi.ProcessingMask;
 import gms.shared.waveform.qc.coi.QcSegmentVersion;
@@ -154,6 +157,44 @@ class WaveformFacetingUtilityTest {
     assertEquals(expectedResult, resultChannelSegment.getId().getChannel().isPresent());
   }
 
+  @Test
+  void testPopulateFacetsForChannelSegments() {
+    var channel = CHANNEL_SEGMENT_NO_CHANNEL_DATA.getId().getChannel();
+    var creationTime = CHANNEL_SEGMENT_NO_CHANNEL_DATA.getId().getCreationTime();
+    var laterCreationTime = creationTime.plus(1, ChronoUnit.HOURS);
+    ChannelSegment<Waveform> laterSegment =
+        ChannelSegment.from(
+            channel,
+            CHANNEL_SEGMENT_NO_CHANNEL_DATA.getUnits(),
+            CHANNEL_SEGMENT_NO_CHANNEL_DATA.getTimeseries(),
+            laterCreationTime,
+            List.of(),
+            Map.of());
+    var laterChannel =
+        CHANNEL.toBuilder().setEffectiveAt(creationTime.plus(30, ChronoUnit.MINUTES)).build();
+
+    // both versions are retrieved with one query spanning the segments' creation times
+    when(stationDefinitionAccessorImpl.findChannelsByNameAndTimeRange(
+            List.of(channel.getName()), creationTime, laterCreationTime))
+        .thenReturn(List.of(CHANNEL, laterChannel));
+
+    // a segment referenced twice is faceted once
+    List<ChannelSegment<? extends Timeseries>> segments =
+        List.of(CHANNEL_SEGMENT_NO_CHANNEL_DATA, CHANNEL_SEGMENT_NO_CHANNEL_DATA, laterSegment);
+    var faceted =
+        facetingUtil.populateFacetsForChannelSegments(
+            segments, WaveformRequestTestFixtures.channelSegmentFacetingDefinition);
+
+    assertEquals(2, faceted.size());
+    assertEquals(
+        CHANNEL, faceted.get(CHANNEL_SEGMENT_NO_CHANNEL_DATA.getId()).getId().getChannel());
+    assertEquals(laterChannel, faceted.get(laterSegment.getId()).getId().getChannel());
+    verify(stationDefinitionAccessorImpl)
+        .findChannelsByNameAndTimeRange(
+            List.of(channel.getName()), creationTime, laterCreationTime);
+    verifyNoMoreInteractions(stationDefinitionAccessorImpl);
+  }
+
   static Stream<Arguments> getPopulateChannelSegmentFacetsArguments() {
     return Stream.of(
         arguments(
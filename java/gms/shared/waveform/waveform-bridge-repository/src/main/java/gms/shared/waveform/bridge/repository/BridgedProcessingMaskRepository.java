@@ -15,7 +15,6 @@ import gms.shared.waveform.qc.coi.QcSegmentVersionId;
 import java.time.Instant;
 import java.util.Collection;
 import java.util.List;
-import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Collectors;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -44,10 +43,7 @@ public class BridgedProcessingMaskRepository implements ProcessingMaskRepository
 
     checkNotNull(idList, "Input ID list must not be null");
 
-    return idList.stream()
-        .map(bridgedProcessingMaskCache::findById)
-        .flatMap(Optional::stream)
-        .toList();
+    return bridgedProcessingMaskCache.findByIds(idList);
   }
 
   /**
@@ -33,12 +33,14 @@ import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -79,6 +81,7 @@ public class BridgedWaveformRepository implements WaveformRepository {
   private final EventIdUtility eventIdUtility;
   private final BridgedChannelRepository bridgedChannelRepository;
   private final EventRepository eventRepository;
+  private final WaveformBlockCache waveformBlockCache;
 
   @Autowired
   public BridgedWaveformRepository(
@@ -91,7 +94,8 @@ public class BridgedWaveformRepository implements WaveformRepository {
       ProcessingMaskLoader processingMaskLoader,
       Environment environment,
       EventIdUtility eventIdUtility,
-      @Qualifier("bridgedEventRepository") @Lazy EventRepository eventRepository) {
+      @Qualifier("bridgedEventRepository") @Lazy EventRepository eventRepository,
+      WaveformBlockCache waveformBlockCache) {
     this.wfdiscDatabaseConnector = wfdiscDatabaseConnector;
     this.bridgedChannelRepository = bridgedChannelRepository;
     this.converter = converter;
@@ -101,6 +105,7 @@ public class BridgedWaveformRepository implements WaveformRepository {
     this.environment = environment;
     this.eventIdUtility = eventIdUtility;
     this.eventRepository = eventRepository;
+    this.waveformBlockCache = waveformBlockCache;
   }
 
   @Override
@@ -108,6 +113,30 @@ public class BridgedWaveformRepository implements WaveformRepository {
   public Collection<ChannelSegment<Waveform>> findByChannelsAndTimeRange(
       Set<Channel> channels, Instant startTime, Instant endTime) {
 
+    var waveforms =
+        waveformBlockCache.findByChannelsAndTimeRange(
+            channels, startTime, endTime, this::readByChannelsAndTimeRange);
+
+    LOGGER.info("Returning {} waveforms", waveforms.size());
+    return waveforms;
+  }
+
+  /**
+   * Reads the waveforms of channels over a time range from the wfdiscs and their .w files,
+   * bypassing the {@link WaveformBlockCache}
+   *
+   * @param channels channels to read
+   * @param startTime start of the time range
+   * @param endTime end of the time range
+   * @param failedReadListener accepts each channel with a .w file that could not be read
+   * @return the channel segments read
+   */
+  private Collection<ChannelSegment<Waveform>> readByChannelsAndTimeRange(
+      Set<Channel> channels,
+      Instant startTime,
+      Instant endTime,
+      Consumer<Channel> failedReadListener) {
+
     // load wfdisc associated with channels and timerange parameter list
     List<SiteChanKey> siteChanList =
         channels.stream()
@@ -158,14 +187,10 @@ public class BridgedWaveformRepository implements WaveformRepository {
                 Collectors.groupingBy(
                     Pair::getLeft, Collectors.mapping(Pair::getRight, Collectors.toList())));
     channelListMap.forEach(channelWfdiscDaoMultimap::putAll);
-    var waveforms =
-        channelSegmentLogger.apply(
-            this.getClass().getSimpleName() + "::createWaveforms",
-            () -> createWaveforms(channelWfdiscDaoMultimap, startTime, endTime),
-            environment.getActiveProfiles());
-
-    LOGGER.info("Returning {} waveforms", waveforms.size());
-    return waveforms;
+    return channelSegmentLogger.apply(
+        this.getClass().getSimpleName() + "::createWaveforms",
+        () -> createWaveforms(channelWfdiscDaoMultimap, startTime, endTime, failedReadListener),
+        environment.getActiveProfiles());
   }
 
   /**
@@ -178,18 +203,32 @@ public class BridgedWaveformRepository implements WaveformRepository {
    */
   public Collection<ChannelSegment<Waveform>> createWaveforms(
       Multimap<Channel, WfdiscDao> channelWfdiscDaoMultimap, Instant startTime, Instant endTime) {
+    return createWaveforms(channelWfdiscDaoMultimap, startTime, endTime, channel -> {});
+  }
 
-    return channelWfdiscDaoMultimap.keySet().stream()
-        .parallel()
-        .map(
-            channel ->
-                converter.convert(
-                    channel,
-                    new ArrayList<>(channelWfdiscDaoMultimap.get(channel)),
-                    startTime,
-                    endTime))
-        .filter(Objects::nonNull)
-        .toList();
+  /**
+   * converts Channel, WfDisc map to ChannelSegment<Waveform>, reporting the channels with a .w file
+   * that could not be read; must be public to allow Timing aspect
+   *
+   * @param channelWfdiscDaoMultimap map containing channels to wfdisc
+   * @param startTime time to start the waveform
+   * @param endTime time to end the waveform
+   * @param failedReadListener accepts each channel with a .w file that could not be read
+   * @return the converted channel segments
+   */
+  public Collection<ChannelSegment<Waveform>> createWaveforms(
+      Multimap<Channel, WfdiscDao> channelWfdiscDaoMultimap,
+      Instant startTime,
+      Instant endTime,
+      Consumer<Channel> failedReadListener) {
+
+    Map<Channel, List<WfdiscDao>> wfdiscDaosByChannel = new LinkedHashMap<>();
+    channelWfdiscDaoMultimap
+        .asMap()
+        .forEach(
+            (channel, wfdiscDaos) -> wfdiscDaosByChannel.put(channel, List.copyOf(wfdiscDaos)));
+
+    return converter.convert(wfdiscDaosByChannel, startTime, endTime, failedReadListener);
   }
 
   /**
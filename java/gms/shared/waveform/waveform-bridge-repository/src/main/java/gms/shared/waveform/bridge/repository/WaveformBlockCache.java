@@ -0,0 +1,426 @@
+package gms.shared.waveform.bridge.repository;
+
+import com.google.common.base.Preconditions;
+import com.google.common.base.Ticker;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalNotification;
+import gms.shared.metrics.CustomMetric;
+import gms.shared.stationdefinition.coi.channel.Channel;
+import gms.shared.stationdefinition.coi.utils.Units;
+import gms.shared.waveform.coi.ChannelSegment;
+import gms.shared.waveform.coi.Waveform;
+import gms.shared.waveform.coi.util.TimeseriesUtility;
+import gms.shared.waveform.coi.util.WaveformUtility;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Size-bounded cache of calibrated waveform samples, held as fixed-duration blocks aligned to the
+ * epoch. Each block is keyed by channel name and block index and holds the samples of every channel
+ * version (effective-at) with data in the block, so that a channel and time range request is
+ * assembled from cached blocks and only the blocks missing from the cache are read. Blocks that end
+ * less than the settle duration ago are not cached, as their data may still be arriving.
+ *
+ * <p>Cached blocks expire after the time to live, so that data loaded or corrected after a block
+ * was read is eventually seen. Blocks with no data expire after the shorter gap time to live, and
+ * the blocks of a channel with a .w file that could not be read are not cached at all.
+ */
+@Component
+public class WaveformBlockCache {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(WaveformBlockCache.class);
+
+  private static final CustomMetric<Long, Long> waveformBlockCacheHits =
+      CustomMetric.create(CustomMetric::updateTimingData, "waveformBlockCache_hits:type=Value", 0L);
+
+  private static final CustomMetric<Long, Long> waveformBlockCacheMisses =
+      CustomMetric.create(
+          CustomMetric::updateTimingData, "waveformBlockCache_misses:type=Value", 0L);
+
+  private static final CustomMetric<Long, Long> waveformBlockCacheHitRate =
+      CustomMetric.create(
+          CustomMetric::updateTimingData, "waveformBlockCache_hitRatePercent:type=Value", 0L);
+
+  private static final CustomMetric<Long, Long> waveformBlockCacheBytesResident =
+      CustomMetric.create(
+          CustomMetric::updateTimingData, "waveformBlockCache_bytesResident:type=Value", 0L);
+
+  private static final int BYTES_PER_MEGABYTE = 1024 * 1024;
+  private static final double SAMPLE_RATE_TOLERANCE = 1;
+  private static final double SAMPLE_DIFF_ALLOWED = 1.5;
+  private static final double SAMPLE_INDEX_TOLERANCE = 1.0e-3;
+
+  private final long blockSeconds;
+  private final Duration settleDuration;
+  private final Duration gapTimeToLive;
+  private final Clock clock;
+  private final Cache<BlockKey, Block> blocks;
+  private final AtomicLong hits = new AtomicLong();
+  private final AtomicLong misses = new AtomicLong();
+  private final AtomicLong bytesResident = new AtomicLong();
+
+  @Autowired
+  public WaveformBlockCache(
+      @Value("${waveform.block-cache.block-seconds:60}") long blockSeconds,
+      @Value("${waveform.block-cache.settle-seconds:600}") long settleSeconds,
+      @Value("${waveform.block-cache.ttl-seconds:3600}") long ttlSeconds,
+      @Value("${waveform.block-cache.gap-ttl-seconds:60}") long gapTtlSeconds,
+      @Value("${waveform.block-cache.max-megabytes:512}") long maxMegabytes) {
+    this(
+        blockSeconds,
+        settleSeconds,
+        ttlSeconds,
+        gapTtlSeconds,
+        maxMegabytes * BYTES_PER_MEGABYTE,
+        Clock.systemUTC());
+  }
+
+  WaveformBlockCache(
+      long blockSeconds,
+      long settleSeconds,
+      long ttlSeconds,
+      long gapTtlSeconds,
+      long maxBytes,
+      Clock clock) {
+    Preconditions.checkArgument(blockSeconds > 0, "Block duration must be positive");
+    Preconditions.checkArgument(settleSeconds >= 0, "Settle duration cannot be negative");
+    Preconditions.checkArgument(ttlSeconds > 0, "Time to live must be positive");
+    Preconditions.checkArgument(gapTtlSeconds >= 0, "Gap time to live cannot be negative");
+    Preconditions.checkArgument(
+        gapTtlSeconds <= ttlSeconds, "Gap time to live cannot exceed the time to live");
+    Preconditions.checkArgument(maxBytes >= 0, "Max cache size cannot be negative");
+
+    this.blockSeconds = blockSeconds;
+    this.settleDuration = Duration.ofSeconds(settleSeconds);
+    this.gapTimeToLive = Duration.ofSeconds(gapTtlSeconds);
+    this.clock = clock;
+    if (maxBytes == 0) {
+      this.blocks = null;
+    } else {
+      this.blocks =
+          CacheBuilder.newBuilder()
+              .maximumWeight(maxBytes)
+              .weigher((BlockKey key, Block block) -> block.weight())
+              .expireAfterWrite(ttlSeconds, TimeUnit.SECONDS)
+              .ticker(
+                  new Ticker() {
+                    @Override
+                    public long read() {
+                      return TimeUnit.MILLISECONDS.toNanos(clock.millis());
+                    }
+                  })
+              .removalListener(this::onRemoval)
+              .build();
+    }
+  }
+
+  /**
+   * Reads the waveforms of channels over a time range, taking whole blocks from the cache where
+   * they are present and reading the missing blocks, block-aligned, for all channels missing any
+   * block in one call to the reader. A cache with a maximum size of zero passes every request
+   * through to the reader. Blocks of channels the reader reports a failed read for are returned
+   * but not cached.
+   *
+   * @param channels the channels to read; samples are assembled by channel name
+   * @param startTime the start of the time range
+   * @param endTime the end of the time range, inclusive
+   * @param reader reads the channel segments of channels over a time range
+   * @return the channel segments of each channel version with data in the time range
+   */
+  public Collection<ChannelSegment<Waveform>> findByChannelsAndTimeRange(
+      Set<Channel> channels, Instant startTime, Instant endTime, ChannelSegmentReader reader) {
+
+    if (blocks == null) {
+      return reader.read(channels, startTime, endTime, channel -> {});
+    }
+
+    var firstBlock = blockIndex(startTime);
+    var lastBlock = blockIndex(endTime);
+
+    Map<String, Map<Long, Block>> blocksByChannelName = new LinkedHashMap<>();
+    Set<Channel> missedChannels = new HashSet<>();
+    var firstMissedBlock = Long.MAX_VALUE;
+    var lastMissedBlock = Long.MIN_VALUE;
+    long blockHits = 0;
+    long blockMisses = 0;
+
+    var now = clock.instant();
+    for (var channel : channels) {
+      var channelBlocks =
+          blocksByChannelName.computeIfAbsent(channel.getName(), name -> new HashMap<>());
+      for (var index = firstBlock; index <= lastBlock; index++) {
+        var key = new BlockKey(channel.getName(), index);
+        var block = blocks.getIfPresent(key);
+        if (block != null && block.isGap() && !now.isBefore(block.readAt().plus(gapTimeToLive))) {
+          blocks.asMap().remove(key, block);
+          block = null;
+        }
+
+        if (block != null) {
+          channelBlocks.put(index, block);
+          blockHits++;
+        } else {
+          missedChannels.add(channel);
+          firstMissedBlock = Math.min(firstMissedBlock, index);
+          lastMissedBlock = Math.max(lastMissedBlock, index);
+          blockMisses++;
+        }
+      }
+    }
+
+    if (!missedChannels.isEmpty()) {
+      Set<String> failedChannelNames = ConcurrentHashMap.newKeySet();
+      var readSegments =
+          reader.read(
+              missedChannels,
+              blockStart(firstMissedBlock),
+              blockStart(lastMissedBlock + 1),
+              channel -> failedChannelNames.add(channel.getName()));
+      var readBlocks =
+          toBlocks(readSegments, missedChannels, firstMissedBlock, lastMissedBlock, now);
+      var settledBefore = now.minus(settleDuration);
+      readBlocks.forEach(
+          (key, block) -> {
+            blocksByChannelName.get(key.channelName()).put(key.index(), block);
+            if (isCacheable(key, block, settledBefore, failedChannelNames)) {
+              bytesResident.addAndGet(block.weight());
+              blocks.put(key, block);
+            }
+          });
+      if (!failedChannelNames.isEmpty()) {
+        LOGGER.warn("Not caching the blocks of channels with failed reads: {}", failedChannelNames);
+      }
+    }
+
+    recordLookups(blockHits, blockMisses);
+    LOGGER.debug(
+        "Assembled {} channels from {} cached and {} read blocks",
+        blocksByChannelName.size(),
+        blockHits,
+        blockMisses);
+
+    return blocksByChannelName.entrySet().stream()
+        .flatMap(
+            entry ->
+                assemble(entry.getKey(), entry.getValue().values(), startTime, endTime).stream())
+        .toList();
+  }
+
+  long blockIndex(Instant time) {
+    return Math.floorDiv(time.getEpochSecond(), blockSeconds);
+  }
+
+  Instant blockStart(long index) {
+    return Instant.ofEpochSecond(index * blockSeconds);
+  }
+
+  long bytesResident() {
+    return bytesResident.get();
+  }
+
+  private boolean isCacheable(
+      BlockKey key, Block block, Instant settledBefore, Set<String> failedChannelNames) {
+    return !blockStart(key.index() + 1).isAfter(settledBefore)
+        && !failedChannelNames.contains(key.channelName())
+        && !(block.isGap() && gapTimeToLive.isZero());
+  }
+
+  /**
+   * Splits freshly read channel segments into blocks. Every block of the read span is created for
+   * every channel read, including blocks with no data, so that gaps are cached as well.
+   */
+  private Map<BlockKey, Block> toBlocks(
+      Collection<ChannelSegment<Waveform>> readSegments,
+      Set<Channel> readChannels,
+      long firstIndex,
+      long lastIndex,
+      Instant readAt) {
+
+    Map<BlockKey, List<BlockSegment>> segmentsByKey = new LinkedHashMap<>();
+    for (var channel : readChannels) {
+      for (var index = firstIndex; index <= lastIndex; index++) {
+        segmentsByKey.putIfAbsent(new BlockKey(channel.getName(), index), new ArrayList<>());
+      }
+    }
+
+    for (var segment : readSegments) {
+      var channel = segment.getId().getChannel();
+      var effectiveAt = channel.getEffectiveAt().orElseThrow();
+      for (var index = firstIndex; index <= lastIndex; index++) {
+        var blockSegments = segmentsByKey.get(new BlockKey(channel.getName(), index));
+        if (blockSegments == null) {
+          LOGGER.debug("Read channel {} was not requested", channel.getName());
+          break;
+        }
+
+        var blockStart = blockStart(index);
+        var blockEnd = blockStart(index + 1);
+        var waveforms =
+            segment.getTimeseries().stream()
+                .map(waveform -> slice(waveform, blockStart, blockEnd))
+                .flatMap(Optional::stream)
+                .toList();
+        if (!waveforms.isEmpty()) {
+          blockSegments.add(new BlockSegment(effectiveAt, segment.getUnits(), waveforms));
+        }
+      }
+    }
+
+    return segmentsByKey.entrySet().stream()
+        .collect(
+            Collectors.toMap(
+                Map.Entry::getKey,
+                entry -> Block.of(List.copyOf(entry.getValue()), readAt),
+                (first, second) -> first,
+                LinkedHashMap::new));
+  }
+
+  /**
+   * Takes the samples of a waveform at or after the block start and before the block end. The
+   * boundary index is computed the same way for both blocks sharing it, so each sample lands in
+   * exactly one block.
+   */
+  private static Optional<Waveform> slice(Waveform waveform, Instant blockStart, Instant blockEnd) {
+    var from = sampleIndex(waveform, blockStart);
+    var to = sampleIndex(waveform, blockEnd);
+    if (from >= to) {
+      return Optional.empty();
+    } else if (from == 0 && to == waveform.getSampleCount()) {
+      return Optional.of(waveform);
+    }
+    return Optional.of(
+        Waveform.create(
+            waveform.computeSampleTime(from),
+            waveform.getSampleRateHz(),
+            Arrays.copyOfRange(waveform.getSamples(), from, to)));
+  }
+
+  private static int sampleIndex(Waveform waveform, Instant time) {
+    // sample times are truncated to the nanosecond, so a sample within a small fraction of a
+    // sample period of the time is taken to be at the time
+    var samplesToTime =
+        Duration.between(waveform.getStartTime(), time).toNanos()
+            * waveform.getSampleRateHz()
+            / 1.0e9;
+    var index = Math.ceil(samplesToTime - SAMPLE_INDEX_TOLERANCE);
+    return (int) Math.min(Math.max(index, 0), waveform.getSampleCount());
+  }
+
+  /** Joins the blocks of a channel back into one channel segment per channel version and units */
+  private static List<ChannelSegment<Waveform>> assemble(
+      String channelName, Collection<Block> channelBlocks, Instant startTime, Instant endTime) {
+
+    Map<BlockSegmentVersion, List<Waveform>> waveformsByVersion = new LinkedHashMap<>();
+    channelBlocks.stream()
+        .flatMap(block -> block.segments().stream())
+        .forEach(
+            segment ->
+                waveformsByVersion
+                    .computeIfAbsent(
+                        new BlockSegmentVersion(segment.effectiveAt(), segment.units()),
+                        version -> new ArrayList<>())
+                    .addAll(segment.waveforms()));
+
+    List<ChannelSegment<Waveform>> channelSegments = new ArrayList<>();
+    waveformsByVersion.forEach(
+        (version, waveforms) -> {
+          var trimmed =
+              WaveformUtility.mergeWaveforms(waveforms, SAMPLE_RATE_TOLERANCE, SAMPLE_DIFF_ALLOWED)
+                  .stream()
+                  .filter(
+                      waveform ->
+                          !waveform.getEndTime().isBefore(startTime)
+                              && !waveform.getStartTime().isAfter(endTime))
+                  .map(waveform -> waveform.trim(startTime, endTime))
+                  .sorted()
+                  .toList();
+          if (!trimmed.isEmpty()) {
+            channelSegments.add(
+                ChannelSegment.from(
+                    Channel.createVersionReference(channelName, version.effectiveAt()),
+                    version.units(),
+                    trimmed,
+                    TimeseriesUtility.computeSpan(trimmed).lowerEndpoint(),
+                    List.of(),
+                    Map.of()));
+          }
+        });
+    return channelSegments;
+  }
+
+  private void onRemoval(RemovalNotification<BlockKey, Block> removal) {
+    bytesResident.addAndGet(-removal.getValue().weight());
+  }
+
+  private synchronized void recordLookups(long blockHits, long blockMisses) {
+    var totalHits = hits.addAndGet(blockHits);
+    var totalMisses = misses.addAndGet(blockMisses);
+    waveformBlockCacheHits.updateMetric(totalHits);
+    waveformBlockCacheMisses.updateMetric(totalMisses);
+    if (totalHits + totalMisses > 0) {
+      waveformBlockCacheHitRate.updateMetric(100 * totalHits / (totalHits + totalMisses));
+    }
+    waveformBlockCacheBytesResident.updateMetric(bytesResident.get());
+  }
+
+  /**
+   * Reads the channel segments of channels over a time range, bypassing the cache, and reports the
+   * channels whose data could not all be read
+   */
+  @FunctionalInterface
+  public interface ChannelSegmentReader {
+    Collection<ChannelSegment<Waveform>> read(
+        Set<Channel> channels,
+        Instant startTime,
+        Instant endTime,
+        Consumer<Channel> failedReadListener);
+  }
+
+  private record BlockKey(String channelName, long index) {}
+
+  private record BlockSegmentVersion(Instant effectiveAt, Units units) {}
+
+  private record BlockSegment(Instant effectiveAt, Units units, List<Waveform> waveforms) {}
+
+  private record Block(List<BlockSegment> segments, int weight, Instant readAt) {
+
+    private static final int OVERHEAD_BYTES = 64;
+
+    private static Block of(List<BlockSegment> segments, Instant readAt) {
+      var bytes =
+          OVERHEAD_BYTES
+              + segments.stream()
+                  .flatMap(segment -> segment.waveforms().stream())
+                  .mapToLong(
+                      waveform -> OVERHEAD_BYTES + (long) Double.BYTES * waveform.getSampleCount())
+                  .sum();
+      return new Block(segments, (int) Math.min(bytes, Integer.MAX_VALUE), readAt);
+    }
+
+    private boolean isGap() {
+      return segments.isEmpty();
+    }
+  }
+}
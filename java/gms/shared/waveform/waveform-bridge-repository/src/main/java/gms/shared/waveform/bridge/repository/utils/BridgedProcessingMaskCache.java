@@ -3,9 +3,11 @@ package gms.shared.waveform.bridge.repository.utils;
 import static com.google.common.base.Preconditions.checkNotNull;
 
 import gms.shared.frameworks.cache.utils.CacheInfo;
+import gms.shared.frameworks.cache.utils.IgniteBulkLookup;
 import gms.shared.frameworks.cache.utils.IgniteConnectionManager;
 import gms.shared.waveform.processingmask.coi.ProcessingMask;
 import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import org.apache.ignite.IgniteCache;
@@ -54,4 +56,18 @@ public class BridgedProcessingMaskCache {
 
     return Optional.ofNullable(bridgedProcessingMaskIgniteCache.get(id));
   }
+
+  /**
+   * Retrieves the {@link ProcessingMask}s with the provided {@link UUID}s in bulk
+   *
+   * @param ids {@link UUID}s of the {@link ProcessingMask}s to be retrieved
+   * @return the retrieved {@link ProcessingMask}s, in the order of their ids; ids with no cached
+   *     {@link ProcessingMask} are omitted
+   * @throws NullPointerException if ids is null
+   */
+  public List<ProcessingMask> findByIds(Collection<UUID> ids) {
+    checkNotNull(ids);
+
+    return List.copyOf(IgniteBulkLookup.getAll(bridgedProcessingMaskIgniteCache, ids).values());
+  }
 }
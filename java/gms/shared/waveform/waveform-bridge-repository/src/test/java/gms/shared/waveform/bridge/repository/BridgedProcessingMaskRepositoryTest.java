@@ -22,7 +22,6 @@ import gms.shared.waveform.testfixture.WaveformTestFixtures;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.List;
-import java.util.Optional;
 import java.util.UUID;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -59,7 +58,8 @@ class BridgedProcessingMaskRepositoryTest {
     var uuid = UUID.fromString("00000001-001-0001-0001-000000000001");
     var processingMaskItem = ProcessingMask.createEntityReference(uuid);
 
-    when(bridgedProcessingMaskCache.findById(any())).thenReturn(Optional.of(processingMaskItem));
+    when(bridgedProcessingMaskCache.findByIds(List.of(uuid)))
+        .thenReturn(List.of(processingMaskItem));
     var procMaskList = bridgedProcessingMaskRepository.findProcessingMasksByIds(List.of(uuid));
     assertEquals(List.of(processingMaskItem), procMaskList);
   }
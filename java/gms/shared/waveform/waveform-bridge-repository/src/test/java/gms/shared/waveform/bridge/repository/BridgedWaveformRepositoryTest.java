@@ -22,9 +22,10 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
-import static org.mockito.ArgumentMatchers.refEq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
@@ -87,6 +88,7 @@ import org.mockito.ArgumentMatchers;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.core.env.Environment;
@@ -112,6 +114,9 @@ class BridgedWaveformRepositoryTest {
 
   @Mock private SystemConfig systemConfig;
 
+  // a cache with no capacity reads every request through to the repository
+  @Spy private WaveformBlockCache waveformBlockCache = new WaveformBlockCache(60, 0, 3600, 60, 0);
+
   static Stream<Arguments> getFindByChannelsAndTimeRangeArguments() {
     return Stream.of(
         arguments(
@@ -362,6 +367,7 @@ class BridgedWaveformRepositoryTest {
         .findWfdiscsByNameAndTimeRange(
             any(Collection.class), eq(request.getStartTime()), eq(request.getEndTime()));
 
+    List<ChannelSegment<Waveform>> convertedChannelSegments = new ArrayList<>();
     findChannelsByNameAndTimeArgs.stream()
         .forEach(
             channelRequestPair -> {
@@ -400,11 +406,25 @@ class BridgedWaveformRepositoryTest {
                                 .setMissingInputChannels(Set.of())
                                 .build())
                         .build();
-                doReturn(channelSegment)
-                    .when(channelSegmentConverter)
-                    .convert(refEq(channel.get(i), "data"), any(), any(), any());
+                convertedChannelSegments.add(channelSegment);
               }
             });
+    doAnswer(
+            invocation -> {
+              Map<Channel, List<WfdiscDao>> wfdiscDaosByChannel = invocation.getArgument(0);
+              return convertedChannelSegments.stream()
+                  .filter(
+                      channelSegment ->
+                          wfdiscDaosByChannel.keySet().stream()
+                              .anyMatch(
+                                  channel ->
+                                      channel
+                                          .getName()
+                                          .equals(channelSegment.getId().getChannel().getName())))
+                  .toList();
+            })
+        .when(channelSegmentConverter)
+        .convert(anyMap(), any(), any(), any());
     doReturn(new String[] {}).when(environment).getActiveProfiles();
 
     Collection<ChannelSegment<Waveform>> channelSegResult =
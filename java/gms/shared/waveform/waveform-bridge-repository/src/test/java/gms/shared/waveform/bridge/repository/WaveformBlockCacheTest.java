@@ -0,0 +1,304 @@
+package gms.shared.waveform.bridge.repository;
+
+import static gms.shared.waveform.testfixture.WaveformRequestTestFixtures.WAVEFORM_CHANNEL;
+import static gms.shared.waveform.testfixture.WaveformRequestTestFixtures.WAVEFORM_CHANNEL_2;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import gms.shared.stationdefinition.coi.channel.Channel;
+import gms.shared.stationdefinition.coi.utils.Units;
+import gms.shared.waveform.coi.ChannelSegment;
+import gms.shared.waveform.bridge.repository.WaveformBlockCache.ChannelSegmentReader;
+import gms.shared.waveform.coi.Waveform;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+import org.apache.commons.lang3.tuple.Triple;
+import org.junit.jupiter.api.Test;
+
+class WaveformBlockCacheTest {
+
+  private static final double SAMPLE_RATE = 40.0;
+  private static final Instant NOW = Instant.EPOCH.plus(Duration.ofHours(1));
+  private static final Clock CLOCK = Clock.fixed(NOW, ZoneOffset.UTC);
+
+  // one hour of samples, each sample holding its own index
+  private static final Waveform SOURCE =
+      Waveform.create(
+          Instant.EPOCH,
+          SAMPLE_RATE,
+          IntStream.range(0, 144_001).mapToDouble(index -> index).toArray());
+
+  private final List<Triple<Set<Channel>, Instant, Instant>> reads = new ArrayList<>();
+
+  @Test
+  void testValidation() {
+    assertThrows(
+        IllegalArgumentException.class, () -> new WaveformBlockCache(0, 0, 3600, 60, 1024, CLOCK));
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> new WaveformBlockCache(60, -1, 3600, 60, 1024, CLOCK));
+    assertThrows(
+        IllegalArgumentException.class, () -> new WaveformBlockCache(60, 0, 0, 0, 1024, CLOCK));
+    assertThrows(
+        IllegalArgumentException.class, () -> new WaveformBlockCache(60, 0, 3600, -1, 1024, CLOCK));
+    assertThrows(
+        IllegalArgumentException.class, () -> new WaveformBlockCache(60, 0, 60, 3600, 1024, CLOCK));
+    assertThrows(
+        IllegalArgumentException.class, () -> new WaveformBlockCache(60, 0, 3600, 60, -1, CLOCK));
+  }
+
+  @Test
+  void testDisabledCacheReadsThrough() {
+    var cache = new WaveformBlockCache(60, 0, 3600, 60, 0, CLOCK);
+    var start = Instant.EPOCH.plusSeconds(30);
+    var end = Instant.EPOCH.plusSeconds(150);
+
+    cache.findByChannelsAndTimeRange(Set.of(WAVEFORM_CHANNEL), start, end, this::read);
+    cache.findByChannelsAndTimeRange(Set.of(WAVEFORM_CHANNEL), start, end, this::read);
+
+    assertEquals(
+        List.of(
+            Triple.of(Set.of(WAVEFORM_CHANNEL), start, end),
+            Triple.of(Set.of(WAVEFORM_CHANNEL), start, end)),
+        reads);
+    assertEquals(0, cache.bytesResident());
+  }
+
+  @Test
+  void testRepeatedRequestAssembledFromCache() {
+    var cache = new WaveformBlockCache(60, 0, 3600, 60, 1024 * 1024, CLOCK);
+    var start = Instant.EPOCH.plusSeconds(30);
+    var end = Instant.EPOCH.plusSeconds(150);
+
+    var first = cache.findByChannelsAndTimeRange(Set.of(WAVEFORM_CHANNEL), start, end, this::read);
+    var second =
+        cache.findByChannelsAndTimeRange(Set.of(WAVEFORM_CHANNEL), start, end, this::read);
+
+    // the blocks are read aligned, once
+    assertEquals(
+        List.of(
+            Triple.of(Set.of(WAVEFORM_CHANNEL), Instant.EPOCH, Instant.EPOCH.plusSeconds(180))),
+        reads);
+    assertSamples(first, start, end);
+    assertSamples(second, start, end);
+    assertTrue(cache.bytesResident() >= 3 * 60 * SAMPLE_RATE * Double.BYTES);
+  }
+
+  @Test
+  void testMissingBlocksRead() {
+    var cache = new WaveformBlockCache(60, 0, 3600, 60, 1024 * 1024, CLOCK);
+    cache.findByChannelsAndTimeRange(
+        Set.of(WAVEFORM_CHANNEL),
+        Instant.EPOCH,
+        Instant.EPOCH.plusSeconds(90),
+        this::read);
+    reads.clear();
+
+    var start = Instant.EPOCH.plusSeconds(75);
+    var end = Instant.EPOCH.plusSeconds(200);
+    var channelSegments =
+        cache.findByChannelsAndTimeRange(
+            Set.of(WAVEFORM_CHANNEL, WAVEFORM_CHANNEL_2), start, end, this::read);
+
+    // both channels miss a block, so both are read over the span of all missing blocks
+    assertEquals(
+        List.of(
+            Triple.of(
+                Set.of(WAVEFORM_CHANNEL, WAVEFORM_CHANNEL_2),
+                Instant.EPOCH,
+                Instant.EPOCH.plusSeconds(240))),
+        reads);
+    assertEquals(2, channelSegments.size());
+    assertSamples(channelSegments, start, end);
+  }
+
+  @Test
+  void testUnsettledBlocksNotCached() {
+    var cache = new WaveformBlockCache(60, 600, 3600, 60, 1024 * 1024, CLOCK);
+    var start = NOW.minusSeconds(700);
+    var end = NOW.minusSeconds(500);
+
+    cache.findByChannelsAndTimeRange(Set.of(WAVEFORM_CHANNEL), start, end, this::read);
+    reads.clear();
+    cache.findByChannelsAndTimeRange(Set.of(WAVEFORM_CHANNEL), start, end, this::read);
+
+    // only the blocks ending at least ten minutes ago were cached
+    assertEquals(
+        List.of(Triple.of(Set.of(WAVEFORM_CHANNEL), NOW.minusSeconds(600), NOW.minusSeconds(480))),
+        reads);
+  }
+
+  @Test
+  void testEvictionBoundsBytesResident() {
+    // room for about a dozen of the thirty one blocks read
+    var maxBytes = 16 * 60 * (long) SAMPLE_RATE * Double.BYTES;
+    var cache = new WaveformBlockCache(60, 0, 3600, 60, maxBytes, CLOCK);
+
+    cache.findByChannelsAndTimeRange(
+        Set.of(WAVEFORM_CHANNEL),
+        Instant.EPOCH,
+        Instant.EPOCH.plusSeconds(1800),
+        this::read);
+
+    assertTrue(cache.bytesResident() > 0);
+    assertTrue(cache.bytesResident() <= maxBytes);
+  }
+
+  @Test
+  void testExpiredBlocksReadAgain() {
+    var clock = new TestClock(NOW);
+    var cache = new WaveformBlockCache(60, 0, 3600, 60, 1024 * 1024, clock);
+    var start = Instant.EPOCH.plusSeconds(30);
+    var end = Instant.EPOCH.plusSeconds(150);
+
+    cache.findByChannelsAndTimeRange(Set.of(WAVEFORM_CHANNEL), start, end, this::read);
+    clock.advance(Duration.ofMinutes(59));
+    cache.findByChannelsAndTimeRange(Set.of(WAVEFORM_CHANNEL), start, end, this::read);
+    clock.advance(Duration.ofMinutes(1));
+    var channelSegments =
+        cache.findByChannelsAndTimeRange(Set.of(WAVEFORM_CHANNEL), start, end, this::read);
+
+    // the blocks were read again only once the time to live had passed
+    var alignedRead =
+        Triple.of(Set.of(WAVEFORM_CHANNEL), Instant.EPOCH, Instant.EPOCH.plusSeconds(180));
+    assertEquals(List.of(alignedRead, alignedRead), reads);
+    assertSamples(channelSegments, start, end);
+  }
+
+  @Test
+  void testGapBlocksExpireAfterGapTimeToLive() {
+    var clock = new TestClock(NOW);
+    var cache = new WaveformBlockCache(60, 0, 3600, 60, 1024 * 1024, clock);
+    var start = Instant.EPOCH.plusSeconds(30);
+    var end = Instant.EPOCH.plusSeconds(150);
+    ChannelSegmentReader readNothing =
+        (channels, startTime, endTime, failedReadListener) -> {
+          reads.add(Triple.of(Set.copyOf(channels), startTime, endTime));
+          return List.of();
+        };
+
+    cache.findByChannelsAndTimeRange(Set.of(WAVEFORM_CHANNEL), start, end, readNothing);
+    cache.findByChannelsAndTimeRange(Set.of(WAVEFORM_CHANNEL), start, end, readNothing);
+    assertEquals(1, reads.size());
+
+    clock.advance(Duration.ofSeconds(60));
+    var channelSegments =
+        cache.findByChannelsAndTimeRange(Set.of(WAVEFORM_CHANNEL), start, end, this::read);
+
+    // the gaps expired, so the data that arrived since is read
+    assertEquals(2, reads.size());
+    assertEquals(1, channelSegments.size());
+    assertSamples(channelSegments, start, end);
+  }
+
+  @Test
+  void testGapBlocksNotCachedWithoutGapTimeToLive() {
+    var cache = new WaveformBlockCache(60, 0, 3600, 0, 1024 * 1024, CLOCK);
+    var start = Instant.EPOCH.plusSeconds(30);
+    var end = Instant.EPOCH.plusSeconds(150);
+    ChannelSegmentReader readNothing =
+        (channels, startTime, endTime, failedReadListener) -> {
+          reads.add(Triple.of(Set.copyOf(channels), startTime, endTime));
+          return List.of();
+        };
+
+    cache.findByChannelsAndTimeRange(Set.of(WAVEFORM_CHANNEL), start, end, readNothing);
+    cache.findByChannelsAndTimeRange(Set.of(WAVEFORM_CHANNEL), start, end, readNothing);
+
+    assertEquals(2, reads.size());
+    assertEquals(0, cache.bytesResident());
+  }
+
+  @Test
+  void testFailedReadBlocksNotCached() {
+    var cache = new WaveformBlockCache(60, 0, 3600, 60, 1024 * 1024, CLOCK);
+    var start = Instant.EPOCH.plusSeconds(30);
+    var end = Instant.EPOCH.plusSeconds(150);
+    ChannelSegmentReader failFirstChannel =
+        (channels, startTime, endTime, failedReadListener) -> {
+          failedReadListener.accept(WAVEFORM_CHANNEL);
+          return read(channels, startTime, endTime, failedReadListener);
+        };
+
+    var first =
+        cache.findByChannelsAndTimeRange(
+            Set.of(WAVEFORM_CHANNEL, WAVEFORM_CHANNEL_2), start, end, failFirstChannel);
+    reads.clear();
+    cache.findByChannelsAndTimeRange(
+        Set.of(WAVEFORM_CHANNEL, WAVEFORM_CHANNEL_2), start, end, this::read);
+
+    // the data read alongside the failure is returned, but only the other channel was cached
+    assertEquals(2, first.size());
+    assertEquals(
+        List.of(Triple.of(Set.of(WAVEFORM_CHANNEL), Instant.EPOCH, Instant.EPOCH.plusSeconds(180))),
+        reads);
+  }
+
+  private Collection<ChannelSegment<Waveform>> read(
+      Set<Channel> channels,
+      Instant startTime,
+      Instant endTime,
+      Consumer<Channel> failedReadListener) {
+    reads.add(Triple.of(Set.copyOf(channels), startTime, endTime));
+    return channels.stream()
+        .map(
+            channel ->
+                ChannelSegment.from(
+                    Channel.createVersionReference(channel.getName(), Instant.EPOCH),
+                    Units.MICROPASCALS,
+                    List.of(SOURCE.trim(startTime, endTime)),
+                    startTime,
+                    List.of(),
+                    Map.of()))
+        .toList();
+  }
+
+  private static void assertSamples(
+      Collection<ChannelSegment<Waveform>> channelSegments, Instant startTime, Instant endTime) {
+    var expected = SOURCE.trim(startTime, endTime);
+    channelSegments.forEach(
+        channelSegment -> {
+          assertEquals(Instant.EPOCH, channelSegment.getId().getChannel().getEffectiveAt().get());
+          assertEquals(List.of(expected), channelSegment.getTimeseries());
+        });
+  }
+
+  private static final class TestClock extends Clock {
+
+    private Instant now;
+
+    private TestClock(Instant now) {
+      this.now = now;
+    }
+
+    private void advance(Duration duration) {
+      now = now.plus(duration);
+    }
+
+    @Override
+    public ZoneId getZone() {
+      return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Instant instant() {
+      return now;
+    }
+  }
+}
@@ -5,6 +5,7 @@ import gms.shared.frameworks.cache.utils.IgniteTestUtility;
 import gms.shared.waveform.processingmask.coi.ProcessingMask;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import org.junit.jupiter.api.AfterAll;
@@ -57,5 +58,13 @@ class BridgedProcessingMaskCacheTest {
 
     Assertions.assertEquals(Optional.of(mask), bridgedProcessingMaskCache.findById(ID));
     Assertions.assertEquals(Optional.empty(), bridgedProcessingMaskCache.findById(BAD_ID));
+    Assertions.assertEquals(
+        List.of(mask), bridgedProcessingMaskCache.findByIds(List.of(BAD_ID, ID)));
+  }
+
+  @Test
+  void testNullFindByIds() {
+    Assertions.assertThrows(
+        NullPointerException.class, () -> bridgedProcessingMaskCache.findByIds(null));
   }
 }
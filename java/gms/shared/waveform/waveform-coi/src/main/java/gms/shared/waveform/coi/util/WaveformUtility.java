@@ -6,7 +6,6 @@ import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
-import org.apache.commons.lang3.ArrayUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -146,70 +145,75 @@ public final class WaveformUtility {
 
     var sortedWaveforms = waveforms.stream().sorted().toList();
 
-    // create a new list for the new channel segment and iterate over all waveforms in this
-    // channel segment. Add the first waveform to the new list to begin
-    List<Waveform> newWaveforms = new ArrayList<>();
-    var previousWaveform = sortedWaveforms.get(0);
-    newWaveforms.add(previousWaveform);
+    // plan the merged runs first, so that each run's samples are copied exactly once when it is
+    // materialized rather than re-concatenated for every adjacent pair
+    List<MergeRun> mergeRuns =
+        planMergeRuns(sortedWaveforms, sampleRateTolerance, sampleDifferenceAllowed);
+
+    List<Waveform> newWaveforms = new ArrayList<>(mergeRuns.size());
+    for (MergeRun mergeRun : mergeRuns) {
+      newWaveforms.add(mergeRun.toWaveform());
+    }
+
+    LOGGER.debug("Merged {} waveforms into {}", sortedWaveforms.size(), newWaveforms.size());
+    return newWaveforms;
+  }
+
+  /**
+   * Determines which of the sorted {@link Waveform}s merge together, without copying any samples.
+   * Each run tracks the start time, sample rate, sample count and end time the pairwise merged
+   * waveform would have had, so the gap and enclosure checks see the same values as before.
+   *
+   * @param sortedWaveforms the waveforms to merge, sorted by start time
+   * @param sampleRateTolerance The acceptable sample rate tolerance between two adjacent waveforms
+   * @param sampleDifferenceAllowed the largest fractional sample gap that is merged
+   * @return the planned runs, in order
+   */
+  private static List<MergeRun> planMergeRuns(
+      List<Waveform> sortedWaveforms, double sampleRateTolerance, double sampleDifferenceAllowed) {
+
+    List<MergeRun> mergeRuns = new ArrayList<>();
+    var previousRun = MergeRun.of(sortedWaveforms.get(0));
+    mergeRuns.add(previousRun);
 
     for (Waveform nextWaveform : sortedWaveforms.subList(1, sortedWaveforms.size())) {
-      LOGGER.info(
-          "Waveform start: {} and end: {}", nextWaveform.getStartTime(), nextWaveform.getEndTime());
+      var nextRun = MergeRun.of(nextWaveform);
+
       // get the next waveform after the previous and see if the sample rates are comparable.
-      if (Math.abs(previousWaveform.getSampleRateHz() - nextWaveform.getSampleRateHz())
+      if (Math.abs(previousRun.sampleRateHz - nextWaveform.getSampleRateHz())
           <= sampleRateTolerance) {
-        LOGGER.info("SampleRate is within tolerance. Checking for sample count.");
 
         // get the fractional gap sample count (fractional sample period between the two waveforms)
         // and check to see if a merged waveform is required (gap is less than specified number of
-        // samples and
-        // positive, so it is not an overlap instead).
-        double fractionalGapSampleCount = getFractionalSampleCount(previousWaveform, nextWaveform);
+        // samples and positive, so it is not an overlap instead).
+        double meanSampleRate = (nextWaveform.getSampleRateHz() + previousRun.sampleRateHz) / 2.0;
+        double fractionalGapSampleCount =
+            meanSampleRate * getDurationSeconds(previousRun.endTime, nextWaveform.getStartTime());
 
         // do not want any gaps that are negative, meaning overlaps.
         if (fractionalGapSampleCount < sampleDifferenceAllowed && fractionalGapSampleCount >= 0) {
-          LOGGER.info("Merging waveforms");
-
-          nextWaveform = merge(previousWaveform, nextWaveform);
+          nextRun = previousRun.append(nextWaveform);
 
-          // remove the previous waveform (which is now merged) and continue
-          newWaveforms.remove(newWaveforms.size() - 1);
+          // remove the previous run (which is now merged) and continue
+          mergeRuns.remove(mergeRuns.size() - 1);
         }
       }
-      if (isNextWaveformDistinctFromPreviousWaveform(previousWaveform, nextWaveform)) {
-        // add the next waveform, update the previousWaveform and continue, but only if the
-        // nextWaveform is distrinct from (not included in) the previous waveform
-        newWaveforms.add(nextWaveform);
-        previousWaveform = nextWaveform;
+      if (isNextRunDistinctFromPreviousRun(previousRun, nextRun)) {
+        // add the next run, update the previous run and continue, but only if the next run is
+        // distinct from (not included in) the previous run
+        mergeRuns.add(nextRun);
+        previousRun = nextRun;
       }
     }
 
-    // return the merged waveforms
-    LOGGER.info("Returning list as {}", newWaveforms.size());
-    return newWaveforms;
+    return mergeRuns;
   }
 
-  private static boolean isNextWaveformDistinctFromPreviousWaveform(
-      Waveform previousWaveform, Waveform nextWaveform) {
-    return !((previousWaveform.getStartTime().isBefore(nextWaveform.getStartTime())
-            || previousWaveform.getStartTime().equals(nextWaveform.getStartTime()))
-        && (previousWaveform.getEndTime().isAfter(nextWaveform.getEndTime())
-            || previousWaveform.getEndTime().equals(nextWaveform.getEndTime())));
-  }
-
-  /**
-   * Merges two waveforms together, including their underlying values
-   *
-   * @param first The first waveform to merge
-   * @param second The second waveform to merge
-   * @return The merged waveform, including the values from the two input waveforms.
-   */
-  private static Waveform merge(Waveform first, Waveform second) {
-    // make a new Waveform that is a merger of the previousWaveform and the next Waveform
-    double[] samples = ArrayUtils.addAll(first.getSamples(), second.getSamples());
-    double sampleRate =
-        (samples.length - 1) / getDurationSeconds(first.getStartTime(), second.getEndTime());
-    return Waveform.create(first.getStartTime(), sampleRate, samples);
+  private static boolean isNextRunDistinctFromPreviousRun(MergeRun previousRun, MergeRun nextRun) {
+    return !((previousRun.startTime.isBefore(nextRun.startTime)
+            || previousRun.startTime.equals(nextRun.startTime))
+        && (previousRun.endTime.isAfter(nextRun.endTime)
+            || previousRun.endTime.equals(nextRun.endTime)));
   }
 
   /**
@@ -247,4 +251,71 @@ public final class WaveformUtility {
   private static double getDurationSeconds(Duration duration) {
     return (double) duration.getNano() / SECONDS_TO_NANOS + duration.getSeconds();
   }
+
+  /**
+   * A planned merge of one or more sorted {@link Waveform}s. Runs are immutable and share their
+   * earlier pieces, so extending a run is constant time regardless of how many waveforms it holds.
+   */
+  private static final class MergeRun {
+
+    private final MergeRun head;
+    private final Waveform last;
+    private final Instant startTime;
+    private final double sampleRateHz;
+    private final int sampleCount;
+    private final Instant endTime;
+
+    private MergeRun(
+        MergeRun head,
+        Waveform last,
+        Instant startTime,
+        double sampleRateHz,
+        int sampleCount,
+        Instant endTime) {
+      this.head = head;
+      this.last = last;
+      this.startTime = startTime;
+      this.sampleRateHz = sampleRateHz;
+      this.sampleCount = sampleCount;
+      this.endTime = endTime;
+    }
+
+    private static MergeRun of(Waveform waveform) {
+      return new MergeRun(
+          null,
+          waveform,
+          waveform.getStartTime(),
+          waveform.getSampleRateHz(),
+          waveform.getSampleCount(),
+          waveform.getEndTime());
+    }
+
+    private MergeRun append(Waveform next) {
+      int mergedSampleCount = sampleCount + next.getSampleCount();
+      double mergedSampleRate =
+          (mergedSampleCount - 1) / getDurationSeconds(startTime, next.getEndTime());
+
+      // matches Timeseries.computeEndTime for the waveform a pairwise merge would have created
+      Instant mergedEndTime =
+          startTime.plusNanos((long) ((mergedSampleCount - 1) * (1E9 / mergedSampleRate)));
+      return new MergeRun(
+          this, next, startTime, mergedSampleRate, mergedSampleCount, mergedEndTime);
+    }
+
+    private Waveform toWaveform() {
+      if (head == null) {
+        return last;
+      }
+
+      var samples = new double[sampleCount];
+      int end = sampleCount;
+      for (var run = this; run != null; run = run.head) {
+        double[] pieceSamples = run.last.getSamples();
+        end -= pieceSamples.length;
+        System.arraycopy(pieceSamples, 0, samples, end, pieceSamples.length);
+      }
+
+      return Waveform.create(startTime, sampleRateHz, samples);
+    }
+  }
 }
@@ -1,6 +1,7 @@
 package gms.shared.waveform.coi.util;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 import gms.shared.stationdefinition.dao.css.WfdiscDao;
 import gms.shared.waveform.coi.Waveform;
@@ -12,7 +13,9 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
@@ -448,6 +451,80 @@ class WaveformUtilityTest {
     assertEquals(numWaveforms, WaveformUtility.mergeWaveforms(waveforms, sampTol, sampDiff).size());
   }
 
+  @Test
+  void testMergeWaveformsManyContiguousSegments() {
+    double sampleRate = 40.0;
+    int segmentCount = 200;
+    int samplesPerSegment = 40;
+    long samplePeriodNanos = (long) (1e9 / sampleRate);
+
+    List<Waveform> segments = new ArrayList<>();
+    Instant segmentStart = Instant.EPOCH;
+    for (int i = 0; i < segmentCount; i++) {
+      double[] samples = new double[samplesPerSegment];
+      for (int j = 0; j < samplesPerSegment; j++) {
+        samples[j] = i * samplesPerSegment + j;
+      }
+      var segment = Waveform.create(segmentStart, sampleRate, samples);
+      segments.add(segment);
+      segmentStart = segment.getEndTime().plusNanos(samplePeriodNanos);
+    }
+    Collections.reverse(segments);
+
+    List<Waveform> merged = WaveformUtility.mergeWaveforms(segments, 1.0, 1.5);
+
+    assertEquals(1, merged.size());
+    var mergedWaveform = merged.get(0);
+    assertEquals(Instant.EPOCH, mergedWaveform.getStartTime());
+    assertEquals(segmentCount * samplesPerSegment, mergedWaveform.getSampleCount());
+    for (int i = 0; i < mergedWaveform.getSampleCount(); i++) {
+      assertEquals(i, mergedWaveform.getSamples()[i]);
+    }
+    assertEquals(sampleRate, mergedWaveform.getSampleRateHz(), 1.0e-6);
+  }
+
+  @Test
+  void testMergeWaveformsGapsOverlapsAndEnclosed() {
+    double sampleRate = 40.0;
+    long samplePeriodNanos = (long) (1e9 / sampleRate);
+
+    var first = Waveform.create(Instant.EPOCH, sampleRate, getDoubleArray(40, 1.0));
+    var adjacent =
+        Waveform.create(
+            first.getEndTime().plusNanos(samplePeriodNanos), sampleRate, getDoubleArray(40, 2.0));
+    var overlapping =
+        Waveform.create(
+            adjacent.getEndTime().minusNanos(5 * samplePeriodNanos),
+            sampleRate,
+            getDoubleArray(40, 3.0));
+    var enclosed =
+        Waveform.create(
+            overlapping.getStartTime().plusNanos(samplePeriodNanos),
+            sampleRate,
+            getDoubleArray(10, 4.0));
+    var afterGap =
+        Waveform.create(
+            overlapping.getEndTime().plusNanos(10 * samplePeriodNanos),
+            sampleRate,
+            getDoubleArray(40, 5.0));
+
+    List<Waveform> merged =
+        WaveformUtility.mergeWaveforms(
+            List.of(afterGap, enclosed, overlapping, adjacent, first), 1.0, 1.5);
+
+    assertEquals(3, merged.size());
+
+    // first and adjacent merge, the overlap stays separate, the enclosed waveform is dropped and
+    // the waveform after the gap is returned untouched
+    var mergedFirst = merged.get(0);
+    assertEquals(first.getStartTime(), mergedFirst.getStartTime());
+    assertEquals(80, mergedFirst.getSampleCount());
+    assertEquals(1.0, mergedFirst.getFirstSample());
+    assertEquals(2.0, mergedFirst.getLastSample());
+    assertSame(overlapping, merged.get(1));
+    assertSame(afterGap, merged.get(2));
+  }
+
   private static double[] getDoubleArray(int n, double value) {
     double[] a = new double[n];
     Arrays.fill(a, value);
@@ -16,16 +16,18 @@ import gms.shared.waveform.coi.util.TimeseriesUtility;
 import gms.shared.waveform.coi.util.WaveformUtility;
 import gms.utilities.waveformreader.DefaultWaveformReader;
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.IOException;
-import java.io.InputStream;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -46,6 +48,8 @@ public class ChannelSegmentConvertImpl implements ChannelSegmentConverter {
 
   @Autowired private Environment environment;
 
+  @Autowired private WaveformFileReadExecutor fileReadExecutor;
+
   private static final double NANO_SECOND_PER_SECOND = 1e9;
 
   private static final double SAMPLE_DIFF_ALLOWED = 1.5;
@@ -71,19 +75,54 @@ public class ChannelSegmentConvertImpl implements ChannelSegmentConverter {
       return null;
     }
 
-    List<Waveform> waveforms = readWaveforms(wfdiscDaos, channel, startTime, endTime);
-
-    if (waveforms.isEmpty()) {
-      return null;
-    }
-
-    var units = getUnits(channel);
-    Collections.sort(waveforms);
-
-    final Range<Instant> timeRange = TimeseriesUtility.computeSpan(waveforms);
+    return createChannelSegment(
+        channel, mergeReads(joinReads(submitReads(wfdiscDaos, channel, startTime, endTime))));
+  }
 
-    return ChannelSegment.from(
-        channel, units, waveforms, timeRange.lowerEndpoint(), List.of(), Map.of());
+  /**
+   * Converts the WfdiscDaos for several channels into {@link ChannelSegment<Waveform>}s. The reads
+   * for every channel are submitted to the file read executor before any are awaited, so a request
+   * spanning many channels keeps the I/O pool busy rather than reading one channel at a time.
+   *
+   * @param wfdiscDaosByChannel the WfdiscDaos to convert, keyed by channel
+   * @param startTime defines the time range of interest
+   * @param endTime defines the time range of interest
+   * @param failedReadListener accepts each channel with a .w file that could not be read
+   * @return A ChannelSegment for each channel whose .w files produced waveforms
+   */
+  @Override
+  public Collection<ChannelSegment<Waveform>> convert(
+      Map<Channel, List<WfdiscDao>> wfdiscDaosByChannel,
+      Instant startTime,
+      Instant endTime,
+      Consumer<Channel> failedReadListener) {
+
+    Objects.requireNonNull(wfdiscDaosByChannel);
+    Objects.requireNonNull(failedReadListener);
+
+    Map<Channel, List<CompletableFuture<Optional<Waveform>>>> pendingReadsByChannel =
+        new LinkedHashMap<>();
+    wfdiscDaosByChannel.forEach(
+        (channel, wfdiscDaos) -> {
+          if (wfdiscDaos.isEmpty()) {
+            LOGGER.warn("List of wfdiscs for channel {} is empty, skipping", channel.getName());
+          } else {
+            pendingReadsByChannel.put(
+                channel, submitReads(wfdiscDaos, channel, startTime, endTime));
+          }
+        });
+
+    return pendingReadsByChannel.entrySet().stream()
+        .map(
+            entry -> {
+              var reads = joinReads(entry.getValue());
+              if (reads.stream().anyMatch(Optional::isEmpty)) {
+                failedReadListener.accept(entry.getKey());
+              }
+              return createChannelSegment(entry.getKey(), mergeReads(reads));
+            })
+        .filter(Objects::nonNull)
+        .toList();
   }
 
   /**
@@ -110,7 +149,8 @@ public class ChannelSegmentConvertImpl implements ChannelSegmentConverter {
     var startTime = channelSegmentDescriptor.getStartTime();
     var endTime = channelSegmentDescriptor.getEndTime();
 
-    List<Waveform> waveformList = readWaveforms(wfdiscDaos, channel, startTime, endTime);
+    List<Waveform> waveformList =
+        mergeReads(joinReads(submitReads(wfdiscDaos, channel, startTime, endTime)));
 
     if (waveformList.isEmpty()) {
       return null;
@@ -121,20 +161,45 @@ public class ChannelSegmentConvertImpl implements ChannelSegmentConverter {
     return ChannelSegment.from(channelSegmentDescriptor, units, waveformList, List.of(), Map.of());
   }
 
-  private List<Waveform> readWaveforms(
+  private static ChannelSegment<Waveform> createChannelSegment(
+      Channel channel, List<Waveform> waveforms) {
+    if (waveforms.isEmpty()) {
+      return null;
+    }
+
+    var units = getUnits(channel);
+    Collections.sort(waveforms);
+
+    final Range<Instant> timeRange = TimeseriesUtility.computeSpan(waveforms);
+
+    return ChannelSegment.from(
+        channel, units, waveforms, timeRange.lowerEndpoint(), List.of(), Map.of());
+  }
+
+  private List<CompletableFuture<Optional<Waveform>>> submitReads(
       List<WfdiscDao> wfdiscDaos, Channel channel, Instant startTime, Instant endTime) {
+    var activeProfiles = environment.getActiveProfiles();
+    return wfdiscDaos.stream()
+        .map(
+            wfdiscDao ->
+                fileReadExecutor.submit(
+                    () ->
+                        timingLogger.apply(
+                            "readWaveform",
+                            () -> tryReadWaveform(wfdiscDao, channel, startTime, endTime),
+                            activeProfiles)))
+        .toList();
+  }
+
+  private static List<Optional<Waveform>> joinReads(
+      List<CompletableFuture<Optional<Waveform>>> pendingReads) {
+    return pendingReads.stream().map(WaveformFileReadExecutor::join).toList();
+  }
+
+  // a read that failed is empty, and contributes no waveform
+  private static List<Waveform> mergeReads(List<Optional<Waveform>> reads) {
     return WaveformUtility.mergeWaveforms(
-        wfdiscDaos.stream()
-            .map(
-                wfdiscDao ->
-                    timingLogger.apply(
-                        "readWaveform",
-                        () -> tryReadWaveform(wfdiscDao, channel, startTime, endTime),
-                        environment.getActiveProfiles()))
-            .flatMap(Optional::stream)
-            .toList(),
-        1,
-        SAMPLE_DIFF_ALLOWED);
+        reads.stream().flatMap(Optional::stream).toList(), 1, SAMPLE_DIFF_ALLOWED);
   }
 
   private static Optional<Waveform> tryReadWaveform(
@@ -181,24 +246,25 @@ public class ChannelSegmentConvertImpl implements ChannelSegmentConverter {
     long currentSkip = (long) (skipNanos / NANO_SECOND_PER_SECOND * sampRateSeconds);
 
     var file = getWfDiscFile(wfdiscDao);
-    try (InputStream inputStream = new FileInputStream(file)) {
-      LOGGER.info("Reading waveform for {}", channel.getName());
-      LOGGER.info(
-          "Start: {}, End: {}, skip: {}, num samples: {}",
-          wfdiscStartTime,
-          wfdiscEndTime,
-          currentSkip,
-          nsamp);
-      double[] data =
-          DefaultWaveformReader.readSamples(
-              inputStream, dataType.toString(), (int) actualSamplesToRead, foff, (int) currentSkip);
-      double calibration = wfdiscDao.getCalib();
-      for (var i = 0; i < data.length; i++) {
-        data[i] *= calibration;
-      }
-
-      return Waveform.create(readingStartTime, sampRateSeconds, data);
-    }
+    LOGGER.debug(
+        "Reading waveform for {} from {}, Start: {}, End: {}, skip: {}, num samples: {}",
+        channel.getName(),
+        file,
+        wfdiscStartTime,
+        wfdiscEndTime,
+        currentSkip,
+        nsamp);
+    double[] data =
+        DefaultWaveformReader.readSamples(
+            file.toPath(),
+            dataType.toString(),
+            nsamp,
+            (int) actualSamplesToRead,
+            foff,
+            (int) currentSkip,
+            wfdiscDao.getCalib());
+
+    return Waveform.create(readingStartTime, sampRateSeconds, data);
   }
 
   private static File getWfDiscFile(WfdiscDao wfdiscDao) {
@@ -6,7 +6,11 @@ import gms.shared.stationdefinition.dao.css.WfdiscDao;
 import gms.shared.waveform.coi.ChannelSegment;
 import gms.shared.waveform.coi.Waveform;
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
 
 public interface ChannelSegmentConverter {
 
@@ -32,4 +36,40 @@ public interface ChannelSegmentConverter {
    */
   ChannelSegment<Waveform> convert(
       ChannelSegmentDescriptor channelSegmentDescriptor, List<WfdiscDao> wfDiscDaos);
+
+  /**
+   * Converts the {@link WfdiscDao}s for several channels into ChannelSegments covering the same
+   * time range. Channels whose wfdiscs produce no waveforms are omitted from the result.
+   *
+   * @param wfdiscDaosByChannel the WfdiscDaos to convert, keyed by the channel that captured them
+   * @param startTime defines the time range of interest
+   * @param endTime defines the time range of interest
+   * @return a {@link ChannelSegment} for each channel that produced {@link Waveform}s
+   */
+  default Collection<ChannelSegment<Waveform>> convert(
+      Map<Channel, List<WfdiscDao>> wfdiscDaosByChannel, Instant startTime, Instant endTime) {
+    return convert(wfdiscDaosByChannel, startTime, endTime, channel -> {});
+  }
+
+  /**
+   * Converts the {@link WfdiscDao}s for several channels into ChannelSegments covering the same
+   * time range, reporting the channels for which any .w file could not be read. The ChannelSegment
+   * of such a channel, if any, is missing the samples of the unread files.
+   *
+   * @param wfdiscDaosByChannel the WfdiscDaos to convert, keyed by the channel that captured them
+   * @param startTime defines the time range of interest
+   * @param endTime defines the time range of interest
+   * @param failedReadListener accepts each channel with a .w file that could not be read
+   * @return a {@link ChannelSegment} for each channel that produced {@link Waveform}s
+   */
+  default Collection<ChannelSegment<Waveform>> convert(
+      Map<Channel, List<WfdiscDao>> wfdiscDaosByChannel,
+      Instant startTime,
+      Instant endTime,
+      Consumer<Channel> failedReadListener) {
+    return wfdiscDaosByChannel.entrySet().stream()
+        .map(entry -> convert(entry.getKey(), entry.getValue(), startTime, endTime))
+        .filter(Objects::nonNull)
+        .toList();
+  }
 }
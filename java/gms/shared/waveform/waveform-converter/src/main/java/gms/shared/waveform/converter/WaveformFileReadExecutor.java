@@ -0,0 +1,134 @@
+package gms.shared.waveform.converter;
+
+import com.google.common.base.Preconditions;
+import gms.shared.metrics.CustomMetric;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Dedicated I/O executor for reading .w files referenced by wfdiscs. Reads run on a bounded pool
+ * rather than the common ForkJoinPool so that file I/O does not compete with CPU-bound work, and a
+ * semaphore caps the number of files open at once. When the pool's queue is full, the submitting
+ * thread runs the read itself, which throttles callers instead of queueing without bound.
+ */
+@Component
+public class WaveformFileReadExecutor implements AutoCloseable {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(WaveformFileReadExecutor.class);
+
+  private static final CustomMetric<WaveformFileReadExecutor, Long> waveformFileRead =
+      CustomMetric.create(CustomMetric::incrementer, "waveformFileRead_hits:type=Counter", 0L);
+
+  private static final CustomMetric<Long, Long> waveformFileReadDuration =
+      CustomMetric.create(
+          CustomMetric::updateTimingData, "waveformFileRead_duration:type=Value", 0L);
+
+  private static final int QUEUE_SIZE_PER_THREAD = 64;
+
+  private final ThreadPoolExecutor executor;
+  private final Semaphore openFiles;
+
+  @Autowired
+  public WaveformFileReadExecutor(
+      @Value("${waveform.file-read.thread-count:16}") int threadCount,
+      @Value("${waveform.file-read.max-open-files:64}") int maxOpenFiles) {
+    Preconditions.checkArgument(threadCount > 0, "File read thread count must be positive");
+    Preconditions.checkArgument(maxOpenFiles > 0, "Max open files must be positive");
+
+    this.executor =
+        new ThreadPoolExecutor(
+            threadCount,
+            threadCount,
+            0L,
+            TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(threadCount * QUEUE_SIZE_PER_THREAD),
+            new ReadThreadFactory(),
+            new ThreadPoolExecutor.CallerRunsPolicy());
+    this.openFiles = new Semaphore(maxOpenFiles, true);
+  }
+
+  /**
+   * Schedules a file read on the I/O pool. The read holds one open-file permit for its duration
+   * and its latency is recorded in the waveformFileRead metrics.
+   *
+   * @param read the read to perform; it must open and close its own file
+   * @param <T> the type produced by the read
+   * @return a future completing with the result of the read
+   */
+  public <T> CompletableFuture<T> submit(Supplier<T> read) {
+    return CompletableFuture.supplyAsync(() -> readWithPermit(read), executor);
+  }
+
+  /**
+   * Waits for a read scheduled with {@link #submit(Supplier)}, unwrapping any runtime exception
+   * thrown by the read.
+   *
+   * @param pendingRead the future returned from submit
+   * @param <T> the type produced by the read
+   * @return the result of the read
+   */
+  public static <T> T join(CompletableFuture<T> pendingRead) {
+    try {
+      return pendingRead.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      throw e;
+    }
+  }
+
+  private <T> T readWithPermit(Supplier<T> read) {
+    try {
+      openFiles.acquire();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted waiting to open waveform file", e);
+    }
+
+    var start = Instant.now();
+    try {
+      return read.get();
+    } finally {
+      openFiles.release();
+      recordRead(Duration.between(start, Instant.now()).toMillis());
+    }
+  }
+
+  private static synchronized void recordRead(long elapsedMillis) {
+    waveformFileRead.updateMetric(null);
+    waveformFileReadDuration.updateMetric(elapsedMillis);
+  }
+
+  @Override
+  public void close() {
+    LOGGER.info("Shutting down waveform file read executor");
+    executor.shutdown();
+  }
+
+  private static final class ReadThreadFactory implements ThreadFactory {
+
+    private final AtomicInteger threadCount = new AtomicInteger();
+
+    @Override
+    public Thread newThread(Runnable runnable) {
+      var thread = new Thread(runnable, "waveform-file-read-" + threadCount.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    }
+  }
+}
@@ -2,6 +2,7 @@ package gms.shared.waveform.converter;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.doReturn;
 
 import com.fasterxml.jackson.databind.ObjectReader;
@@ -20,11 +21,15 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -32,6 +37,7 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.core.env.Environment;
 
@@ -57,6 +63,14 @@ class ChannelSegmentConverterTest {
   @InjectMocks private ChannelSegmentConvertImpl channelSegmentConverter;
   @Mock private Environment environment;
 
+  @Spy
+  private WaveformFileReadExecutor fileReadExecutor = new WaveformFileReadExecutor(2, 2);
+
+  @AfterEach
+  void tearDown() {
+    fileReadExecutor.close();
+  }
+
   @Test
   void testConvertChannelSegmentSingleE1Waveform() throws IOException {
     List<WfdiscDao> wfdiscDaos = ChannelSegmentTestFixtures.getTestWfdiscListForSingleE1();
@@ -422,6 +436,76 @@ class ChannelSegmentConverterTest {
     assertEquals(channelSegmentCorrectCsd, convertedChannelSegmentCsd);
   }
 
+  @Test
+  void testConvertByChannelMatchesSingleChannelConvert() {
+    List<WfdiscDao> wfdiscDaos = ChannelSegmentTestFixtures.getTestWfdiscListForMultipleE1();
+    Channel channel = ChannelSegmentTestFixtures.getTestChannelE1();
+    wfdiscDaos = setWfdiscDaoDir(wfdiscDaos);
+    Instant startTime =
+        wfdiscDaos.stream().map(WfdiscDao::getTime).min(Instant::compareTo).orElseThrow();
+    Instant endTime =
+        wfdiscDaos.stream().map(WfdiscDao::getEndTime).max(Instant::compareTo).orElseThrow();
+    doReturn(new String[] {}).when(environment).getActiveProfiles();
+
+    ChannelSegment<Waveform> expected =
+        channelSegmentConverter.convert(channel, wfdiscDaos, startTime, endTime);
+    Collection<ChannelSegment<Waveform>> converted =
+        channelSegmentConverter.convert(Map.of(channel, wfdiscDaos), startTime, endTime);
+
+    assertEquals(1, converted.size());
+    ChannelSegment<Waveform> actual = converted.iterator().next();
+    assertEquals(expected.getId().getChannel(), actual.getId().getChannel());
+    assertEquals(expected.getTimeseries(), actual.getTimeseries());
+  }
+
+  @Test
+  void testConvertByChannelSkipsEmptyWfdiscs() {
+    Channel channel = ChannelSegmentTestFixtures.getTestChannelE1();
+
+    Collection<ChannelSegment<Waveform>> converted =
+        channelSegmentConverter.convert(
+            Map.of(channel, Collections.emptyList()), Instant.EPOCH, Instant.now());
+
+    assertTrue(converted.isEmpty());
+  }
+
+  @Test
+  void testConvertByChannelReportsFailedReads() {
+    List<WfdiscDao> wfdiscDaos = ChannelSegmentTestFixtures.getTestWfdiscListForMultipleE1();
+    Channel channel = ChannelSegmentTestFixtures.getTestChannelE1();
+    wfdiscDaos = setWfdiscDaoDir(wfdiscDaos);
+    wfdiscDaos.get(0).setDfile(BAD_DATA);
+    Instant startTime =
+        wfdiscDaos.stream().map(WfdiscDao::getTime).min(Instant::compareTo).orElseThrow();
+    Instant endTime =
+        wfdiscDaos.stream().map(WfdiscDao::getEndTime).max(Instant::compareTo).orElseThrow();
+    doReturn(new String[] {}).when(environment).getActiveProfiles();
+
+    List<Channel> failedReads = new ArrayList<>();
+    channelSegmentConverter.convert(
+        Map.of(channel, wfdiscDaos), startTime, endTime, failedReads::add);
+
+    assertEquals(List.of(channel), failedReads);
+  }
+
+  @Test
+  void testConvertByChannelReportsNoFailedReads() {
+    List<WfdiscDao> wfdiscDaos = ChannelSegmentTestFixtures.getTestWfdiscListForMultipleE1();
+    Channel channel = ChannelSegmentTestFixtures.getTestChannelE1();
+    wfdiscDaos = setWfdiscDaoDir(wfdiscDaos);
+    Instant startTime =
+        wfdiscDaos.stream().map(WfdiscDao::getTime).min(Instant::compareTo).orElseThrow();
+    Instant endTime =
+        wfdiscDaos.stream().map(WfdiscDao::getEndTime).max(Instant::compareTo).orElseThrow();
+    doReturn(new String[] {}).when(environment).getActiveProfiles();
+
+    List<Channel> failedReads = new ArrayList<>();
+    channelSegmentConverter.convert(
+        Map.of(channel, wfdiscDaos), startTime, endTime, failedReads::add);
+
+    assertTrue(failedReads.isEmpty());
+  }
+
   @Test
   void testEmptyWfdisc() {
     Instant currentTime = Instant.now();
@@ -0,0 +1,83 @@
+package gms.shared.waveform.converter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class WaveformFileReadExecutorTest {
+
+  private static final int THREAD_COUNT = 4;
+  private static final int MAX_OPEN_FILES = 2;
+
+  private WaveformFileReadExecutor executor;
+
+  @BeforeEach
+  void setUp() {
+    executor = new WaveformFileReadExecutor(THREAD_COUNT, MAX_OPEN_FILES);
+  }
+
+  @AfterEach
+  void tearDown() {
+    executor.close();
+  }
+
+  @Test
+  void testSubmitReturnsReadResult() {
+    assertEquals("read", WaveformFileReadExecutor.join(executor.submit(() -> "read")));
+  }
+
+  @Test
+  void testJoinRethrowsReadException() {
+    CompletableFuture<Object> pendingRead =
+        executor.submit(
+            () -> {
+              throw new IllegalStateException("bad read");
+            });
+
+    var exception =
+        assertThrows(IllegalStateException.class, () -> WaveformFileReadExecutor.join(pendingRead));
+    assertEquals("bad read", exception.getMessage());
+  }
+
+  @Test
+  void testOpenFilesBounded() {
+    var open = new AtomicInteger();
+    var maxOpen = new AtomicInteger();
+
+    List<CompletableFuture<Integer>> pendingReads =
+        IntStream.range(0, 32)
+            .mapToObj(
+                i ->
+                    executor.submit(
+                        () -> {
+                          maxOpen.accumulateAndGet(open.incrementAndGet(), Math::max);
+                          try {
+                            Thread.sleep(5);
+                          } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                          }
+                          open.decrementAndGet();
+                          return i;
+                        }))
+            .toList();
+
+    assertEquals(
+        IntStream.range(0, 32).boxed().toList(),
+        pendingReads.stream().map(WaveformFileReadExecutor::join).toList());
+    assertTrue(maxOpen.get() <= MAX_OPEN_FILES);
+  }
+
+  @Test
+  void testInvalidConfiguration() {
+    assertThrows(IllegalArgumentException.class, () -> new WaveformFileReadExecutor(0, 1));
+    assertThrows(IllegalArgumentException.class, () -> new WaveformFileReadExecutor(1, 0));
+  }
+}
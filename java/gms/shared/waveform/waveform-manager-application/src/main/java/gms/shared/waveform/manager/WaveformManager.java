@@ -1,9 +1,17 @@
 package gms.shared.waveform.manager;
 
+import static com.google.common.base.Preconditions.checkArgument;
+import static gms.shared.frameworks.common.ContentType.JSON_STREAM_NAME;
 import static gms.shared.frameworks.common.ContentType.MSGPACK_NAME;
+import static gms.shared.frameworks.common.ContentType.MSGPACK_STREAM_NAME;
 
+import com.google.common.collect.Iterables;
+import com.google.common.collect.Streams;
 import gms.shared.event.coi.EventHypothesis;
 import gms.shared.event.coi.beam.ChannelSegmentsByEventHypothesis;
+import gms.shared.spring.utilities.webmvc.ElementStreams;
+import gms.shared.spring.utilities.webmvc.GmsMediaType;
+import gms.shared.stationdefinition.coi.channel.Channel;
 import gms.shared.stationdefinition.coi.facets.FacetingDefinition;
 import gms.shared.waveform.api.WaveformAccessor;
 import gms.shared.waveform.api.util.ChannelSegmentDescriptorRequest;
@@ -18,15 +26,20 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import org.apache.commons.lang3.tuple.Pair;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping(
@@ -38,10 +51,16 @@ public class WaveformManager {
   private static final int CUSTOM_PARTIAL_RESPONSE_CODE = 209;
 
   private final WaveformAccessor waveformAccessorImpl;
+  private final int streamingChannelsPerWindow;
 
   @Autowired
-  public WaveformManager(WaveformAccessor waveformAccessorImpl) {
+  public WaveformManager(
+      WaveformAccessor waveformAccessorImpl,
+      @Value("${waveform.streaming.channels-per-window:4}") int streamingChannelsPerWindow) {
+    checkArgument(
+        streamingChannelsPerWindow > 0, "Streaming channels per window must be positive");
     this.waveformAccessorImpl = waveformAccessorImpl;
+    this.streamingChannelsPerWindow = streamingChannelsPerWindow;
   }
 
   /**
@@ -57,11 +76,20 @@ public class WaveformManager {
    * samples or changes in sample rate, but each Waveform is as long as possible. This operation
    * always returns calibrated waveform samples.
    *
+   * <p>Besides JSON and MessagePack, the response can be requested as columnar MessagePack, which
+   * writes the samples of each Waveform as raw columns.
+   *
    * @param channelTimeRangeRequest List of channels to and time ranges to query over.
    * @return list of all {@link ChannelSegment} objects for each Channel entity within the queried
    *     time interval
    */
-  @PostMapping(value = "/channel-segment/query/channel-timerange")
+  @PostMapping(
+      value = "/channel-segment/query/channel-timerange",
+      produces = {
+        MediaType.APPLICATION_JSON_VALUE,
+        MSGPACK_NAME,
+        GmsMediaType.APPLICATION_COLUMNAR_MSGPACK_VALUE
+      })
   @Operation(
       summary = "Loads and returns ChannelSegment<Waveform> based on " + "channel and time range")
   public Collection<ChannelSegment<Waveform>> findWaveformsByChannelsAndTimeRange(
@@ -71,19 +99,63 @@ public class WaveformManager {
           @RequestBody
           ChannelTimeRangeRequest channelTimeRangeRequest) {
 
+    return findWaveforms(channelTimeRangeRequest.getChannels(), channelTimeRangeRequest);
+  }
+
+  /**
+   * Streams the {@link ChannelSegment}s for each Channel entity provided in the query parameters,
+   * as described for {@link #findWaveformsByChannelsAndTimeRange(ChannelTimeRangeRequest)}, when a
+   * streaming content type is accepted.
+   *
+   * <p>Channels are loaded a window at a time and each ChannelSegment is serialized and flushed as
+   * soon as its window is loaded, so memory is bounded by the window rather than by the whole
+   * request.
+   *
+   * @param accept Accept header selecting JSON or MessagePack element serialization
+   * @param channelTimeRangeRequest List of channels to and time ranges to query over.
+   * @return stream of all {@link ChannelSegment} objects for each Channel entity within the queried
+   *     time interval
+   */
+  @PostMapping(
+      value = "/channel-segment/query/channel-timerange",
+      produces = {JSON_STREAM_NAME, MSGPACK_STREAM_NAME})
+  @Operation(
+      summary =
+          "Streams ChannelSegment<Waveform> based on channel and time range, "
+              + "one channel segment at a time")
+  public ResponseEntity<StreamingResponseBody> streamWaveformsByChannelsAndTimeRange(
+      @RequestHeader(HttpHeaders.ACCEPT) String accept,
+      @io.swagger.v3.oas.annotations.parameters.RequestBody(
+              description =
+                  "List of channels and time range used to query ChannelSegment<Waveform>")
+          @RequestBody
+          ChannelTimeRangeRequest channelTimeRangeRequest) {
+
+    var channelSegments =
+        Streams.stream(
+                Iterables.partition(
+                    channelTimeRangeRequest.getChannels(), streamingChannelsPerWindow))
+            .flatMap(
+                channels ->
+                    findWaveforms(Set.copyOf(channels), channelTimeRangeRequest).stream());
+
+    return ElementStreams.stream(accept, channelSegments);
+  }
+
+  private Collection<ChannelSegment<Waveform>> findWaveforms(
+      Set<Channel> channels, ChannelTimeRangeRequest channelTimeRangeRequest) {
+
     Optional<FacetingDefinition> facetingDefinition =
         channelTimeRangeRequest.getFacetingDefinition();
     if (facetingDefinition.isPresent()) {
       return waveformAccessorImpl.findByChannelsAndTimeRange(
-          channelTimeRangeRequest.getChannels(),
+          channels,
           channelTimeRangeRequest.getStartTime(),
           channelTimeRangeRequest.getEndTime(),
           facetingDefinition.get());
     }
     return waveformAccessorImpl.findByChannelsAndTimeRange(
-        channelTimeRangeRequest.getChannels(),
-        channelTimeRangeRequest.getStartTime(),
-        channelTimeRangeRequest.getEndTime());
+        channels, channelTimeRangeRequest.getStartTime(), channelTimeRangeRequest.getEndTime());
   }
 
   /**
@@ -95,14 +167,21 @@ public class WaveformManager {
    * <p>All of the samples returned for a ChannelSegmentDescriptor must be for the exact Channel
    * version provided in that ChannelSegmentDescriptor. Each returned ChannelSegment may contain
    * multiple Waveforms to account for gaps in available waveform samples or changes in sample rate,
-   * but each Waveform is as long as possible.
+   * but each Waveform is as long as possible. The response can be requested as JSON, MessagePack
+   * or columnar MessagePack.
    *
    * @param channelSegmentDescriptorRequest ChannelName, time ranges, and creation time to query
    *     over.
    * @return list of all {@link ChannelSegment} objects for each Channel entity within the queried
    *     time interval
    */
-  @PostMapping(value = "/channel-segment/query/channel-segment-descriptors")
+  @PostMapping(
+      value = "/channel-segment/query/channel-segment-descriptors",
+      produces = {
+        MediaType.APPLICATION_JSON_VALUE,
+        MSGPACK_NAME,
+        GmsMediaType.APPLICATION_COLUMNAR_MSGPACK_VALUE
+      })
   @Operation(
       summary =
           "Loads and returns ChannelSegment<Waveform> based on "
@@ -1,27 +1,43 @@
 package gms.shared.waveform.manager;
 
+import static gms.shared.waveform.testfixture.WaveformRequestTestFixtures.WAVEFORM_CHANNEL;
+import static gms.shared.waveform.testfixture.WaveformRequestTestFixtures.WAVEFORM_CHANNEL_2;
 import static gms.shared.waveform.testfixture.WaveformRequestTestFixtures.channelSegmentDescriptorRequest;
 import static gms.shared.waveform.testfixture.WaveformRequestTestFixtures.channelTimeRangeRequest;
 import static gms.shared.waveform.testfixture.WaveformRequestTestFixtures.facetedChannelSegmentDescriptorRequest;
 import static gms.shared.waveform.testfixture.WaveformRequestTestFixtures.facetedChannelTimeRangeRequest;
 import static gms.shared.waveform.testfixture.WaveformRequestTestFixtures.unfacetedChannelSegment;
 import static gms.shared.waveform.testfixture.WaveformRequestTestFixtures.unfacetedChannelTimeRangeRequest;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.times;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import com.fasterxml.jackson.core.type.TypeReference;
 import gms.shared.event.coi.EventHypothesis;
 import gms.shared.event.coi.EventTestFixtures;
+import gms.shared.frameworks.osd.coi.datatransferobjects.CoiObjectMapperFactory;
+import gms.shared.frameworks.osd.coi.datatransferobjects.ColumnarSampleCodec;
 import gms.shared.spring.utilities.framework.SpringTestBase;
+import gms.shared.spring.utilities.webmvc.GmsMediaType;
 import gms.shared.stationdefinition.coi.facets.FacetingDefinition;
 import gms.shared.stationdefinition.coi.station.Station;
 import gms.shared.waveform.api.WaveformAccessor;
+import gms.shared.waveform.api.util.ChannelTimeRangeRequest;
 import gms.shared.waveform.api.util.EventHypothesesStationsRequest;
 import gms.shared.waveform.coi.ChannelSegment;
 import gms.shared.waveform.coi.Waveform;
+import gms.shared.waveform.testfixture.ChannelSegmentTestFixtures;
+import java.time.Instant;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import org.apache.commons.lang3.tuple.Pair;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -31,10 +47,14 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MvcResult;
 
 @WebMvcTest(WaveformManager.class)
 @Import(WaveformManagerTestConfiguration.class)
+@TestPropertySource(properties = "waveform.streaming.channels-per-window=1")
 class WaveformManagerTest extends SpringTestBase {
 
   private static final int CUSTOM_PARTIAL_RESPONSE_CODE = 209;
@@ -96,6 +116,93 @@ class WaveformManagerTest extends SpringTestBase {
             facetedChannelTimeRangeRequest.getFacetingDefinition().get());
   }
 
+  @Test
+  void testStreamWaveformsByChannelsAndTimeRange() throws Exception {
+    var startTime = Instant.EPOCH;
+    var endTime = Instant.EPOCH.plusSeconds(600);
+    var streamingRequest =
+        ChannelTimeRangeRequest.builder()
+            .setChannels(Set.of(WAVEFORM_CHANNEL, WAVEFORM_CHANNEL_2))
+            .setStartTime(startTime)
+            .setEndTime(endTime)
+            .build();
+    given(waveformAccessorImpl.findByChannelsAndTimeRange(any(), any(), any()))
+        .willReturn(List.of(ChannelSegmentTestFixtures.createTestChannelSegmentWaveform()));
+
+    MvcResult result =
+        mockMvc
+            .perform(
+                post("/waveform/channel-segment/query/channel-timerange")
+                    .accept(GmsMediaType.APPLICATION_STREAM_JSON)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(jsonMapper.writeValueAsBytes(streamingRequest)))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+    MockHttpServletResponse response =
+        mockMvc
+            .perform(asyncDispatch(result))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(GmsMediaType.APPLICATION_STREAM_JSON))
+            .andReturn()
+            .getResponse();
+
+    // one window per channel, each channel segment written as its own element
+    Mockito.verify(waveformAccessorImpl, times(1))
+        .findByChannelsAndTimeRange(Set.of(WAVEFORM_CHANNEL), startTime, endTime);
+    Mockito.verify(waveformAccessorImpl, times(1))
+        .findByChannelsAndTimeRange(Set.of(WAVEFORM_CHANNEL_2), startTime, endTime);
+    try (var channelSegments =
+        jsonMapper
+            .readerFor(new TypeReference<ChannelSegment<Waveform>>() {})
+            .readValues(response.getContentAsByteArray())) {
+      Assertions.assertEquals(2, channelSegments.readAll().size());
+    }
+  }
+
+  @Test
+  void testFindWaveformsByChannelsAndTimeRangeColumnarMsgpack() throws Exception {
+    var channelSegments = List.of(ChannelSegmentTestFixtures.createTestChannelSegmentWaveform());
+    given(waveformAccessorImpl.findByChannelsAndTimeRange(any(), any(), any()))
+        .willReturn(channelSegments);
+
+    Assertions.assertEquals(
+        channelSegments,
+        postColumnarMsgpack(
+            "/waveform/channel-segment/query/channel-timerange", channelTimeRangeRequest));
+  }
+
+  @Test
+  void testFindWaveformsByChannelSegmentDescriptorsColumnarMsgpack() throws Exception {
+    var channelSegments = List.of(ChannelSegmentTestFixtures.createTestChannelSegmentWaveform());
+    given(waveformAccessorImpl.findByChannelSegmentDescriptors(any())).willReturn(channelSegments);
+
+    Assertions.assertEquals(
+        channelSegments,
+        postColumnarMsgpack(
+            "/waveform/channel-segment/query/channel-segment-descriptors",
+            channelSegmentDescriptorRequest));
+  }
+
+  private List<ChannelSegment<Waveform>> postColumnarMsgpack(String url, Object postRequest)
+      throws Exception {
+    MockHttpServletResponse response =
+        mockMvc
+            .perform(
+                post(url)
+                    .accept(GmsMediaType.APPLICATION_COLUMNAR_MSGPACK)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(jsonMapper.writeValueAsBytes(postRequest)))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(GmsMediaType.APPLICATION_COLUMNAR_MSGPACK))
+            .andReturn()
+            .getResponse();
+
+    return ColumnarSampleCodec.create(CoiObjectMapperFactory.getMsgpackObjectMapper(), true)
+        .read(
+            response.getContentAsByteArray(),
+            new TypeReference<List<ChannelSegment<Waveform>>>() {}.getType());
+  }
+
   @Test
   void testFindWaveformsByChannelSegmentDescriptorsWithoutFacet() throws Exception {
     MockHttpServletResponse response =
@@ -0,0 +1,83 @@
+package gms.utilities.waveformreader;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures decoding throughput, in samples per second, of each fixed-width format through the
+ * stream readers followed by a separate calibration pass, and through the bulk decoders with
+ * calibration fused in.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class FixedWidthDecodeBenchmark {
+
+  // one hour of 40 Hz data
+  private static final int SAMPLE_COUNT = 144_000;
+
+  private static final double CALIBRATION = 0.0215;
+
+  @Param({"s4", "i4", "f4", "t4", "s3", "s2"})
+  private String format;
+
+  private WaveformReader streamReader;
+
+  private MappedWaveformReader mappedReader;
+
+  private byte[] bytes;
+
+  private ByteBuffer directBuffer;
+
+  private double[] destination;
+
+  @Setup
+  public void setup() {
+    streamReader = DefaultWaveformReader.readerFor(format);
+    mappedReader = DefaultWaveformReader.mappedReaderFor(format).orElseThrow();
+
+    bytes = new byte[SAMPLE_COUNT * mappedReader.getBytesPerSample()];
+    new Random(42).nextBytes(bytes);
+
+    directBuffer = ByteBuffer.allocateDirect(bytes.length);
+    directBuffer.put(bytes).flip();
+
+    destination = new double[SAMPLE_COUNT];
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(SAMPLE_COUNT)
+  public double[] streamReadThenCalibrate() throws IOException {
+    double[] data = streamReader.read(new ByteArrayInputStream(bytes), SAMPLE_COUNT, 0);
+    for (var i = 0; i < data.length; i++) {
+      data[i] *= CALIBRATION;
+    }
+    return data;
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(SAMPLE_COUNT)
+  public double[] bulkDecodeHeapBuffer() {
+    mappedReader.decode(ByteBuffer.wrap(bytes), destination, 0, SAMPLE_COUNT, CALIBRATION);
+    return destination;
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(SAMPLE_COUNT)
+  public double[] bulkDecodeDirectBuffer() {
+    mappedReader.decode(directBuffer.duplicate(), destination, 0, SAMPLE_COUNT, CALIBRATION);
+    return destination;
+  }
+}
@@ -0,0 +1,91 @@
+package gms.utilities.waveformreader;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Reads variable-bit length integers from a {@link ByteBuffer}, most significant bit first. Unlike
+ * {@link BitInputStream}, reads are made by absolute index so the reader may be seeked to any bit
+ * and reset onto a new buffer without allocating. Bits beyond the buffer's limit read as zero.
+ */
+final class BitBufferReader {
+
+  private static final int BIT_LENGTH = 32;
+  private static final int WINDOW_BYTES = 5;
+
+  private ByteBuffer buffer;
+  private int base;
+  private int limit;
+  private long bitPosition;
+
+  /**
+   * Resets this reader onto the provided buffer, positioned at the buffer's current position
+   *
+   * @param buffer the buffer to read bits from
+   */
+  void reset(ByteBuffer buffer) {
+    this.buffer = buffer;
+    this.base = buffer.position();
+    this.limit = buffer.limit();
+    this.bitPosition = 0;
+  }
+
+  /**
+   * Moves this reader to the provided bit, relative to the position of the buffer when it was reset
+   *
+   * @param bitPosition the bit to move to
+   */
+  void seek(long bitPosition) {
+    this.bitPosition = bitPosition;
+  }
+
+  /**
+   * Retrieves the current bit, relative to the position of the buffer when it was reset
+   *
+   * @return the current bit position
+   */
+  long getBitPosition() {
+    return bitPosition;
+  }
+
+  /**
+   * Read a 32-bit integer constructed from the next n bits of signed 2's complement data.
+   *
+   * @param bits number of bits to read (0 to 32)
+   * @return the int value of the integer
+   */
+  int readSigned(int bits) {
+    return bits == 0 ? 0 : (int) (readWindow(bits) >> (Long.SIZE - bits));
+  }
+
+  /**
+   * Read a 32-bit integer constructed from the next n bits of unsigned 2's complement data.
+   *
+   * @param bits number of bits to read (0 to 32)
+   * @return the int value of the integer
+   */
+  int readUnsigned(int bits) {
+    return bits == 0 ? 0 : (int) (readWindow(bits) >>> (Long.SIZE - bits));
+  }
+
+  /**
+   * Loads the bytes holding the next n bits into a long, with the first of those bits moved to the
+   * most significant bit, and advances past them
+   */
+  private long readWindow(int bits) {
+    if (bits > BIT_LENGTH) {
+      throw new IllegalArgumentException("Cannot read more than 32 bits at once");
+    }
+
+    int byteIndex = base + (int) (bitPosition >>> 3);
+    var bitOffset = (int) (bitPosition & 7);
+
+    long window = 0;
+    for (var i = 0; i < WINDOW_BYTES; i++) {
+      int index = byteIndex + i;
+      window = (window << Byte.SIZE) | (index < limit ? buffer.get(index) & 0xFF : 0);
+    }
+
+    bitPosition += bits;
+    return window << (Long.SIZE - WINDOW_BYTES * Byte.SIZE + bitOffset);
+  }
+}
@@ -0,0 +1,199 @@
+package gms.utilities.waveformreader;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Decoder for sequential Canadian compressed data. The stream holds one 16-bit index block per 20
+ * sample data block, followed by the 32-bit first sample and then the data blocks, whose samples
+ * are second differences packed at the bit widths given by their index block.
+ *
+ * <p>Since every sample is reconstructed from the single leading sample, the samples before a
+ * requested window are folded into running sums without being stored, while index and data blocks
+ * after the window are never read. Index and stream buffers are retained between calls, so an
+ * instance is not thread safe.
+ */
+final class CanadianCompressedDecoder {
+
+  /*
+   * bit lengths for various sample codes
+   */
+  private static final byte[][] BIT_LENGTHS_FOR_CODES =
+      new byte[][] {{4, 6, 8, 10, 12, 14, 16, 18}, {4, 8, 12, 16, 20, 24, 28, 32}};
+
+  /*
+   * Number of groups of data samples in a data block
+   */
+  private static final int GROUPS_IN_BLOCK = 5;
+
+  /*
+   * Number of samples in a group
+   */
+  private static final int SAMPLES_IN_GROUP = 4;
+
+  /*
+   * Number of samples in a data block
+   */
+  private static final int SAMPLES_IN_BLOCK = GROUPS_IN_BLOCK * SAMPLES_IN_GROUP;
+
+  private static final int BIT_LENGTH_CODE = 1;
+  private static final int BIT_LENGTH_GROUP = 3;
+  private static final int BIT_LENGTH_FIRST_SAMPLE = 32;
+  private static final int BYTES_PER_INDEX_BLOCK =
+      (BIT_LENGTH_CODE + GROUPS_IN_BLOCK * BIT_LENGTH_GROUP) / Byte.SIZE;
+  private static final int BYTES_FIRST_SAMPLE = BIT_LENGTH_FIRST_SAMPLE / Byte.SIZE;
+
+  private final BitBufferReader bits = new BitBufferReader();
+
+  // bit width of each group of each block read, reused between calls
+  private byte[] groupBits = new byte[GROUPS_IN_BLOCK * 64];
+
+  // compressed bytes read from an InputStream, reused between calls
+  private byte[] streamBytes = new byte[8192];
+
+  /**
+   * Decodes a window of samples from compressed data held in a buffer, starting at the buffer's
+   * position. The buffer's position is not modified.
+   *
+   * @param buffer the compressed data
+   * @param totalSamples total number of samples in the compressed data
+   * @param numSamples number of samples to decode
+   * @param skip number of samples to skip
+   * @param destination array to decode samples into
+   * @param offset index in destination of the first decoded sample
+   * @param calibration factor applied to each decoded sample
+   * @return number of samples decoded, fewer than numSamples if the data ends first
+   */
+  int decode(
+      ByteBuffer buffer,
+      int totalSamples,
+      int numSamples,
+      int skip,
+      double[] destination,
+      int offset,
+      double calibration) {
+
+    int end = windowEnd(totalSamples, numSamples, skip);
+    if (end <= skip) {
+      return 0;
+    }
+
+    bits.reset(buffer);
+    readIndexBlocks(blockCount(end));
+    bits.seek((long) blockCount(totalSamples) * BYTES_PER_INDEX_BLOCK * Byte.SIZE);
+    return decodeSamples(end, skip, destination, offset, calibration);
+  }
+
+  /**
+   * Decodes a window of samples from compressed data read from a stream. Only the index blocks and
+   * the data blocks up to the end of the window are read from the stream.
+   *
+   * @param input the compressed data
+   * @param totalSamples total number of samples in the compressed data
+   * @param numSamples number of samples to decode
+   * @param skip number of samples to skip
+   * @param destination array to decode samples into
+   * @param offset index in destination of the first decoded sample
+   * @param calibration factor applied to each decoded sample
+   * @return number of samples decoded, fewer than numSamples if the data ends first
+   * @throws IOException if the stream could not be read
+   */
+  int decode(
+      InputStream input,
+      int totalSamples,
+      int numSamples,
+      int skip,
+      double[] destination,
+      int offset,
+      double calibration)
+      throws IOException {
+
+    int end = windowEnd(totalSamples, numSamples, skip);
+    if (end <= skip) {
+      return 0;
+    }
+
+    int neededBlocks = blockCount(end);
+    int headerBytes = blockCount(totalSamples) * BYTES_PER_INDEX_BLOCK + BYTES_FIRST_SAMPLE;
+    fill(input, 0, headerBytes);
+
+    bits.reset(ByteBuffer.wrap(streamBytes, 0, headerBytes));
+    readIndexBlocks(neededBlocks);
+
+    long dataBits = 0;
+    for (var i = 0; i < neededBlocks * GROUPS_IN_BLOCK; i++) {
+      dataBits += (long) groupBits[i] * SAMPLES_IN_GROUP;
+    }
+    var dataBytes = (int) ((dataBits + Byte.SIZE - 1) / Byte.SIZE);
+    fill(input, headerBytes, dataBytes);
+
+    bits.reset(ByteBuffer.wrap(streamBytes, 0, headerBytes + dataBytes));
+    bits.seek((long) (headerBytes - BYTES_FIRST_SAMPLE) * Byte.SIZE);
+    return decodeSamples(end, skip, destination, offset, calibration);
+  }
+
+  private static int windowEnd(int totalSamples, int numSamples, int skip) {
+    if (skip < 0 || numSamples < 0) {
+      throw new IllegalArgumentException("Samples to read and skip must not be negative");
+    }
+    return (int) Math.min(totalSamples, (long) skip + numSamples);
+  }
+
+  private static int blockCount(int samples) {
+    return (samples + SAMPLES_IN_BLOCK - 1) / SAMPLES_IN_BLOCK;
+  }
+
+  /** Read the first numBlocks index blocks, storing the bit width of each of their groups */
+  private void readIndexBlocks(int numBlocks) {
+    int groups = numBlocks * GROUPS_IN_BLOCK;
+    if (groupBits.length < groups) {
+      groupBits = new byte[groups];
+    }
+
+    for (var i = 0; i < groups; i += GROUPS_IN_BLOCK) {
+      byte[] bitLengths = BIT_LENGTHS_FOR_CODES[bits.readUnsigned(BIT_LENGTH_CODE)];
+      for (var j = 0; j < GROUPS_IN_BLOCK; j++) {
+        groupBits[i + j] = bitLengths[bits.readUnsigned(BIT_LENGTH_GROUP)];
+      }
+    }
+  }
+
+  /**
+   * Reads the first sample and the second differences following it, undoing both differences as
+   * they are read and storing only the samples in [skip, end)
+   */
+  private int decodeSamples(
+      int end, int skip, double[] destination, int offset, double calibration) {
+
+    long sample = bits.readSigned(BIT_LENGTH_FIRST_SAMPLE);
+    long firstDifference = 0;
+
+    var n = 0;
+    for (var group = 0; n < end; group++) {
+      int width = groupBits[group];
+      for (var k = 0; k < SAMPLES_IN_GROUP && n < end; k++, n++) {
+        if (n >= skip) {
+          destination[offset + n - skip] = sample * calibration;
+        }
+        firstDifference += bits.readSigned(width);
+        // samples are 32-bit integers, saturate rather than wrap on corrupt data
+        sample =
+            Math.max(Integer.MIN_VALUE, Math.min(Integer.MAX_VALUE, sample + firstDifference));
+      }
+    }
+
+    return end - skip;
+  }
+
+  /** Reads length bytes from the stream into streamBytes at position, zero filling past its end */
+  private void fill(InputStream input, int position, int length) throws IOException {
+    if (streamBytes.length < position + length) {
+      streamBytes = Arrays.copyOf(streamBytes, Math.max(position + length, streamBytes.length * 2));
+    }
+
+    int read = input.readNBytes(streamBytes, position, length);
+    Arrays.fill(streamBytes, position + read, position + length, (byte) 0);
+  }
+}
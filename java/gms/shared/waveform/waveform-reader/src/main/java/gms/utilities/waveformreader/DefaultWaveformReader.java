@@ -1,8 +1,12 @@
 package gms.utilities.waveformreader;
 
+import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
 import java.util.Map;
+import java.util.Optional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -10,6 +14,9 @@ public final class DefaultWaveformReader {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(DefaultWaveformReader.class);
 
+  private static final CanadianCompressedWaveformReader canadianCompressedReader =
+      new CanadianCompressedWaveformReader();
+
   // Mapping from Format to DefaultWaveformReader.  This gives a DefaultWaveformReader that can be
   // used to
   // read
@@ -20,13 +27,27 @@ public final class DefaultWaveformReader {
           FormatCode.S3, new Sun3FormatWaveformReader(),
           FormatCode.S4, new Sun4FormatWaveformReader(),
           FormatCode.I4, new I4FormatWaveformReader(),
-          FormatCode.CD, new CanadianCompressedWaveformReader(),
-          FormatCode.CC, new CanadianCompressedWaveformReader(),
+          FormatCode.CD, canadianCompressedReader,
+          FormatCode.CC, canadianCompressedReader,
           FormatCode.E1, new E1FormatWaveformReader(),
           FormatCode.CM6, new Cm6WaveformReader(),
           FormatCode.T4, new SunSinglePrecisionReal(),
           FormatCode.S2, new Sun2FormatWaveformReader());
 
+  // Mapping from Format to MappedWaveformReader for the fixed-width formats that can be decoded
+  // directly from a memory-mapped .w file
+  private static final Map<FormatCode, MappedWaveformReader> mappedFormatReaders =
+      Map.of(
+          FormatCode.F4, new Float4FormatWaveformReader(),
+          FormatCode.S3, new Sun3FormatWaveformReader(),
+          FormatCode.S4, new Sun4FormatWaveformReader(),
+          FormatCode.I4, new I4FormatWaveformReader(),
+          FormatCode.T4, new SunSinglePrecisionReal(),
+          FormatCode.S2, new Sun2FormatWaveformReader());
+
+  private static final MappedWaveformFileRegistry fileMappings =
+      MappedWaveformFileRegistry.create(MappedWaveformFileRegistry.DEFAULT_MAX_MAPPINGS);
+
   private DefaultWaveformReader() {}
 
   /**
@@ -53,6 +74,126 @@ public final class DefaultWaveformReader {
   public static double[] readSamples(
       InputStream input, String format, int samplesToRead, long fOff, int skip) throws IOException {
 
+    skipBytes(input, fOff);
+    WaveformReader reader = readerFor(format);
+
+    return reader.read(input, samplesToRead, skip);
+  }
+
+  /**
+   * Reads the samples of a waveform directly from a .w file. Fixed-width formats are decoded from a
+   * memory mapping of the file that is shared by all reads of that file; all other formats, and
+   * files too large to map, are read through an InputStream.
+   *
+   * @param file the .w file to read
+   * @param format the format code, e.g. 's4' or 'b#'.
+   * @param samplesToRead number of samples to read
+   * @param fOff byte offset of the waveform within the file
+   * @param skip number of samples to skip
+   * @return the samples read from the file
+   * @throws IOException if the file could not be read
+   */
+  public static double[] readSamples(
+      Path file, String format, int samplesToRead, long fOff, int skip) throws IOException {
+    return readSamples(file, format, samplesToRead, fOff, skip, 1.0);
+  }
+
+  /**
+   * Reads the samples of a waveform directly from a .w file, multiplying each sample by the
+   * provided calibration. Compressed formats are assumed to hold exactly skip + samplesToRead
+   * samples.
+   *
+   * @param file the .w file to read
+   * @param format the format code, e.g. 's4' or 'b#'.
+   * @param samplesToRead number of samples to read
+   * @param fOff byte offset of the waveform within the file
+   * @param skip number of samples to skip
+   * @param calibration factor applied to each sample
+   * @return the calibrated samples read from the file
+   * @throws IOException if the file could not be read
+   */
+  public static double[] readSamples(
+      Path file, String format, int samplesToRead, long fOff, int skip, double calibration)
+      throws IOException {
+    return readSamples(file, format, skip + samplesToRead, samplesToRead, fOff, skip, calibration);
+  }
+
+  /**
+   * Reads a window of the samples of a waveform directly from a .w file, multiplying each sample by
+   * the provided calibration. Fixed-width and Canadian compressed formats are decoded from a memory
+   * mapping of the file with calibration applied in the same pass; all other formats, and files
+   * too large to map, are read through an InputStream.
+   *
+   * @param file the .w file to read
+   * @param format the format code, e.g. 's4' or 'b#'.
+   * @param totalSamples total number of samples of the waveform in the file (e.g. wfdisc nsamp)
+   * @param samplesToRead number of samples to read
+   * @param fOff byte offset of the waveform within the file
+   * @param skip number of samples to skip
+   * @param calibration factor applied to each sample
+   * @return the calibrated samples read from the file
+   * @throws IOException if the file could not be read
+   */
+  public static double[] readSamples(
+      Path file,
+      String format,
+      int totalSamples,
+      int samplesToRead,
+      long fOff,
+      int skip,
+      double calibration)
+      throws IOException {
+
+    Optional<MappedWaveformReader> mappedReader = mappedReaderFor(format);
+    var canadianCompressed = isCanadianCompressed(format);
+    if (mappedReader.isPresent() || canadianCompressed) {
+      Optional<ByteBuffer> buffer = fileMappings.slice(file, fOff);
+      if (buffer.isPresent() && canadianCompressed) {
+        return canadianCompressedReader.read(
+            buffer.get(), totalSamples, samplesToRead, skip, calibration);
+      } else if (buffer.isPresent()) {
+        return mappedReader.get().read(buffer.get(), samplesToRead, skip, calibration);
+      }
+    }
+
+    try (InputStream input = new FileInputStream(file.toFile())) {
+      if (canadianCompressed) {
+        skipBytes(input, fOff);
+        return canadianCompressedReader.read(input, totalSamples, samplesToRead, skip, calibration);
+      }
+
+      double[] data = readSamples(input, format, samplesToRead, fOff, skip);
+      for (var i = 0; i < data.length; i++) {
+        data[i] *= calibration;
+      }
+      return data;
+    }
+  }
+
+  /**
+   * Looks up a MappedWaveformReader corresponding to the given format code (CSS 3.0).
+   *
+   * @param fc the format code, e.g. 's4' or 'b#'.
+   * @return MappedWaveformReader for the given format code, or empty if the format can only be
+   *     read from an InputStream
+   * @throws IllegalArgumentException if the format code is unknown
+   */
+  public static Optional<MappedWaveformReader> mappedReaderFor(String fc) {
+    var format = FormatCode.fcFromString(fc);
+    if (format == null || !formatReaders.containsKey(format)) {
+      String error = "Unsupported format: " + fc;
+      LOGGER.error(error);
+      throw new IllegalArgumentException(error);
+    }
+    return Optional.ofNullable(mappedFormatReaders.get(format));
+  }
+
+  private static boolean isCanadianCompressed(String fc) {
+    var format = FormatCode.fcFromString(fc);
+    return format == FormatCode.CD || format == FormatCode.CC;
+  }
+
+  private static void skipBytes(InputStream input, long fOff) throws IOException {
     if (fOff > input.available()) {
       throw new IOException("Number of bytes from input stream of file less than foff.");
     }
@@ -61,10 +202,6 @@ public final class DefaultWaveformReader {
     if (skipped != fOff) {
       throw new IOException("Skipped bytes of file not equal to foff.");
     }
-
-    WaveformReader reader = readerFor(format);
-
-    return reader.read(input, samplesToRead, skip);
   }
 
   /**
@@ -3,10 +3,12 @@ package gms.utilities.waveformreader;
 import java.io.DataInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.Objects;
 
 /** Code for reading waveform format 'f4', VAX single precision real (4 bytes). */
-public class Float4FormatWaveformReader implements WaveformReader {
+public class Float4FormatWaveformReader implements WaveformReader, MappedWaveformReader {
 
   private static final int VAX_SINGLE_BIAS = 0x81;
 
@@ -58,9 +60,16 @@ public class Float4FormatWaveformReader implements WaveformReader {
    * @return ieee float
    */
   public static float vax2float(float f) {
-    var i = Float.floatToRawIntBits(f);
-    i = Integer.reverseBytes(i);
+    return vaxBitsToFloat(Integer.reverseBytes(Float.floatToRawIntBits(f)));
+  }
 
+  /**
+   * Convert the bits of a VAX F float, as read in little-endian byte order, to an ieee float
+   *
+   * @param i vax float bits in little-endian byte order
+   * @return ieee float
+   */
+  static float vaxBitsToFloat(int i) {
     // Extract the sign (0=positive, 1=negative)
     int sign = ((i >> 15) & 0x1);
 
@@ -76,4 +85,26 @@ public class Float4FormatWaveformReader implements WaveformReader {
 
     return Float.intBitsToFloat(i);
   }
+
+  @Override
+  public int getBytesPerSample() {
+    return Float.BYTES;
+  }
+
+  @Override
+  public void decode(
+      ByteBuffer buffer, double[] destination, int offset, int numSamples, double calibration) {
+    // little-endian ints hold the byte-reversed VAX bits that vaxBitsToFloat expects
+    var samples = buffer.slice().order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+    var chunk = new int[Math.min(numSamples, WaveformReaderUtil.DECODE_CHUNK_SAMPLES)];
+    for (var decoded = 0; decoded < numSamples; decoded += chunk.length) {
+      int count = Math.min(chunk.length, numSamples - decoded);
+      samples.get(chunk, 0, count);
+      int start = offset + decoded;
+      for (var i = 0; i < count; i++) {
+        destination[start + i] = (double) vaxBitsToFloat(chunk[i]) * calibration;
+      }
+    }
+    buffer.position(buffer.position() + numSamples * Float.BYTES);
+  }
 }
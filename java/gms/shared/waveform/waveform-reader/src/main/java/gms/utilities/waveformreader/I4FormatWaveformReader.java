@@ -3,11 +3,13 @@ package gms.utilities.waveformreader;
 import java.io.DataInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.Objects;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-public class I4FormatWaveformReader implements WaveformReader {
+public class I4FormatWaveformReader implements WaveformReader, MappedWaveformReader {
 
   private static final long BYTES_PER_SAMPLE = 4L;
 
@@ -39,4 +41,25 @@ public class I4FormatWaveformReader implements WaveformReader {
     }
     return data;
   }
+
+  @Override
+  public int getBytesPerSample() {
+    return (int) BYTES_PER_SAMPLE;
+  }
+
+  @Override
+  public void decode(
+      ByteBuffer buffer, double[] destination, int offset, int numSamples, double calibration) {
+    var samples = buffer.slice().order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+    var chunk = new int[Math.min(numSamples, WaveformReaderUtil.DECODE_CHUNK_SAMPLES)];
+    for (var decoded = 0; decoded < numSamples; decoded += chunk.length) {
+      int count = Math.min(chunk.length, numSamples - decoded);
+      samples.get(chunk, 0, count);
+      int start = offset + decoded;
+      for (var i = 0; i < count; i++) {
+        destination[start + i] = chunk[i] * calibration;
+      }
+    }
+    buffer.position(buffer.position() + numSamples * (int) BYTES_PER_SAMPLE);
+  }
 }
@@ -0,0 +1,123 @@
+package gms.utilities.waveformreader;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Registry of read-only memory mappings of .w files, shared across all wfdisc rows that point at
+ * the same dfile. Mappings are held in a bounded, least-recently-used map and are re-created when
+ * the underlying file changes size or modification time (e.g. a file still being appended to).
+ * Pages are released by the JVM once an evicted mapping is no longer referenced by any reader.
+ */
+public final class MappedWaveformFileRegistry {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(MappedWaveformFileRegistry.class);
+
+  public static final int DEFAULT_MAX_MAPPINGS = 512;
+
+  private final Map<Path, FileMapping> mappings;
+
+  private MappedWaveformFileRegistry(int maxMappings) {
+    this.mappings =
+        new LinkedHashMap<>(16, 0.75f, true) {
+          @Override
+          protected boolean removeEldestEntry(Map.Entry<Path, FileMapping> eldest) {
+            return size() > maxMappings;
+          }
+        };
+  }
+
+  /**
+   * Creates a new {@link MappedWaveformFileRegistry}
+   *
+   * @param maxMappings maximum number of files to keep mapped at once
+   * @return a new {@link MappedWaveformFileRegistry}
+   */
+  public static MappedWaveformFileRegistry create(int maxMappings) {
+    if (maxMappings < 1) {
+      throw new IllegalArgumentException("Maximum number of mappings must be positive");
+    }
+    return new MappedWaveformFileRegistry(maxMappings);
+  }
+
+  /**
+   * Retrieves a read-only, big-endian view of the given file starting at the provided byte offset.
+   * The returned buffer has its own position and limit and may be consumed independently of any
+   * other view of the same file.
+   *
+   * @param file the .w file to view
+   * @param offset byte offset (foff) of the first byte of the view
+   * @return the view, or empty if the file is too large to be mapped as a single buffer
+   * @throws IOException if the file cannot be mapped or the offset is beyond the end of the file
+   */
+  public Optional<ByteBuffer> slice(Path file, long offset) throws IOException {
+    var attributes = Files.readAttributes(file, BasicFileAttributes.class);
+    if (offset > attributes.size()) {
+      throw new IOException("Number of bytes from file less than foff.");
+    }
+    if (attributes.size() > Integer.MAX_VALUE) {
+      LOGGER.debug("File {} is too large to map, falling back to stream reading", file);
+      return Optional.empty();
+    }
+
+    var mapping = getOrMap(file.toAbsolutePath(), attributes);
+    var buffer = mapping.buffer();
+    return Optional.of(buffer.slice((int) offset, buffer.capacity() - (int) offset));
+  }
+
+  /** Removes all mappings from this registry. */
+  public void clear() {
+    synchronized (mappings) {
+      mappings.clear();
+    }
+  }
+
+  /**
+   * Retrieves the number of files currently mapped by this registry
+   *
+   * @return the number of mapped files
+   */
+  public int size() {
+    synchronized (mappings) {
+      return mappings.size();
+    }
+  }
+
+  private FileMapping getOrMap(Path file, BasicFileAttributes attributes) throws IOException {
+    synchronized (mappings) {
+      var mapping = mappings.get(file);
+      if (mapping != null && mapping.isCurrent(attributes)) {
+        return mapping;
+      }
+    }
+
+    // map outside of the lock; a concurrent mapping of the same file is harmless
+    MappedByteBuffer buffer;
+    try (var channel = FileChannel.open(file)) {
+      buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, attributes.size());
+    }
+    var mapping = new FileMapping(buffer, attributes.size(), attributes.lastModifiedTime());
+    synchronized (mappings) {
+      mappings.put(file, mapping);
+    }
+    return mapping;
+  }
+
+  private record FileMapping(MappedByteBuffer buffer, long size, FileTime lastModified) {
+
+    boolean isCurrent(BasicFileAttributes attributes) {
+      return size == attributes.size() && lastModified.equals(attributes.lastModifiedTime());
+    }
+  }
+}
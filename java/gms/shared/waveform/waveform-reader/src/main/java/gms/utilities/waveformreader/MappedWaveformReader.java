@@ -0,0 +1,73 @@
+package gms.utilities.waveformreader;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+/**
+ * Interface for a WaveformReader of a fixed-width format that decodes directly from a {@link
+ * ByteBuffer} (e.g. a slice of a memory-mapped .w file). Implementations provide a bulk decoder
+ * that converts a whole slice of samples in one pass, with calibration applied as each sample is
+ * converted.
+ */
+public interface MappedWaveformReader {
+
+  /**
+   * Retrieves the width of a single sample of this format
+   *
+   * @return number of bytes per sample
+   */
+  int getBytesPerSample();
+
+  /**
+   * Decodes samples from the buffer's current position into the destination array, multiplying
+   * each by the provided calibration. The buffer's position is advanced past the bytes decoded.
+   *
+   * @param buffer the buffer to read from, holding at least numSamples samples
+   * @param destination the array to decode into
+   * @param offset index in destination of the first decoded sample
+   * @param numSamples number of samples to decode
+   * @param calibration factor applied to each decoded sample
+   * @throws java.nio.BufferUnderflowException if the buffer holds fewer than numSamples samples
+   */
+  void decode(
+      ByteBuffer buffer, double[] destination, int offset, int numSamples, double calibration);
+
+  /**
+   * Reads a waveform from a ByteBuffer. The buffer's position is advanced past the bytes read.
+   *
+   * @param buffer the buffer to read from, positioned at the start of the waveform
+   * @param numSamples number of samples to read
+   * @param skip number of samples to skip
+   * @return digitizer counts as double[]
+   * @throws IOException if the requested skip is invalid for the buffer
+   */
+  default double[] read(ByteBuffer buffer, int numSamples, int skip) throws IOException {
+    return read(buffer, numSamples, skip, 1.0);
+  }
+
+  /**
+   * Reads a waveform from a ByteBuffer, applying calibration to each sample as it is decoded. The
+   * buffer's position is advanced past the bytes read.
+   *
+   * @param buffer the buffer to read from, positioned at the start of the waveform
+   * @param numSamples number of samples to read
+   * @param skip number of samples to skip
+   * @param calibration factor applied to each decoded sample
+   * @return calibrated samples as double[]
+   * @throws IOException if the requested skip is invalid for the buffer
+   */
+  default double[] read(ByteBuffer buffer, int numSamples, int skip, double calibration)
+      throws IOException {
+    Objects.requireNonNull(buffer);
+
+    int available = WaveformReaderUtil.skipSamples(buffer, skip, getBytesPerSample(), numSamples);
+    if (available == 0) {
+      return new double[] {};
+    }
+
+    var data = new double[numSamples];
+    decode(buffer, data, 0, available, calibration);
+    return data;
+  }
+}
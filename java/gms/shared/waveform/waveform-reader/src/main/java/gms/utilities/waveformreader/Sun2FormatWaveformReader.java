@@ -3,10 +3,12 @@ package gms.utilities.waveformreader;
 import java.io.DataInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.Objects;
 
 /** Code for reading waveform format 's2', SUN integer (2 bytes). */
-public class Sun2FormatWaveformReader implements WaveformReader {
+public class Sun2FormatWaveformReader implements WaveformReader, MappedWaveformReader {
 
   /**
    * Reads the InputStream as an S3 waveform.
@@ -44,4 +46,25 @@ public class Sun2FormatWaveformReader implements WaveformReader {
 
     return data;
   }
+
+  @Override
+  public int getBytesPerSample() {
+    return Short.BYTES;
+  }
+
+  @Override
+  public void decode(
+      ByteBuffer buffer, double[] destination, int offset, int numSamples, double calibration) {
+    var samples = buffer.slice().order(ByteOrder.BIG_ENDIAN).asShortBuffer();
+    var chunk = new short[Math.min(numSamples, WaveformReaderUtil.DECODE_CHUNK_SAMPLES)];
+    for (var decoded = 0; decoded < numSamples; decoded += chunk.length) {
+      int count = Math.min(chunk.length, numSamples - decoded);
+      samples.get(chunk, 0, count);
+      int start = offset + decoded;
+      for (var i = 0; i < count; i++) {
+        destination[start + i] = chunk[i] * calibration;
+      }
+    }
+    buffer.position(buffer.position() + numSamples * Short.BYTES);
+  }
 }
@@ -2,13 +2,14 @@ package gms.utilities.waveformreader;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.util.Objects;
 
 /** Code for reading waveform format 's3', SUN integer (3 bytes). */
-public class Sun3FormatWaveformReader implements WaveformReader {
+public class Sun3FormatWaveformReader implements WaveformReader, MappedWaveformReader {
 
   private static final int BITS_PER_DATUM = 24;
-  private static final long BYTES_PER_SAMPLE = 3;
+  private static final int BYTES_PER_SAMPLE = 3;
   private static final int INPUT_STREAM_BIT_LENGTH = 1024;
 
   /**
@@ -24,7 +25,7 @@ public class Sun3FormatWaveformReader implements WaveformReader {
   public double[] read(InputStream input, int numSamples, int skip) throws IOException {
     Objects.requireNonNull(input);
 
-    long skipBytes = skip * BYTES_PER_SAMPLE / Byte.SIZE;
+    long skipBytes = (long) skip * BYTES_PER_SAMPLE;
     skipBytes = Math.min(input.available(), skipBytes);
     long skippedBytes = input.skip(skipBytes);
     if (skipBytes != skippedBytes) {
@@ -47,4 +48,27 @@ public class Sun3FormatWaveformReader implements WaveformReader {
 
     return data;
   }
+
+  @Override
+  public int getBytesPerSample() {
+    return BYTES_PER_SAMPLE;
+  }
+
+  @Override
+  public void decode(
+      ByteBuffer buffer, double[] destination, int offset, int numSamples, double calibration) {
+    int chunkSamples = Math.min(numSamples, WaveformReaderUtil.DECODE_CHUNK_SAMPLES);
+    var chunk = new byte[chunkSamples * BYTES_PER_SAMPLE];
+    for (var decoded = 0; decoded < numSamples; decoded += chunkSamples) {
+      int count = Math.min(chunkSamples, numSamples - decoded);
+      buffer.get(chunk, 0, count * BYTES_PER_SAMPLE);
+      int start = offset + decoded;
+      for (var i = 0; i < count; i++) {
+        int b = i * BYTES_PER_SAMPLE;
+        // sign extend the high byte, then append the two low bytes
+        int sample = (chunk[b] << 16) | ((chunk[b + 1] & 0xFF) << 8) | (chunk[b + 2] & 0xFF);
+        destination[start + i] = sample * calibration;
+      }
+    }
+  }
 }
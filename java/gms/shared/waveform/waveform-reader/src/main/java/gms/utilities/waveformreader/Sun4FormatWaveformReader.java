@@ -3,13 +3,15 @@ package gms.utilities.waveformreader;
 import java.io.DataInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.Objects;
 
 /**
  * Code for reading waveform format 's4', SUN integer (4 bytes). Implements FunctionalInterface
  * WaveformReaderInterface.
  */
-public class Sun4FormatWaveformReader implements WaveformReader {
+public class Sun4FormatWaveformReader implements WaveformReader, MappedWaveformReader {
 
   /**
    * Reads the InputStream as an S4 waveform.
@@ -49,4 +51,25 @@ public class Sun4FormatWaveformReader implements WaveformReader {
 
     return data;
   }
+
+  @Override
+  public int getBytesPerSample() {
+    return Integer.BYTES;
+  }
+
+  @Override
+  public void decode(
+      ByteBuffer buffer, double[] destination, int offset, int numSamples, double calibration) {
+    var samples = buffer.slice().order(ByteOrder.BIG_ENDIAN).asIntBuffer();
+    var chunk = new int[Math.min(numSamples, WaveformReaderUtil.DECODE_CHUNK_SAMPLES)];
+    for (var decoded = 0; decoded < numSamples; decoded += chunk.length) {
+      int count = Math.min(chunk.length, numSamples - decoded);
+      samples.get(chunk, 0, count);
+      int start = offset + decoded;
+      for (var i = 0; i < count; i++) {
+        destination[start + i] = chunk[i] * calibration;
+      }
+    }
+    buffer.position(buffer.position() + numSamples * Integer.BYTES);
+  }
 }
@@ -3,9 +3,12 @@ package gms.utilities.waveformreader;
 import java.io.DataInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Objects;
 
 /** Code for reading waveform format 't4', SUN single precision real (4 bytes). */
-public class SunSinglePrecisionReal implements WaveformReader {
+public class SunSinglePrecisionReal implements WaveformReader, MappedWaveformReader {
 
   /**
    * Reads the InputStream as an T4 waveform.
@@ -41,4 +44,25 @@ public class SunSinglePrecisionReal implements WaveformReader {
 
     return data;
   }
+
+  @Override
+  public int getBytesPerSample() {
+    return Float.BYTES;
+  }
+
+  @Override
+  public void decode(
+      ByteBuffer buffer, double[] destination, int offset, int numSamples, double calibration) {
+    var samples = buffer.slice().order(ByteOrder.BIG_ENDIAN).asFloatBuffer();
+    var chunk = new float[Math.min(numSamples, WaveformReaderUtil.DECODE_CHUNK_SAMPLES)];
+    for (var decoded = 0; decoded < numSamples; decoded += chunk.length) {
+      int count = Math.min(chunk.length, numSamples - decoded);
+      samples.get(chunk, 0, count);
+      int start = offset + decoded;
+      for (var i = 0; i < count; i++) {
+        destination[start + i] = (double) chunk[i] * calibration;
+      }
+    }
+    buffer.position(buffer.position() + numSamples * Float.BYTES);
+  }
 }
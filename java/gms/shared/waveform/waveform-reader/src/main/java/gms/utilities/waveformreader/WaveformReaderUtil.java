@@ -1,7 +1,14 @@
 package gms.utilities.waveformreader;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
 public final class WaveformReaderUtil {
 
+  // Number of samples bulk decoders copy out of a buffer at a time, sized to keep the scratch
+  // array within the L1 cache
+  static final int DECODE_CHUNK_SAMPLES = 2048;
+
   private WaveformReaderUtil() {
     // Hide implicit public constructor since this is a utility class
   }
@@ -26,4 +33,28 @@ public final class WaveformReaderUtil {
       data[i] = prev;
     }
   }
+
+  /**
+   * Advances the provided buffer past the requested number of fixed-width samples, and determines
+   * how many whole samples may then be read from it. Skips past the end of the buffer are clamped
+   * to the end of the buffer, matching the behavior of the stream readers.
+   *
+   * @param buffer Buffer to advance
+   * @param skip Number of samples to skip
+   * @param bytesPerSample Width of each sample in bytes
+   * @param numSamples Number of samples requested
+   * @return Number of samples that may be read from the buffer, at most numSamples
+   * @throws IOException if skip is negative
+   */
+  static int skipSamples(ByteBuffer buffer, int skip, int bytesPerSample, int numSamples)
+      throws IOException {
+    if (skip < 0) {
+      throw new IOException("Bytes to skip was: " + (long) skip * bytesPerSample);
+    }
+
+    long skipBytes = Math.min(buffer.remaining(), (long) skip * bytesPerSample);
+    buffer.position(buffer.position() + (int) skipBytes);
+
+    return Math.min(numSamples, buffer.remaining() / bytesPerSample);
+  }
 }
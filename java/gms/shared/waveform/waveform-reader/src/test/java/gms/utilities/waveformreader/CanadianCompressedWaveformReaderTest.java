@@ -1,29 +1,108 @@
 package gms.utilities.waveformreader;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
-import java.util.stream.IntStream;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
 
 class CanadianCompressedWaveformReaderTest {
   private final CanadianCompressedWaveformReader reader = new CanadianCompressedWaveformReader();
-  private final String WFE1_FILE = "/css/WFS4/cc.w";
+  private static final String WFE1_FILE = "/css/WFS4/cc.w";
   private final int SAMPLES_TO_READ = 10;
   private final int SAMPLES_TO_SKIP = 0;
   private final double[] REF_SAMPLES = {
     774.0, 708.0, 637.0, 391.0, 128.0, -393.0, -957.0, -1974.0, -3056.0, -4155.0
   };
 
+  // number of samples whose index and data blocks span the test file (97 blocks of 20)
+  private static final int TOTAL_SAMPLES = 1940;
+
+  private static byte[] compressedBytes;
+
+  @BeforeAll
+  static void readCompressedBytes() throws IOException {
+    try (InputStream is =
+        CanadianCompressedWaveformReaderTest.class.getResourceAsStream(WFE1_FILE)) {
+      compressedBytes = is.readAllBytes();
+    }
+  }
+
   @Test
   void testReadTestData() throws Exception {
+    WaveformReaderTestUtil.testReadTestData(
+        reader,
+        this.getClass().getResourceAsStream(WFE1_FILE),
+        SAMPLES_TO_READ,
+        SAMPLES_TO_SKIP,
+        REF_SAMPLES);
+  }
+
+  @Test
+  void testReadSkipReturnsRequestedSamples() throws Exception {
     double[] actual =
+        reader.read(this.getClass().getResourceAsStream(WFE1_FILE), SAMPLES_TO_READ - 4, 4);
+    assertArrayEquals(Arrays.copyOfRange(REF_SAMPLES, 4, SAMPLES_TO_READ), actual);
+  }
+
+  @ParameterizedTest
+  @MethodSource("windowArguments")
+  void testReadWindowMatchesFullDecode(int skip, int numSamples) throws IOException {
+    double[] full =
+        reader.read(ByteBuffer.wrap(compressedBytes), TOTAL_SAMPLES, TOTAL_SAMPLES, 0, 1.0);
+    double[] expected = Arrays.copyOfRange(full, skip, Math.min(TOTAL_SAMPLES, skip + numSamples));
+
+    double[] fromBuffer =
+        reader.read(ByteBuffer.wrap(compressedBytes), TOTAL_SAMPLES, numSamples, skip, 1.0);
+    double[] fromStream =
         reader.read(
-            this.getClass().getResourceAsStream(WFE1_FILE), SAMPLES_TO_READ, SAMPLES_TO_SKIP);
-    IntStream.range(0, actual.length).forEach(i -> assertEquals(REF_SAMPLES[i], actual[i], 1e-7));
+            new ByteArrayInputStream(compressedBytes), TOTAL_SAMPLES, numSamples, skip, 1.0);
 
-    // TODO: revert when todo in class is resolved and it can implement the interface again
-    //    WaveformReaderTestUtil
-    //      .testReadTestData(reader, this.getClass().getResourceAsStream(WFE1_FILE),
-    //        SAMPLES_TO_READ, SAMPLES_TO_SKIP, REF_SAMPLES);
+    assertArrayEquals(expected, fromBuffer);
+    assertArrayEquals(expected, fromStream);
+  }
+
+  private static Stream<Arguments> windowArguments() {
+    return Stream.of(
+        Arguments.arguments(0, 1),
+        Arguments.arguments(1, 19),
+        Arguments.arguments(19, 2),
+        Arguments.arguments(20, 20),
+        Arguments.arguments(57, 40),
+        Arguments.arguments(970, 5),
+        Arguments.arguments(1930, 20));
+  }
+
+  @Test
+  void testDecodeIntoOffsetWithCalibration() {
+    var destination = new double[SAMPLES_TO_READ + 2];
+    var buffer = ByteBuffer.wrap(compressedBytes);
+
+    int decoded = reader.decode(buffer, SAMPLES_TO_READ, SAMPLES_TO_READ, 0, destination, 2, 0.5);
+
+    assertEquals(SAMPLES_TO_READ, decoded);
+    assertEquals(0, buffer.position());
+    for (var i = 0; i < SAMPLES_TO_READ; i++) {
+      assertEquals(REF_SAMPLES[i] * 0.5, destination[i + 2]);
+    }
+  }
+
+  @Test
+  void testDecodeNegativeSkipThrows() {
+    var buffer = ByteBuffer.wrap(compressedBytes);
+    var destination = new double[1];
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> reader.decode(buffer, TOTAL_SAMPLES, 1, -1, destination, 0, 1.0));
   }
 }
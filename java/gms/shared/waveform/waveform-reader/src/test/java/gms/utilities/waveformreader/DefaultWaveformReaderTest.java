@@ -1,12 +1,19 @@
 package gms.utilities.waveformreader;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
 import java.util.Optional;
 import java.util.stream.Stream;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -47,6 +54,67 @@ class DefaultWaveformReaderTest {
     }
   }
 
+  @ParameterizedTest
+  @MethodSource("readSamplesArguments_mapped")
+  void testReadSamplesFromFileMatchesStream(FormatCode formatCode, String file)
+      throws IOException, URISyntaxException {
+    var path = Path.of(this.getClass().getResource(file).toURI());
+
+    for (var skip : new int[] {0, 3}) {
+      double[] expected;
+      try (InputStream is = this.getClass().getResourceAsStream(file)) {
+        expected = DefaultWaveformReader.readSamples(is, formatCode.getCode(), 10, 4, skip);
+      }
+
+      final int currentSkip = skip;
+      final double[] actual =
+          assertDoesNotThrow(
+              () ->
+                  DefaultWaveformReader.readSamples(
+                      path, formatCode.getCode(), 10, 4, currentSkip));
+      assertArrayEquals(expected, actual);
+    }
+  }
+
+  @ParameterizedTest
+  @MethodSource("readSamplesArguments_mapped")
+  void testReadSamplesFromFileAppliesCalibration(FormatCode formatCode, String file)
+      throws IOException, URISyntaxException {
+    var path = Path.of(this.getClass().getResource(file).toURI());
+    var calibration = 0.25;
+
+    var uncalibrated = DefaultWaveformReader.readSamples(path, formatCode.getCode(), 10, 0, 0);
+    var calibrated =
+        DefaultWaveformReader.readSamples(path, formatCode.getCode(), 10, 0, 0, calibration);
+
+    assertEquals(uncalibrated.length, calibrated.length);
+    for (var i = 0; i < calibrated.length; i++) {
+      assertEquals(uncalibrated[i] * calibration, calibrated[i]);
+    }
+  }
+
+  @ParameterizedTest
+  @MethodSource("readSamplesArguments_mapped")
+  void testDecodeIntoOffset(FormatCode formatCode, String file)
+      throws IOException, URISyntaxException {
+    var path = Path.of(this.getClass().getResource(file).toURI());
+    var reader = DefaultWaveformReader.mappedReaderFor(formatCode.getCode()).orElseThrow();
+    var expected = DefaultWaveformReader.readSamples(path, formatCode.getCode(), 4, 0, 0);
+
+    var buffer = ByteBuffer.wrap(Files.readAllBytes(path));
+    var destination = new double[6];
+    reader.decode(buffer, destination, 2, 4, 1.0);
+
+    assertEquals(4 * reader.getBytesPerSample(), buffer.position());
+    assertArrayEquals(expected, Arrays.copyOfRange(destination, 2, 6));
+  }
+
+  @ParameterizedTest
+  @MethodSource("mappedReaderForArguments")
+  void testMappedReaderFor(FormatCode formatCode, boolean mapped) {
+    assertEquals(mapped, DefaultWaveformReader.mappedReaderFor(formatCode.getCode()).isPresent());
+  }
+
   @ParameterizedTest
   @MethodSource("readSamplesArguments_mismatchedFormat")
   void testReadSamplesTakeSkipMismatchedFormat(FormatCode formatCode, String file)
@@ -117,6 +185,20 @@ class DefaultWaveformReaderTest {
         Arguments.arguments(FormatCode.S2, new Sun2FormatWaveformReader()));
   }
 
+  private static Stream<Arguments> mappedReaderForArguments() {
+    return Stream.of(
+        Arguments.arguments(FormatCode.F4, true),
+        Arguments.arguments(FormatCode.S3, true),
+        Arguments.arguments(FormatCode.S4, true),
+        Arguments.arguments(FormatCode.I4, true),
+        Arguments.arguments(FormatCode.T4, true),
+        Arguments.arguments(FormatCode.S2, true),
+        Arguments.arguments(FormatCode.CD, false),
+        Arguments.arguments(FormatCode.CC, false),
+        Arguments.arguments(FormatCode.E1, false),
+        Arguments.arguments(FormatCode.CM6, false));
+  }
+
   private static Stream<Arguments> readSamplesArguments() {
     return Stream.of(
         Arguments.arguments(FormatCode.S4, "/css/WFS4/I22FR.s4.w"),
@@ -130,6 +212,15 @@ class DefaultWaveformReaderTest {
         Arguments.arguments(FormatCode.I4, "/css/WFS4/i4.w"));
   }
 
+  private static Stream<Arguments> readSamplesArguments_mapped() {
+    return Stream.of(
+        Arguments.arguments(FormatCode.S4, "/css/WFS4/I22FR.s4.w"),
+        Arguments.arguments(FormatCode.S3, "/css/WFS4/s3.w"),
+        Arguments.arguments(FormatCode.S2, "/css/WFS4/S2Test.w"),
+        Arguments.arguments(FormatCode.F4, "/css/WFS4/F4Test.w"),
+        Arguments.arguments(FormatCode.T4, "/css/WFS4/t4.w"));
+  }
+
   private static Stream<Arguments> readSamplesArguments_mismatchedFormat() {
     return Stream.of(Arguments.arguments(FormatCode.F4, "/css/WFS4/I22FR.s3.w"));
   }
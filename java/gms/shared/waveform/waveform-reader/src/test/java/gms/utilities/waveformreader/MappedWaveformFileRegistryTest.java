@@ -0,0 +1,79 @@
+package gms.utilities.waveformreader;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class MappedWaveformFileRegistryTest {
+
+  @TempDir Path tempDir;
+
+  @Test
+  void testSliceSharesMappingAcrossOffsets() throws IOException {
+    var file = writeInts("shared.w", 1, 2, 3, 4);
+    var registry = MappedWaveformFileRegistry.create(4);
+
+    ByteBuffer first = registry.slice(file, 0).orElseThrow();
+    ByteBuffer second = registry.slice(file, 8).orElseThrow();
+
+    assertEquals(1, registry.size());
+    assertNotSame(first, second);
+    assertEquals(1, first.getInt());
+    assertEquals(3, second.getInt());
+    // consuming one view does not move the other
+    assertEquals(2, first.getInt());
+    assertEquals(Integer.BYTES, second.remaining());
+  }
+
+  @Test
+  void testSliceRemapsChangedFile() throws IOException {
+    var file = writeInts("growing.w", 1, 2);
+    var registry = MappedWaveformFileRegistry.create(4);
+
+    assertEquals(8, registry.slice(file, 0).orElseThrow().remaining());
+
+    writeInts("growing.w", 1, 2, 3);
+    assertEquals(12, registry.slice(file, 0).orElseThrow().remaining());
+    assertEquals(1, registry.size());
+  }
+
+  @Test
+  void testSliceEvictsLeastRecentlyUsed() throws IOException {
+    var registry = MappedWaveformFileRegistry.create(2);
+
+    registry.slice(writeInts("a.w", 1), 0);
+    registry.slice(writeInts("b.w", 2), 0);
+    registry.slice(writeInts("c.w", 3), 0);
+
+    assertEquals(2, registry.size());
+  }
+
+  @Test
+  void testSliceOffsetBeyondFileThrows() throws IOException {
+    var file = writeInts("short.w", 1);
+    var registry = MappedWaveformFileRegistry.create(1);
+
+    assertThrows(IOException.class, () -> registry.slice(file, 5));
+    assertEquals(0, registry.slice(file, 4).orElseThrow().remaining());
+  }
+
+  @Test
+  void testCreateInvalidMaxMappingsThrows() {
+    assertThrows(IllegalArgumentException.class, () -> MappedWaveformFileRegistry.create(0));
+  }
+
+  private Path writeInts(String name, int... values) throws IOException {
+    var buffer = ByteBuffer.allocate(values.length * Integer.BYTES);
+    for (var value : values) {
+      buffer.putInt(value);
+    }
+    return Files.write(tempDir.resolve(name), buffer.array());
+  }
+}
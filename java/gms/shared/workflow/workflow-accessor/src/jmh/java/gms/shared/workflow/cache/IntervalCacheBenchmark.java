@@ -0,0 +1,141 @@
+package gms.shared.workflow.cache;
+
+import gms.shared.frameworks.cache.utils.IgniteConnectionManager;
+import gms.shared.frameworks.cache.utils.IgniteTestUtility;
+import gms.shared.workflow.cache.util.WorkflowCacheFactory;
+import gms.shared.workflow.coi.IntervalId;
+import gms.shared.workflow.coi.MockIntervalData;
+import gms.shared.workflow.coi.StageInterval;
+import gms.shared.workflow.coi.WorkflowDefinitionId;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import javax.cache.Cache;
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.cache.query.ScanQuery;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Measures the latency of the interval queries made by workflow polling against the number of
+ * intervals cached. Each stage holds hour-long intervals, and each query retrieves the last day of
+ * intervals for two stages. The full-scan benchmark repeats the retrieval the cache made before it
+ * maintained stage indexes, for comparison.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class IntervalCacheBenchmark {
+
+  private static final List<String> STAGE_NAMES =
+      List.of(
+          "Auto Network",
+          "AL1",
+          "Auto Post-AL1",
+          "AL2",
+          "Auto Post-AL2",
+          "AL3",
+          "Auto Post-AL3",
+          "AL4");
+
+  private static final Set<String> QUERIED_STAGE_NAMES = Set.of("AL1", "AL2");
+
+  private static final Duration INTERVAL_LENGTH = Duration.ofHours(1);
+
+  private static final Duration QUERY_LENGTH = Duration.ofDays(1);
+
+  @Param({"1000", "10000", "100000"})
+  private int intervalCount;
+
+  private Path igniteHome;
+
+  private IgniteIntervalCache intervalCache;
+
+  private IgniteCache<IntervalId, StageInterval> stageIntervalsByIntervalId;
+
+  private Instant queryStartTime;
+
+  private Instant queryEndTime;
+
+  @Setup
+  public void setup() throws IOException {
+    igniteHome = Files.createTempDirectory("interval-cache-benchmark");
+    IgniteTestUtility.initializeLocally(
+        igniteHome,
+        WorkflowCacheFactory.INTERVAL_CACHE,
+        WorkflowCacheFactory.INTERVAL_INDEX_CACHE,
+        WorkflowCacheFactory.INTERVAL_MODIFICATION_TIME_CACHE);
+    intervalCache = IgniteIntervalCache.create();
+    stageIntervalsByIntervalId =
+        IgniteConnectionManager.getOrCreateCache(WorkflowCacheFactory.INTERVAL_CACHE);
+
+    int intervalsPerStage = intervalCount / STAGE_NAMES.size();
+    for (String stageName : STAGE_NAMES) {
+      List<StageInterval> stageIntervals = new ArrayList<>(intervalsPerStage);
+      for (var interval = 0; interval < intervalsPerStage; interval++) {
+        var startTime = Instant.EPOCH.plus(INTERVAL_LENGTH.multipliedBy(interval));
+        stageIntervals.addAll(
+            MockIntervalData.get(
+                    startTime,
+                    startTime.plus(INTERVAL_LENGTH),
+                    Set.of(WorkflowDefinitionId.from(stageName)))
+                .get(stageName));
+      }
+      intervalCache.putAll(stageIntervals);
+    }
+
+    queryEndTime = Instant.EPOCH.plus(INTERVAL_LENGTH.multipliedBy(intervalsPerStage));
+    queryStartTime = queryEndTime.minus(QUERY_LENGTH);
+  }
+
+  @TearDown
+  public void tearDown() throws IOException {
+    IgniteConnectionManager.close();
+    try (Stream<Path> paths = Files.walk(igniteHome)) {
+      for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+        Files.delete(path);
+      }
+    }
+  }
+
+  @Benchmark
+  public List<StageInterval> indexedGetAll() {
+    return intervalCache.getAll(QUERIED_STAGE_NAMES, queryStartTime, queryEndTime);
+  }
+
+  @Benchmark
+  public List<StageInterval> fullScanGetAll() {
+    return stageIntervalsByIntervalId
+        .query(new ScanQuery<IntervalId, StageInterval>())
+        .getAll()
+        .stream()
+        .map(Cache.Entry::getValue)
+        .filter(
+            interval ->
+                QUERIED_STAGE_NAMES.contains(interval.getName())
+                    && interval.getStartTime().isBefore(queryEndTime)
+                    && interval.getEndTime().isAfter(queryStartTime))
+        .toList();
+  }
+
+  @Benchmark
+  public Optional<Instant> getLatestModificationTime() {
+    return intervalCache.getLatestModificationTime();
+  }
+}
@@ -1,5 +1,6 @@
 package gms.shared.workflow.cache;
 
+import static java.util.stream.Collectors.groupingBy;
 import static java.util.stream.Collectors.toSet;
 
 import gms.shared.frameworks.cache.utils.IgniteConnectionManager;
@@ -8,11 +9,14 @@ import gms.shared.workflow.coi.IntervalId;
 import gms.shared.workflow.coi.StageInterval;
 import gms.shared.workflow.coi.WorkflowDefinitionId;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
-import java.util.NavigableMap;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.locks.Lock;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.UnaryOperator;
 import javax.cache.Cache;
@@ -22,18 +26,32 @@ import org.apache.ignite.configuration.NearCacheConfiguration;
 
 /**
  * Cache that delegates to an Apache Ignite {@link IgniteCache} for CRUD operations on {@link
- * StageInterval}s. Ignite is configured to contain key-value pairs of Stage names to {@link
- * NavigableMap}s of StageIntervals by start time. The combination of stage name and start time
- * define uniqueness for StageInterval, allowing this caching structure to contain all relevant
- * intervals without concerns of conflicting keys.
+ * StageInterval}s. Ignite is configured to contain key-value pairs of {@link IntervalId}s to
+ * StageIntervals. The combination of stage name and start time define uniqueness for
+ * StageInterval, allowing this caching structure to contain all relevant intervals without
+ * concerns of conflicting keys.
+ *
+ * <p>Two further caches, keyed by stage name, are maintained alongside the intervals: a {@link
+ * StageIntervalIndex} of each stage's intervals by start time, used to find the intervals within a
+ * time range without scanning the cache, and the latest modification time of each stage's
+ * intervals. Both are updated under a lock on the stage name after the intervals themselves are
+ * stored, and that lock is never held while acquiring a lock on an interval.
  */
 public final class IgniteIntervalCache implements IntervalCache {
 
   private final IgniteCache<IntervalId, StageInterval> stageIntervalsByIntervalId;
 
+  private final IgniteCache<String, StageIntervalIndex> indexesByStageName;
+
+  private final IgniteCache<String, Instant> modificationTimesByStageName;
+
   private IgniteIntervalCache(
-      IgniteCache<IntervalId, StageInterval> stageIntervalsByNameAndStartTime) {
+      IgniteCache<IntervalId, StageInterval> stageIntervalsByNameAndStartTime,
+      IgniteCache<String, StageIntervalIndex> indexesByStageName,
+      IgniteCache<String, Instant> modificationTimesByStageName) {
     this.stageIntervalsByIntervalId = stageIntervalsByNameAndStartTime;
+    this.indexesByStageName = indexesByStageName;
+    this.modificationTimesByStageName = modificationTimesByStageName;
   }
 
   /**
@@ -44,7 +62,7 @@ public final class IgniteIntervalCache implements IntervalCache {
   public static IgniteIntervalCache create() {
     IgniteCache<IntervalId, StageInterval> stageIntervalsByNameAndTime =
         IgniteConnectionManager.getOrCreateCache(WorkflowCacheFactory.INTERVAL_CACHE);
-    return new IgniteIntervalCache(stageIntervalsByNameAndTime);
+    return create(stageIntervalsByNameAndTime);
   }
 
   /**
@@ -59,7 +77,18 @@ public final class IgniteIntervalCache implements IntervalCache {
     IgniteCache<IntervalId, StageInterval> stageIntervalsByNameAndTime =
         IgniteConnectionManager.getOrCreateCache(
             WorkflowCacheFactory.INTERVAL_CACHE, nearCacheConfiguration);
-    return new IgniteIntervalCache(stageIntervalsByNameAndTime);
+    return create(stageIntervalsByNameAndTime);
+  }
+
+  private static IgniteIntervalCache create(
+      IgniteCache<IntervalId, StageInterval> stageIntervalsByNameAndTime) {
+    IgniteCache<String, StageIntervalIndex> indexesByStageName =
+        IgniteConnectionManager.getOrCreateCache(WorkflowCacheFactory.INTERVAL_INDEX_CACHE);
+    IgniteCache<String, Instant> modificationTimesByStageName =
+        IgniteConnectionManager.getOrCreateCache(
+            WorkflowCacheFactory.INTERVAL_MODIFICATION_TIME_CACHE);
+    return new IgniteIntervalCache(
+        stageIntervalsByNameAndTime, indexesByStageName, modificationTimesByStageName);
   }
 
   /**
@@ -161,7 +190,8 @@ public final class IgniteIntervalCache implements IntervalCache {
 
   /**
    * Batch retrieval of all stage intervals with stage names in the input collection within the
-   * input time range.
+   * input time range. Only the intervals the stage indexes place within the range are retrieved
+   * from the cache.
    *
    * @param stageNames First retrieval keys
    * @param startTime Start of the span of second retrieval keys, inclusive
@@ -173,31 +203,47 @@ public final class IgniteIntervalCache implements IntervalCache {
   public List<StageInterval> getAll(
       Collection<String> stageNames, Instant startTime, Instant endTime) {
 
-    return stageIntervalsByIntervalId
-        .query(new ScanQuery<IntervalId, StageInterval>())
-        .getAll()
-        .stream()
-        .map(Cache.Entry::getValue)
+    List<IntervalId> intervalIds = new ArrayList<>();
+    indexesByStageName
+        .getAll(new HashSet<>(stageNames))
+        .forEach(
+            (stageName, index) ->
+                index.getStartTimes(startTime, endTime).stream()
+                    .map(
+                        intervalStartTime ->
+                            IntervalId.from(
+                                intervalStartTime, WorkflowDefinitionId.from(stageName)))
+                    .forEach(intervalIds::add));
+
+    if (intervalIds.isEmpty()) {
+      return List.of();
+    }
+
+    // The index is updated after the intervals it references, so check the intervals themselves
+    var stageIntervals = stageIntervalsByIntervalId.getAll(new HashSet<>(intervalIds));
+    return intervalIds.stream()
+        .map(stageIntervals::get)
+        .filter(Objects::nonNull)
         .filter(
             interval ->
-                stageNames.contains(interval.getName())
-                    && interval.getStartTime().isBefore(endTime)
+                interval.getStartTime().isBefore(endTime)
                     && interval.getEndTime().isAfter(startTime))
         .toList();
   }
 
   /**
-   * Retrieves all modification times for all stage intervals, and finds the maximum time.
+   * Finds the maximum modification time of all stage intervals from the latest modification time
+   * maintained for each stage, without retrieving the intervals themselves.
    *
    * @return The latest modification time for all stage intervals
    */
   @Override
   public Optional<Instant> getLatestModificationTime() {
-    return stageIntervalsByIntervalId
-        .query(new ScanQuery<IntervalId, StageInterval>())
+    return modificationTimesByStageName
+        .query(new ScanQuery<String, Instant>())
         .getAll()
         .stream()
-        .map(entry -> entry.getValue().getModificationTime())
+        .map(Cache.Entry::getValue)
         .max(Instant::compareTo);
   }
 
@@ -209,31 +255,41 @@ public final class IgniteIntervalCache implements IntervalCache {
    */
   @Override
   public void put(StageInterval stageInterval) {
-
-    var lock = acquireLock(stageInterval.getIntervalId());
-    try {
-      lock.lock();
-      stageIntervalsByIntervalId.put(stageInterval.getIntervalId(), stageInterval);
-    } finally {
-      lock.unlock();
-    }
+    putAll(List.of(stageInterval));
   }
 
   /**
    * Atomically Inserts or updates a collection of StageIntervals. This method will lock on each
-   * stage name.
+   * interval as it is stored, then on each stage name as its index is updated.
    *
    * @param stageIntervals StageIntervals
    */
   @Override
   public void putAll(Collection<? extends StageInterval> stageIntervals) {
-    stageIntervals.forEach(this::put);
+    stageIntervals.forEach(
+        (StageInterval stageInterval) -> {
+          var lock = acquireLock(stageInterval.getIntervalId());
+          try {
+            lock.lock();
+            stageIntervalsByIntervalId.put(stageInterval.getIntervalId(), stageInterval);
+          } finally {
+            lock.unlock();
+          }
+        });
+
+    stageIntervals.stream()
+        .collect(groupingBy(StageInterval::getName))
+        .forEach(
+            (stageName, intervals) ->
+                updateIndex(stageName, index -> intervals.forEach(index::put)));
   }
 
   /** Clears all values within the cache */
   @Override
   public void clear() {
     stageIntervalsByIntervalId.clear();
+    indexesByStageName.clear();
+    modificationTimesByStageName.clear();
   }
 
   /**
@@ -245,27 +301,72 @@ public final class IgniteIntervalCache implements IntervalCache {
   @Override
   public void prune(Instant olderThan) {
 
-    var keys =
-        stageIntervalsByIntervalId
-            .query(new ScanQuery<IntervalId, StageInterval>())
+    var stageNames =
+        modificationTimesByStageName
+            .query(new ScanQuery<String, Instant>())
             .getAll()
             .stream()
-            .filter(entry -> !entry.getValue().getEndTime().isAfter(olderThan))
             .map(Cache.Entry::getKey)
             .collect(toSet());
 
-    keys.forEach(
-        (IntervalId intervalId) -> {
-          var lock = acquireLock(intervalId);
-          try {
-            lock.lock();
-            stageIntervalsByIntervalId.remove(intervalId);
-          } finally {
-            lock.unlock();
-          }
+    stageNames.forEach(
+        (String stageName) -> {
+          List<Instant> prunedStartTimes = new ArrayList<>();
+          updateIndex(
+              stageName,
+              index -> prunedStartTimes.addAll(index.removeEndingAtOrBefore(olderThan)));
+
+          prunedStartTimes.forEach(
+              (Instant startTime) -> {
+                var intervalId = IntervalId.from(startTime, WorkflowDefinitionId.from(stageName));
+                var lock = acquireLock(intervalId);
+                try {
+                  lock.lock();
+                  // The interval may have been replaced since its index entry was removed
+                  get(intervalId)
+                      .filter(interval -> !interval.getEndTime().isAfter(olderThan))
+                      .ifPresent(
+                          interval -> stageIntervalsByIntervalId.remove(interval.getIntervalId()));
+                } finally {
+                  lock.unlock();
+                }
+              });
         });
   }
 
+  /**
+   * Atomically applies an update to the index of a stage, then caches the index and the stage's
+   * latest modification time, or removes both if the index is left empty.
+   *
+   * @param stageName the name of the stage whose index to update
+   * @param update the update to apply to the index, creating an empty index if none is cached
+   */
+  private void updateIndex(String stageName, Consumer<StageIntervalIndex> update) {
+
+    var lock = indexesByStageName.lock(stageName);
+    try {
+      lock.lock();
+      var index =
+          Optional.ofNullable(indexesByStageName.get(stageName))
+              .orElseGet(StageIntervalIndex::new);
+      update.accept(index);
+
+      index
+          .getLatestModificationTime()
+          .ifPresentOrElse(
+              (Instant latestModificationTime) -> {
+                indexesByStageName.put(stageName, index);
+                modificationTimesByStageName.put(stageName, latestModificationTime);
+              },
+              () -> {
+                indexesByStageName.remove(stageName);
+                modificationTimesByStageName.remove(stageName);
+              });
+    } finally {
+      lock.unlock();
+    }
+  }
+
   /**
    * Returns a {@link Lock} allowing the caller to lock a given {@link StageInterval} in the cache
    * to prevent concurrent updates
@@ -0,0 +1,138 @@
+package gms.shared.workflow.cache;
+
+import gms.shared.workflow.coi.StageInterval;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * Index of the {@link StageInterval}s of a single stage, cached alongside the intervals so that
+ * range retrieval can find the intervals it needs without scanning every interval in the cache.
+ * Holds the end and modification times of each interval by start time, along with the longest
+ * interval indexed, which bounds how long before the start of a range an overlapping interval can
+ * begin.
+ *
+ * <p>Indexes are not thread safe; {@link IgniteIntervalCache} only modifies them while holding the
+ * lock on their stage.
+ */
+final class StageIntervalIndex {
+
+  private final TreeMap<Instant, IndexedInterval> intervalsByStartTime;
+
+  private Duration longestInterval;
+
+  private Instant latestModificationTime;
+
+  StageIntervalIndex() {
+    this.intervalsByStartTime = new TreeMap<>();
+    this.longestInterval = Duration.ZERO;
+  }
+
+  /**
+   * Adds an interval to the index, replacing any interval with the same start time
+   *
+   * @param stageInterval the interval to index
+   */
+  void put(StageInterval stageInterval) {
+    var startTime = stageInterval.getStartTime();
+    var modificationTime = stageInterval.getModificationTime();
+    var replaced =
+        intervalsByStartTime.put(
+            startTime, new IndexedInterval(stageInterval.getEndTime(), modificationTime));
+
+    var duration = Duration.between(startTime, stageInterval.getEndTime());
+    if (duration.compareTo(longestInterval) > 0) {
+      longestInterval = duration;
+    }
+
+    if (latestModificationTime == null || modificationTime.isAfter(latestModificationTime)) {
+      latestModificationTime = modificationTime;
+    } else if (replaced != null && replaced.modificationTime.equals(latestModificationTime)) {
+      updateLatestModificationTime();
+    }
+  }
+
+  /**
+   * Removes each interval with an end time at or before the provided time
+   *
+   * @param olderThan Expiration time
+   * @return the start times of the removed intervals
+   */
+  List<Instant> removeEndingAtOrBefore(Instant olderThan) {
+    List<Instant> removedStartTimes = new ArrayList<>();
+    var iterator = intervalsByStartTime.entrySet().iterator();
+    while (iterator.hasNext()) {
+      var entry = iterator.next();
+      if (!entry.getValue().endTime.isAfter(olderThan)) {
+        removedStartTimes.add(entry.getKey());
+        iterator.remove();
+      }
+    }
+
+    if (!removedStartTimes.isEmpty()) {
+      updateLatestModificationTime();
+    }
+    return removedStartTimes;
+  }
+
+  /**
+   * Finds the intervals that overlap a time range
+   *
+   * @param startTime Start of the time range, exclusive of intervals ending at it
+   * @param endTime End of the time range, exclusive of intervals starting at it
+   * @return the start times of the intervals starting before endTime and ending after startTime,
+   *     in ascending order
+   */
+  List<Instant> getStartTimes(Instant startTime, Instant endTime) {
+    var earliestStartTime = startTime.minus(longestInterval);
+    if (!earliestStartTime.isBefore(endTime)) {
+      return List.of();
+    }
+
+    List<Instant> startTimes = new ArrayList<>();
+    intervalsByStartTime
+        .subMap(earliestStartTime, true, endTime, false)
+        .forEach(
+            (intervalStartTime, interval) -> {
+              if (interval.endTime.isAfter(startTime)) {
+                startTimes.add(intervalStartTime);
+              }
+            });
+    return startTimes;
+  }
+
+  /**
+   * @return The latest modification time of the indexed intervals, or {@link Optional#empty()} if
+   *     the index is empty
+   */
+  Optional<Instant> getLatestModificationTime() {
+    return Optional.ofNullable(latestModificationTime);
+  }
+
+  boolean isEmpty() {
+    return intervalsByStartTime.isEmpty();
+  }
+
+  private void updateLatestModificationTime() {
+    latestModificationTime =
+        intervalsByStartTime.values().stream()
+            .map(interval -> interval.modificationTime)
+            .max(Instant::compareTo)
+            .orElse(null);
+  }
+
+  private static final class IndexedInterval {
+
+    private final Instant endTime;
+
+    private final Instant modificationTime;
+
+    private IndexedInterval(Instant endTime, Instant modificationTime) {
+      this.endTime = endTime;
+      this.modificationTime = modificationTime;
+    }
+  }
+}
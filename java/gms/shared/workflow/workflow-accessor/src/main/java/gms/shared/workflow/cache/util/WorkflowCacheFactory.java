@@ -14,7 +14,18 @@ public final class WorkflowCacheFactory {
   public static final CacheInfo INTERVAL_CACHE =
       new CacheInfo("interval-cache", CacheMode.PARTITIONED, CacheAtomicityMode.TRANSACTIONAL);
 
-  private static final List<CacheInfo> CACHE_INFO_LIST = List.of(INTERVAL_CACHE);
+  public static final CacheInfo INTERVAL_INDEX_CACHE =
+      new CacheInfo(
+          "interval-index-cache", CacheMode.PARTITIONED, CacheAtomicityMode.TRANSACTIONAL);
+
+  public static final CacheInfo INTERVAL_MODIFICATION_TIME_CACHE =
+      new CacheInfo(
+          "interval-modification-time-cache",
+          CacheMode.PARTITIONED,
+          CacheAtomicityMode.TRANSACTIONAL);
+
+  private static final List<CacheInfo> CACHE_INFO_LIST =
+      List.of(INTERVAL_CACHE, INTERVAL_INDEX_CACHE, INTERVAL_MODIFICATION_TIME_CACHE);
 
   private WorkflowCacheFactory() {
     // Hide implicit public constructor
@@ -14,6 +14,7 @@ import gms.shared.workflow.coi.WorkflowDefinitionId;
 import java.nio.file.Path;
 import java.time.Instant;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.AfterEach;
@@ -37,7 +38,11 @@ class IntervalCacheTest {
 
   @BeforeAll
   static void setup() {
-    IgniteTestUtility.initializeLocally(tempIgnitePath, WorkflowCacheFactory.INTERVAL_CACHE);
+    IgniteTestUtility.initializeLocally(
+        tempIgnitePath,
+        WorkflowCacheFactory.INTERVAL_CACHE,
+        WorkflowCacheFactory.INTERVAL_INDEX_CACHE,
+        WorkflowCacheFactory.INTERVAL_MODIFICATION_TIME_CACHE);
   }
 
   @BeforeEach
@@ -194,4 +199,44 @@ class IntervalCacheTest {
     assertTrue(returnedIntervals.contains(nextSecondInterval));
     assertEquals(2, returnedIntervals.size());
   }
+
+  @Test
+  void testGetLatestModificationTime() {
+    Instant startTime = Instant.EPOCH;
+    Instant endTime = startTime.plusSeconds(500);
+    String firstStage = "Test 1";
+    String secondStage = "Test 2";
+    var intervalData =
+        MockIntervalData.get(
+            startTime,
+            endTime,
+            Set.of(WorkflowDefinitionId.from(firstStage), WorkflowDefinitionId.from(secondStage)));
+    // the earlier interval was modified most recently
+    var firstInterval =
+        ((InteractiveAnalysisStageInterval) intervalData.get(firstStage).get(0))
+            .toBuilder()
+            .setModificationTime(endTime.plusSeconds(1000))
+            .build();
+    var secondInterval =
+        ((InteractiveAnalysisStageInterval) intervalData.get(secondStage).get(0))
+            .toBuilder()
+            .setIntervalId(
+                IntervalId.from(startTime.plusSeconds(500), WorkflowDefinitionId.from(secondStage)))
+            .setEndTime(endTime.plusSeconds(500))
+            .setModificationTime(endTime.plusSeconds(500))
+            .build();
+
+    assertTrue(intervalCache.getLatestModificationTime().isEmpty());
+
+    intervalCache.putAll(List.of(firstInterval, secondInterval));
+    assertEquals(
+        Optional.of(endTime.plusSeconds(1000)), intervalCache.getLatestModificationTime());
+
+    intervalCache.prune(endTime);
+    assertEquals(Optional.of(endTime.plusSeconds(500)), intervalCache.getLatestModificationTime());
+    assertTrue(intervalCache.get(firstStage, startTime, endTime.plusSeconds(500)).isEmpty());
+    assertEquals(
+        List.of(secondInterval),
+        intervalCache.get(secondStage, startTime, endTime.plusSeconds(500)));
+  }
 }
@@ -0,0 +1,95 @@
+package gms.shared.workflow.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import gms.shared.workflow.coi.InteractiveAnalysisStageInterval;
+import gms.shared.workflow.coi.IntervalId;
+import gms.shared.workflow.coi.MockIntervalData;
+import gms.shared.workflow.coi.StageInterval;
+import gms.shared.workflow.coi.WorkflowDefinitionId;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+class StageIntervalIndexTest {
+
+  private static final String STAGE_NAME = "Test Stage";
+
+  @Test
+  void testGetStartTimes() {
+    var index = new StageIntervalIndex();
+    assertTrue(index.getStartTimes(Instant.EPOCH, Instant.EPOCH.plusSeconds(1000)).isEmpty());
+
+    var longInterval = interval(0, 1000, 1000);
+    var shortInterval = interval(1000, 1100, 1100);
+    var laterInterval = interval(1100, 1200, 1200);
+    index.put(laterInterval);
+    index.put(longInterval);
+    index.put(shortInterval);
+
+    // the long interval starts well before the range but overlaps it
+    assertEquals(
+        List.of(longInterval.getStartTime(), shortInterval.getStartTime()),
+        index.getStartTimes(Instant.EPOCH.plusSeconds(900), Instant.EPOCH.plusSeconds(1100)));
+    assertEquals(
+        List.of(shortInterval.getStartTime()),
+        index.getStartTimes(Instant.EPOCH.plusSeconds(1000), Instant.EPOCH.plusSeconds(1100)));
+    assertEquals(
+        List.of(laterInterval.getStartTime()),
+        index.getStartTimes(Instant.EPOCH.plusSeconds(1150), Instant.EPOCH.plusSeconds(2000)));
+    assertTrue(
+        index
+            .getStartTimes(Instant.EPOCH.plusSeconds(1200), Instant.EPOCH.plusSeconds(2000))
+            .isEmpty());
+  }
+
+  @Test
+  void testLatestModificationTime() {
+    var index = new StageIntervalIndex();
+    assertTrue(index.getLatestModificationTime().isEmpty());
+
+    index.put(interval(0, 100, 500));
+    index.put(interval(100, 200, 300));
+    assertEquals(Optional.of(Instant.EPOCH.plusSeconds(500)), index.getLatestModificationTime());
+
+    // replacing the latest modified interval with an earlier modification
+    index.put(interval(0, 100, 200));
+    assertEquals(Optional.of(Instant.EPOCH.plusSeconds(300)), index.getLatestModificationTime());
+  }
+
+  @Test
+  void testRemoveEndingAtOrBefore() {
+    var index = new StageIntervalIndex();
+    index.put(interval(0, 100, 500));
+    index.put(interval(100, 200, 300));
+
+    assertTrue(index.removeEndingAtOrBefore(Instant.EPOCH.plusSeconds(99)).isEmpty());
+
+    assertEquals(
+        List.of(Instant.EPOCH), index.removeEndingAtOrBefore(Instant.EPOCH.plusSeconds(100)));
+    assertEquals(Optional.of(Instant.EPOCH.plusSeconds(300)), index.getLatestModificationTime());
+    assertTrue(index.getStartTimes(Instant.EPOCH, Instant.EPOCH.plusSeconds(100)).isEmpty());
+
+    index.removeEndingAtOrBefore(Instant.EPOCH.plusSeconds(200));
+    assertTrue(index.isEmpty());
+    assertTrue(index.getLatestModificationTime().isEmpty());
+  }
+
+  private static StageInterval interval(
+      long startSeconds, long endSeconds, long modificationSeconds) {
+    var startTime = Instant.EPOCH.plusSeconds(startSeconds);
+    var endTime = Instant.EPOCH.plusSeconds(endSeconds);
+    var stageInterval =
+        (InteractiveAnalysisStageInterval)
+            MockIntervalData.get(startTime, endTime, Set.of(WorkflowDefinitionId.from(STAGE_NAME)))
+                .get(STAGE_NAME)
+                .get(0);
+    return stageInterval.toBuilder()
+        .setIntervalId(IntervalId.from(startTime, WorkflowDefinitionId.from(STAGE_NAME)))
+        .setModificationTime(Instant.EPOCH.plusSeconds(modificationSeconds))
+        .build();
+  }
+}